@@ -3,7 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -11,12 +17,11 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.CheatSheetDataConversionException;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.FlashcardDataConversionException;
-import seedu.address.commons.exceptions.NoteDataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.FunctionMode;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.Model;
@@ -28,11 +33,15 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.StudyBuddyPro;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AsyncStudyBuddyProStorage;
+import seedu.address.storage.BinaryStudyBuddyProStorage;
+import seedu.address.storage.JournaledStudyBuddyProStorage;
 import seedu.address.storage.JsonStudyBuddyProStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.StudyBuddyProStorage;
+import seedu.address.storage.StudyBuddyProStorageConverter;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -46,6 +55,8 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final int DATA_FILE_COUNT = 3;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -62,8 +73,10 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        StudyBuddyProStorage studyBuddyProStorage = new JsonStudyBuddyProStorage(userPrefs.getFlashcardFilePath(),
-                userPrefs.getNoteFilePath(), userPrefs.getCheatSheetFilePath());
+        StudyBuddyProStorage studyBuddyProStorage = new AsyncStudyBuddyProStorage(
+                new JournaledStudyBuddyProStorage(initSnapshotStorage(userPrefs), userPrefs.getJournalFilePath(),
+                        userPrefs.getReviewLogFilePath()),
+                userPrefs.getSaveCoalescingMillis(), AsyncStudyBuddyProStorage.DEFAULT_MAX_LAG_MILLIS);
 
         storage = new StorageManager(studyBuddyProStorage, userPrefsStorage);
 
@@ -76,49 +89,116 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the data files in the format selected by {@code userPrefs}.
+     * When switching to the binary format, existing JSON data files are converted first.
+     */
+    private StudyBuddyProStorage initSnapshotStorage(UserPrefs userPrefs) {
+        JsonStudyBuddyProStorage jsonStorage = new JsonStudyBuddyProStorage(userPrefs.getFlashcardFilePath(),
+                userPrefs.getNoteFilePath(), userPrefs.getCheatSheetFilePath(), userPrefs.isCompactDataFiles());
+        if (!userPrefs.isBinaryDataFileFormat()) {
+            return jsonStorage;
+        }
+
+        BinaryStudyBuddyProStorage binaryStorage = new BinaryStudyBuddyProStorage(
+                BinaryStudyBuddyProStorage.toBinaryFilePath(userPrefs.getFlashcardFilePath()),
+                BinaryStudyBuddyProStorage.toBinaryFilePath(userPrefs.getNoteFilePath()),
+                BinaryStudyBuddyProStorage.toBinaryFilePath(userPrefs.getCheatSheetFilePath()));
+        if (!FileUtil.isFileExists(binaryStorage.getFlashcardFilePath())
+                && FileUtil.isFileExists(jsonStorage.getFlashcardFilePath())) {
+            try {
+                StudyBuddyProStorageConverter.convert(jsonStorage, binaryStorage);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert data files to the binary format " + StringUtil.getDetails(e));
+            }
+        }
+        return binaryStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample StudyBuddyPro will be used instead if {@code storage}'s StudyBuddyPro is not found,
-     * or if errors occur when reading {@code storage}'s StudyBuddyPro. TO CHANGE
+     * or if errors occur when reading {@code storage}'s StudyBuddyPro. TO CHANGE <br>
+     * Reading from {@code storage} loads the last snapshot and replays the journal of later changes on top of it.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        // the data files are read in parallel, but merged into initialData one at a time
+        ExecutorService loader = Executors.newFixedThreadPool(DATA_FILE_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "data-file-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Future<Optional<ReadOnlyStudyBuddyProFlashcards>> flashcards =
+                loader.submit(() -> storage.readStudyBuddyProFlashcards());
+        Future<Optional<ReadOnlyStudyBuddyProNotes>> notes = loader.submit(() -> storage.readStudyBuddyProNotes());
+        Future<Optional<ReadOnlyStudyBuddyProCheatSheets>> cheatSheets =
+                loader.submit(() -> storage.readStudyBuddyProCheatSheets());
+        loader.shutdown();
 
         StudyBuddyPro initialData = new StudyBuddyPro();
-        initialData = initModelManagerFlashcardHelper(storage, initialData);
-        initialData = initModelManagerNoteHelper(storage, initialData);
-        initialData = initModelManagerCheatSheetHelper(storage, initialData);
+        // collections that were not read from their data file must be saved in full, not journaled onto it
+        Set<FunctionMode> unsavedModes = EnumSet.noneOf(FunctionMode.class);
+        initialData = initModelManagerFlashcardHelper(flashcards, initialData, unsavedModes);
+        initialData = initModelManagerNoteHelper(notes, initialData, unsavedModes);
+        initialData = initModelManagerCheatSheetHelper(cheatSheets, initialData, unsavedModes);
+
+        return new ModelManager(initialData, userPrefs, unsavedModes);
+    }
 
-        return new ModelManager(initialData, userPrefs);
+    /**
+     * Waits for {@code loading} to finish and returns the data it read.
+     * @throws DataConversionException if the data file is not in the correct format.
+     * @throws IOException if there was a problem reading the data file.
+     */
+    private static <T> T getLoadedData(Future<T> loading) throws DataConversionException, IOException {
+        try {
+            return loading.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading data file", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
     }
 
     /**
      *
-     * @param storage
+     * @param flashcards the flashcards being read from storage
      * @param initialData
+     * @param unsavedModes collects the modes whose data did not come from storage
      * @return
      */
-    private StudyBuddyPro initModelManagerFlashcardHelper(Storage storage, StudyBuddyPro initialData) {
+    private StudyBuddyPro initModelManagerFlashcardHelper(
+            Future<Optional<ReadOnlyStudyBuddyProFlashcards>> flashcards, StudyBuddyPro initialData,
+            Set<FunctionMode> unsavedModes) {
         Optional<ReadOnlyStudyBuddyProFlashcards> studyBuddyProFlashcardsOptional;
         try {
-            studyBuddyProFlashcardsOptional = storage.readStudyBuddyProFlashcards();
+            studyBuddyProFlashcardsOptional = getLoadedData(flashcards);
             if (studyBuddyProFlashcardsOptional.isEmpty()) {
                 logger.info("Flashcards data file not found. Will be starting with sample flashcards");
                 initialData.setFlashcards(Arrays.asList(SampleDataUtil.getSampleFlashcards()));
-                initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleFlashcardTags()));
+                unsavedModes.add(FunctionMode.FLASHCARD);
             } else {
                 initialData.setFlashcards(studyBuddyProFlashcardsOptional.get().getFlashcardList());
-                initialData.addAllTags(studyBuddyProFlashcardsOptional.get().getTagList());
             }
-        } catch (FlashcardDataConversionException e) {
+        } catch (DataConversionException e) {
             logger.warning("Flashcards data file not in the correct format. Will be starting with sample "
                     + "flashcards and continue checking for notes and cheatsheet data files");
             initialData.setFlashcards(Arrays.asList(SampleDataUtil.getSampleFlashcards()));
-            initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleFlashcardTags()));
+            unsavedModes.add(FunctionMode.FLASHCARD);
         } catch (IOException e) {
             logger.warning("Problem while reading from flashcard data file. Will be starting with sample "
                     + "flashcards and continue checking for notes and cheatsheet data files");
             initialData.setFlashcards(Arrays.asList(SampleDataUtil.getSampleFlashcards()));
-            initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleFlashcardTags()));
+            unsavedModes.add(FunctionMode.FLASHCARD);
         } finally {
             return initialData;
         }
@@ -126,32 +206,34 @@ public class MainApp extends Application {
 
     /**
      *
-     * @param storage
+     * @param notes the notes being read from storage
      * @param initialData
+     * @param unsavedModes collects the modes whose data did not come from storage
      * @return
      */
-    private StudyBuddyPro initModelManagerNoteHelper(Storage storage, StudyBuddyPro initialData) {
+    private StudyBuddyPro initModelManagerNoteHelper(
+            Future<Optional<ReadOnlyStudyBuddyProNotes>> notes, StudyBuddyPro initialData,
+            Set<FunctionMode> unsavedModes) {
         Optional<ReadOnlyStudyBuddyProNotes> studyBuddyProNotesOptional;
         try {
-            studyBuddyProNotesOptional = storage.readStudyBuddyProNotes();
+            studyBuddyProNotesOptional = getLoadedData(notes);
             if (studyBuddyProNotesOptional.isEmpty()) {
                 logger.info("Notes data file not found. Will be starting with sample notes");
                 initialData.setNotes(Arrays.asList(SampleDataUtil.getSampleNotes()));
-                initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleNotesTags()));
+                unsavedModes.add(FunctionMode.NOTE);
             } else {
                 initialData.setNotes(studyBuddyProNotesOptional.get().getNoteList());
-                initialData.addAllTags(studyBuddyProNotesOptional.get().getTagList());
             }
-        } catch (NoteDataConversionException e) {
+        } catch (DataConversionException e) {
             logger.warning("Notes data file not in the correct format. Will be starting with sample "
                     + "notes and continue checking for cheatsheet data file");
             initialData.setNotes(Arrays.asList(SampleDataUtil.getSampleNotes()));
-            initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleNotesTags()));
+            unsavedModes.add(FunctionMode.NOTE);
         } catch (IOException e) {
             logger.warning("Problem while reading from notes data file. Will be starting with sample "
                     + "notes and continue checking for cheatsheet data file");
             initialData.setNotes(Arrays.asList(SampleDataUtil.getSampleNotes()));
-            initialData.addAllTags(Arrays.asList(SampleDataUtil.getSampleNotesTags()));
+            unsavedModes.add(FunctionMode.NOTE);
         } finally {
             return initialData;
         }
@@ -159,26 +241,30 @@ public class MainApp extends Application {
 
     /**
      *
-     * @param storage
+     * @param cheatSheets the cheatsheets being read from storage
      * @param initialData
+     * @param unsavedModes collects the modes whose data did not come from storage
      * @return
      */
-    private StudyBuddyPro initModelManagerCheatSheetHelper(Storage storage, StudyBuddyPro initialData) {
+    private StudyBuddyPro initModelManagerCheatSheetHelper(
+            Future<Optional<ReadOnlyStudyBuddyProCheatSheets>> cheatSheets, StudyBuddyPro initialData,
+            Set<FunctionMode> unsavedModes) {
         Optional<ReadOnlyStudyBuddyProCheatSheets> studyBuddyProCheatSheetsOptional;
         try {
-            studyBuddyProCheatSheetsOptional = storage.readStudyBuddyProCheatSheets();
+            studyBuddyProCheatSheetsOptional = getLoadedData(cheatSheets);
             if (studyBuddyProCheatSheetsOptional.isEmpty()) {
                 logger.info("Cheatsheets data file not found. Will be starting with empty cheatsheets");
             } else {
                 initialData.setCheatSheets(studyBuddyProCheatSheetsOptional.get().getCheatSheetList());
-                initialData.addAllTags(studyBuddyProCheatSheetsOptional.get().getTagList());
             }
-        } catch (CheatSheetDataConversionException e) {
+        } catch (DataConversionException e) {
             logger.warning("Cheatsheets data file not in the correct format. Will be starting with empty "
                     + "cheatsheets");
+            unsavedModes.add(FunctionMode.CHEATSHEET);
         } catch (IOException e) {
             logger.warning("Problem while reading from cheatsheet data file. Will be starting with empty "
                     + "cheatsheets");
+            unsavedModes.add(FunctionMode.CHEATSHEET);
         } finally {
             return initialData;
         }
@@ -265,6 +351,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping StudyBuddyPro ] =============================");
+        try {
+            storage.flushStudyBuddyPro();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,75 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Tells the app what day it is.
+ * The day is looked up from the clock only when the day the app last looked up has passed, so finding out the day is
+ * as cheap as reading the time in milliseconds. The clock can be replaced, such as by a fixed clock in tests.
+ */
+public class DayClock {
+
+    private static volatile Clock clock = Clock.systemDefaultZone();
+    private static volatile Day current = lookUp(clock);
+
+    /**
+     * Returns the current day according to the clock.
+     */
+    public static LocalDate today() {
+        Day day = current;
+        if (clock.millis() >= day.nextDayMillis) {
+            return refresh();
+        }
+        return day.date;
+    }
+
+    /**
+     * Looks up the current day from the clock again, and returns it.
+     */
+    public static synchronized LocalDate refresh() {
+        current = lookUp(clock);
+        return current.date;
+    }
+
+    /**
+     * Returns the time left until the day after the day last looked up begins, which is zero if it already has.
+     */
+    public static Duration getTimeUntilNextDay() {
+        return Duration.ofMillis(Math.max(0, current.nextDayMillis - clock.millis()));
+    }
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Tells the day from {@code newClock} from now on.
+     */
+    public static synchronized void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+        current = lookUp(newClock);
+    }
+
+    private static Day lookUp(Clock clock) {
+        LocalDate date = LocalDate.now(clock);
+        return new Day(date, date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * A day, with the time its next day begins so that the two are always read together.
+     */
+    private static class Day {
+        private final LocalDate date;
+        private final long nextDayMillis;
+
+        private Day(LocalDate date, long nextDayMillis) {
+            this.date = date;
+            this.nextDayMillis = nextDayMillis;
+        }
+    }
+}
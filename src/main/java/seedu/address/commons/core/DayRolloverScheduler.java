@@ -0,0 +1,75 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Wakes up on a background thread when a new day begins by the {@link DayClock}, moves the clock on to the new day
+ * and tells a listener about it, so that whatever depends on the day is worked out again once instead of being checked
+ * on every call. The listener is called on the background thread.
+ */
+public class DayRolloverScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(DayRolloverScheduler.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "day-rollover");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Consumer<LocalDate> onNewDay;
+    private LocalDate lastDay;
+
+    /**
+     * Creates a scheduler that passes each new day to {@code onNewDay} once it is started.
+     */
+    public DayRolloverScheduler(Consumer<LocalDate> onNewDay) {
+        requireNonNull(onNewDay);
+        this.onNewDay = onNewDay;
+    }
+
+    /**
+     * Waits for the next day to begin.
+     */
+    public void start() {
+        executor.execute(() -> {
+            lastDay = DayClock.today();
+            scheduleNextRollover();
+        });
+    }
+
+    /**
+     * Stops waiting for the next day.
+     */
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleNextRollover() {
+        executor.schedule(this::rollOver, DayClock.getTimeUntilNextDay().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Moves the clock on to the new day and passes it on if it has changed, which it may not have if the timer went
+     * off early, then waits for the day after.
+     */
+    private void rollOver() {
+        LocalDate today = DayClock.refresh();
+        if (!today.equals(lastDay)) {
+            logger.info("A new day has begun: " + today);
+            lastDay = today;
+            try {
+                onNewDay.accept(today);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to update for the new day: " + e);
+            }
+        }
+        scheduleNextRollover();
+    }
+}
@@ -43,6 +43,11 @@ public class Messages {
     public static final String MESSAGE_ARE_YOU_SURE_WANT_TO_CLEAR_NOTE = "Are you sure you would like "
             + "to clear all flashcards?";
     public static final String MESSAGE_CONFIRM_DELETE = "Please use `delete %d` again to confirm your deletion.";
+    public static final String MESSAGE_CONFIRM_DELETE_BY_TITLE = "Please use `delete t/%s` again to confirm your "
+            + "deletion.";
+    public static final String MESSAGE_NO_CLOSE_TITLE = "No %1$s has a title close to \"%2$s\".";
+    public static final String MESSAGE_AMBIGUOUS_TITLE = "More than one %1$s has a title close to \"%2$s\". "
+            + "Please use one of these titles:\n%3$s";
 
 
     public static final String MESSAGE_NO_CHEATSHEET_LOADED = "No cheatsheet has been loaded";
@@ -65,41 +70,48 @@ public class Messages {
 
     public static final String TIMETRIAL = "timetrial";
     public static final String SHOW = "show";
+    public static final String RATE = "rate";
 
     public static final String REMIND = "remind";
 
     public static final String COMMAND_SUMMARY = "GLOBAL COMMANDS (Can be executed in any mode)\n"
             + " - Switch : switch MODE\n"
             + " - Filter All : filterall tag/TAG…\u200B\n"
+            + " - Find : find KEYWORD [MORE_KEYWORDS]…\u200B\n"
+            + " - Grep : grep [-F] PATTERN\n"
             + " - List tags : taglist\n"
+            + " - Rename tag : retag OLD_TAG NEW_TAG\n"
+            + " - Merge tags : mergetag SOURCE_TAG TARGET_TAG\n"
+            + " - Remove tag : untag TAG\n"
             + " - Help : help\n"
             + " - List : list\n"
             + " - Exit : exit\n"
             + "\n"
             + "FLASHCARD COMMANDS\n"
             + " - Add : add q/QUESTION a/ANSWER t/TITLE [tag/TAG]…\u200B\n"
-            + " - Delete : delete INDEX\n"
+            + " - Delete : delete INDEX or delete t/TITLE\n"
             + " - Filter : filter tag/TAG…\u200B\n"
-            + " - Time Trial : timetrial TAG\n"
-            + " - View : view INDEX\n"
+            + " - Time Trial : timetrial TAG or timetrial t/TITLE…\u200B\n"
+            + " - View : view INDEX or view t/TITLE\n"
             + " - List : list\n"
             + " - Show : show\n"
+            + " - Rate : rate QUALITY\n"
             + " - Remind : remind\n"
             + "\n"
             + "NOTE COMMANDS\n"
             + " - Add : add t/TITLE c/CONTENT tag/TAG…\u200B\n"
-            + " - Delete : delete INDEX\n"
-            + " - View : view INDEX\n"
+            + " - Delete : delete INDEX or delete t/TITLE\n"
+            + " - View : view INDEX or view t/TITLE\n"
             + " - Viewing a raw note : viewraw INDEX\n"
             + " - Filter : filter tag/TAG…\u200B\n"
             + " - List : list\n"
             + "\n"
             + "CHEATSHEET COMMANDS\n"
             + " - Add : add t/TITLE [tag/TAG]…\u200B\n"
-            + " - Delete : delete INDEX\n"
+            + " - Delete : delete INDEX or delete t/TITLE\n"
             + " - Edit : edit INDEX t/TITLE tag/TAG…\u200B\n"
             + " - Show : show INDEX\n"
-            + " - View : view INDEX\n"
+            + " - View : view INDEX or view t/TITLE\n"
             + " - Filter : filter tag/TAG…\u200B\n"
             + " - List : list";
 }
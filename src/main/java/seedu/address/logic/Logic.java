@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.flashcard.DueCounts;
+import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.note.Note;
 
 /**
@@ -23,6 +26,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the ways to complete the last word of a partly typed command in the current mode, each as the whole
+     * command with the completion in place of the last word. May be called on any thread.
+     */
+    List<String> getCompletions(String partialCommandText);
+
+    /**
+     * Records that {@code flashcard} has been viewed and answered in {@code responseMillis}, which is 0 if the answer
+     * was not timed, and saves the updated statistics.
+     */
+    void updateFlashcardStatistics(Flashcard flashcard, long responseMillis);
+
+    /**
+     * Returns the number of saves skipped because the data had not changed, such as after a read-only command.
+     */
+    int getAvoidedSaveCount();
+
+    /**
+     * Returns the number of flashcards due for review today and the number overdue, today being the day of the
+     * {@link seedu.address.commons.core.DayClock}.
+     */
+    DueCounts getDueCounts();
+
     /**
      * Returns the AddressBook.
      *
@@ -2,19 +2,25 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.DayClock;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.CompletionEngine;
 import seedu.address.logic.parser.StudyBuddyProParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.flashcard.DueCounts;
+import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.note.Note;
 import seedu.address.storage.Storage;
 
@@ -23,7 +29,7 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
-    private static FunctionMode mode = FunctionMode.UNDEFINED;
+    private static volatile FunctionMode mode = FunctionMode.UNDEFINED;
 
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
@@ -32,11 +38,14 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final StudyBuddyProParser studyBuddyProParser;
+    private final CompletionEngine completionEngine;
+    private int avoidedSaveCount = 0;
 
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         studyBuddyProParser = new StudyBuddyProParser();
+        completionEngine = new CompletionEngine(model.getStudyBuddyPro());
     }
 
     @Override
@@ -49,7 +58,10 @@ public class LogicManager implements Logic {
         commandHistory.addCommand(command);
 
         try {
-            storage.saveStudyBuddyPro(model.getStudyBuddyPro());
+            saveStudyBuddyProIfModified();
+            if (isExit(commandResult)) {
+                storage.flushStudyBuddyPro();
+            }
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -57,6 +69,50 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public List<String> getCompletions(String partialCommandText) {
+        return completionEngine.getCompletions(partialCommandText, mode);
+    }
+
+    @Override
+    public void updateFlashcardStatistics(Flashcard flashcard, long responseMillis) {
+        model.updateFlashcardStatistics(flashcard, responseMillis);
+
+        try {
+            saveStudyBuddyProIfModified();
+        } catch (IOException ioe) {
+            logger.warning(FILE_OPS_ERROR_MESSAGE + ioe);
+        }
+    }
+
+    /**
+     * Saves the StudyBuddyPro data if it has changed since the last save, so read-only commands do no I/O.
+     */
+    private void saveStudyBuddyProIfModified() throws IOException {
+        if (!model.getStudyBuddyPro().isModified()) {
+            avoidedSaveCount++;
+            logger.fine("No changes to save, saves avoided so far: " + avoidedSaveCount);
+            return;
+        }
+
+        storage.saveStudyBuddyPro(model.getStudyBuddyPro());
+        model.markStudyBuddyProSaved();
+    }
+
+    private static boolean isExit(CommandResult commandResult) {
+        return commandResult.isGlobalCommandResult() && ((GlobalCommandResult) commandResult).isExit();
+    }
+
+    @Override
+    public int getAvoidedSaveCount() {
+        return avoidedSaveCount;
+    }
+
+    @Override
+    public DueCounts getDueCounts() {
+        return model.countFlashcardsDue(DayClock.today());
+    }
+
     @Override
     public ReadOnlyStudyBuddyPro getStudyBuddyPro() {
         return model.getStudyBuddyPro();
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_AMBIGUOUS_TITLE;
+import static seedu.address.commons.core.Messages.MESSAGE_NO_CLOSE_TITLE;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Picks the item that a command names by a title that may be mistyped, from the items with the closest titles.
+ */
+public class TitleTarget {
+
+    private TitleTarget() {
+    }
+
+    /**
+     * Returns the only item of {@code matches}, the items whose titles are closest to {@code title}.
+     * @param itemType the kind of item, such as "flashcard", for the error messages.
+     * @param titleOf returns the title of an item, to list the items when there are several.
+     * @throws CommandException if there are no matches, or more than one.
+     */
+    public static <T> T getOnlyMatch(List<T> matches, String title, String itemType, Function<T, ?> titleOf)
+            throws CommandException {
+        requireNonNull(matches);
+        if (matches.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_CLOSE_TITLE, itemType, title));
+        }
+        if (matches.size() > 1) {
+            String titles = matches.stream()
+                    .map(item -> "\t" + titleOf.apply(item))
+                    .collect(Collectors.joining("\n"));
+            throw new CommandException(String.format(MESSAGE_AMBIGUOUS_TITLE, itemType, title, titles));
+        }
+        return matches.get(0);
+    }
+}
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.DELETE;
 import static seedu.address.commons.core.Messages.MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_CHEATSHEET;
 import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE;
+import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE_BY_TITLE;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +16,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.CheatSheetCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -26,9 +29,11 @@ public class DeleteCheatSheetCommand extends Command {
     public static final String COMMAND_WORD = DELETE;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the cheatsheet identified by the index number used in the displayed cheatsheet list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the cheatsheet identified by the index number used in the displayed cheatsheet list,\n"
+            + "or by its title, which may be slightly mistyped.\n"
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Midterm Revison";
 
     public static final String MESSAGE_DELETE_CHEATSHEET_SUCCESS = "Deleted Cheatsheet: %1$s";
 
@@ -38,12 +43,21 @@ public class DeleteCheatSheetCommand extends Command {
      */
     private static boolean successfulDeletionOnPreviousCommand = false;
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     private final Logger logger = LogsCenter.getLogger(DeleteCheatSheetCommand.class.getName());
 
     public DeleteCheatSheetCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+        logger.info("Delete cheatsheet command created.");
+    }
+
+    public DeleteCheatSheetCommand(String targetTitle) {
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
         logger.info("Delete cheatsheet command created.");
     }
 
@@ -51,25 +65,28 @@ public class DeleteCheatSheetCommand extends Command {
         return targetIndex;
     }
 
+    /**
+     * Returns true if {@code other} names the same cheatsheet in the same way as this command.
+     */
+    private boolean hasSameTarget(DeleteCheatSheetCommand other) {
+        return Objects.equals(targetIndex, other.targetIndex) && Objects.equals(targetTitle, other.targetTitle);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<CheatSheet> lastShownList = model.getFilteredCheatSheetList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_CHEATSHEET_DISPLAYED_INDEX);
-        }
-
-        CheatSheet cheatsheetToDelete = lastShownList.get(targetIndex.getZeroBased());
+        CheatSheet cheatsheetToDelete = getTarget(model);
         CheatSheetCommandResult commandResult = new CheatSheetCommandResult ((
                 MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_CHEATSHEET
                 + "\n" + cheatsheetToDelete
-                + "\n" + String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())));
+                + "\n" + (targetTitle == null
+                        ? String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())
+                        : String.format(MESSAGE_CONFIRM_DELETE_BY_TITLE, targetTitle))));
 
         if (CommandHistory.getLastCommand().isPresent()) {
             if (CommandHistory.getLastCommand().get() instanceof DeleteCheatSheetCommand) {
-                if (((DeleteCheatSheetCommand) CommandHistory.getLastCommand().get()).getTargetIndex()
-                        .equals(this.targetIndex) && !successfulDeletionOnPreviousCommand) {
+                if (hasSameTarget((DeleteCheatSheetCommand) CommandHistory.getLastCommand().get())
+                        && !successfulDeletionOnPreviousCommand) {
                     // correct. allow delete
                     int currentAmountOfCheatSheets = model.getFilteredCheatSheetList().size();
 
@@ -99,10 +116,27 @@ public class DeleteCheatSheetCommand extends Command {
         return commandResult;
     }
 
+    /**
+     * Returns the cheatsheet at the target index of the displayed list, or the cheatsheet with the closest title to
+     * the target title in the whole list.
+     */
+    private CheatSheet getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getCheatSheetsByFuzzyTitle(targetTitle), targetTitle, "cheatsheet",
+                    CheatSheet::getTitle);
+        }
+
+        List<CheatSheet> lastShownList = model.getFilteredCheatSheetList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_CHEATSHEET_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCheatSheetCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteCheatSheetCommand) other).targetIndex)); // state check
+                && hasSameTarget((DeleteCheatSheetCommand) other)); // state check
     }
 }
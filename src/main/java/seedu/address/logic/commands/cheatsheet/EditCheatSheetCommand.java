@@ -128,7 +128,7 @@ public class EditCheatSheetCommand extends Command {
             updatedContents = removeIrrelevantContent(updatedTags, updatedContents);
         }
 
-        return new CheatSheet(updatedTitle, updatedContents, updatedTags);
+        return new CheatSheet(cheatSheetToEdit.getId(), updatedTitle, updatedContents, updatedTags);
     }
 
     /**
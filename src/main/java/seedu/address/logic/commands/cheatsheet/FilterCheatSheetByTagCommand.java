@@ -22,7 +22,9 @@ public class FilterCheatSheetByTagCommand extends Command {
 
     public static final String MESSAGE_USAGE = "filter by tags. Find all "
             + "related cheatsheets with the specified \n"
-            + "tags. Example : filter tag/cheatsheet tag/cs2103t";
+            + "tags. Example : filter tag/cheatsheet tag/cs2103t\n"
+            + "Tags can also be combined with and, or, not and parentheses.\n"
+            + "Example : filter (cs2100 or cs2105) and not midterm";
 
     public static final String FILTER_TAG_MESSAGE_SUCCESS = "Filter cheatsheets by tag(s) : ";
 
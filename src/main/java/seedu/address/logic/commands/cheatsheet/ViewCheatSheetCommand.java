@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.VIEW;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.CheatSheetCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -26,38 +28,60 @@ public class ViewCheatSheetCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays a cheatsheet.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE, which may be slightly mistyped\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Midterm Revison";
 
     public static final String VIEW_CHEATSHEET_SUCCESS = "Viewing cheatsheet: ";
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     private final Logger logger = LogsCenter.getLogger(ViewCheatSheetCommand.class.getName());
 
     public ViewCheatSheetCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+        logger.info("View cheatsheet command created.");
+    }
+
+    public ViewCheatSheetCommand(String targetTitle) {
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
         logger.info("View cheatsheet command created.");
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<CheatSheet> lastShownList = model.getFilteredCheatSheetList();
+        CheatSheet cheatSheet = getTarget(model);
+        return new CheatSheetCommandResult(
+                String.format(VIEW_CHEATSHEET_SUCCESS + cheatSheet.getTitle(), cheatSheet), Optional.of(cheatSheet));
+    }
 
+    /**
+     * Returns the cheatsheet at the target index of the displayed list, or the cheatsheet with the closest title to
+     * the target title in the whole list.
+     */
+    private CheatSheet getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getCheatSheetsByFuzzyTitle(targetTitle), targetTitle, "cheatsheet",
+                    CheatSheet::getTitle);
+        }
+
+        List<CheatSheet> lastShownList = model.getFilteredCheatSheetList();
         if (targetIndex.getZeroBased() >= lastShownList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_CHEATSHEET_DISPLAYED_INDEX);
         }
-
-        CheatSheet cheatSheet = lastShownList.get(targetIndex.getZeroBased());
-        return new CheatSheetCommandResult(
-                String.format(VIEW_CHEATSHEET_SUCCESS + cheatSheet.getTitle(), cheatSheet), Optional.of(cheatSheet));
+        return lastShownList.get(targetIndex.getZeroBased());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewCheatSheetCommand // instanceof handles nulls
-                && targetIndex.equals(((ViewCheatSheetCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((ViewCheatSheetCommand) other).targetIndex)
+                && Objects.equals(targetTitle, ((ViewCheatSheetCommand) other).targetTitle)); // state check
     }
 }
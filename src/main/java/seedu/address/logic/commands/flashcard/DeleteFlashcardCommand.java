@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.DELETE;
 import static seedu.address.commons.core.Messages.MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_FLASHCARD;
 import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE;
+import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE_BY_TITLE;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -15,6 +17,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.FlashcardCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -27,9 +30,11 @@ public class DeleteFlashcardCommand extends Command {
     public static final String COMMAND_WORD = DELETE;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the flashcard identified by the index number used in the displayed flashcard list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the flashcard identified by the index number used in the displayed flashcard list,\n"
+            + "or by its title, which may be slightly mistyped.\n"
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Hazrds";
 
     public static final String MESSAGE_DELETE_FLASHCARD_SUCCESS = "Deleted Flashcard: %1$s";
 
@@ -42,7 +47,9 @@ public class DeleteFlashcardCommand extends Command {
      */
     private static boolean successfulDeletionOnPreviousCommand = false;
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     /**
      * @param targetIndex of the flashcard to be deleted
@@ -51,33 +58,47 @@ public class DeleteFlashcardCommand extends Command {
         requireAllNonNull(targetIndex);
 
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+    }
+
+    /**
+     * @param targetTitle of the flashcard to be deleted, which may be slightly mistyped
+     */
+    public DeleteFlashcardCommand(String targetTitle) {
+        requireAllNonNull(targetTitle);
+
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
     }
 
     public Index getTargetIndex() {
         return targetIndex;
     }
 
+    /**
+     * Returns true if {@code other} names the same flashcard in the same way as this command.
+     */
+    private boolean hasSameTarget(DeleteFlashcardCommand other) {
+        return Objects.equals(targetIndex, other.targetIndex) && Objects.equals(targetTitle, other.targetTitle);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Flashcard> lastShownList = model.getFilteredFlashcardList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
-        }
-        Flashcard flashcardToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Flashcard flashcardToDelete = getTarget(model);
 
         logger.info("Executing DeleteFlashcardCommand for the flashcard: " + flashcardToDelete);
 
         FlashcardCommandResult commandResult = new FlashcardCommandResult ((
                 MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_FLASHCARD
                 + "\n" + flashcardToDelete
-                + "\n" + String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())));
+                + "\n" + (targetTitle == null
+                        ? String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())
+                        : String.format(MESSAGE_CONFIRM_DELETE_BY_TITLE, targetTitle))));
 
         if (CommandHistory.getLastCommand().isPresent()) {
             if (CommandHistory.getLastCommand().get() instanceof DeleteFlashcardCommand) {
-                if (((DeleteFlashcardCommand) CommandHistory.getLastCommand().get()).getTargetIndex()
-                        .equals(this.targetIndex)) {
+                if (hasSameTarget((DeleteFlashcardCommand) CommandHistory.getLastCommand().get())) {
                     // correct. allow delete
                     model.deleteFlashcard(flashcardToDelete);
 
@@ -99,10 +120,27 @@ public class DeleteFlashcardCommand extends Command {
         return commandResult;
     }
 
+    /**
+     * Returns the flashcard at the target index of the displayed list, or the flashcard with the closest title to
+     * the target title in the whole list.
+     */
+    private Flashcard getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getFlashcardsByFuzzyTitle(targetTitle), targetTitle, "flashcard",
+                    Flashcard::getTitle);
+        }
+
+        List<Flashcard> lastShownList = model.getFilteredFlashcardList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteFlashcardCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteFlashcardCommand) other).targetIndex)); // state check
+                && hasSameTarget((DeleteFlashcardCommand) other)); // state check
     }
 }
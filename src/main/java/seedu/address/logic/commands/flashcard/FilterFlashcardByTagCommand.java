@@ -23,7 +23,9 @@ public class FilterFlashcardByTagCommand extends Command {
 
     public static final String MESSAGE_USAGE = "filter by tags. Find all "
             + "related flashcards with the specified \n"
-            + "tags. Example : filter tag/hard tag/cs2101";
+            + "tags. Example : filter tag/hard tag/cs2101\n"
+            + "Tags can also be combined with and, or, not and parentheses.\n"
+            + "Example : filter (cs2100 or cs2105) and not midterm";
 
     public static final String FILTER_TAG_MESSAGE_SUCCESS = "Filter flashcards by tag(s) :";
 
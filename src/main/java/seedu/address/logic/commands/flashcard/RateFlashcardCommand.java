@@ -0,0 +1,75 @@
+package seedu.address.logic.commands.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.RATE;
+
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.FlashcardCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.ui.FlashcardTabWindowController;
+
+/**
+ * Grades how well the answer of the flashcard currently loaded was recalled, which schedules its next review.
+ */
+public class RateFlashcardCommand extends Command {
+
+    public static final String COMMAND_WORD = RATE;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Grades how well you recalled the answer of the flashcard shown, after using show.\n"
+            + "Parameters: QUALITY (again, hard, good or easy)\n"
+            + "Example: " + COMMAND_WORD + " good";
+
+    public static final String MESSAGE_ANSWER_NOT_SHOWN = "Please use show to check your answer before rating it";
+
+    public static final String MESSAGE_FLASHCARD_DELETED = "The flashcard shown has been deleted since it was loaded";
+
+    public static final String MESSAGE_RATE_FLASHCARD_SUCCESS = "Rated %1$s as %2$s, next due on %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RateFlashcardCommand.class);
+
+    private final RecallQuality quality;
+
+    public RateFlashcardCommand(RecallQuality quality) {
+        requireNonNull(quality);
+        this.quality = quality;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<Flashcard> loadedFlashcard = FlashcardTabWindowController.getCurrFlashcard();
+        if (loadedFlashcard.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_FLASHCARD_LOADED);
+        }
+
+        if (!FlashcardTabWindowController.isAnswerShown()) {
+            throw new CommandException(MESSAGE_ANSWER_NOT_SHOWN);
+        }
+
+        // the flashcard may have been edited or deleted since it was loaded, so grade the one in the model now
+        Flashcard flashcard = model.getFlashcardById(loadedFlashcard.get().getId())
+                .orElseThrow(() -> new CommandException(MESSAGE_FLASHCARD_DELETED));
+        logger.info("Rating flashcard " + flashcard.getTitle() + " as " + quality);
+        model.reviewFlashcard(flashcard, quality);
+        return new FlashcardCommandResult(String.format(MESSAGE_RATE_FLASHCARD_SUCCESS, flashcard.getTitle(),
+                quality.name().toLowerCase(), flashcard.getStatistics().getToViewNext()), Optional.empty());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RateFlashcardCommand // instanceof handles nulls
+                && quality == ((RateFlashcardCommand) other).quality);
+    }
+}
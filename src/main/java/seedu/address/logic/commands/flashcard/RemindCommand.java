@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 
 import static seedu.address.commons.core.Messages.REMIND;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.DayClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -24,6 +27,8 @@ public class RemindCommand extends Command {
 
     public static final String MESSAGE_NO_DUE_AND_OVERDUE_FLASHCARDS = "Well done - No due or overdue flashcards!";
 
+    public static final String MESSAGE_NEXT_FLASHCARD = "Next up: %1$s, due on %2$s";
+
     private static final Logger logger = LogsCenter.getLogger(RemindCommand.class);
 
     private RemindFeatureUtil remindFeatureUtil = new RemindFeatureUtil();
@@ -63,10 +68,18 @@ public class RemindCommand extends Command {
 
         logger.info("Executing RemindCommand");
 
-        List<Flashcard> flashcardList = model.getFilteredFlashcardList();
-        List<Flashcard> overdueFlashcards = remindFeatureUtil.getOverdueFlashcards(flashcardList);
-        List<Flashcard> dueFlashcards = remindFeatureUtil.getDueFlashcards(flashcardList);
+        LocalDate currentDate = DayClock.today();
+        List<Flashcard> overdueFlashcards = model.getFlashcardsOverdueOn(currentDate);
+        List<Flashcard> dueFlashcards = model.getFlashcardsDueOn(currentDate);
 
-        return new FlashcardCommandResult(stringOutputFormatHelper(overdueFlashcards, dueFlashcards));
+        String output = stringOutputFormatHelper(overdueFlashcards, dueFlashcards);
+        if (overdueFlashcards.isEmpty() && dueFlashcards.isEmpty()) {
+            Optional<Flashcard> nextFlashcard = model.getNextFlashcardToStudy();
+            if (nextFlashcard.isPresent()) {
+                output += "\n" + String.format(MESSAGE_NEXT_FLASHCARD, nextFlashcard.get().getTitle(),
+                        nextFlashcard.get().getStatistics().getToViewNext());
+            }
+        }
+        return new FlashcardCommandResult(output);
     }
 }
@@ -7,12 +7,15 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.FlashcardCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 
@@ -29,16 +32,20 @@ public class StartTimeTrialCommand extends Command {
 
     public static final String COMMAND_WORD = TIMETRIAL;
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts a time trial of all all the flashcards"
-            + " with all the specified tag.\n"
-            + "Parameters: [TAG]\n"
-            + "Example: " + COMMAND_WORD + " CS2100";
+            + " with all the specified tag, or of the flashcards with the specified titles, which may be slightly"
+            + " mistyped.\n"
+            + "Parameters: [TAG] or t/TITLE [t/TITLE]...\n"
+            + "Example: " + COMMAND_WORD + " CS2100\n"
+            + "Example: " + COMMAND_WORD + " t/Hazrds t/Pipelining";
 
     public static final String MESSAGE_SUCCESS = "Time trial started";
 
     private static final Logger logger = LogsCenter.getLogger(StartTimeTrialCommand.class);
 
+    // either the tags or the titles of the flashcards of the time trial are set
     private String[] tagKeywords;
     private final FlashcardContainsTagPredicate tagPredicate;
+    private final List<String> titles;
 
 
     /**
@@ -49,10 +56,26 @@ public class StartTimeTrialCommand extends Command {
 
         this.tagKeywords = tagKeywords;
         this.tagPredicate = tagPredicate;
+        this.titles = null;
+    }
+
+    /**
+     * Creates a StartTimeTrialCommand of the flashcards with the closest titles to {@code titles}.
+     */
+    public StartTimeTrialCommand(List<String> titles) {
+        requireAllNonNull(titles);
+
+        this.tagKeywords = null;
+        this.tagPredicate = null;
+        this.titles = titles;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        if (titles != null) {
+            return startByTitles(model);
+        }
+
         StringBuilder sb = new StringBuilder();
         for (Tag tag: tagPredicate.getTags()) {
             sb.append(tag + " ");
@@ -75,12 +98,41 @@ public class StartTimeTrialCommand extends Command {
         return new FlashcardCommandResult(String.format(MESSAGE_SUCCESS), true, optionalDeck);
     }
 
+    /**
+     * Starts a time trial of the flashcard with the closest title to each of the titles, in the order of the titles.
+     */
+    private CommandResult startByTitles(Model model) throws CommandException {
+        requireNonNull(model);
+        logger.info("Starting time trial of flashcards with the titles: " + titles);
+
+        ArrayList<Flashcard> deck = new ArrayList<>();
+        for (String title : titles) {
+            Flashcard flashcard = TitleTarget.getOnlyMatch(model.getFlashcardsByFuzzyTitle(title), title,
+                    "flashcard", Flashcard::getTitle);
+            if (!deck.contains(flashcard)) {
+                deck.add(flashcard);
+            }
+        }
+
+        assert (deck.size() > 0);
+
+        return new FlashcardCommandResult(String.format(MESSAGE_SUCCESS), true, Optional.of(deck));
+    }
+
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof StartTimeTrialCommand // instanceof handles nulls
-                && compareTagKeywords(((StartTimeTrialCommand) other).tagKeywords)
-                && this.tagPredicate.equals(((StartTimeTrialCommand) other).tagPredicate));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof StartTimeTrialCommand)) { // instanceof handles nulls
+            return false;
+        }
+        StartTimeTrialCommand otherCommand = (StartTimeTrialCommand) other;
+        if (titles != null || otherCommand.titles != null) {
+            return Objects.equals(titles, otherCommand.titles);
+        }
+        return compareTagKeywords(otherCommand.tagKeywords)
+                && this.tagPredicate.equals(otherCommand.tagPredicate);
     }
 
     /**
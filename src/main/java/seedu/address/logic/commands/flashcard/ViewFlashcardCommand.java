@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.VIEW;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,6 +13,7 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.FlashcardCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -25,32 +27,35 @@ public class ViewFlashcardCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays a flashcard.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE, which may be slightly mistyped\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Hazrds";
 
     public static final String VIEW_FLASHCARD_SUCCESS = "Viewing flashcard: %1$s";
 
     private static final Logger logger = LogsCenter.getLogger(ViewFlashcardCommand.class);
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     public ViewFlashcardCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+    }
+
+    public ViewFlashcardCommand(String targetTitle) {
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        assert (targetIndex.getZeroBased() >= 0);
-
-        List<Flashcard> lastShownList = model.getFilteredFlashcardList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
-        }
+        assert (targetTitle != null || targetIndex.getZeroBased() >= 0);
 
-        Flashcard flashcard = lastShownList.get(targetIndex.getZeroBased());
+        Flashcard flashcard = getTarget(model);
 
         logger.info("Executing ViewFlashcardCommand for flashcard: "
                 + flashcard.getTitle());
@@ -59,10 +64,28 @@ public class ViewFlashcardCommand extends Command {
                 Optional.of(flashcard));
     }
 
+    /**
+     * Returns the flashcard at the target index of the displayed list, or the flashcard with the closest title to
+     * the target title in the whole list.
+     */
+    private Flashcard getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getFlashcardsByFuzzyTitle(targetTitle), targetTitle, "flashcard",
+                    Flashcard::getTitle);
+        }
+
+        List<Flashcard> lastShownList = model.getFilteredFlashcardList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_FLASHCARD_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewFlashcardCommand // instanceof handles nulls
-                && targetIndex.equals(((ViewFlashcardCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((ViewFlashcardCommand) other).targetIndex)
+                && Objects.equals(targetTitle, ((ViewFlashcardCommand) other).targetTitle)); // state check
     }
 }
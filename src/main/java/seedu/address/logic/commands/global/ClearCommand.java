@@ -44,21 +44,18 @@ public class ClearCommand extends Command {
                 newStudyBuddyBook.setCheatSheets(new ArrayList<>());
                 newStudyBuddyBook.setNotes(model.getStudyBuddyPro().getNoteList());
                 newStudyBuddyBook.setFlashcards(model.getStudyBuddyPro().getFlashcardList());
-                newStudyBuddyBook.addAllTags(model.getStudyBuddyPro().getTagList());
                 break;
 
             case FLASHCARD:
                 newStudyBuddyBook.setCheatSheets(model.getStudyBuddyPro().getCheatSheetList());
                 newStudyBuddyBook.setNotes(model.getStudyBuddyPro().getNoteList());
                 newStudyBuddyBook.setFlashcards(new ArrayList<>());
-                newStudyBuddyBook.addAllTags(model.getStudyBuddyPro().getTagList());
                 break;
 
             case NOTE:
                 newStudyBuddyBook.setCheatSheets(model.getStudyBuddyPro().getCheatSheetList());
                 newStudyBuddyBook.setNotes(new ArrayList<>());
                 newStudyBuddyBook.setFlashcards(model.getStudyBuddyPro().getFlashcardList());
-                newStudyBuddyBook.addAllTags(model.getStudyBuddyPro().getTagList());
                 break;
 
             default:
@@ -2,8 +2,10 @@ package seedu.address.logic.commands.global;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import seedu.address.commons.core.DayClock;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
@@ -59,9 +61,9 @@ public class ExitCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        List<Flashcard> flashcardList = model.getFilteredFlashcardList();
-        List<Flashcard> overdueFlashcards = remindFeatureUtil.getOverdueFlashcards(flashcardList);
-        List<Flashcard> dueFlashcards = remindFeatureUtil.getDueFlashcards(flashcardList);
+        LocalDate currentDate = DayClock.today();
+        List<Flashcard> overdueFlashcards = model.getFlashcardsOverdueOn(currentDate);
+        List<Flashcard> dueFlashcards = model.getFlashcardsDueOn(currentDate);
 
         if (overdueFlashcards.isEmpty() && dueFlashcards.isEmpty()) {
             return new GlobalCommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
@@ -20,7 +20,9 @@ public class FilterAllByTagCommand extends Command {
     public static final String COMMAND_WORD = FILTER_ALL;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters and displays every StudyBuddyPro item by tag"
-            + "(s).\nExample usage : filterall tag/cs2100 tag/important";
+            + "(s).\nExample usage : filterall tag/cs2100 tag/important\n"
+            + "Tags can also be combined with and, or, not and parentheses.\n"
+            + "Example usage : filterall (cs2100 or cs2105) and not midterm";
 
     public static final String FILTER_TAG_MESSAGE_SUCCESS = "Listing the whole StudyBuddyPro after filtering by tag(s)"
             + ": ";
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands.global;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
+import seedu.address.model.Model;
+
+/**
+ * Searches the text of every StudyBuddyPro item for the keywords given by the user, and lists the best matches.
+ */
+public class FindCommand extends Command {
+
+    public static final String COMMAND_WORD = "find";
+
+    public static final int MAX_RESULTS = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the StudyBuddyPro items whose questions, "
+            + "answers or contents best match the keywords, best match first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example usage : find pipeline hazard";
+
+    public static final String MESSAGE_SUCCESS = "Listing the best matches for: %1$s\n\n";
+
+    public static final String NO_ITEM_FOUND = "There is no StudyBuddyItem that matches the keywords in StudyBuddy!";
+
+    private final String query;
+
+    /**
+     * Creates a FindCommand to search for the words of {@code query}.
+     */
+    public FindCommand(String query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ArrayList<String> foundItems = model.findItems(query, MAX_RESULTS);
+        if (foundItems.isEmpty()) {
+            return new GlobalCommandResult(NO_ITEM_FOUND);
+        }
+
+        StringBuilder resultToDisplay = new StringBuilder(String.format(MESSAGE_SUCCESS, query));
+        for (String s : foundItems) {
+            resultToDisplay.append(s);
+            resultToDisplay.append("\n");
+        }
+        return new GlobalCommandResult(resultToDisplay.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindCommand // instanceof handles nulls
+                && query.equals(((FindCommand) other).query));
+    }
+}
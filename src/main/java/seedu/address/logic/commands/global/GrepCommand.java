@@ -0,0 +1,87 @@
+package seedu.address.logic.commands.global;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.GrepMatch;
+import seedu.address.model.GrepSearch;
+import seedu.address.model.Model;
+import seedu.address.model.exceptions.SearchCancelledException;
+
+/**
+ * Searches the text of every StudyBuddyPro item for an exact piece of text or a regular expression, and lists the
+ * lines that match with the matches highlighted.
+ */
+public class GrepCommand extends Command {
+
+    public static final String COMMAND_WORD = "grep";
+
+    public static final int MAX_RESULTS = 50;
+
+    public static final String HIGHLIGHT_START = ">>";
+    public static final String HIGHLIGHT_END = "<<";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the StudyBuddyPro items whose questions, "
+            + "answers or contents match a regular expression, or contain some exact text with -F.\n"
+            + "Parameters: [-F] PATTERN\n"
+            + "Example usage : grep \"O\\(n log n\\)\"\n"
+            + "Example usage : grep -F O(n log n)";
+
+    public static final String MESSAGE_SUCCESS = "Listing the items that match: %1$s\n\n";
+
+    public static final String MESSAGE_MORE_RESULTS = "...and %1$d more item(s).\n";
+
+    public static final String NO_ITEM_FOUND = "There is no StudyBuddyItem that matches the pattern in StudyBuddy!";
+
+    public static final String MESSAGE_SEARCH_CANCELLED = "The search took too long and was stopped. "
+            + "Try a more specific pattern.";
+
+    private final GrepSearch search;
+
+    /**
+     * Creates a GrepCommand to run {@code search}.
+     */
+    public GrepCommand(GrepSearch search) {
+        requireNonNull(search);
+        this.search = search;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<GrepMatch> matches;
+        try {
+            matches = model.grepItems(search);
+        } catch (SearchCancelledException e) {
+            throw new CommandException(MESSAGE_SEARCH_CANCELLED);
+        }
+        if (matches.isEmpty()) {
+            return new GlobalCommandResult(NO_ITEM_FOUND);
+        }
+
+        StringBuilder resultToDisplay = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                search.getPattern().pattern()));
+        for (GrepMatch match : matches.subList(0, Math.min(MAX_RESULTS, matches.size()))) {
+            model.describeItem(match.getItemId()).ifPresent(item -> resultToDisplay.append(item).append("\n"));
+            for (String line : match.getHighlightedLines(HIGHLIGHT_START, HIGHLIGHT_END)) {
+                resultToDisplay.append("\t").append(line).append("\n");
+            }
+        }
+        if (matches.size() > MAX_RESULTS) {
+            resultToDisplay.append(String.format(MESSAGE_MORE_RESULTS, matches.size() - MAX_RESULTS));
+        }
+        return new GlobalCommandResult(resultToDisplay.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GrepCommand // instanceof handles nulls
+                && search.equals(((GrepCommand) other).search));
+    }
+}
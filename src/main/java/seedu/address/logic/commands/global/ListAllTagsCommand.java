@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TAGS;
 
 import java.util.ArrayList;
-import java.util.Collections;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -24,31 +23,29 @@ public class ListAllTagsCommand extends Command {
             + "Listing all tags : "
             + "\n";
 
+    private static final String NESTED_TAG_INDENT = "    ";
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         model.updateFilteredTagList(PREDICATE_SHOW_ALL_TAGS);
         StringBuilder outputString = new StringBuilder();
-        ArrayList<String> sortedTagListInStringForm = model.getListOfTags();
-        Collections.sort(sortedTagListInStringForm);
-
+        // sorted by name, so every nested tag comes right after its parent
         ArrayList<Tag> sortedTagList = new ArrayList<>();
-        for (String s : sortedTagListInStringForm) {
-            sortedTagList.add(new Tag(s));
+        for (String tagName : model.getListOfTags()) {
+            sortedTagList.add(new Tag(tagName));
         }
-
         ArrayList<StudyBuddyCounter> studyBuddyCounters = model.getStatistics(sortedTagList);
 
-        for (int i = 0; i < sortedTagListInStringForm.size(); i++) {
-            if (studyBuddyCounters.get(i).isTagExisting()) {
-                outputString.append("[");
-                outputString.append(sortedTagListInStringForm.get(i));
-                outputString.append("]");
-                outputString.append(" | ");
-                outputString.append(studyBuddyCounters.get(i).toString());
-                outputString.append("\n");
-            }
+        for (int i = 0; i < sortedTagList.size(); i++) {
+            Tag tag = sortedTagList.get(i);
+            outputString.append(NESTED_TAG_INDENT.repeat(tag.getDepth()));
+            outputString.append("[");
+            outputString.append(tag.getTagName());
+            outputString.append("]");
+            outputString.append(" | ");
+            outputString.append(studyBuddyCounters.get(i).toString());
+            outputString.append("\n");
         }
         return new GlobalCommandResult(MESSAGE_SUCCESS + outputString.toString());
     }
@@ -0,0 +1,64 @@
+package seedu.address.logic.commands.global;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges a tag into another tag on every StudyBuddyPro item that has it.
+ */
+public class MergeTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "mergetag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Merges a tag into another tag, replacing it on "
+            + "every StudyBuddyPro item that has it.\nParameters: SOURCE_TAG TARGET_TAG\n"
+            + "Example usage : mergetag cs2100-quiz cs2100";
+
+    public static final String MESSAGE_SUCCESS = "Merged tag [%1$s] into [%2$s] on %3$d item(s).";
+
+    public static final String MESSAGE_TAG_NOT_FOUND = "There is no StudyBuddyItem with the tag [%1$s]!";
+
+    public static final String MESSAGE_SAME_TAG = "A tag cannot be merged into itself!";
+
+    private final Tag source;
+    private final Tag target;
+
+    /**
+     * Creates a MergeTagCommand to merge {@code source} into {@code target}.
+     */
+    public MergeTagCommand(Tag source, Tag target) {
+        requireNonNull(source);
+        requireNonNull(target);
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (source.equals(target)) {
+            throw new CommandException(MESSAGE_SAME_TAG);
+        }
+        if (!model.hasTag(source)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, source.getTagName()));
+        }
+
+        int changedCount = model.renameTag(source, target);
+        return new GlobalCommandResult(String.format(MESSAGE_SUCCESS, source.getTagName(),
+                target.getTagName(), changedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MergeTagCommand // instanceof handles nulls
+                && source.equals(((MergeTagCommand) other).source)
+                && target.equals(((MergeTagCommand) other).target));
+    }
+}
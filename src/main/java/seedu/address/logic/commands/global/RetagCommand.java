@@ -0,0 +1,65 @@
+package seedu.address.logic.commands.global;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renames a tag on every StudyBuddyPro item that has it.
+ */
+public class RetagCommand extends Command {
+
+    public static final String COMMAND_WORD = "retag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Renames a tag on every StudyBuddyPro item that has "
+            + "it.\nParameters: OLD_TAG NEW_TAG\n"
+            + "Example usage : retag cs2100 cs2100-midterm";
+
+    public static final String MESSAGE_SUCCESS = "Renamed tag [%1$s] to [%2$s] on %3$d item(s).";
+
+    public static final String MESSAGE_TAG_NOT_FOUND = "There is no StudyBuddyItem with the tag [%1$s]!";
+
+    public static final String MESSAGE_TAG_IN_USE = "The tag [%1$s] is already in use. "
+            + "Use mergetag to merge the two tags instead.";
+
+    private final Tag target;
+    private final Tag replacement;
+
+    /**
+     * Creates a RetagCommand to rename {@code target} to {@code replacement}.
+     */
+    public RetagCommand(Tag target, Tag replacement) {
+        requireNonNull(target);
+        requireNonNull(replacement);
+        this.target = target;
+        this.replacement = replacement;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasTag(target)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, target.getTagName()));
+        }
+        if (model.hasTag(replacement)) {
+            throw new CommandException(String.format(MESSAGE_TAG_IN_USE, replacement.getTagName()));
+        }
+
+        int changedCount = model.renameTag(target, replacement);
+        return new GlobalCommandResult(String.format(MESSAGE_SUCCESS, target.getTagName(),
+                replacement.getTagName(), changedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RetagCommand // instanceof handles nulls
+                && target.equals(((RetagCommand) other).target)
+                && replacement.equals(((RetagCommand) other).replacement));
+    }
+}
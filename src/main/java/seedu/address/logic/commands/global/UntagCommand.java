@@ -0,0 +1,54 @@
+package seedu.address.logic.commands.global;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.commandresults.GlobalCommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Removes a tag from every StudyBuddyPro item that has it.
+ */
+public class UntagCommand extends Command {
+
+    public static final String COMMAND_WORD = "untag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Removes a tag from every StudyBuddyPro item that "
+            + "has it.\nParameters: TAG\n"
+            + "Example usage : untag midterm";
+
+    public static final String MESSAGE_SUCCESS = "Removed tag [%1$s] from %2$d item(s).";
+
+    public static final String MESSAGE_TAG_NOT_FOUND = "There is no StudyBuddyItem with the tag [%1$s]!";
+
+    private final Tag target;
+
+    /**
+     * Creates an UntagCommand to remove {@code target}.
+     */
+    public UntagCommand(Tag target) {
+        requireNonNull(target);
+        this.target = target;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasTag(target)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_FOUND, target.getTagName()));
+        }
+
+        int changedCount = model.removeTag(target);
+        return new GlobalCommandResult(String.format(MESSAGE_SUCCESS, target.getTagName(), changedCount));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UntagCommand // instanceof handles nulls
+                && target.equals(((UntagCommand) other).target));
+    }
+}
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.DELETE;
 import static seedu.address.commons.core.Messages.MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_NOTE;
 import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE;
+import static seedu.address.commons.core.Messages.MESSAGE_CONFIRM_DELETE_BY_TITLE;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,6 +16,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandHistory;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.NoteCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -27,9 +30,11 @@ public class DeleteNoteCommand extends Command {
     public static final String COMMAND_WORD = DELETE;
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the note identified by the index number used in the displayed note list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + ": Deletes the note identified by the index number used in the displayed note list,\n"
+            + "or by its title, which may be slightly mistyped.\n"
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Photosynthsis";
 
     public static final String MESSAGE_DELETE_NOTE_SUCCESS = "Deleted Note: %1$s";
 
@@ -41,34 +46,44 @@ public class DeleteNoteCommand extends Command {
      */
     private static boolean successfulDeletionOnPreviousCommand = false;
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     public DeleteNoteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+    }
+
+    public DeleteNoteCommand(String targetTitle) {
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
     }
 
     public Index getTargetIndex() {
         return targetIndex;
     }
 
+    /**
+     * Returns true if {@code other} names the same note in the same way as this command.
+     */
+    private boolean hasSameTarget(DeleteNoteCommand other) {
+        return Objects.equals(targetIndex, other.targetIndex) && Objects.equals(targetTitle, other.targetTitle);
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Note> lastShownList = model.getFilteredNoteList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_NOTE_DISPLAYED_INDEX);
-        }
-
-        Note noteToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Note noteToDelete = getTarget(model);
         NoteCommandResult commandResult = new NoteCommandResult ((MESSAGE_ARE_YOU_SURE_WANT_TO_DELETE_NOTE
                 + "\n" + noteToDelete
-                + "\n" + String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())));
+                + "\n" + (targetTitle == null
+                        ? String.format(MESSAGE_CONFIRM_DELETE, this.targetIndex.getOneBased())
+                        : String.format(MESSAGE_CONFIRM_DELETE_BY_TITLE, targetTitle))));
 
         if (CommandHistory.getLastCommand().isPresent()) {
             if (CommandHistory.getLastCommand().get() instanceof DeleteNoteCommand) {
-                if (((DeleteNoteCommand) CommandHistory.getLastCommand().get()).getTargetIndex()
-                        .equals(this.targetIndex)) {
+                if (hasSameTarget((DeleteNoteCommand) CommandHistory.getLastCommand().get())) {
                     int noteListSize = model.getFilteredNoteList().size();
 
                     // correct. allow delete
@@ -94,10 +109,27 @@ public class DeleteNoteCommand extends Command {
         return commandResult;
     }
 
+    /**
+     * Returns the note at the target index of the displayed list, or the note with the closest title to
+     * the target title in the whole list.
+     */
+    private Note getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getNotesByFuzzyTitle(targetTitle), targetTitle, "note",
+                    Note::getTitle);
+        }
+
+        List<Note> lastShownList = model.getFilteredNoteList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_NOTE_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteNoteCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteNoteCommand) other).targetIndex)); // state check
+                && hasSameTarget((DeleteNoteCommand) other)); // state check
     }
 }
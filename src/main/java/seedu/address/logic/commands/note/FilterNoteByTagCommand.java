@@ -20,7 +20,9 @@ public class FilterNoteByTagCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters notes by tags.\n"
             + "Find all related notes and intra-note tags with the specified tags.\n"
-            + "Example : filter tag/important tag/cs2100";
+            + "Example : filter tag/important tag/cs2100\n"
+            + "Tags can also be combined with and, or, not and parentheses.\n"
+            + "Example : filter (cs2100 or cs2105) and not midterm";
 
     public static final String FILTER_TAG_MESSAGE_SUCCESS = "Filter notes by tag(s) : ";
 
@@ -4,12 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.VIEW;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.TitleTarget;
 import seedu.address.logic.commands.commandresults.NoteCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -26,27 +28,30 @@ public class ViewNoteCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Displays a note.\n"
             + "Note is displayed without intra-note tags. Use 'viewraw' to view the raw note.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
-            + "Example: " + COMMAND_WORD + " 1";
+            + "Parameters: INDEX (must be a positive integer) or t/TITLE, which may be slightly mistyped\n"
+            + "Example: " + COMMAND_WORD + " 1\n"
+            + "Example: " + COMMAND_WORD + " t/Photosynthsis";
 
     public static final String VIEW_NOTE_SUCCESS = "Viewing note: %1$s";
 
+    // exactly one of the two is set
     private final Index targetIndex;
+    private final String targetTitle;
 
     public ViewNoteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
+        this.targetTitle = null;
+    }
+
+    public ViewNoteCommand(String targetTitle) {
+        this.targetIndex = null;
+        this.targetTitle = targetTitle;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Note> lastShownList = model.getFilteredNoteList();
-
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_NOTE_DISPLAYED_INDEX);
-        }
-
-        Note note = lastShownList.get(targetIndex.getZeroBased());
+        Note note = getTarget(model);
         Note cleanedNote = new Note(note.getTitle(), note.getContentCleanedFromTags(), note.getTags());
 
         return new NoteCommandResult(model.getFilteredNoteList().isEmpty()
@@ -54,11 +59,29 @@ public class ViewNoteCommand extends Command {
                 : String.format(VIEW_NOTE_SUCCESS, cleanedNote), Optional.of(cleanedNote));
     }
 
+    /**
+     * Returns the note at the target index of the displayed list, or the note with the closest title to
+     * the target title in the whole list.
+     */
+    private Note getTarget(Model model) throws CommandException {
+        if (targetTitle != null) {
+            return TitleTarget.getOnlyMatch(model.getNotesByFuzzyTitle(targetTitle), targetTitle, "note",
+                    Note::getTitle);
+        }
+
+        List<Note> lastShownList = model.getFilteredNoteList();
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_NOTE_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(targetIndex.getZeroBased());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ViewNoteCommand // instanceof handles nulls
-                && targetIndex.equals(((ViewNoteCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((ViewNoteCommand) other).targetIndex)
+                && Objects.equals(targetTitle, ((ViewNoteCommand) other).targetTitle)); // state check
     }
 
 }
@@ -0,0 +1,162 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.FunctionMode;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.StudyBuddyProParser;
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+
+/**
+ * Completes a partly typed command: its command word, the prefix of an argument, a tag after a tag prefix and the
+ * title of an existing item after a title prefix of the commands that name items by title.
+ * The tags and titles are kept in tries that follow the changes of the lists of StudyBuddyPro, so a completion
+ * never scans the lists. Completions may be asked for on any thread.
+ */
+public class CompletionEngine {
+
+    /** The largest number of completions returned for an input. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    // the commands whose title prefix names an existing item rather than a new title
+    private static final Set<String> TITLE_TARGET_COMMAND_WORDS = Set.of(Messages.VIEW, Messages.DELETE,
+            Messages.TIMETRIAL);
+
+    private final Map<FunctionMode, PrefixTrie> commandWords = new EnumMap<>(FunctionMode.class);
+    private final Map<FunctionMode, PrefixTrie> titles = new EnumMap<>(FunctionMode.class);
+    private final PrefixTrie tags = new PrefixTrie();
+
+    /**
+     * Creates an engine that completes the tags and titles of {@code studyBuddyPro}, as they change.
+     */
+    public CompletionEngine(ReadOnlyStudyBuddyPro studyBuddyPro) {
+        requireNonNull(studyBuddyPro);
+        for (FunctionMode mode : FunctionMode.values()) {
+            PrefixTrie modeCommandWords = new PrefixTrie();
+            StudyBuddyProParser.getCommandWords(mode).forEach(modeCommandWords::add);
+            commandWords.put(mode, modeCommandWords);
+        }
+
+        follow(studyBuddyPro.getTagList(), tag -> tag.tagName, tags);
+        PrefixTrie flashcardTitles = new PrefixTrie();
+        follow(studyBuddyPro.getFlashcardList(), flashcard -> flashcard.getTitle().toString(), flashcardTitles);
+        titles.put(FunctionMode.FLASHCARD, flashcardTitles);
+        titles.put(FunctionMode.TIMETRIAL, flashcardTitles);
+        PrefixTrie noteTitles = new PrefixTrie();
+        follow(studyBuddyPro.getNoteList(), note -> note.getTitle().toString(), noteTitles);
+        titles.put(FunctionMode.NOTE, noteTitles);
+        PrefixTrie cheatSheetTitles = new PrefixTrie();
+        follow(studyBuddyPro.getCheatSheetList(), cheatSheet -> cheatSheet.getTitle().toString(), cheatSheetTitles);
+        titles.put(FunctionMode.CHEATSHEET, cheatSheetTitles);
+    }
+
+    /**
+     * Returns the ways to complete the last word of {@code input} in {@code mode}, each as the whole input with
+     * the completion in place of the last word, at most {@link #MAX_COMPLETIONS} of them.
+     */
+    public List<String> getCompletions(String input, FunctionMode mode) {
+        requireNonNull(input);
+        requireNonNull(mode);
+        String command = input.stripLeading();
+        int commandWordEnd = indexOfWhitespace(command);
+        if (commandWordEnd == -1) {
+            return complete(input, input.length() - command.length(),
+                    commandWords.get(mode).getWordsStartingWith(command, MAX_COMPLETIONS));
+        }
+
+        String commandWord = command.substring(0, commandWordEnd);
+        List<Prefix> prefixes = StudyBuddyProParser.getPrefixes(mode, commandWord);
+        int argumentStart = input.length() - command.length() + commandWordEnd;
+        Prefix lastPrefix = null;
+        int lastPrefixEnd = -1;
+        for (Prefix prefix : prefixes) {
+            int prefixStart = input.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixStart >= argumentStart && prefixStart + 1 + prefix.getPrefix().length() > lastPrefixEnd) {
+                lastPrefix = prefix;
+                lastPrefixEnd = prefixStart + 1 + prefix.getPrefix().length();
+            }
+        }
+
+        int wordStart = input.lastIndexOf(' ') + 1;
+        if (PREFIX_TITLE.equals(lastPrefix) && titles.containsKey(mode)
+                && TITLE_TARGET_COMMAND_WORDS.contains(commandWord.toLowerCase())) {
+            // titles have spaces, so the whole text after the prefix is completed
+            int titleStart = lastPrefixEnd;
+            while (titleStart < input.length() && input.charAt(titleStart) == ' ') {
+                titleStart++;
+            }
+            return complete(input, titleStart,
+                    titles.get(mode).getWordsStartingWith(input.substring(titleStart), MAX_COMPLETIONS));
+        }
+        if (PREFIX_TAG.equals(lastPrefix) && lastPrefixEnd > wordStart) {
+            return complete(input, lastPrefixEnd,
+                    tags.getWordsStartingWith(input.substring(lastPrefixEnd), MAX_COMPLETIONS));
+        }
+        return complete(input, wordStart, getPrefixesStartingWith(prefixes, input.substring(wordStart)));
+    }
+
+    /**
+     * Returns the prefixes of {@code prefixes} that start with {@code word}, matching case, since prefixes that only
+     * differ in case are different prefixes.
+     */
+    private static List<String> getPrefixesStartingWith(List<Prefix> prefixes, String word) {
+        List<String> matchingPrefixes = new ArrayList<>();
+        for (Prefix prefix : prefixes) {
+            if (prefix.getPrefix().startsWith(word) && !prefix.getPrefix().equals(word)) {
+                matchingPrefixes.add(prefix.getPrefix());
+            }
+        }
+        Collections.sort(matchingPrefixes);
+        return matchingPrefixes;
+    }
+
+    /**
+     * Returns {@code input} with the text from {@code start} replaced by each of {@code completions}.
+     */
+    private static List<String> complete(String input, int start, List<String> completions) {
+        List<String> completedInputs = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            completedInputs.add(input.substring(0, start) + completion);
+        }
+        return completedInputs;
+    }
+
+    /**
+     * Returns the position of the first whitespace character of {@code text}, or -1 if there is none.
+     */
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the key of every item of {@code items} to {@code trie}, and keeps the trie in line with the changes of
+     * {@code items}.
+     */
+    private static <T> void follow(ObservableList<T> items, Function<T, String> keyOf, PrefixTrie trie) {
+        items.forEach(item -> trie.add(keyOf.apply(item)));
+        items.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(item -> trie.remove(keyOf.apply(item)));
+                change.getAddedSubList().forEach(item -> trie.add(keyOf.apply(item)));
+            }
+        });
+    }
+}
@@ -0,0 +1,196 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+
+/**
+ * A set of words that finds the words starting with some text, ignoring case, in alphabetical order.
+ * The words are kept in a compact trie, in which a chain of nodes with a single child each is merged into one node,
+ * so that a lookup takes time in the length of the text and the number of words returned, not the number of words
+ * in the set.
+ * A word can be added several times, and is kept until it has been removed as many times.
+ * Thread safe, so that the words can be looked up on another thread than the one that changes them.
+ */
+public class PrefixTrie {
+
+    /**
+     * A node of the trie, which is reached by the text of the edges from the root down to it.
+     */
+    private static class Node {
+        // the text of the edge from the parent, in lower case
+        private String label;
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+        // the words that end at this node as they were added, with the number of times they were added
+        private final TreeMap<String, Integer> words = new TreeMap<>();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    private final Node root = new Node("");
+
+    /**
+     * Adds {@code word} to the set.
+     */
+    public synchronized void add(String word) {
+        requireNonNull(word);
+        String key = word.toLowerCase(Locale.ROOT);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                child = new Node(key.substring(position));
+                node.children.put(key.charAt(position), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            position += common;
+        }
+        node.words.merge(word, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one of the times that {@code word} was added to the set, if it was added.
+     */
+    public synchronized void remove(String word) {
+        requireNonNull(word);
+        String key = word.toLowerCase(Locale.ROOT);
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null || !key.startsWith(child.label, position)) {
+                return;
+            }
+            path.push(node);
+            node = child;
+            position += child.label.length();
+        }
+        Integer count = node.words.get(word);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            node.words.put(word, count - 1);
+            return;
+        }
+        node.words.remove(word);
+        compact(node, path);
+    }
+
+    /**
+     * Returns at most {@code limit} of the words that start with {@code prefix}, ignoring case, in alphabetical
+     * order of their lower case forms.
+     */
+    public synchronized List<String> getWordsStartingWith(String prefix, int limit) {
+        requireNonNull(prefix);
+        String key = prefix.toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            Node child = node.children.get(key.charAt(position));
+            if (child == null) {
+                return words;
+            }
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length() && position + common < key.length()) {
+                return words;
+            }
+            node = child;
+            position += common;
+        }
+        collectWords(node, limit, words);
+        return words;
+    }
+
+    /**
+     * Adds the words of {@code node} and of the nodes below it to {@code words} in alphabetical order, until there
+     * are {@code limit} words.
+     */
+    private static void collectWords(Node node, int limit, List<String> words) {
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(node);
+        while (!toVisit.isEmpty() && words.size() < limit) {
+            Node current = toVisit.pop();
+            for (String word : current.words.keySet()) {
+                if (words.size() == limit) {
+                    return;
+                }
+                words.add(word);
+            }
+            for (Node child : current.children.descendingMap().values()) {
+                toVisit.push(child);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code node} if it has no words or children left, and merges the node that is then left with a single
+     * child and no words into that child. {@code path} holds the ancestors of {@code node}, its parent first.
+     */
+    private static void compact(Node node, Deque<Node> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        Node parent = path.pop();
+        if (node.words.isEmpty() && node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            node = parent;
+            if (path.isEmpty()) {
+                return;
+            }
+            parent = path.pop();
+        }
+        if (node.words.isEmpty() && node.children.size() == 1) {
+            Node child = node.children.firstEntry().getValue();
+            child.label = node.label + child.label;
+            parent.children.put(child.label.charAt(0), child);
+        }
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the text of {@code key} from
+     * {@code position}.
+     */
+    private static int commonPrefixLength(String label, String key, int position) {
+        int length = 0;
+        while (length < label.length() && position + length < key.length()
+                && label.charAt(length) == key.charAt(position + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the number of nodes of the trie below the root, for tests of how compact it is.
+     */
+    synchronized int getNodeCount() {
+        int count = 0;
+        Deque<Node> toVisit = new ArrayDeque<>(root.children.values());
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            count++;
+            toVisit.addAll(node.children.values());
+        }
+        return count;
+    }
+}
@@ -5,11 +5,13 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.global.FilterAllByTagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.StudyBuddyItemContainsTagPredicate;
+import seedu.address.model.TagQuery;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -32,11 +34,15 @@ public class FilterAllByTagCommandParser implements Parser<FilterAllByTagCommand
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterAllByTagCommand.MESSAGE_USAGE));
         }
 
-        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-        if (tags.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterAllByTagCommand.MESSAGE_USAGE));
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        if (tagNames.isEmpty()) {
+            TagQuery query = TagQueryParser.parse(argMultimap.getPreamble());
+            ArrayList<String> queryKeywords = new ArrayList<>();
+            queryKeywords.add(query.toString());
+            return new FilterAllByTagCommand(new StudyBuddyItemContainsTagPredicate(query), queryKeywords);
         }
+
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
         ArrayList<String> tagKeywords = new ArrayList<>();
         for (Tag t : tags) {
             tagKeywords.add(t.toString());
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import seedu.address.logic.commands.global.GrepCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.GrepSearch;
+
+/**
+ * Parses input arguments and creates a new GrepCommand object
+ */
+public class GrepCommandParser implements Parser<GrepCommand> {
+
+    public static final String FIXED_STRING_FLAG = "-F";
+
+    public static final Duration SEARCH_TIMEOUT = Duration.ofSeconds(2);
+
+    public static final String MESSAGE_INVALID_PATTERN = "The pattern is not a valid regular expression: %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GrepCommand
+     * and returns a GrepCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public GrepCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        boolean isFixedString = trimmedArgs.startsWith(FIXED_STRING_FLAG + " ");
+        if (isFixedString) {
+            trimmedArgs = trimmedArgs.substring(FIXED_STRING_FLAG.length()).trim();
+        }
+        String pattern = unquote(trimmedArgs);
+        if (pattern.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GrepCommand.MESSAGE_USAGE));
+        }
+
+        if (isFixedString) {
+            return new GrepCommand(GrepSearch.forSubstring(pattern, SEARCH_TIMEOUT));
+        }
+        try {
+            return new GrepCommand(new GrepSearch(Pattern.compile(pattern), SEARCH_TIMEOUT));
+        } catch (PatternSyntaxException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_PATTERN, e.getDescription()));
+        }
+    }
+
+    /**
+     * Returns {@code text} without the double quotes around it, if it has them.
+     */
+    private static String unquote(String text) {
+        if (text.length() >= 2 && text.startsWith("\"") && text.endsWith("\"")) {
+            return text.substring(1, text.length() - 1);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.global.MergeTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeTagCommand object
+ */
+public class MergeTagCommandParser implements Parser<MergeTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeTagCommand
+     * and returns a MergeTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeTagCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] tagNames = args.trim().split("\\s+");
+        if (tagNames.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeTagCommand.MESSAGE_USAGE));
+        }
+        return new MergeTagCommand(ParserUtil.parseTag(tagNames[0]), ParserUtil.parseTag(tagNames[1]));
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
@@ -11,6 +13,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
 import seedu.address.model.note.Content;
 import seedu.address.model.note.Title;
 import seedu.address.model.person.Address;
@@ -25,6 +28,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_EMPTY_TARGET_TITLE = "The title after t/ should not be blank.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -39,6 +43,24 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Returns the title after the title prefix if {@code args} names the target of a command by its title instead
+     * of by its index, for the commands that take either. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the title is empty.
+     */
+    public static Optional<String> parseTargetTitle(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (!trimmedArgs.startsWith(PREFIX_TITLE.getPrefix())) {
+            return Optional.empty();
+        }
+        String title = trimmedArgs.substring(PREFIX_TITLE.getPrefix().length()).trim();
+        if (title.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_TARGET_TITLE);
+        }
+        return Optional.of(title);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -234,6 +256,23 @@ public class ParserUtil {
         return new Tag(trimmedTag);
     }
 
+    /**
+     * Parses a {@code String quality} into a {@code RecallQuality}, ignoring case.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code quality} is invalid.
+     */
+    public static RecallQuality parseRecallQuality(String quality) throws ParseException {
+        requireNonNull(quality);
+        String trimmedQuality = quality.trim();
+        for (RecallQuality recallQuality : RecallQuality.values()) {
+            if (recallQuality.name().equalsIgnoreCase(trimmedQuality)) {
+                return recallQuality;
+            }
+        }
+        throw new ParseException(RecallQuality.MESSAGE_CONSTRAINTS);
+    }
+
     /**
      * Parses {@code Collection<String> tags} into a {@code Set<Tag>}.
      */
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.global.RetagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RetagCommand object
+ */
+public class RetagCommandParser implements Parser<RetagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RetagCommand
+     * and returns a RetagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RetagCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] tagNames = args.trim().split("\\s+");
+        if (tagNames.length != 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RetagCommand.MESSAGE_USAGE));
+        }
+        return new RetagCommand(ParserUtil.parseTag(tagNames[0]), ParserUtil.parseTag(tagNames[1]));
+    }
+}
@@ -3,10 +3,23 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.commons.core.Messages.SPECIFY_MODE;
-
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ANSWER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CONTENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUESTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.FunctionMode;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.cheatsheet.AddCheatSheetCommand;
@@ -18,6 +31,7 @@ import seedu.address.logic.commands.cheatsheet.ViewSpecificCheatSheetTagCommand;
 import seedu.address.logic.commands.flashcard.AddFlashcardCommand;
 import seedu.address.logic.commands.flashcard.DeleteFlashcardCommand;
 import seedu.address.logic.commands.flashcard.FilterFlashcardByTagCommand;
+import seedu.address.logic.commands.flashcard.RateFlashcardCommand;
 import seedu.address.logic.commands.flashcard.RemindCommand;
 import seedu.address.logic.commands.flashcard.ShowFlashcardAnswerCommand;
 import seedu.address.logic.commands.flashcard.StartTimeTrialCommand;
@@ -25,10 +39,15 @@ import seedu.address.logic.commands.flashcard.ViewFlashcardCommand;
 import seedu.address.logic.commands.global.ClearCommand;
 import seedu.address.logic.commands.global.ExitCommand;
 import seedu.address.logic.commands.global.FilterAllByTagCommand;
+import seedu.address.logic.commands.global.FindCommand;
+import seedu.address.logic.commands.global.GrepCommand;
 import seedu.address.logic.commands.global.HelpCommand;
 import seedu.address.logic.commands.global.ListAllTagsCommand;
 import seedu.address.logic.commands.global.ListCommand;
+import seedu.address.logic.commands.global.MergeTagCommand;
+import seedu.address.logic.commands.global.RetagCommand;
 import seedu.address.logic.commands.global.SwitchModeCommand;
+import seedu.address.logic.commands.global.UntagCommand;
 import seedu.address.logic.commands.note.AddNoteCommand;
 import seedu.address.logic.commands.note.DeleteNoteCommand;
 import seedu.address.logic.commands.note.FilterNoteByTagCommand;
@@ -44,6 +63,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.parser.flashcard.AddFlashcardCommandParser;
 import seedu.address.logic.parser.flashcard.DeleteFlashcardCommandParser;
 import seedu.address.logic.parser.flashcard.FilterFlashcardByTagCommandParser;
+import seedu.address.logic.parser.flashcard.RateFlashcardCommandParser;
 import seedu.address.logic.parser.flashcard.StartTimeTrialCommandParser;
 import seedu.address.logic.parser.flashcard.ViewFlashcardCommandParser;
 import seedu.address.logic.parser.note.AddNoteCommandParser;
@@ -63,153 +83,127 @@ public class StudyBuddyProParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
     /**
-     * Parses user input into command for execution.
-     *
-     * @param userInput full user input string
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
+     * The commands that are parsed in any mode and in each mode, by command word, with the parser of their arguments
+     * and the prefixes that the arguments can have. These tables are all that the parser accepts.
      */
-    public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
-        }
-
-        final String commandWord = (matcher.group("commandWord")).toLowerCase();
-        final String arguments = matcher.group("arguments");
-
-        switch (commandWord) { //global commands?
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case ListAllTagsCommand.COMMAND_WORD:
-            return new ListAllTagsCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+    private static final Map<String, CommandEntry> GLOBAL_COMMANDS = Map.ofEntries(
+            entry(ClearCommand.COMMAND_WORD, new ClearCommandParser(), PREFIX_ALL),
+            entry(ListAllTagsCommand.COMMAND_WORD, arguments -> new ListAllTagsCommand()),
+            entry(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand()),
+            entry(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand()),
+            entry(SwitchModeCommand.COMMAND_WORD, new SwitchModeCommandParser()),
+            entry(ListCommand.COMMAND_WORD, arguments -> new ListCommand()),
+            entry(FilterAllByTagCommand.COMMAND_WORD, new FilterAllByTagCommandParser(), PREFIX_TAG),
+            entry(RetagCommand.COMMAND_WORD, new RetagCommandParser()),
+            entry(MergeTagCommand.COMMAND_WORD, new MergeTagCommandParser()),
+            entry(UntagCommand.COMMAND_WORD, new UntagCommandParser()),
+            entry(FindCommand.COMMAND_WORD, new FindCommandParser()),
+            entry(GrepCommand.COMMAND_WORD, new GrepCommandParser()));
+    private static final Map<String, CommandEntry> CHEATSHEET_COMMANDS = Map.ofEntries(
+            entry(AddCheatSheetCommand.COMMAND_WORD, new AddCheatSheetCommandParser(), PREFIX_TITLE, PREFIX_TAG),
+            entry(DeleteCheatSheetCommand.COMMAND_WORD, new DeleteCheatSheetCommandParser(), PREFIX_TITLE),
+            entry(EditCheatSheetCommand.COMMAND_WORD, new EditCheatSheetCommandParser(), PREFIX_TITLE,
+                    PREFIX_CONTENT, PREFIX_TAG),
+            entry(FilterCheatSheetByTagCommand.COMMAND_WORD, new FilterCheatSheetByTagCommandParser(), PREFIX_TAG),
+            entry(ViewCheatSheetCommand.COMMAND_WORD, new ViewCheatSheetCommandParser(), PREFIX_TITLE),
+            entry(ViewSpecificCheatSheetTagCommand.COMMAND_WORD, new ViewSpecificCheatSheetTagCommandParser()));
+    private static final Map<String, CommandEntry> FLASHCARD_COMMANDS = Map.ofEntries(
+            entry(AddFlashcardCommand.COMMAND_WORD, new AddFlashcardCommandParser(), PREFIX_QUESTION, PREFIX_ANSWER,
+                    PREFIX_TITLE, PREFIX_TAG),
+            entry(DeleteFlashcardCommand.COMMAND_WORD, new DeleteFlashcardCommandParser(), PREFIX_TITLE),
+            entry(FilterFlashcardByTagCommand.COMMAND_WORD, new FilterFlashcardByTagCommandParser(), PREFIX_TAG),
+            entry(ViewFlashcardCommand.COMMAND_WORD, new ViewFlashcardCommandParser(), PREFIX_TITLE),
+            entry(StartTimeTrialCommand.COMMAND_WORD, new StartTimeTrialCommandParser(), PREFIX_TITLE),
+            entry(ShowFlashcardAnswerCommand.COMMAND_WORD, arguments -> new ShowFlashcardAnswerCommand()),
+            entry(RateFlashcardCommand.COMMAND_WORD, new RateFlashcardCommandParser()),
+            entry(RemindCommand.COMMAND_WORD, arguments -> new RemindCommand()));
+    private static final Map<String, CommandEntry> NOTE_COMMANDS = Map.ofEntries(
+            entry(AddNoteCommand.COMMAND_WORD, new AddNoteCommandParser(), PREFIX_TITLE, PREFIX_CONTENT, PREFIX_TAG),
+            entry(DeleteNoteCommand.COMMAND_WORD, new DeleteNoteCommandParser(), PREFIX_TITLE),
+            entry(FilterNoteByTagCommand.COMMAND_WORD, new FilterNoteByTagCommandParser(), PREFIX_TAG),
+            entry(ViewNoteCommand.COMMAND_WORD, new ViewNoteCommandParser(), PREFIX_TITLE),
+            entry(ViewRawNoteCommand.COMMAND_WORD, new ViewRawNoteCommandParser()));
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case SwitchModeCommand.COMMAND_WORD:
-            return new SwitchModeCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case FilterAllByTagCommand.COMMAND_WORD:
-            return new FilterAllByTagCommandParser().parse(arguments);
-
-        default:
-
-            switch (LogicManager.getMode()) {
-            case CHEATSHEET:
-                return parseCheatSheetCommands(commandWord, arguments);
-
-            case FLASHCARD:
-                return parseFlashcardCommands(commandWord, arguments);
-
-            case NOTE:
-                return parseNoteCommands(commandWord, arguments);
+    /**
+     * A command that the parser accepts, with the parser of its arguments and the prefixes that they can have.
+     */
+    private static class CommandEntry {
+        private final Parser<? extends Command> parser;
+        private final List<Prefix> prefixes;
 
-            default:
-                throw new ParseException(SPECIFY_MODE);
-            }
+        CommandEntry(Parser<? extends Command> parser, List<Prefix> prefixes) {
+            this.parser = parser;
+            this.prefixes = prefixes;
         }
     }
 
+    private static Map.Entry<String, CommandEntry> entry(String commandWord, Parser<? extends Command> parser,
+                                                          Prefix... prefixes) {
+        return Map.entry(commandWord, new CommandEntry(parser, List.of(prefixes)));
+    }
+
     /**
-     * Parses user input into command for execution.
-     * @param commandWord the command to execute
-     * @param arguments the parameters supplied to command
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
+     * Returns the command words that can be used in {@code mode}, including those that can be used in any mode.
      */
-    private Command parseCheatSheetCommands(String commandWord, String arguments) throws ParseException {
-        switch (commandWord) {
-        case AddCheatSheetCommand.COMMAND_WORD:
-            return new AddCheatSheetCommandParser().parse(arguments);
-
-        case DeleteCheatSheetCommand.COMMAND_WORD:
-            return new DeleteCheatSheetCommandParser().parse(arguments);
-
-        case EditCheatSheetCommand.COMMAND_WORD:
-            return new EditCheatSheetCommandParser().parse(arguments);
-
-        case FilterCheatSheetByTagCommand.COMMAND_WORD:
-            return new FilterCheatSheetByTagCommandParser().parse(arguments);
-
-        case ViewCheatSheetCommand.COMMAND_WORD:
-            return new ViewCheatSheetCommandParser().parse(arguments);
-
-        case ViewSpecificCheatSheetTagCommand.COMMAND_WORD:
-            return new ViewSpecificCheatSheetTagCommandParser().parse(arguments);
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
-        }
+    public static Set<String> getCommandWords(FunctionMode mode) {
+        Set<String> commandWords = new HashSet<>(GLOBAL_COMMANDS.keySet());
+        commandWords.addAll(getModeCommands(mode).keySet());
+        return commandWords;
     }
 
     /**
-     * Parses user input into command for execution.
-     * @param commandWord the command to execute
-     * @param arguments the parameters supplied to command
-     * @return the command based on the user input
-     * @throws ParseException if the user input does not conform the expected format
+     * Returns the prefixes that the arguments of the command with {@code commandWord} can have in {@code mode},
+     * or none if there is no such command.
      */
-    private Command parseFlashcardCommands(String commandWord, String arguments) throws ParseException {
-        switch (commandWord) {
-        case AddFlashcardCommand.COMMAND_WORD:
-            return new AddFlashcardCommandParser().parse(arguments);
-
-        case DeleteFlashcardCommand.COMMAND_WORD:
-            return new DeleteFlashcardCommandParser().parse(arguments);
-
-        case FilterFlashcardByTagCommand.COMMAND_WORD:
-            return new FilterFlashcardByTagCommandParser().parse(arguments);
-
-        case ViewFlashcardCommand.COMMAND_WORD:
-            return new ViewFlashcardCommandParser().parse(arguments);
-
-        case StartTimeTrialCommand.COMMAND_WORD:
-            return new StartTimeTrialCommandParser().parse(arguments);
-
-        case ShowFlashcardAnswerCommand.COMMAND_WORD:
-            return new ShowFlashcardAnswerCommand();
+    public static List<Prefix> getPrefixes(FunctionMode mode, String commandWord) {
+        return getCommandEntry(mode, commandWord.toLowerCase()).map(entry -> entry.prefixes).orElse(List.of());
+    }
 
-        case RemindCommand.COMMAND_WORD:
-            return new RemindCommand();
+    /**
+     * Returns the command with {@code commandWord} that can be used in {@code mode}, if there is one.
+     */
+    private static Optional<CommandEntry> getCommandEntry(FunctionMode mode, String commandWord) {
+        if (GLOBAL_COMMANDS.containsKey(commandWord)) {
+            return Optional.of(GLOBAL_COMMANDS.get(commandWord));
+        }
+        return Optional.ofNullable(getModeCommands(mode).get(commandWord));
+    }
 
+    private static Map<String, CommandEntry> getModeCommands(FunctionMode mode) {
+        switch (mode) {
+        case CHEATSHEET:
+            return CHEATSHEET_COMMANDS;
+        case FLASHCARD:
+            return FLASHCARD_COMMANDS;
+        case NOTE:
+            return NOTE_COMMANDS;
         default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+            return Collections.emptyMap();
         }
     }
 
     /**
      * Parses user input into command for execution.
-     * @param commandWord the command to execute
-     * @param arguments the parameters supplied to command
+     *
+     * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
-    private Command parseNoteCommands(String commandWord, String arguments) throws ParseException {
-        switch (commandWord) {
-        case AddNoteCommand.COMMAND_WORD:
-            return new AddNoteCommandParser().parse(arguments);
-
-        case DeleteNoteCommand.COMMAND_WORD:
-            return new DeleteNoteCommandParser().parse(arguments);
-
-        case FilterNoteByTagCommand.COMMAND_WORD:
-            return new FilterNoteByTagCommandParser().parse(arguments);
-
-        case ViewNoteCommand.COMMAND_WORD:
-            return new ViewNoteCommandParser().parse(arguments);
+    public Command parseCommand(String userInput) throws ParseException {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        }
 
-        case ViewRawNoteCommand.COMMAND_WORD:
-            return new ViewRawNoteCommandParser().parse(arguments);
+        final String commandWord = (matcher.group("commandWord")).toLowerCase();
+        final String arguments = matcher.group("arguments");
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        FunctionMode mode = LogicManager.getMode();
+        if (!GLOBAL_COMMANDS.containsKey(commandWord) && getModeCommands(mode).isEmpty()) {
+            throw new ParseException(SPECIFY_MODE);
         }
+        CommandEntry entry = getCommandEntry(mode, commandWord)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_COMMAND));
+        return entry.parser.parse(arguments);
     }
 }
@@ -0,0 +1,125 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TagQuery;
+
+/**
+ * Parses a tag query such as {@code (cs2100 or cs2105) and not midterm} into a {@code TagQuery}.
+ * {@code not} binds tighter than {@code and}, which binds tighter than {@code or}. Tags next to each other without
+ * an operator between them must all be present, as if joined by {@code and}.
+ */
+public class TagQueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Tag queries combine tags with and, or, not and "
+            + "parentheses.\nExample : (cs2100 or cs2105) and not midterm";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("[()]|[^\\s()]+");
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final List<String> tokens = new ArrayList<>();
+    private int nextToken = 0;
+
+    private TagQueryParser(String query) {
+        Matcher matcher = TOKEN_FORMAT.matcher(query);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+    }
+
+    /**
+     * Parses {@code query} into a {@code TagQuery}.
+     * @throws ParseException if {@code query} is not a valid tag query or has an invalid tag.
+     */
+    public static TagQuery parse(String query) throws ParseException {
+        requireNonNull(query);
+        TagQueryParser parser = new TagQueryParser(query);
+        TagQuery tagQuery = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new ParseException(MESSAGE_INVALID_QUERY);
+        }
+        return tagQuery;
+    }
+
+    /**
+     * Parses operands joined by {@code or}.
+     */
+    private TagQuery parseOr() throws ParseException {
+        List<TagQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (skipIf(OR)) {
+            operands.add(parseAnd());
+        }
+        return TagQuery.or(operands);
+    }
+
+    /**
+     * Parses operands joined by {@code and}, or by nothing.
+     */
+    private TagQuery parseAnd() throws ParseException {
+        List<TagQuery> operands = new ArrayList<>();
+        operands.add(parseNot());
+        while (hasNext() && !peekIs(OR) && !peekIs(CLOSE)) {
+            skipIf(AND);
+            operands.add(parseNot());
+        }
+        return TagQuery.and(operands);
+    }
+
+    /**
+     * Parses an operand with any number of {@code not} in front of it.
+     */
+    private TagQuery parseNot() throws ParseException {
+        if (skipIf(NOT)) {
+            return TagQuery.not(parseNot());
+        }
+        return parseOperand();
+    }
+
+    /**
+     * Parses a single tag or a query in parentheses.
+     */
+    private TagQuery parseOperand() throws ParseException {
+        if (!hasNext() || peekIs(AND) || peekIs(OR) || peekIs(CLOSE)) {
+            throw new ParseException(MESSAGE_INVALID_QUERY);
+        }
+        if (skipIf(OPEN)) {
+            TagQuery query = parseOr();
+            if (!skipIf(CLOSE)) {
+                throw new ParseException(MESSAGE_INVALID_QUERY);
+            }
+            return query;
+        }
+        return TagQuery.tag(ParserUtil.parseTag(tokens.get(nextToken++)));
+    }
+
+    private boolean hasNext() {
+        return nextToken < tokens.size();
+    }
+
+    private boolean peekIs(String token) {
+        return hasNext() && tokens.get(nextToken).equalsIgnoreCase(token);
+    }
+
+    /**
+     * Moves past the next token if it is {@code token}, and returns true if it did.
+     */
+    private boolean skipIf(String token) {
+        if (!peekIs(token)) {
+            return false;
+        }
+        nextToken++;
+        return true;
+    }
+}
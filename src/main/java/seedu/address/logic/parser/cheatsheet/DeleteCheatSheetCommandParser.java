@@ -2,6 +2,8 @@ package seedu.address.logic.parser.cheatsheet;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.cheatsheet.DeleteCheatSheetCommand;
 import seedu.address.logic.parser.Parser;
@@ -19,6 +21,10 @@ public class DeleteCheatSheetCommandParser implements Parser<DeleteCheatSheetCom
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCheatSheetCommand parse(String args) throws ParseException {
+        Optional<String> title = ParserUtil.parseTargetTitle(args);
+        if (title.isPresent()) {
+            return new DeleteCheatSheetCommand(title.get());
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
             return new DeleteCheatSheetCommand(index);
@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.cheatsheet.FilterCheatSheetByTagCommand;
@@ -12,7 +13,9 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.TagQueryParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TagQuery;
 import seedu.address.model.cheatsheet.CheatSheetContainsTagPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -36,11 +39,15 @@ public class FilterCheatSheetByTagCommandParser implements Parser<FilterCheatShe
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCheatSheetByTagCommand.MESSAGE_USAGE));
         }
 
-        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-        if (tags.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCheatSheetByTagCommand.MESSAGE_USAGE));
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        if (tagNames.isEmpty()) {
+            TagQuery query = TagQueryParser.parse(argMultimap.getPreamble());
+            ArrayList<String> queryKeywords = new ArrayList<>();
+            queryKeywords.add(query.toString());
+            return new FilterCheatSheetByTagCommand(new CheatSheetContainsTagPredicate(query), queryKeywords);
         }
+
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
         ArrayList<String> tagKeywords = new ArrayList<>();
         for (Tag t : tags) {
             tagKeywords.add(t.toString());
@@ -2,6 +2,8 @@ package seedu.address.logic.parser.cheatsheet;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Optional;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.cheatsheet.ViewCheatSheetCommand;
 import seedu.address.logic.parser.Parser;
@@ -19,6 +21,10 @@ public class ViewCheatSheetCommandParser implements Parser<ViewCheatSheetCommand
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewCheatSheetCommand parse(String args) throws ParseException {
+        Optional<String> title = ParserUtil.parseTargetTitle(args);
+        if (title.isPresent()) {
+            return new ViewCheatSheetCommand(title.get());
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
             return new ViewCheatSheetCommand(index);
@@ -2,6 +2,7 @@ package seedu.address.logic.parser.flashcard;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -24,6 +25,10 @@ public class DeleteFlashcardCommandParser implements Parser<DeleteFlashcardComma
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteFlashcardCommand parse(String args) throws ParseException {
+        Optional<String> title = ParserUtil.parseTargetTitle(args);
+        if (title.isPresent()) {
+            return new DeleteFlashcardCommand(title.get());
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
             logger.info("Parsing delete command of args: " + args);
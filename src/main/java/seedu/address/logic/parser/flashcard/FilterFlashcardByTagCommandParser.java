@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -14,7 +15,9 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.TagQueryParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TagQuery;
 import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -41,11 +44,15 @@ public class FilterFlashcardByTagCommandParser implements Parser<FilterFlashcard
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterFlashcardByTagCommand.MESSAGE_USAGE));
         }
 
-        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
-        if (tags.isEmpty()) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterFlashcardByTagCommand.MESSAGE_USAGE));
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        if (tagNames.isEmpty()) {
+            TagQuery query = TagQueryParser.parse(argMultimap.getPreamble());
+            ArrayList<String> queryKeywords = new ArrayList<>();
+            queryKeywords.add(query.toString());
+            return new FilterFlashcardByTagCommand(new FlashcardContainsTagPredicate(query), queryKeywords);
         }
+
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
         ArrayList<String> tagKeywords = new ArrayList<>();
         for (Tag t : tags) {
             tagKeywords.add(t.toString());
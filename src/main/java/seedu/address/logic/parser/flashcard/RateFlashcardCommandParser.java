@@ -0,0 +1,30 @@
+package seedu.address.logic.parser.flashcard;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.flashcard.RateFlashcardCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RateFlashcardCommand object
+ */
+public class RateFlashcardCommandParser implements Parser<RateFlashcardCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RateFlashcardCommand
+     * and returns a RateFlashcardCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RateFlashcardCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty() || trimmedArgs.split("\\s+").length != 1) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, RateFlashcardCommand.MESSAGE_USAGE));
+        }
+        return new RateFlashcardCommand(ParserUtil.parseRecallQuality(trimmedArgs));
+    }
+}
@@ -1,13 +1,17 @@
 package seedu.address.logic.parser.flashcard;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.flashcard.StartTimeTrialCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
@@ -33,6 +37,10 @@ public class StartTimeTrialCommandParser implements Parser<StartTimeTrialCommand
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, StartTimeTrialCommand.MESSAGE_USAGE));
         }
 
+        if (trimmedArgs.startsWith(PREFIX_TITLE.getPrefix())) {
+            return parseTitles(trimmedArgs);
+        }
+
         String[] tagKeywords = trimmedArgs.split("\\s+");
         for (String keyword: tagKeywords) {
             assert (!keyword.isEmpty());
@@ -52,4 +60,23 @@ public class StartTimeTrialCommandParser implements Parser<StartTimeTrialCommand
         return new StartTimeTrialCommand(new FlashcardContainsTagPredicate(tags), tagKeywords);
     }
 
+    /**
+     * Parses the titles of the flashcards of a time trial, each after a title prefix.
+     * @throws ParseException if any of the titles is empty
+     */
+    private StartTimeTrialCommand parseTitles(String trimmedArgs) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs, PREFIX_TITLE);
+        List<String> titles = argMultimap.getAllValues(PREFIX_TITLE);
+        for (String title : titles) {
+            if (title.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, StartTimeTrialCommand.MESSAGE_USAGE));
+            }
+        }
+
+        logger.info("Parsing timetrial command of titles: " + titles);
+
+        return new StartTimeTrialCommand(titles);
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.parser.flashcard;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -25,6 +26,10 @@ public class ViewFlashcardCommandParser implements Parser<ViewFlashcardCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public ViewFlashcardCommand parse(String args) throws ParseException {
+        Optional<String> title = ParserUtil.parseTargetTitle(args);
+        if (title.isPresent()) {
+            return new ViewFlashcardCommand(title.get());
+        }
         try {
             Index index = ParserUtil.parseIndex(args);
 
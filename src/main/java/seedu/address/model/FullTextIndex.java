@@ -0,0 +1,173 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from each word to the ids of the items whose text has the word, and how often it has it, so that
+ * the items that best match some words are found by looking only at the items with those words.
+ * Matches are ranked with BM25, which favours items that have the rarer words of the query many times, relative to
+ * the length of their text.
+ * The items are identified by their ids, which are unique across the flashcard, note and cheatsheet lists.
+ * The owner of the lists must report every change of the lists to the index.
+ */
+public class FullTextIndex {
+
+    // the usual BM25 parameters: how quickly repeated words stop counting, and how much long texts are penalised
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    private static final double LENGTH_NORMALIZATION = 0.75;
+
+    private static final Comparator<Map.Entry<Long, Double>> RANK_ORDER =
+            Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final Function<StudyBuddyItem, String> textOfItem;
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // the distinct words of each item, so that an item is removed without reading its text again
+    private final Map<Long, String[]> itemWords = new HashMap<>();
+    private final Map<Long, Integer> itemLengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Creates an index of the text that {@code textOfItem} returns for each item.
+     */
+    public FullTextIndex(Function<StudyBuddyItem, String> textOfItem) {
+        requireNonNull(textOfItem);
+        this.textOfItem = textOfItem;
+    }
+
+    /**
+     * Splits {@code text} into its words, which are the runs of letters and digits, in lower case.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start == -1) {
+                start = i;
+            } else if (!isWordCharacter && start != -1) {
+                words.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Records that {@code item} was added to one of the lists.
+     */
+    public void added(StudyBuddyItem item) {
+        long id = item.getId();
+        if (itemWords.containsKey(id)) {
+            removed(item);
+        }
+
+        List<String> words = tokenize(textOfItem.apply(item));
+        Map<String, Integer> wordCounts = new HashMap<>();
+        for (String word : words) {
+            wordCounts.merge(word, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> wordCount : wordCounts.entrySet()) {
+            postings.computeIfAbsent(wordCount.getKey(), unused -> new HashMap<>()).put(id, wordCount.getValue());
+        }
+        itemWords.put(id, wordCounts.keySet().toArray(new String[0]));
+        itemLengths.put(id, words.size());
+        totalLength += words.size();
+    }
+
+    /**
+     * Records that {@code item} was removed from its list.
+     */
+    public void removed(StudyBuddyItem item) {
+        long id = item.getId();
+        String[] words = itemWords.remove(id);
+        if (words == null) {
+            return;
+        }
+        for (String word : words) {
+            Map<Long, Integer> wordPostings = postings.get(word);
+            wordPostings.remove(id);
+            if (wordPostings.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        totalLength -= itemLengths.remove(id);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedItem}.
+     */
+    public void replaced(StudyBuddyItem target, StudyBuddyItem editedItem) {
+        removed(target);
+        added(editedItem);
+    }
+
+    /**
+     * Records that {@code oldItems} were all replaced by {@code newItems}.
+     */
+    public void replaced(List<? extends StudyBuddyItem> oldItems, List<? extends StudyBuddyItem> newItems) {
+        oldItems.forEach(this::removed);
+        newItems.forEach(this::added);
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} items that have any of the words of {@code query}, best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        requireNonNull(query);
+        Set<String> queryWords = new LinkedHashSet<>(tokenize(query));
+        if (queryWords.isEmpty() || limit <= 0 || itemLengths.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        int itemCount = itemLengths.size();
+        double averageLength = Math.max(1.0, (double) totalLength / itemCount);
+        for (String word : queryWords) {
+            Map<Long, Integer> wordPostings = postings.getOrDefault(word, Collections.emptyMap());
+            int itemsWithWord = wordPostings.size();
+            double inverseFrequency = Math.log(1 + (itemCount - itemsWithWord + 0.5) / (itemsWithWord + 0.5));
+            for (Map.Entry<Long, Integer> posting : wordPostings.entrySet()) {
+                double frequency = posting.getValue();
+                double lengthRatio = itemLengths.get(posting.getKey()) / averageLength;
+                double score = inverseFrequency * frequency * (TERM_FREQUENCY_SATURATION + 1)
+                        / (frequency + TERM_FREQUENCY_SATURATION
+                                * (1 - LENGTH_NORMALIZATION + LENGTH_NORMALIZATION * lengthRatio));
+                scores.merge(posting.getKey(), score, Double::sum);
+            }
+        }
+        return topRanked(scores, limit);
+    }
+
+    /**
+     * Returns the ids of the {@code limit} highest {@code scores}, highest first, keeping no more than
+     * {@code limit} of them in a heap at any time.
+     */
+    private static List<Long> topRanked(Map<Long, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            best.add(score);
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(best);
+        ranked.sort(RANK_ORDER);
+        List<Long> ids = new ArrayList<>(ranked.size());
+        for (Map.Entry<Long, Double> score : ranked) {
+            ids.add(score.getKey());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Finds the items of a list whose titles are closest to a possibly mistyped title, by the number of characters
+ * that have to be inserted, removed or changed to turn one into the other (edit distance).
+ * The titles are kept in a BK-tree, in which every child of a title is filed under its distance from the title.
+ * Since edit distance is a metric, a search only has to visit the children whose distance from a visited title is
+ * within the searched distance of the distance between that title and the searched title.
+ * The owner of the list must report every change of the list to the index.
+ */
+public class FuzzyTitleIndex<T extends StudyBuddyItem> {
+
+    /** The largest number of edits between a mistyped title and the title it is taken for. */
+    public static final int MAX_EDIT_DISTANCE = 3;
+
+    /**
+     * A title in the BK-tree, with the items that have it.
+     */
+    private static class Node {
+        private final String title;
+        private final Map<Integer, Node> children = new HashMap<>();
+        private final Set<Long> ids = new HashSet<>();
+
+        Node(String title) {
+            this.title = title;
+        }
+    }
+
+    private final Function<T, String> titleOfItem;
+    private Node root;
+    // nodes of titles that no item has any more, which stay in the tree to keep the children reachable
+    private int emptyNodeCount;
+    private int nodeCount;
+
+    /**
+     * Creates an index of the titles that {@code titleOfItem} returns for each item.
+     */
+    public FuzzyTitleIndex(Function<T, String> titleOfItem) {
+        requireNonNull(titleOfItem);
+        this.titleOfItem = titleOfItem;
+    }
+
+    /**
+     * Returns the largest number of edits that a title of the given length may be away from the title it is taken
+     * for, so that short titles are not taken for unrelated ones.
+     */
+    public static int getMaxEditDistance(int titleLength) {
+        return Math.min(MAX_EDIT_DISTANCE, titleLength / 4 + 1);
+    }
+
+    /**
+     * Records that {@code item} was added to the list.
+     */
+    public void added(T item) {
+        insert(normalize(titleOfItem.apply(item)), Collections.singleton(item.getId()));
+    }
+
+    /**
+     * Records that {@code item} was removed from the list.
+     */
+    public void removed(T item) {
+        Node node = find(normalize(titleOfItem.apply(item)));
+        if (node == null || !node.ids.remove(item.getId())) {
+            return;
+        }
+        if (node.ids.isEmpty()) {
+            emptyNodeCount++;
+        }
+        if (emptyNodeCount > nodeCount / 2) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedItem}.
+     */
+    public void replaced(T target, T editedItem) {
+        removed(target);
+        added(editedItem);
+    }
+
+    /**
+     * Records that the contents of the list were replaced by {@code items}.
+     */
+    public void reset(List<T> items) {
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+        items.forEach(this::added);
+    }
+
+    /**
+     * Returns the ids of the items whose titles are closest to {@code title}, if they are within
+     * {@link #getMaxEditDistance(int)} edits of it. Case and the spaces between words do not count.
+     */
+    public Set<Long> getClosest(String title) {
+        requireNonNull(title);
+        String query = normalize(title);
+        int bestDistance = getMaxEditDistance(query.length());
+        Set<Long> closest = new HashSet<>();
+        if (root == null) {
+            return closest;
+        }
+
+        Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            int distance = getEditDistance(query, node.title);
+            if (distance <= bestDistance && !node.ids.isEmpty()) {
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    closest.clear();
+                }
+                closest.addAll(node.ids);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= bestDistance) {
+                    toVisit.push(child.getValue());
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}.
+     */
+    static int getEditDistance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Returns {@code title} in lower case, with single spaces between its words.
+     */
+    private static String normalize(String title) {
+        return String.join(" ", title.trim().toLowerCase(Locale.ROOT).split("\\s+"));
+    }
+
+    /**
+     * Adds {@code ids} to the node of {@code title}, adding the node if there is none.
+     */
+    private void insert(String title, Set<Long> ids) {
+        if (root == null) {
+            root = new Node(title);
+            root.ids.addAll(ids);
+            nodeCount++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = getEditDistance(title, node.title);
+            if (distance == 0) {
+                if (node.ids.isEmpty() && !ids.isEmpty()) {
+                    emptyNodeCount--;
+                }
+                node.ids.addAll(ids);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(title);
+                child.ids.addAll(ids);
+                node.children.put(distance, child);
+                nodeCount++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the node of {@code title}, or null if there is none.
+     */
+    private Node find(String title) {
+        Node node = root;
+        while (node != null) {
+            int distance = getEditDistance(title, node.title);
+            if (distance == 0) {
+                return node;
+            }
+            node = node.children.get(distance);
+        }
+        return null;
+    }
+
+    /**
+     * Builds the tree again from the titles that some item still has, dropping the empty nodes.
+     */
+    private void rebuild() {
+        List<Node> liveNodes = new ArrayList<>();
+        Deque<Node> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            Node node = toVisit.pop();
+            if (!node.ids.isEmpty()) {
+                liveNodes.add(node);
+            }
+            node.children.values().forEach(toVisit::push);
+        }
+
+        root = null;
+        nodeCount = 0;
+        emptyNodeCount = 0;
+        for (Node node : liveNodes) {
+            insert(node.title, node.ids);
+        }
+    }
+}
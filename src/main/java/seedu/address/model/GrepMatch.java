@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The places in the text of an item where a {@link GrepSearch} matched, so that they can be highlighted.
+ * Guarantees: immutable; the matches are in ascending order and do not overlap.
+ */
+public class GrepMatch {
+
+    private final long itemId;
+    private final String text;
+    // the start and end of each match, one after the other
+    private final int[] bounds;
+
+    /**
+     * Creates the matches in {@code text} of the item with {@code itemId}, where {@code bounds} holds the start and
+     * end of each match in turn.
+     */
+    GrepMatch(long itemId, String text, int[] bounds) {
+        requireNonNull(text);
+        requireNonNull(bounds);
+        this.itemId = itemId;
+        this.text = text;
+        this.bounds = bounds;
+    }
+
+    public long getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Returns the text of the item that was searched.
+     */
+    public String getText() {
+        return text;
+    }
+
+    public int getMatchCount() {
+        return bounds.length / 2;
+    }
+
+    /**
+     * Returns where the match with the given index starts in the text.
+     */
+    public int getStart(int match) {
+        return bounds[2 * match];
+    }
+
+    /**
+     * Returns where the match with the given index ends in the text, exclusive.
+     */
+    public int getEnd(int match) {
+        return bounds[2 * match + 1];
+    }
+
+    /**
+     * Returns the lines of the text that have a match, with each match between {@code open} and {@code close}.
+     * A match that spans several lines is shown with all of them.
+     */
+    public List<String> getHighlightedLines(String open, String close) {
+        List<String> lines = new ArrayList<>();
+        int shownEnd = 0;
+        int match = 0;
+        while (match < getMatchCount()) {
+            int position = Math.max(shownEnd, text.lastIndexOf('\n', getStart(match) - 1) + 1);
+            int lineEnd = lineEndAfter(getStart(match));
+            StringBuilder line = new StringBuilder();
+            do {
+                line.append(text, position, getStart(match))
+                        .append(open).append(text, getStart(match), getEnd(match)).append(close);
+                position = getEnd(match);
+                lineEnd = Math.max(lineEnd, lineEndAfter(position));
+                match++;
+            } while (match < getMatchCount() && getStart(match) < lineEnd);
+            line.append(text, position, lineEnd);
+            lines.add(line.toString());
+            shownEnd = lineEnd;
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the end of the line of the text that {@code position} is in.
+     */
+    private int lineEndAfter(int position) {
+        int lineEnd = text.indexOf('\n', position);
+        return lineEnd == -1 ? text.length() : lineEnd;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GrepMatch // instanceof handles nulls
+                && itemId == ((GrepMatch) other).itemId
+                && text.equals(((GrepMatch) other).text)
+                && Arrays.equals(bounds, ((GrepMatch) other).bounds));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(itemId);
+    }
+}
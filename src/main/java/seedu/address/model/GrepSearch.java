@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression search over the text of all the items, which can be cancelled from another thread and gives
+ * up once it has run for longer than its timeout.
+ */
+public class GrepSearch {
+
+    private final Pattern pattern;
+    private final Duration timeout;
+    private volatile boolean isCancelled;
+
+    /**
+     * Creates a search for {@code pattern} that runs for at most {@code timeout}.
+     */
+    public GrepSearch(Pattern pattern, Duration timeout) {
+        requireNonNull(pattern);
+        requireNonNull(timeout);
+        this.pattern = pattern;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Creates a search for the exact text {@code substring} that runs for at most {@code timeout}.
+     */
+    public static GrepSearch forSubstring(String substring, Duration timeout) {
+        requireNonNull(substring);
+        return new GrepSearch(Pattern.compile(substring, Pattern.LITERAL), timeout);
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Stops the search, even in the middle of the text of an item.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GrepSearch // instanceof handles nulls
+                && pattern.pattern().equals(((GrepSearch) other).pattern.pattern())
+                && pattern.flags() == ((GrepSearch) other).pattern.flags()
+                && timeout.equals(((GrepSearch) other).timeout));
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.pattern().hashCode();
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the items of a list that match a predicate, like a {@code FilteredList}, that answers tag and id
+ * predicates from the indexes of the list instead of testing the predicate against every item.
+ * When the predicate is set, the positions of the matching items are looked up in the indexes, or every item is
+ * shown without being tested for the predicates that show all items. When the list changes, only the added items are
+ * tested, and the positions of the other items are moved along.
+ * Any other predicate is tested against every item when it is set, as a {@code FilteredList} would.
+ */
+public class IndexedFilteredList<T extends StudyBuddyItem> extends TransformationList<T, T> {
+
+    private static final Predicate<Object> PREDICATE_SHOW_ALL = unused -> true;
+    private static final Set<Predicate<?>> SHOW_ALL_PREDICATES = Set.of(PREDICATE_SHOW_ALL,
+            Model.PREDICATE_SHOW_ALL_FLASHCARDS, Model.PREDICATE_SHOW_ALL_NOTES, Model.PREDICATE_SHOW_ALL_CHEATSHEETS);
+
+    private final ItemPositionLookup lookup;
+    private Predicate<? super T> predicate;
+    // the positions in the source list of the items shown, in ascending order, or null if every item is shown
+    private int[] positions;
+    private int size;
+
+    /**
+     * Creates a view that shows every item of {@code source}, whose indexes are searched through {@code lookup}.
+     */
+    public IndexedFilteredList(ObservableList<T> source, ItemPositionLookup lookup) {
+        super(source);
+        requireNonNull(lookup);
+        this.lookup = lookup;
+        this.predicate = PREDICATE_SHOW_ALL;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the items that match {@code predicate} from now on.
+     */
+    public void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (predicate.equals(this.predicate) || (isShowAll(predicate) && isShowAll(this.predicate))) {
+            this.predicate = predicate;
+            return;
+        }
+
+        List<T> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        materialize();
+        if (removed.isEmpty() && size() == 0) {
+            return;
+        }
+        beginChange();
+        nextRemove(0, removed);
+        nextAdd(0, size());
+        endChange();
+    }
+
+    private static boolean isShowAll(Predicate<?> predicate) {
+        return SHOW_ALL_PREDICATES.contains(predicate);
+    }
+
+    /**
+     * Finds the positions of the items that match the predicate, from the indexes of the list if the predicate is a
+     * tag or id predicate.
+     */
+    private void materialize() {
+        if (isShowAll(predicate)) {
+            positions = null;
+            size = 0;
+            return;
+        }
+
+        Optional<TagQuery> query = StudyBuddyPro.getTagQuery(predicate);
+        List<Integer> matches;
+        if (query.isPresent()) {
+            matches = lookup.getPositionsMatching(query.get());
+        } else if (predicate instanceof ItemIdPredicate) {
+            matches = lookup.getPositionsOf(((ItemIdPredicate<?>) predicate).getIds());
+        } else {
+            matches = new ArrayList<>();
+            for (int i = 0; i < getSource().size(); i++) {
+                if (predicate.test(getSource().get(i))) {
+                    matches.add(i);
+                }
+            }
+        }
+        positions = new int[Math.max(matches.size(), 16)];
+        size = matches.size();
+        for (int i = 0; i < size; i++) {
+            positions[i] = matches.get(i);
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends T> change) {
+        beginChange();
+        while (change.next()) {
+            if (positions == null) {
+                forward(change);
+            } else if (change.wasPermutated()) {
+                List<T> removed = new ArrayList<>(this);
+                materialize();
+                nextRemove(0, removed);
+                nextAdd(0, size());
+            } else {
+                patch(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes on the current part of {@code change} as it is, for when every item is shown.
+     */
+    private void forward(Change<? extends T> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permutation[i - change.getFrom()] = change.getPermutation(i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+    }
+
+    /**
+     * Removes the shown items that {@code change} removed from the source list, moves along the positions of the
+     * items after them, and adds the items it added that match the predicate.
+     */
+    private void patch(Change<? extends T> change) {
+        int from = change.getFrom();
+        int start = lowerBound(from);
+        int end = lowerBound(from + change.getRemovedSize());
+        if (end > start) {
+            List<T> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(change.getRemoved().get(positions[i] - from));
+            }
+            nextRemove(start, removed);
+        }
+
+        List<Integer> added = new ArrayList<>();
+        List<? extends T> addedItems = change.getAddedSubList();
+        for (int i = 0; i < addedItems.size(); i++) {
+            if (predicate.test(addedItems.get(i))) {
+                added.add(from + i);
+            }
+        }
+
+        int shift = addedItems.size() - change.getRemovedSize();
+        int newSize = size - (end - start) + added.size();
+        int[] newPositions = newSize > positions.length ? Arrays.copyOf(positions, newSize * 3 / 2) : positions;
+        System.arraycopy(positions, end, newPositions, start + added.size(), size - end);
+        for (int i = start + added.size(); i < newSize; i++) {
+            newPositions[i] += shift;
+        }
+        for (int i = 0; i < added.size(); i++) {
+            newPositions[start + i] = added.get(i);
+        }
+        positions = newPositions;
+        size = newSize;
+        if (!added.isEmpty()) {
+            nextAdd(start, start + added.size());
+        }
+    }
+
+    /**
+     * Returns the index of the first shown item at or after {@code sourceIndex} in the source list.
+     */
+    private int lowerBound(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positions[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (positions == null) {
+            return index;
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return positions[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (positions == null) {
+            return index;
+        }
+        int viewIndex = lowerBound(index);
+        return viewIndex < size && positions[viewIndex] == index ? viewIndex : -1;
+    }
+
+    @Override
+    public T get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return positions == null ? getSource().size() : size;
+    }
+}
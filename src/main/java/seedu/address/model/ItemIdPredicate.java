@@ -0,0 +1,40 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code StudyBuddyItem} is one of the items with the given ids.
+ */
+public class ItemIdPredicate<T extends StudyBuddyItem> implements Predicate<T> {
+    private final Set<Long> ids;
+
+    public ItemIdPredicate(Collection<Long> ids) {
+        requireNonNull(ids);
+        this.ids = Set.copyOf(ids);
+    }
+
+    @Override
+    public boolean test(T item) {
+        return ids.contains(item.getId());
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ItemIdPredicate // instanceof handles nulls
+                && ids.equals(((ItemIdPredicate<?>) other).ids)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ids.hashCode();
+    }
+}
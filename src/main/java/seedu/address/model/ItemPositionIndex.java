@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the position of every item of a list by the item's id, so that an item can be found in the list without
+ * comparing it with the other items.
+ * The owner of the list must report every change of the list to the index.
+ */
+public class ItemPositionIndex<T extends StudyBuddyItem> {
+
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    /**
+     * Returns true if no two of {@code items} have the same id.
+     */
+    public static boolean haveDistinctIds(List<? extends StudyBuddyItem> items) {
+        Set<Long> ids = new HashSet<>();
+        for (StudyBuddyItem item : items) {
+            if (!ids.add(item.getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if an item with the given id is in the list.
+     */
+    public boolean contains(long id) {
+        return positions.containsKey(id);
+    }
+
+    /**
+     * Returns the ids of all the items in the list.
+     */
+    public Set<Long> getIds() {
+        return Collections.unmodifiableSet(positions.keySet());
+    }
+
+    /**
+     * Returns the position of the item with the given id, or -1 if there is no such item in the list.
+     */
+    public int positionOf(long id) {
+        return positions.getOrDefault(id, -1);
+    }
+
+    /**
+     * Returns the positions of the items with the given ids, in ascending order.
+     */
+    public List<Integer> positionsOf(Collection<Long> ids) {
+        List<Integer> idPositions = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            int position = positionOf(id);
+            if (position != -1) {
+                idPositions.add(position);
+            }
+        }
+        Collections.sort(idPositions);
+        return idPositions;
+    }
+
+    /**
+     * Records that {@code item} was added to the list at {@code position}, after all other items.
+     */
+    public void added(T item, int position) {
+        positions.put(item.getId(), position);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedItem} at {@code position}.
+     */
+    public void replaced(T target, T editedItem, int position) {
+        positions.remove(target.getId());
+        positions.put(editedItem.getId(), position);
+    }
+
+    /**
+     * Records that {@code item} was removed from {@code position} of {@code list}, which moves all later items
+     * forward by one.
+     */
+    public void removed(T item, int position, List<T> list) {
+        positions.remove(item.getId());
+        for (int i = position; i < list.size(); i++) {
+            positions.put(list.get(i).getId(), i);
+        }
+    }
+
+    /**
+     * Records that the contents of the list were replaced by {@code list}.
+     */
+    public void reset(List<T> list) {
+        positions.clear();
+        for (int i = 0; i < list.size(); i++) {
+            positions.put(list.get(i).getId(), i);
+        }
+    }
+}
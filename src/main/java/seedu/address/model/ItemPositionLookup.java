@@ -0,0 +1,21 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the positions of the items of a list from the indexes kept for the list, without going through the list.
+ */
+public interface ItemPositionLookup {
+
+    /**
+     * Returns the positions of the items that match {@code query}, in ascending order.
+     */
+    List<Integer> getPositionsMatching(TagQuery query);
+
+    /**
+     * Returns the positions of the items with the given ids, in ascending order. Ids of items that are not in the
+     * list are left out.
+     */
+    List<Integer> getPositionsOf(Collection<Long> ids);
+}
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each tag to the ids of the items of a list that have the tag or a tag nested in it, so
+ * that the items with some tags are found by looking only at the items with those tags.
+ * The tags are kept in a prefix tree with one level of the tree per level of nesting. Every node keeps the ids of
+ * all the items in its subtree, so the items of a whole subtree are found in one lookup.
+ * The owner of the list must report every change of the list to the index.
+ */
+public class ItemTagIndex<T extends StudyBuddyItem> {
+
+    /**
+     * A tag in the prefix tree.
+     */
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        // how many tags in this subtree each item has, so that an id stays until the last of them is gone
+        private final Map<Long, Integer> subtreeIds = new HashMap<>();
+    }
+
+    private final Node root = new Node();
+    private final Function<T, Collection<Tag>> tagsOfItem;
+
+    /**
+     * Creates an index of the tags of the items themselves.
+     */
+    public ItemTagIndex() {
+        this(StudyBuddyItem::getTags);
+    }
+
+    /**
+     * Creates an index of the tags that {@code tagsOfItem} returns for each item.
+     */
+    public ItemTagIndex(Function<T, Collection<Tag>> tagsOfItem) {
+        this.tagsOfItem = tagsOfItem;
+    }
+
+    /**
+     * Records that {@code item} was added to the list.
+     */
+    public void added(T item) {
+        for (Tag tag : tagsOfItem.apply(item)) {
+            Node node = root;
+            for (String level : tag.getTagName().split(Tag.SEPARATOR)) {
+                node = node.children.computeIfAbsent(level, unused -> new Node());
+                node.subtreeIds.merge(item.getId(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Records that {@code item} was removed from the list.
+     */
+    public void removed(T item) {
+        for (Tag tag : tagsOfItem.apply(item)) {
+            removeFromSubtree(root, tag.getTagName().split(Tag.SEPARATOR), 0, item.getId());
+        }
+    }
+
+    /**
+     * Removes one count of {@code id} from the nodes on the path {@code levels} below {@code parent}, starting at
+     * {@code levels[depth]}, and drops the nodes that no item is left under.
+     */
+    private static void removeFromSubtree(Node parent, String[] levels, int depth, long id) {
+        Node node = parent.children.get(levels[depth]);
+        if (node == null) {
+            return;
+        }
+        node.subtreeIds.computeIfPresent(id, (unused, count) -> count == 1 ? null : count - 1);
+        if (depth + 1 < levels.length) {
+            removeFromSubtree(node, levels, depth + 1, id);
+        }
+        if (node.subtreeIds.isEmpty()) {
+            parent.children.remove(levels[depth]);
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedItem}.
+     */
+    public void replaced(T target, T editedItem) {
+        removed(target);
+        added(editedItem);
+    }
+
+    /**
+     * Records that the contents of the list were replaced by {@code items}.
+     */
+    public void reset(List<T> items) {
+        root.children.clear();
+        items.forEach(this::added);
+    }
+
+    /**
+     * Returns the ids of the items that have {@code tag} or a tag nested in it. The returned set must not be
+     * modified.
+     */
+    Set<Long> getIds(Tag tag) {
+        Node node = root;
+        for (String level : tag.getTagName().split(Tag.SEPARATOR)) {
+            node = node.children.get(level);
+            if (node == null) {
+                return Collections.emptySet();
+            }
+        }
+        return Collections.unmodifiableSet(node.subtreeIds.keySet());
+    }
+
+    /**
+     * Returns the ids of the items that match {@code query}, where {@code allIds} are the ids of all the items of
+     * the list. The returned set must not be modified.
+     */
+    public Set<Long> getIdsMatching(TagQuery query, Set<Long> allIds) {
+        return query.evaluate(this, allIds);
+    }
+}
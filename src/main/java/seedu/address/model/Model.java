@@ -1,16 +1,20 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 
 import seedu.address.logic.FunctionMode;
 import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.DueCounts;
 import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -73,6 +77,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyStudyBuddyPro getStudyBuddyPro();
 
+    /**
+     * Marks the current StudyBuddyPro data as saved, clearing its dirty flags.
+     */
+    void markStudyBuddyProSaved();
+
     /** Returns an unmodifiable view of the filtered note list */
     ObservableList<Tag> getFilteredTagList();
 
@@ -82,6 +91,24 @@ public interface Model {
      */
     void updateFilteredTagList(Predicate<Tag> predicate);
 
+    /**
+     * Returns true if an item in the application has {@code tag} itself, not counting the tags nested in it.
+     */
+    boolean hasTag(Tag tag);
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the tags of every item that has it, merging the two tags
+     * if {@code replacement} is already in use.
+     * @return the number of items that were changed.
+     */
+    int renameTag(Tag target, Tag replacement);
+
+    /**
+     * Removes {@code target} from the tags of every item that has it.
+     * @return the number of items that were changed.
+     */
+    int removeTag(Tag target);
+
     /**
      * Returns true if a note with the same identity as {@code note} exists in the address book.
      */
@@ -120,6 +147,11 @@ public interface Model {
      */
     boolean hasFlashcard(Flashcard flashcard);
 
+    /**
+     * Returns the flashcard with the given {@code id} as it currently is in the application, if there is one.
+     */
+    Optional<Flashcard> getFlashcardById(long id);
+
     /**
      * Adds the given flashcard.
      * {@code flashcard} must not already exist in the application.
@@ -134,6 +166,20 @@ public interface Model {
      */
     void setFlashcard(Flashcard target, Flashcard editedFlashcard);
 
+    /**
+     * Updates the review statistics of the given flashcard after it has been viewed and answered in
+     * {@code responseMillis}, which is 0 if the answer was not timed.
+     * {@code flashcard} must exist in the application.
+     */
+    void updateFlashcardStatistics(Flashcard flashcard, long responseMillis);
+
+    /**
+     * Updates the review statistics of the given flashcard after it has been reviewed with {@code quality}.
+     * If it is the flashcard viewed last, the review replaces that view.
+     * The flashcard must exist in the application.
+     */
+    void reviewFlashcard(Flashcard flashcard, RecallQuality quality);
+
     /** Returns an unmodifiable view of the filtered flashcard list */
     ObservableList<Flashcard> getFilteredFlashcardList();
 
@@ -160,7 +206,7 @@ public interface Model {
      * @param <T> the different features: cheatsheet, flashcard, notes
      * @return list of all the objects
      */
-    <T> String formatList(FilteredList<T> object);
+    <T> String formatList(ObservableList<T> object);
 
     /**
      * Adds the given cheatSheet.
@@ -215,4 +261,86 @@ public interface Model {
 
     public ArrayList<StudyBuddyCounter> getStatistics(ArrayList<Tag> tagList);
 
+    /**
+     * Collect the flashcards due for review on a day
+     * @param date the day of the review
+     * @return list of the flashcards due on {@code date}, in list order
+     */
+    public List<Flashcard> getFlashcardsDueOn(LocalDate date);
+
+    /**
+     * Collect the flashcards overdue for review on a day
+     * @param date the day of the review
+     * @return list of the flashcards that were due before {@code date}, in list order
+     */
+    public List<Flashcard> getFlashcardsOverdueOn(LocalDate date);
+
+    /**
+     * Counts the flashcards due and overdue for review on a day
+     * @param date the day of the review
+     * @return the number of flashcards due on {@code date} and the number that were due before it
+     */
+    public DueCounts countFlashcardsDue(LocalDate date);
+
+    /**
+     * Finds the flashcard to study next
+     * @return the flashcard that is due for review the earliest, if there are any flashcards
+     */
+    public Optional<Flashcard> getNextFlashcardToStudy();
+
+    /**
+     * Returns the number of tag and review queries answered from the results of earlier queries.
+     */
+    public long getQueryCacheHitCount();
+
+    /**
+     * Returns the number of tag and review queries that had to be computed.
+     */
+    public long getQueryCacheMissCount();
+
+    /**
+     * Finds the items whose text best matches the words of {@code query}
+     * @param query the words to search for
+     * @param limit the largest number of items to return
+     * @return arraylist of the matching items, best match first
+     */
+    public ArrayList<String> findItems(String query, int limit);
+
+    /**
+     * Finds the matches of {@code search} in the text of every item
+     * @param search the pattern to search for, with its timeout
+     * @return the matches in each item that has any, in the order that the items were created
+     * @throws seedu.address.model.exceptions.SearchCancelledException if the search is cancelled or runs out of
+     *     time before it finishes
+     */
+    public List<GrepMatch> grepItems(GrepSearch search);
+
+    /**
+     * Finds the flashcards by a title that may be mistyped
+     * @param title the title to look up
+     * @return the flashcards with the closest titles within a few edits of {@code title}, in list order
+     */
+    public List<Flashcard> getFlashcardsByFuzzyTitle(String title);
+
+    /**
+     * Finds the notes by a title that may be mistyped
+     * @param title the title to look up
+     * @return the notes with the closest titles within a few edits of {@code title}, in list order
+     */
+    public List<Note> getNotesByFuzzyTitle(String title);
+
+    /**
+     * Finds the cheatsheets by a title that may be mistyped
+     * @param title the title to look up
+     * @return the cheatsheets with the closest titles within a few edits of {@code title}, in list order
+     */
+    public List<CheatSheet> getCheatSheetsByFuzzyTitle(String title);
+
+    /**
+     * Describes the item with the given id
+     * @param id the id of the item
+     * @return the item in a toString() form with its position in its list, if there is such an item
+     */
+    public Optional<String> describeItem(long id);
+
 }
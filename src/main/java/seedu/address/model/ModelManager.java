@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,8 +21,13 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 
 import seedu.address.logic.FunctionMode;
+import seedu.address.model.QueryCache.QueryType;
 import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.DueCounts;
 import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.scheduler.FixedIncrementScheduler;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.ReviewScheduler;
 import seedu.address.model.note.Note;
 import seedu.address.model.tag.Tag;
 
@@ -28,28 +39,58 @@ public class ModelManager implements Model {
 
     private final StudyBuddyPro studyBuddyPro;
     private final UserPrefs userPrefs;
-    private final FilteredList<Flashcard> filteredFlashcards;
-    private final FilteredList<Note> filteredNotes;
-    private final FilteredList<CheatSheet> filteredCheatSheets;
+    private final IndexedFilteredList<Flashcard> filteredFlashcards;
+    private final IndexedFilteredList<Note> filteredNotes;
+    private final IndexedFilteredList<CheatSheet> filteredCheatSheets;
     private final FilteredList<Tag> filteredTags;
+    private final QueryCache queryCache = new QueryCache(QueryCache.DEFAULT_CAPACITY);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyStudyBuddyPro studyBuddyPro, ReadOnlyUserPrefs userPrefs) {
+        this(studyBuddyPro, userPrefs, Collections.emptySet());
+    }
+
+    /**
+     * Initializes a ModelManager with the given studyBuddyPro, read from storage, and userPrefs. The collections of
+     * {@code unsavedModes} were not read from storage, and are written to it in full on the next save.
+     */
+    public ModelManager(ReadOnlyStudyBuddyPro studyBuddyPro, ReadOnlyUserPrefs userPrefs,
+                        Set<FunctionMode> unsavedModes) {
         super();
-        requireAllNonNull(studyBuddyPro, userPrefs);
+        requireAllNonNull(studyBuddyPro, userPrefs, unsavedModes);
 
         logger.fine("Initializing with StudyBuddyPro : " + studyBuddyPro + " and user prefs " + userPrefs);
 
         this.studyBuddyPro = new StudyBuddyPro(studyBuddyPro);
+        // freshly loaded data has nothing left to save
+        this.studyBuddyPro.markAsSaved();
+        unsavedModes.forEach(this.studyBuddyPro::markUnsaved);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredFlashcards = new FilteredList<>(this.studyBuddyPro.getFlashcardList());
-        filteredNotes = new FilteredList<>(this.studyBuddyPro.getNoteList());
-        filteredCheatSheets = new FilteredList<>(this.studyBuddyPro.getCheatSheetList());
+        this.studyBuddyPro.setReviewScheduler(getReviewScheduler(userPrefs.getReviewScheduler()));
+        filteredFlashcards = new IndexedFilteredList<>(this.studyBuddyPro.getFlashcardList(),
+                this.studyBuddyPro.getFlashcardPositionLookup());
+        filteredNotes = new IndexedFilteredList<>(this.studyBuddyPro.getNoteList(),
+                this.studyBuddyPro.getNotePositionLookup());
+        filteredCheatSheets = new IndexedFilteredList<>(this.studyBuddyPro.getCheatSheetList(),
+                this.studyBuddyPro.getCheatSheetPositionLookup());
         filteredTags = new FilteredList<>(this.studyBuddyPro.getTagList());
     }
 
+    /**
+     * Returns the review scheduler named {@code name}, or the fixed increment scheduler if there is no such
+     * scheduler.
+     */
+    private static ReviewScheduler getReviewScheduler(String name) {
+        Optional<ReviewScheduler> scheduler = ReviewScheduler.forName(name);
+        if (scheduler.isEmpty()) {
+            logger.warning("Unknown review scheduler " + name + ", scheduling reviews with fixed increments instead");
+            return new FixedIncrementScheduler();
+        }
+        return scheduler.get();
+    }
+
     public ModelManager() {
         this(new StudyBuddyPro(), new UserPrefs());
     }
@@ -101,12 +142,22 @@ public class ModelManager implements Model {
         return studyBuddyPro;
     }
 
+    @Override
+    public void markStudyBuddyProSaved() {
+        studyBuddyPro.markAsSaved();
+    }
+
     @Override
     public boolean hasFlashcard(Flashcard flashcard) {
         requireNonNull(flashcard);
         return studyBuddyPro.hasFlashcard(flashcard);
     }
 
+    @Override
+    public Optional<Flashcard> getFlashcardById(long id) {
+        return studyBuddyPro.getFlashcardById(id);
+    }
+
     @Override
     public void addFlashcard(Flashcard flashcard) {
         studyBuddyPro.addFlashcard(flashcard);
@@ -120,6 +171,18 @@ public class ModelManager implements Model {
         studyBuddyPro.setFlashcard(target, editedFlashcard);
     }
 
+    @Override
+    public void updateFlashcardStatistics(Flashcard flashcard, long responseMillis) {
+        requireNonNull(flashcard);
+        studyBuddyPro.updateFlashcardStatistics(flashcard, responseMillis);
+    }
+
+    @Override
+    public void reviewFlashcard(Flashcard flashcard, RecallQuality quality) {
+        requireAllNonNull(flashcard, quality);
+        studyBuddyPro.reviewFlashcard(flashcard, quality);
+    }
+
     @Override
     public boolean hasNote(Note note) {
         requireNonNull(note);
@@ -157,6 +220,24 @@ public class ModelManager implements Model {
         filteredTags.setPredicate(predicate);
     }
 
+    @Override
+    public boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return studyBuddyPro.hasTag(tag);
+    }
+
+    @Override
+    public int renameTag(Tag target, Tag replacement) {
+        requireAllNonNull(target, replacement);
+        return studyBuddyPro.renameTag(target, replacement);
+    }
+
+    @Override
+    public int removeTag(Tag target) {
+        requireNonNull(target);
+        return studyBuddyPro.removeTag(target);
+    }
+
     //=========== Filtered Flashcard List Accessors =============================================================
 
     /**
@@ -248,7 +329,7 @@ public class ModelManager implements Model {
      * @param <T> the different features: cheatsheet, flashcard, notes
      * @return list of all the objects
      */
-    public <T> String formatList(FilteredList<T> object) {
+    public <T> String formatList(ObservableList<T> object) {
         int size = object.size();
 
         if (size == 0) {
@@ -317,32 +398,131 @@ public class ModelManager implements Model {
     //========================COLLECT TAGGED ITEMS TO DISPLAY======================================
     @Override
     public ArrayList<String> collectTaggedItems(Predicate<StudyBuddyItem> predicate) {
-        return studyBuddyPro.collectTaggedItems(predicate);
+        long[] epochs = {studyBuddyPro.getFlashcardsEpoch(), studyBuddyPro.getNotesEpoch(),
+            studyBuddyPro.getCheatSheetsEpoch()};
+        return getTaggedResult(QueryType.TAGGED_ITEMS, predicate, epochs,
+                () -> studyBuddyPro.collectTaggedItems(predicate));
     }
 
     @Override
     public ArrayList<String> collectTaggedCheatSheets(Predicate<CheatSheet> predicate) {
-        return studyBuddyPro.collectTaggedCheatSheets(predicate);
+        long[] epochs = {studyBuddyPro.getCheatSheetsEpoch()};
+        return getTaggedResult(QueryType.TAGGED_CHEATSHEETS, predicate, epochs,
+                () -> studyBuddyPro.collectTaggedCheatSheets(predicate));
     }
 
     @Override
     public ArrayList<String> collectTaggedFlashcards(Predicate<Flashcard> predicate) {
-        return studyBuddyPro.collectTaggedFlashcards(predicate);
+        long[] epochs = {studyBuddyPro.getFlashcardsEpoch()};
+        return getTaggedResult(QueryType.TAGGED_FLASHCARDS, predicate, epochs,
+                () -> studyBuddyPro.collectTaggedFlashcards(predicate));
     }
 
     @Override
     public ArrayList<Flashcard> getTaggedFlashcards(Predicate<Flashcard> predicate) {
-        return studyBuddyPro.getTaggedFlashcards(predicate);
+        long[] epochs = {studyBuddyPro.getFlashcardsEpoch()};
+        return getTaggedResult(QueryType.TAGGED_FLASHCARD_DECK, predicate, epochs,
+                () -> studyBuddyPro.getTaggedFlashcards(predicate));
     }
 
     @Override
     public ArrayList<String> collectTaggedNotes(Predicate<Note> predicate) {
-        return studyBuddyPro.collectTaggedNotes(predicate);
+        long[] epochs = {studyBuddyPro.getNotesEpoch()};
+        return getTaggedResult(QueryType.TAGGED_NOTES, predicate, epochs,
+                () -> studyBuddyPro.collectTaggedNotes(predicate));
     }
 
     @Override
     public ArrayList<String> getListOfTags() {
-        return studyBuddyPro.getListOfTags();
+        long[] epochs = {studyBuddyPro.getTagsEpoch()};
+        return new ArrayList<>(queryCache.get(QueryType.TAG_NAMES, null, epochs, studyBuddyPro::getListOfTags));
+    }
+
+    /**
+     * Returns a copy of the result of the tag query of {@code type} with {@code predicate}, from the query cache if
+     * it holds the result at {@code epochs}. Predicates other than tag predicates cannot be compared, so their
+     * results are always computed.
+     */
+    private <T> ArrayList<T> getTaggedResult(QueryType type, Predicate<?> predicate, long[] epochs,
+            Supplier<ArrayList<T>> query) {
+        requireNonNull(predicate);
+        Optional<TagQuery> tagQuery = StudyBuddyPro.getTagQuery(predicate);
+        if (tagQuery.isEmpty()) {
+            return query.get();
+        }
+        return new ArrayList<>(queryCache.get(type, tagQuery.get(), epochs, query));
+    }
+
+    @Override
+    public List<Flashcard> getFlashcardsDueOn(LocalDate date) {
+        requireNonNull(date);
+        long[] epochs = {studyBuddyPro.getFlashcardsEpoch()};
+        return new ArrayList<>(queryCache.get(QueryType.DUE_FLASHCARDS, date, epochs,
+                () -> studyBuddyPro.getFlashcardsDueOn(date)));
+    }
+
+    @Override
+    public List<Flashcard> getFlashcardsOverdueOn(LocalDate date) {
+        requireNonNull(date);
+        long[] epochs = {studyBuddyPro.getFlashcardsEpoch()};
+        return new ArrayList<>(queryCache.get(QueryType.OVERDUE_FLASHCARDS, date, epochs,
+                () -> studyBuddyPro.getFlashcardsOverdueOn(date)));
+    }
+
+    @Override
+    public DueCounts countFlashcardsDue(LocalDate date) {
+        requireNonNull(date);
+        return studyBuddyPro.countFlashcardsDue(date);
+    }
+
+    @Override
+    public Optional<Flashcard> getNextFlashcardToStudy() {
+        return studyBuddyPro.getNextFlashcardToStudy();
+    }
+
+    @Override
+    public long getQueryCacheHitCount() {
+        return queryCache.getHitCount();
+    }
+
+    @Override
+    public long getQueryCacheMissCount() {
+        return queryCache.getMissCount();
+    }
+
+    @Override
+    public ArrayList<String> findItems(String query, int limit) {
+        requireNonNull(query);
+        return studyBuddyPro.findItems(query, limit);
+    }
+
+    @Override
+    public List<GrepMatch> grepItems(GrepSearch search) {
+        requireNonNull(search);
+        return studyBuddyPro.grepItems(search);
+    }
+
+    @Override
+    public List<Flashcard> getFlashcardsByFuzzyTitle(String title) {
+        requireNonNull(title);
+        return studyBuddyPro.getFlashcardsByFuzzyTitle(title);
+    }
+
+    @Override
+    public List<Note> getNotesByFuzzyTitle(String title) {
+        requireNonNull(title);
+        return studyBuddyPro.getNotesByFuzzyTitle(title);
+    }
+
+    @Override
+    public List<CheatSheet> getCheatSheetsByFuzzyTitle(String title) {
+        requireNonNull(title);
+        return studyBuddyPro.getCheatSheetsByFuzzyTitle(title);
+    }
+
+    @Override
+    public Optional<String> describeItem(long id) {
+        return studyBuddyPro.describeItem(id);
     }
 
     @Override
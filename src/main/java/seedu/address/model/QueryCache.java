@@ -0,0 +1,139 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the results of the latest queries of the model, such as the items with some tags, so that a query that is
+ * asked again during a study session is answered without going through the lists again.
+ * A result is kept with the epochs of the collections it was computed from, the numbers of changes made to them,
+ * and is only used again while those epochs stay the same. A change to one collection thus only drops the results
+ * of the queries on it. Once the cache is full, the result that was used the longest time ago is dropped.
+ */
+public class QueryCache {
+
+    /** The number of results kept by the cache of a model. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The kinds of queries whose results are kept.
+     */
+    public enum QueryType {
+        TAGGED_ITEMS,
+        TAGGED_FLASHCARDS,
+        TAGGED_FLASHCARD_DECK,
+        TAGGED_NOTES,
+        TAGGED_CHEATSHEETS,
+        TAG_NAMES,
+        DUE_FLASHCARDS,
+        OVERDUE_FLASHCARDS
+    }
+
+    /**
+     * A query: its kind and the normalized argument, such as the tag query, that it was asked with.
+     */
+    private static class Key {
+        private final QueryType type;
+        private final Object argument;
+
+        Key(QueryType type, Object argument) {
+            this.type = type;
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Key
+                    && type == ((Key) other).type
+                    && Objects.equals(argument, ((Key) other).argument));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, argument);
+        }
+    }
+
+    /**
+     * The result of a query, with the epochs of the collections it was computed from.
+     */
+    private static class Entry {
+        private final long[] epochs;
+        private final Object result;
+
+        Entry(long[] epochs, Object result) {
+            this.epochs = epochs;
+            this.result = result;
+        }
+    }
+
+    private final Map<Key, Entry> entries;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a cache that keeps the results of at most {@code capacity} queries.
+     */
+    public QueryCache(int capacity) {
+        checkArgument(capacity > 0, "The capacity of a query cache must be positive.");
+        // access order, so that the eldest entry is the one used the longest time ago
+        entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the result of the query of {@code type} with {@code argument}, which is computed by {@code query}
+     * unless a result of the same query was kept at the same {@code epochs}, the current epochs of the collections
+     * that the query looks at, in a fixed order for each type of query.
+     * The result is kept for later calls, so it must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(QueryType type, Object argument, long[] epochs, Supplier<R> query) {
+        requireNonNull(type);
+        requireNonNull(epochs);
+        requireNonNull(query);
+        Key key = new Key(type, argument);
+        Entry entry = entries.get(key);
+        if (entry != null && Arrays.equals(entry.epochs, epochs)) {
+            hitCount++;
+            return (R) entry.result;
+        }
+
+        missCount++;
+        R result = query.get();
+        entries.put(key, new Entry(epochs.clone(), result));
+        return result;
+    }
+
+    /**
+     * Returns the number of queries answered from the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of queries that had to be computed.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of results kept.
+     */
+    public int size() {
+        return entries.size();
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 
 import seedu.address.model.cheatsheet.CheatSheet;
@@ -36,4 +39,48 @@ public interface ReadOnlyStudyBuddyPro extends ReadOnlyStudyBuddyProFlashcards,
      * This list will not contain any duplicate tags.
      */
     ObservableList<Tag> getTagList();
+
+    /**
+     * Returns true if the flashcards have changed since they were last saved.
+     * Implementations that do not track changes are always considered modified.
+     */
+    default boolean isFlashcardsModified() {
+        return true;
+    }
+
+    /**
+     * Returns true if the notes have changed since they were last saved.
+     */
+    default boolean isNotesModified() {
+        return true;
+    }
+
+    /**
+     * Returns true if the cheatsheets have changed since they were last saved.
+     */
+    default boolean isCheatSheetsModified() {
+        return true;
+    }
+
+    /**
+     * Returns true if the tag list has changed since it was last saved.
+     */
+    default boolean isTagsModified() {
+        return true;
+    }
+
+    /**
+     * Returns true if any collection has changed since it was last saved.
+     */
+    default boolean isModified() {
+        return isFlashcardsModified() || isNotesModified() || isCheatSheetsModified() || isTagsModified();
+    }
+
+    /**
+     * Returns the item level changes made since the last save, in the order they were made.
+     * Returns {@code Optional.empty()} if the changes are not known, in which case all data has to be saved.
+     */
+    default Optional<List<StudyBuddyProChange>> getUnsavedChanges() {
+        return Optional.empty();
+    }
 }
@@ -15,6 +15,15 @@ public class StudyBuddyCounter {
         this.resetCounts();
     }
 
+    /**
+     * Creates a counter with the same counts as {@code toCopy}.
+     */
+    public StudyBuddyCounter(StudyBuddyCounter toCopy) {
+        this.flashcardCount = toCopy.flashcardCount;
+        this.notesCount = toCopy.notesCount;
+        this.cheatSheetCount = toCopy.cheatSheetCount;
+    }
+
     public void increaseFlashcardCount() {
         this.flashcardCount++;
     }
@@ -27,6 +36,18 @@ public class StudyBuddyCounter {
         this.cheatSheetCount++;
     }
 
+    public void decreaseFlashcardCount() {
+        this.flashcardCount--;
+    }
+
+    public void decreaseNotesCount() {
+        this.notesCount--;
+    }
+
+    public void decreaseCheatSheetCount() {
+        this.cheatSheetCount--;
+    }
+
     /**
      * Resets the counter
      */
@@ -1,9 +1,11 @@
 package seedu.address.model;
 
-import java.util.Collections;
-import java.util.HashSet;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
+import seedu.address.model.tag.CompactTagSet;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -15,12 +17,54 @@ import seedu.address.model.tag.Tag;
 
 public class StudyBuddyItem {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Item ids should be positive numbers.";
+
+    // the largest id given out so far, so that new items never reuse the id of an existing item
+    private static final AtomicLong lastId = new AtomicLong();
+
+    // Identity fields
+    private final long id;
+
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final CompactTagSet tags;
 
+    /**
+     * Creates an item with a newly allocated id.
+     */
     public StudyBuddyItem(Set<Tag> tags) {
+        this(allocateId(), tags);
+    }
+
+    /**
+     * Creates an item with the given id, e.g. one read from storage. Later items are given larger ids.
+     */
+    public StudyBuddyItem(long id, Set<Tag> tags) {
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        lastId.accumulateAndGet(id, Math::max);
+        this.id = id;
+        this.tags = CompactTagSet.of(tags);
+    }
 
-        this.tags.addAll(tags);
+    /**
+     * Returns a new id that has not been given to any item yet.
+     */
+    public static long allocateId() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Returns true if {@code id} is a valid item id.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    /**
+     * Returns the id of this item, which stays the same when the item is edited or saved and loaded again.
+     * Ids are not part of {@code equals}, so items with the same fields are equal whatever their ids.
+     */
+    public long getId() {
+        return id;
     }
 
     /**
@@ -28,7 +72,7 @@ public class StudyBuddyItem {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
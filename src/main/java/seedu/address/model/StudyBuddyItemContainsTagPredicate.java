@@ -11,32 +11,40 @@ import seedu.address.model.tag.Tag;
  * Tests that a {@code StudyBuddyItem}'s {@code Tag} matches any of the tags given.
  */
 public class StudyBuddyItemContainsTagPredicate implements Predicate<StudyBuddyItem> {
-    private final Set<Tag> tags;
+    private final TagQuery query;
 
     private final Logger logger = LogsCenter.getLogger(StudyBuddyItemContainsTagPredicate.class.getName());
 
     public StudyBuddyItemContainsTagPredicate (Set<Tag> tags) {
-        this.tags = tags;
-        logger.info("Filtering StudyBuddyItems that contain at least the specified tags");
+        this(TagQuery.allOf(tags));
+    }
+
+    public StudyBuddyItemContainsTagPredicate (TagQuery query) {
+        this.query = query;
+        logger.info("Filtering StudyBuddyItems that match the tag query: " + query);
     }
 
     @Override
     public boolean test(StudyBuddyItem studyBuddyItem) {
-        boolean hasMatchingTags;
-        if (tags.isEmpty()) {
-            hasMatchingTags = false;
-        } else {
-            hasMatchingTags = tags.stream()
-                    .allMatch(studyBuddyItem::containsTag);
-        }
-        return hasMatchingTags;
+        return query.matches(studyBuddyItem.getTags());
+    }
+
+    /**
+     * Returns all the tags that appear in the query.
+     */
+    public Set<Tag> getTags() {
+        return query.getTags();
+    }
+
+    public TagQuery getQuery() {
+        return query;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof StudyBuddyItemContainsTagPredicate // instanceof handles nulls
-                && tags.equals(((StudyBuddyItemContainsTagPredicate) other).tags)); // state check
+                && query.equals(((StudyBuddyItemContainsTagPredicate) other).query)); // state check
     }
 
 }
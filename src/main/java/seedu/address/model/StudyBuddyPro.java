@@ -1,21 +1,47 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javafx.collections.ObservableList;
 
+import seedu.address.commons.core.DayClock;
+import seedu.address.logic.FunctionMode;
 import seedu.address.model.cheatsheet.CheatSheet;
 import seedu.address.model.cheatsheet.CheatSheetContainsTagPredicate;
+import seedu.address.model.cheatsheet.Content;
 import seedu.address.model.cheatsheet.UniqueCheatSheetList;
+import seedu.address.model.exceptions.SearchCancelledException;
+import seedu.address.model.flashcard.DueCounts;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.flashcard.Statistics;
 import seedu.address.model.flashcard.UniqueFlashcardList;
+import seedu.address.model.flashcard.scheduler.FixedIncrementScheduler;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.ReviewScheduler;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.NoteContainsTagPredicate;
 import seedu.address.model.note.UniqueNoteList;
@@ -28,6 +54,12 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
 
+    /** Maximum number of unsaved changes tracked individually before a full save is required. */
+    private static final int MAX_TRACKED_CHANGES = 1000;
+
+    /** Pool that searches run on, kept apart from the common pool that cancelled searches could otherwise hold up. */
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool();
+
     private final UniqueCheatSheetList cheatSheets;
 
     private final UniqueFlashcardList flashcards;
@@ -36,6 +68,66 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
 
     private final UniqueTagList tags;
 
+    // works out when flashcards are next due after they are viewed or reviewed
+    private ReviewScheduler reviewScheduler = new FixedIncrementScheduler();
+
+    /*
+     * The flashcard viewed last, with its statistics from before the view and how long its answer took, so that
+     * grading it afterwards replaces the view instead of counting as a second review.
+     */
+    private Flashcard lastViewedFlashcard;
+    private Statistics statisticsBeforeLastView;
+    private long lastViewResponseMillis;
+
+    /*
+     * The number of flashcards, notes and cheatsheets that have each tag, updated on every change to the lists.
+     * A tag is in the tag list exactly when it has a counter here.
+     */
+    private final Map<Tag, StudyBuddyCounter> tagCounters = new HashMap<>();
+
+    /*
+     * The number of flashcards, notes and cheatsheets with each tag or a tag nested in it, counting every item once
+     * per tag however many of its tags are nested in that tag. Parents of nested tags are counted even if no item has
+     * the parent tag itself.
+     */
+    private final Map<Tag, StudyBuddyCounter> subtreeCounters = new HashMap<>();
+
+    /*
+     * The words of the questions and answers of the flashcards, the contents of the notes and the contents of the
+     * cheatsheets, and their trigrams, kept in step with the lists by every mutator so that a search never scans
+     * the lists.
+     */
+    private final FullTextIndex textIndex = new FullTextIndex(StudyBuddyPro::getSearchableText);
+    private final TrigramIndex trigramIndex = new TrigramIndex(StudyBuddyPro::getSearchableText);
+
+    /*
+     * Dirty flags for each collection, set by every mutator and cleared once the data has been written to storage.
+     */
+    private boolean isFlashcardsModified;
+
+    private boolean isNotesModified;
+
+    private boolean isCheatSheetsModified;
+
+    private boolean isTagsModified;
+
+    /*
+     * Counts of the changes of each collection, which unlike the dirty flags are never cleared, so that a result
+     * computed from a collection can tell whether the collection has changed since.
+     */
+    private long flashcardsEpoch;
+
+    private long notesEpoch;
+
+    private long cheatSheetsEpoch;
+
+    private long tagsEpoch;
+
+    /*
+     * Item level changes since the last save, or null if there were too many or bulk changes to keep track of.
+     */
+    private List<StudyBuddyProChange> unsavedChanges = new ArrayList<>();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -83,7 +175,6 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         setNotes(newData.getNoteList());
         setFlashcards(newData.getFlashcardList());
         setCheatSheets(newData.getCheatSheetList());
-        setTags(newData.getTagList());
     }
 
     /**
@@ -123,12 +214,280 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         return Objects.hash(flashcards, notes, cheatSheets);
     }
 
+    //=============================Dirty tracking====================================================
+
+    @Override
+    public boolean isFlashcardsModified() {
+        return isFlashcardsModified;
+    }
+
+    @Override
+    public boolean isNotesModified() {
+        return isNotesModified;
+    }
+
+    @Override
+    public boolean isCheatSheetsModified() {
+        return isCheatSheetsModified;
+    }
+
+    @Override
+    public boolean isTagsModified() {
+        return isTagsModified;
+    }
+
+    @Override
+    public Optional<List<StudyBuddyProChange>> getUnsavedChanges() {
+        return Optional.ofNullable(unsavedChanges).map(Collections::unmodifiableList);
+    }
+
+    /**
+     * Returns the number of changes made to the flashcards, including their review statistics.
+     */
+    public long getFlashcardsEpoch() {
+        return flashcardsEpoch;
+    }
+
+    /**
+     * Returns the number of changes made to the notes.
+     */
+    public long getNotesEpoch() {
+        return notesEpoch;
+    }
+
+    /**
+     * Returns the number of changes made to the cheatsheets.
+     */
+    public long getCheatSheetsEpoch() {
+        return cheatSheetsEpoch;
+    }
+
+    /**
+     * Returns the number of changes made to the set of tags in use.
+     */
+    public long getTagsEpoch() {
+        return tagsEpoch;
+    }
+
+    private void markFlashcardsModified() {
+        isFlashcardsModified = true;
+        flashcardsEpoch++;
+    }
+
+    private void markNotesModified() {
+        isNotesModified = true;
+        notesEpoch++;
+    }
+
+    private void markCheatSheetsModified() {
+        isCheatSheetsModified = true;
+        cheatSheetsEpoch++;
+    }
+
+    private void markTagsModified() {
+        isTagsModified = true;
+        tagsEpoch++;
+    }
+
+    /**
+     * Clears all dirty flags and unsaved changes, after the data has been written to storage or freshly read from it.
+     */
+    public void markAsSaved() {
+        isFlashcardsModified = false;
+        isNotesModified = false;
+        isCheatSheetsModified = false;
+        isTagsModified = false;
+        unsavedChanges = new ArrayList<>();
+    }
+
+    /**
+     * Marks the collection of {@code mode} as modified and gives up on tracking individual changes, so that the next
+     * save writes the whole collection, e.g. when it holds sample data used in place of a file that could not be read.
+     */
+    public void markUnsaved(FunctionMode mode) {
+        requireNonNull(mode);
+        switch (mode) {
+        case FLASHCARD:
+            markFlashcardsModified();
+            break;
+        case NOTE:
+            markNotesModified();
+            break;
+        case CHEATSHEET:
+            markCheatSheetsModified();
+            break;
+        default:
+            assert false : "Unknown collection " + mode;
+        }
+        unsavedChanges = null;
+    }
+
+    /**
+     * Records {@code change} as unsaved, giving up on tracking individual changes once there are too many.
+     */
+    private void recordChange(StudyBuddyProChange change) {
+        if (unsavedChanges == null) {
+            return;
+        }
+        if (unsavedChanges.size() >= MAX_TRACKED_CHANGES) {
+            unsavedChanges = null;
+            return;
+        }
+        unsavedChanges.add(change);
+    }
+
     //=============================Tag tools====================================================
     @Override
     public ObservableList<Tag> getTagList() {
         return tags.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns true if an item or cheatsheet content has {@code tag} itself, not counting the tags nested in it.
+     */
+    public boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return tagCounters.containsKey(tag) || cheatSheets.getPositionsMatchingContents(TagQuery.tag(tag)).stream()
+                .anyMatch(position -> getCheatSheetList().get(position).getContentTags().contains(tag));
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in the tags of every item and cheatsheet content that has it.
+     * If {@code replacement} is already in use, the two tags are merged. Tags nested in {@code target} are left as
+     * they are.
+     *
+     * @return the number of items that were changed.
+     */
+    public int renameTag(Tag target, Tag replacement) {
+        requireAllNonNull(target, replacement);
+        return rewriteTag(target, itemTags -> {
+            Set<Tag> newTags = new HashSet<>(itemTags);
+            newTags.remove(target);
+            newTags.add(replacement);
+            return newTags;
+        });
+    }
+
+    /**
+     * Removes {@code target} from the tags of every item and cheatsheet content that has it. Tags nested in
+     * {@code target} are left as they are.
+     *
+     * @return the number of items that were changed.
+     */
+    public int removeTag(Tag target) {
+        requireNonNull(target);
+        return rewriteTag(target, itemTags -> {
+            Set<Tag> newTags = new HashSet<>(itemTags);
+            newTags.remove(target);
+            return newTags;
+        });
+    }
+
+    /**
+     * Replaces the tags of every item and cheatsheet content that has {@code target} with {@code rewrite} applied to
+     * them. The items are found through the tag indexes of the lists, and each list and the tag list are updated in
+     * one go.
+     *
+     * @return the number of items that were changed.
+     */
+    private int rewriteTag(Tag target, UnaryOperator<Set<Tag>> rewrite) {
+        TagQuery query = TagQuery.tag(target);
+
+        List<Flashcard> targetFlashcards = new ArrayList<>();
+        List<Flashcard> editedFlashcards = new ArrayList<>();
+        collectRewrites(getFlashcardList(), flashcards.getPositionsMatching(query),
+                flashcard -> flashcard.getTags().contains(target),
+                flashcard -> new Flashcard(flashcard.getId(), flashcard.getQuestion(), flashcard.getAnswer(),
+                        flashcard.getTitle(), flashcard.getStatistics(), rewrite.apply(flashcard.getTags())),
+                targetFlashcards, editedFlashcards);
+
+        List<Note> targetNotes = new ArrayList<>();
+        List<Note> editedNotes = new ArrayList<>();
+        collectRewrites(getNoteList(), notes.getPositionsMatching(query),
+                note -> note.getTags().contains(target),
+                note -> new Note(note.getId(), note.getTitle(), note.getContent(), rewrite.apply(note.getTags())),
+                targetNotes, editedNotes);
+
+        Set<Integer> cheatSheetPositions = new TreeSet<>(cheatSheets.getPositionsMatching(query));
+        cheatSheetPositions.addAll(cheatSheets.getPositionsMatchingContents(query));
+        List<CheatSheet> targetCheatSheets = new ArrayList<>();
+        List<CheatSheet> editedCheatSheets = new ArrayList<>();
+        collectRewrites(getCheatSheetList(), cheatSheetPositions,
+                cheatSheet -> cheatSheet.getTags().contains(target) || cheatSheet.getContentTags().contains(target),
+                cheatSheet -> rewriteCheatSheetTags(cheatSheet, target, rewrite),
+                targetCheatSheets, editedCheatSheets);
+
+        if (!targetFlashcards.isEmpty()) {
+            flashcards.replaceFlashcards(targetFlashcards, editedFlashcards);
+            markFlashcardsModified();
+            recordChanges(targetFlashcards, editedFlashcards);
+            countTagReferences(targetFlashcards, editedFlashcards, StudyBuddyCounter::decreaseFlashcardCount,
+                    StudyBuddyCounter::increaseFlashcardCount);
+        }
+        if (!targetNotes.isEmpty()) {
+            notes.replaceNotes(targetNotes, editedNotes);
+            markNotesModified();
+            recordChanges(targetNotes, editedNotes);
+            countTagReferences(targetNotes, editedNotes, StudyBuddyCounter::decreaseNotesCount,
+                    StudyBuddyCounter::increaseNotesCount);
+        }
+        if (!targetCheatSheets.isEmpty()) {
+            cheatSheets.replaceCheatSheets(targetCheatSheets, editedCheatSheets);
+            markCheatSheetsModified();
+            recordChanges(targetCheatSheets, editedCheatSheets);
+            countTagReferences(targetCheatSheets, editedCheatSheets, StudyBuddyCounter::decreaseCheatSheetCount,
+                    StudyBuddyCounter::increaseCheatSheetCount);
+        }
+
+        int changedCount = targetFlashcards.size() + targetNotes.size() + targetCheatSheets.size();
+        if (changedCount > 0) {
+            rebuildTagList();
+        }
+        return changedCount;
+    }
+
+    /**
+     * Adds each item at {@code positions} of {@code items} that {@code isAffected} to {@code targets}, and the item
+     * that {@code rewrite} makes of it to {@code editedItems}.
+     */
+    private static <T> void collectRewrites(List<T> items, Collection<Integer> positions, Predicate<T> isAffected,
+            UnaryOperator<T> rewrite, List<T> targets, List<T> editedItems) {
+        for (int position : positions) {
+            T item = items.get(position);
+            if (isAffected.test(item)) {
+                targets.add(item);
+                editedItems.add(rewrite.apply(item));
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of {@code cheatSheet} with {@code rewrite} applied to its tags and to the tags of each of its
+     * contents that has {@code target}.
+     */
+    private static CheatSheet rewriteCheatSheetTags(CheatSheet cheatSheet, Tag target,
+            UnaryOperator<Set<Tag>> rewrite) {
+        Set<Content> newContents = new HashSet<>();
+        for (Content content : cheatSheet.getContents()) {
+            newContents.add(content.getTags().contains(target)
+                    ? new Content(content.getContent(), rewrite.apply(content.getTags()))
+                    : content);
+        }
+        Set<Tag> newTags = cheatSheet.getTags().contains(target)
+                ? rewrite.apply(cheatSheet.getTags())
+                : cheatSheet.getTags();
+        return new CheatSheet(cheatSheet.getId(), cheatSheet.getTitle(), newContents, newTags);
+    }
+
+    /**
+     * Records the replacement of each of {@code targets} with the item at the same position in {@code editedItems}.
+     */
+    private void recordChanges(List<? extends StudyBuddyItem> targets, List<? extends StudyBuddyItem> editedItems) {
+        for (int i = 0; i < targets.size(); i++) {
+            recordChange(StudyBuddyProChange.set(targets.get(i), editedItems.get(i)));
+        }
+    }
+
     //=============================Flashcard tools====================================================
 
     /**
@@ -137,6 +496,11 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public void removeFlashcard(Flashcard key) {
         flashcards.remove(key);
+        textIndex.removed(key);
+        trigramIndex.removed(key);
+        markFlashcardsModified();
+        recordChange(StudyBuddyProChange.remove(key));
+        removeTagReferences(key, StudyBuddyCounter::decreaseFlashcardCount);
     }
 
     /**
@@ -147,15 +511,24 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         return flashcards.contains(flashcard);
     }
 
+    /**
+     * Returns the flashcard with the given id, if there is one.
+     */
+    public Optional<Flashcard> getFlashcardById(long id) {
+        return flashcards.getById(id);
+    }
+
     /**
      * Adds a flashcard to the application.
      * The flashcard must not already exist in the application.
      */
     public void addFlashcard(Flashcard f) {
         flashcards.add(f);
-        for (Tag t : f.getTags()) {
-            tags.add(t);
-        }
+        textIndex.added(f);
+        trigramIndex.added(f);
+        markFlashcardsModified();
+        recordChange(StudyBuddyProChange.add(f));
+        addTagReferences(f, StudyBuddyCounter::increaseFlashcardCount);
     }
 
     public ObservableList<Flashcard> getFlashcardList() {
@@ -167,7 +540,32 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      * {@code flashcards} must not contain duplicate flashcards.
      */
     public void setFlashcards(List<Flashcard> flashcards) {
+        List<Flashcard> oldFlashcards = new ArrayList<>(getFlashcardList());
         this.flashcards.setFlashcards(flashcards);
+        textIndex.replaced(oldFlashcards, flashcards);
+        trigramIndex.replaced(oldFlashcards, flashcards);
+        markFlashcardsModified();
+        unsavedChanges = null;
+        replaceTagReferences(oldFlashcards, flashcards, StudyBuddyCounter::decreaseFlashcardCount,
+                StudyBuddyCounter::increaseFlashcardCount);
+    }
+
+    /**
+     * Adds all {@code flashcards} at once, in time linear to their number, as when loading them from storage.
+     * Flashcards with the same title or question as an existing or earlier flashcard are not added.
+     *
+     * @return every flashcard that was not added because it is a duplicate.
+     */
+    public List<Flashcard> loadFlashcards(List<Flashcard> flashcards) {
+        List<Flashcard> duplicates = this.flashcards.addAll(flashcards);
+        List<Flashcard> added = withoutItems(flashcards, duplicates);
+        textIndex.replaced(Collections.emptyList(), added);
+        trigramIndex.replaced(Collections.emptyList(), added);
+        markFlashcardsModified();
+        unsavedChanges = null;
+        replaceTagReferences(Collections.emptyList(), added, StudyBuddyCounter::decreaseFlashcardCount,
+                StudyBuddyCounter::increaseFlashcardCount);
+        return duplicates;
     }
 
     /**
@@ -180,6 +578,76 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         requireNonNull(editedFlashcard);
 
         flashcards.setFlashcard(target, editedFlashcard);
+        textIndex.replaced(target, editedFlashcard);
+        trigramIndex.replaced(target, editedFlashcard);
+        markFlashcardsModified();
+        recordChange(StudyBuddyProChange.set(target, editedFlashcard));
+        addTagReferences(editedFlashcard, StudyBuddyCounter::increaseFlashcardCount);
+        removeTagReferences(target, StudyBuddyCounter::decreaseFlashcardCount);
+    }
+
+    /**
+     * Updates the review statistics of {@code flashcard} after it has been viewed.
+     * {@code flashcard} must exist in the application.
+     */
+    public void updateFlashcardStatistics(Flashcard flashcard) {
+        updateFlashcardStatistics(flashcard, 0);
+    }
+
+    /**
+     * Updates the review statistics of {@code flashcard} after it has been viewed and answered in
+     * {@code responseMillis}, which is 0 if the answer was not timed.
+     * {@code flashcard} must exist in the application.
+     */
+    public void updateFlashcardStatistics(Flashcard flashcard, long responseMillis) {
+        requireNonNull(flashcard);
+
+        lastViewedFlashcard = flashcard;
+        statisticsBeforeLastView = flashcard.getStatistics().copy();
+        lastViewResponseMillis = responseMillis;
+        flashcard.updateStatistics(reviewScheduler);
+        statisticsUpdated(flashcard, null, responseMillis);
+    }
+
+    /**
+     * Updates the review statistics of {@code flashcard} after it has been reviewed with {@code quality}.
+     * If {@code flashcard} is the flashcard viewed last, the review replaces that view, so that a flashcard graded
+     * after its answer is shown, or graded again, is only reviewed once.
+     * {@code flashcard} must exist in the application.
+     */
+    public void reviewFlashcard(Flashcard flashcard, RecallQuality quality) {
+        requireAllNonNull(flashcard, quality);
+
+        long responseMillis = 0;
+        if (flashcard == lastViewedFlashcard) {
+            flashcard.getStatistics().restore(statisticsBeforeLastView);
+            responseMillis = lastViewResponseMillis;
+        }
+        flashcard.review(quality, reviewScheduler);
+        statisticsUpdated(flashcard, quality, responseMillis);
+    }
+
+    /**
+     * Records that the statistics of {@code flashcard} were changed in place by a review, so that storage can append
+     * the review instead of the whole flashcard.
+     */
+    private void statisticsUpdated(Flashcard flashcard, RecallQuality quality, long responseMillis) {
+        flashcards.rescheduled(flashcard);
+        markFlashcardsModified();
+        recordChange(StudyBuddyProChange.review(flashcard, new ReviewEvent(flashcard.getId(),
+                DayClock.getClock().millis(), quality, responseMillis, flashcard.getStatistics())));
+    }
+
+    public ReviewScheduler getReviewScheduler() {
+        return reviewScheduler;
+    }
+
+    /**
+     * Schedules the reviews of flashcards with {@code reviewScheduler} from now on.
+     */
+    public void setReviewScheduler(ReviewScheduler reviewScheduler) {
+        requireNonNull(reviewScheduler);
+        this.reviewScheduler = reviewScheduler;
     }
 
     //=============================Note tools====================================================
@@ -192,15 +660,42 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         return notes.contains(note);
     }
 
+    /**
+     * Returns the note with the given id, if there is one.
+     */
+    public Optional<Note> getNoteById(long id) {
+        return notes.getById(id);
+    }
+
     /**
      * Adds a note to the address book.
      * The note must not already exist in the address book.
      */
     public void addNote(Note note) {
         notes.add(note);
-        for (Tag t : note.getTags()) {
-            tags.add(t);
-        }
+        textIndex.added(note);
+        trigramIndex.added(note);
+        markNotesModified();
+        recordChange(StudyBuddyProChange.add(note));
+        addTagReferences(note, StudyBuddyCounter::increaseNotesCount);
+    }
+
+    /**
+     * Adds all {@code notes} at once, in time linear to their number, as when loading them from storage.
+     * Notes with the same title as an existing or earlier note are not added.
+     *
+     * @return every note that was not added because it is a duplicate.
+     */
+    public List<Note> loadNotes(List<Note> notes) {
+        List<Note> duplicates = this.notes.addAll(notes);
+        List<Note> added = withoutItems(notes, duplicates);
+        textIndex.replaced(Collections.emptyList(), added);
+        trigramIndex.replaced(Collections.emptyList(), added);
+        markNotesModified();
+        unsavedChanges = null;
+        replaceTagReferences(Collections.emptyList(), added, StudyBuddyCounter::decreaseNotesCount,
+                StudyBuddyCounter::increaseNotesCount);
+        return duplicates;
     }
 
     /**
@@ -212,6 +707,12 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         requireNonNull(editedNote);
 
         notes.setNote(target, editedNote);
+        textIndex.replaced(target, editedNote);
+        trigramIndex.replaced(target, editedNote);
+        markNotesModified();
+        recordChange(StudyBuddyProChange.set(target, editedNote));
+        addTagReferences(editedNote, StudyBuddyCounter::increaseNotesCount);
+        removeTagReferences(target, StudyBuddyCounter::decreaseNotesCount);
     }
 
     /**
@@ -219,7 +720,14 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      * {@code notes} must not contain duplicate notes.
      */
     public void setNotes(List<Note> notes) {
+        List<Note> oldNotes = new ArrayList<>(getNoteList());
         this.notes.setNotes(notes);
+        textIndex.replaced(oldNotes, notes);
+        trigramIndex.replaced(oldNotes, notes);
+        markNotesModified();
+        unsavedChanges = null;
+        replaceTagReferences(oldNotes, notes, StudyBuddyCounter::decreaseNotesCount,
+                StudyBuddyCounter::increaseNotesCount);
     }
 
 
@@ -229,6 +737,11 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public void removeNote(Note key) {
         notes.remove(key);
+        textIndex.removed(key);
+        trigramIndex.removed(key);
+        markNotesModified();
+        recordChange(StudyBuddyProChange.remove(key));
+        removeTagReferences(key, StudyBuddyCounter::decreaseNotesCount);
     }
     //// util methods
 
@@ -245,9 +758,29 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public void addCheatSheet(CheatSheet cs) {
         cheatSheets.add(cs);
-        for (Tag t : cs.getTags()) {
-            tags.add(t);
-        }
+        textIndex.added(cs);
+        trigramIndex.added(cs);
+        markCheatSheetsModified();
+        recordChange(StudyBuddyProChange.add(cs));
+        addTagReferences(cs, StudyBuddyCounter::increaseCheatSheetCount);
+    }
+
+    /**
+     * Adds all {@code cheatSheets} at once, in time linear to their number, as when loading them from storage.
+     * Cheatsheets with the same title as an existing or earlier cheatsheet are not added.
+     *
+     * @return every cheatsheet that was not added because it is a duplicate.
+     */
+    public List<CheatSheet> loadCheatSheets(List<CheatSheet> cheatSheets) {
+        List<CheatSheet> duplicates = this.cheatSheets.addAll(cheatSheets);
+        List<CheatSheet> added = withoutItems(cheatSheets, duplicates);
+        textIndex.replaced(Collections.emptyList(), added);
+        trigramIndex.replaced(Collections.emptyList(), added);
+        markCheatSheetsModified();
+        unsavedChanges = null;
+        replaceTagReferences(Collections.emptyList(), added, StudyBuddyCounter::decreaseCheatSheetCount,
+                StudyBuddyCounter::increaseCheatSheetCount);
+        return duplicates;
     }
 
     /**
@@ -256,6 +789,11 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public void deleteCheatSheet(CheatSheet cs) {
         cheatSheets.remove(cs);
+        textIndex.removed(cs);
+        trigramIndex.removed(cs);
+        markCheatSheetsModified();
+        recordChange(StudyBuddyProChange.remove(cs));
+        removeTagReferences(cs, StudyBuddyCounter::decreaseCheatSheetCount);
     }
 
     /**
@@ -268,20 +806,135 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         return cheatSheets.contains(cheatSheet);
     }
 
+    /**
+     * Returns the cheatsheet with the given id, if there is one.
+     */
+    public Optional<CheatSheet> getCheatSheetById(long id) {
+        return cheatSheets.getById(id);
+    }
+
     /**
      * Replaces the contents of the cheatsheet list with {@code cheatsheets}.
      * {@code cheatsheets} must not contain duplicate cheatsheets.
      */
     public void setCheatSheets(List<CheatSheet> cheatsheets) {
+        List<CheatSheet> oldCheatSheets = new ArrayList<>(getCheatSheetList());
         this.cheatSheets.setCheatSheets(cheatsheets);
+        textIndex.replaced(oldCheatSheets, cheatsheets);
+        trigramIndex.replaced(oldCheatSheets, cheatsheets);
+        markCheatSheetsModified();
+        unsavedChanges = null;
+        replaceTagReferences(oldCheatSheets, cheatsheets, StudyBuddyCounter::decreaseCheatSheetCount,
+                StudyBuddyCounter::increaseCheatSheetCount);
+    }
+
+    /**
+     * Counts a reference from {@code item} to each of its tags with {@code increaseCount}, adding the tags that no
+     * other item has to the tag list.
+     */
+    private void addTagReferences(StudyBuddyItem item, Consumer<StudyBuddyCounter> increaseCount) {
+        countSubtrees(item, increaseCount);
+        for (Tag t : item.getTags()) {
+            increaseCount.accept(tagCounters.computeIfAbsent(t, unused -> new StudyBuddyCounter()));
+            if (!tags.contains(t)) {
+                tags.add(t);
+                markTagsModified();
+            }
+        }
     }
 
-    public void setTags(List<Tag> tags) {
-        this.tags.setTags(tags);
+    /**
+     * Drops the reference from {@code item} to each of its tags with {@code decreaseCount}, removing the tags that
+     * no item has any more from the tag list.
+     */
+    private void removeTagReferences(StudyBuddyItem item, Consumer<StudyBuddyCounter> decreaseCount) {
+        countSubtrees(item, decreaseCount);
+        for (Tag t : item.getTags()) {
+            StudyBuddyCounter counter = tagCounters.get(t);
+            decreaseCount.accept(counter);
+            if (!counter.isTagExisting()) {
+                tagCounters.remove(t);
+                tags.remove(t);
+                markTagsModified();
+            }
+        }
     }
 
-    public void addAllTags(List<Tag> tags) {
-        this.tags.addAllTags(tags);
+    /**
+     * Replaces the references from {@code oldItems} to their tags with those from {@code newItems}, and then rebuilds
+     * the tag list once instead of updating it tag by tag.
+     */
+    private void replaceTagReferences(List<? extends StudyBuddyItem> oldItems,
+            List<? extends StudyBuddyItem> newItems, Consumer<StudyBuddyCounter> decreaseCount,
+            Consumer<StudyBuddyCounter> increaseCount) {
+        countTagReferences(oldItems, newItems, decreaseCount, increaseCount);
+        rebuildTagList();
+    }
+
+    /**
+     * Replaces the references from {@code oldItems} to their tags with those from {@code newItems}, without updating
+     * the tag list.
+     */
+    private void countTagReferences(List<? extends StudyBuddyItem> oldItems,
+            List<? extends StudyBuddyItem> newItems, Consumer<StudyBuddyCounter> decreaseCount,
+            Consumer<StudyBuddyCounter> increaseCount) {
+        for (StudyBuddyItem item : oldItems) {
+            countSubtrees(item, decreaseCount);
+            for (Tag t : item.getTags()) {
+                StudyBuddyCounter counter = tagCounters.get(t);
+                decreaseCount.accept(counter);
+                if (!counter.isTagExisting()) {
+                    tagCounters.remove(t);
+                }
+            }
+        }
+        for (StudyBuddyItem item : newItems) {
+            countSubtrees(item, increaseCount);
+            for (Tag t : item.getTags()) {
+                increaseCount.accept(tagCounters.computeIfAbsent(t, unused -> new StudyBuddyCounter()));
+            }
+        }
+    }
+
+    /**
+     * Replaces the tag list with the tags that the items have, raising a single change event.
+     */
+    private void rebuildTagList() {
+        tags.setTags(new ArrayList<>(tagCounters.keySet()));
+        markTagsModified();
+    }
+
+    /**
+     * Updates the counter of every tag that {@code item} has or has a tag nested in with {@code changeCount}, once
+     * per tag, and drops the counters that reach zero.
+     */
+    private void countSubtrees(StudyBuddyItem item, Consumer<StudyBuddyCounter> changeCount) {
+        Set<Tag> subtrees = new HashSet<>();
+        for (Tag t : item.getTags()) {
+            subtrees.addAll(t.getSelfAndAncestors());
+        }
+        for (Tag t : subtrees) {
+            StudyBuddyCounter counter = subtreeCounters.computeIfAbsent(t, unused -> new StudyBuddyCounter());
+            changeCount.accept(counter);
+            if (!counter.isTagExisting()) {
+                subtreeCounters.remove(t);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code items} without the {@code skippedItems}, which are compared by identity.
+     */
+    private static <T> List<T> withoutItems(List<T> items, List<T> skippedItems) {
+        Set<T> skipped = Collections.newSetFromMap(new IdentityHashMap<>());
+        skipped.addAll(skippedItems);
+        List<T> remaining = new ArrayList<>(items.size());
+        for (T item : items) {
+            if (!skipped.contains(item)) {
+                remaining.add(item);
+            }
+        }
+        return remaining;
     }
 
     /**
@@ -294,6 +947,12 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
         requireNonNull(editedCheatSheet);
 
         cheatSheets.setCheatSheet(target, editedCheatSheet);
+        textIndex.replaced(target, editedCheatSheet);
+        trigramIndex.replaced(target, editedCheatSheet);
+        markCheatSheetsModified();
+        recordChange(StudyBuddyProChange.set(target, editedCheatSheet));
+        addTagReferences(editedCheatSheet, StudyBuddyCounter::increaseCheatSheetCount);
+        removeTagReferences(target, StudyBuddyCounter::decreaseCheatSheetCount);
     }
 
     @Override
@@ -311,32 +970,26 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
 
     public ArrayList<String> collectTaggedItems(Predicate<StudyBuddyItem> predicate) {
         ArrayList<String> taggedItems = new ArrayList<>();
-        int flashcardIndex = 0;
-        int cheatSheetIndex = 0;
-        int noteIndex = 0;
-        int noteFragmentIndex = 0;
-        for (Flashcard fc : this.getFlashcardList()) {
-            flashcardIndex++;
-            if (predicate.test(fc)) {
-                taggedItems.add("Flashcard: " + flashcardIndex + ". " + fc.toString());
-            }
+        List<Flashcard> flashcardList = getFlashcardList();
+        for (int position : getMatchingPositions(flashcardList, predicate, flashcards::getPositionsMatching)) {
+            taggedItems.add("Flashcard: " + (position + 1) + ". " + flashcardList.get(position).toString());
         }
-        for (CheatSheet cs : this.getCheatSheetList()) {
-            cheatSheetIndex++;
-            if (predicate.test(cs)) {
-                taggedItems.add("CheatSheet: " + cheatSheetIndex + ". " + cs.toString());
-            }
+        List<CheatSheet> cheatSheetList = getCheatSheetList();
+        for (int position : getMatchingPositions(cheatSheetList, predicate, cheatSheets::getPositionsMatching)) {
+            taggedItems.add("CheatSheet: " + (position + 1) + ". " + cheatSheetList.get(position).toString());
         }
-        for (Note n : this.getNoteList()) {
-            noteIndex++;
+        List<Note> noteList = getNoteList();
+        for (int position : getCandidateNotePositions(predicate)) {
+            Note n = noteList.get(position);
+            int noteIndex = position + 1;
             if (predicate.test(n)) {
                 taggedItems.add("Note: " + noteIndex + ". " + n.toString());
             }
+            int noteFragmentIndex = 0;
             for (Note noteFrag : n.getFilteredNoteFragments(predicate)) {
                 noteFragmentIndex++;
                 taggedItems.add("Note Fragment: " + noteIndex + "-" + noteFragmentIndex + ". " + noteFrag.toString());
             }
-            noteFragmentIndex = 0;
         }
         return taggedItems;
     }
@@ -348,12 +1001,9 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public ArrayList<String> collectTaggedCheatSheets(Predicate<CheatSheet> predicate) {
         ArrayList<String> taggedItems = new ArrayList<>();
-        int cheatSheetIndex = 0;
-        for (CheatSheet cs : this.getCheatSheetList()) {
-            cheatSheetIndex++;
-            if (predicate.test(cs)) {
-                taggedItems.add(cheatSheetIndex + ". " + cs.toString());
-            }
+        List<CheatSheet> cheatSheetList = getCheatSheetList();
+        for (int position : getMatchingPositions(cheatSheetList, predicate, cheatSheets::getPositionsMatching)) {
+            taggedItems.add((position + 1) + ". " + cheatSheetList.get(position).toString());
         }
         return taggedItems;
     }
@@ -365,22 +1015,21 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public ArrayList<String> collectTaggedFlashcards(Predicate<Flashcard> predicate) {
         ArrayList<String> taggedItems = new ArrayList<>();
-        int flashcardIndex = 0;
-        for (Flashcard fc : this.getFlashcardList()) {
-            flashcardIndex++;
-            if (predicate.test(fc)) {
-                taggedItems.add(flashcardIndex + ". " + fc.toString());
-            }
+        List<Flashcard> flashcardList = getFlashcardList();
+        for (int position : getMatchingPositions(flashcardList, predicate, flashcards::getPositionsMatching)) {
+            taggedItems.add((position + 1) + ". " + flashcardList.get(position).toString());
         }
         return taggedItems;
     }
 
+    /**
+     * Returns the flashcards which match the predicate, in the order of the flashcard list.
+     */
     public ArrayList<Flashcard> getTaggedFlashcards(Predicate<Flashcard> predicate) {
         ArrayList<Flashcard> taggedFlashcards = new ArrayList<>();
-        for (Flashcard fc : this.getFlashcardList()) {
-            if (predicate.test(fc)) {
-                taggedFlashcards.add(fc);
-            }
+        List<Flashcard> flashcardList = getFlashcardList();
+        for (int position : getMatchingPositions(flashcardList, predicate, flashcards::getPositionsMatching)) {
+            taggedFlashcards.add(flashcardList.get(position));
         }
         return taggedFlashcards;
     }
@@ -392,55 +1041,241 @@ public class StudyBuddyPro implements ReadOnlyStudyBuddyPro {
      */
     public ArrayList<String> collectTaggedNotes(Predicate<Note> predicate) {
         ArrayList<String> taggedItems = new ArrayList<>();
-        int noteIndex = 0;
-        int noteFragmentIndex = 0;
-        for (Note n : this.getNoteList()) {
-            noteIndex++;
+        List<Note> noteList = getNoteList();
+        for (int position : getCandidateNotePositions(predicate)) {
+            Note n = noteList.get(position);
+            int noteIndex = position + 1;
             if (predicate.test(n)) {
                 taggedItems.add(noteIndex + ". " + n.toString());
             }
+            int noteFragmentIndex = 0;
             for (Note noteFrag : n.getFilteredNoteFragments(predicate)) {
                 noteFragmentIndex++;
                 taggedItems.add(noteIndex + "-" + noteFragmentIndex + ". " + noteFrag.toString());
             }
-            noteFragmentIndex = 0;
         }
         return taggedItems;
     }
 
+    /**
+     * Returns the positions of the items in {@code items} that match {@code predicate}, in ascending order.
+     * Tag predicates are answered by {@code getPositionsMatching} instead of testing every item.
+     */
+    private static <T> List<Integer> getMatchingPositions(List<T> items, Predicate<? super T> predicate,
+            Function<TagQuery, List<Integer>> getPositionsMatching) {
+        Optional<TagQuery> query = getTagQuery(predicate);
+        if (query.isPresent()) {
+            return getPositionsMatching.apply(query.get());
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            if (predicate.test(items.get(i))) {
+                positions.add(i);
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Returns the positions of the notes that may match {@code predicate} either themselves or through one of
+     * their note fragments, in ascending order.
+     */
+    private List<Integer> getCandidateNotePositions(Predicate<? super Note> predicate) {
+        Optional<TagQuery> query = getTagQuery(predicate);
+        if (query.isEmpty()) {
+            return IntStream.range(0, getNoteList().size()).boxed().collect(Collectors.toList());
+        }
+
+        TreeSet<Integer> positions = new TreeSet<>(notes.getPositionsMatching(query.get()));
+        positions.addAll(notes.getPositionsMatchingNoteFragments(query.get()));
+        return new ArrayList<>(positions);
+    }
+
+    /**
+     * Returns the tag query of {@code predicate}, if it is one of the tag predicates.
+     */
+    static Optional<TagQuery> getTagQuery(Predicate<?> predicate) {
+        if (predicate instanceof StudyBuddyItemContainsTagPredicate) {
+            return Optional.of(((StudyBuddyItemContainsTagPredicate) predicate).getQuery());
+        } else if (predicate instanceof FlashcardContainsTagPredicate) {
+            return Optional.of(((FlashcardContainsTagPredicate) predicate).getQuery());
+        } else if (predicate instanceof NoteContainsTagPredicate) {
+            return Optional.of(((NoteContainsTagPredicate) predicate).getQuery());
+        } else if (predicate instanceof CheatSheetContainsTagPredicate) {
+            return Optional.of(((CheatSheetContainsTagPredicate) predicate).getQuery());
+        }
+        return Optional.empty();
+    }
+
+    //====================Index related methods===========================
+
+    /**
+     * Returns the lookup of the positions of flashcards in the flashcard list, for views of the list.
+     */
+    ItemPositionLookup getFlashcardPositionLookup() {
+        return flashcards;
+    }
+
+    /**
+     * Returns the lookup of the positions of notes in the note list, for views of the list.
+     */
+    ItemPositionLookup getNotePositionLookup() {
+        return notes;
+    }
+
+    /**
+     * Returns the lookup of the positions of cheatsheets in the cheatsheet list, for views of the list.
+     */
+    ItemPositionLookup getCheatSheetPositionLookup() {
+        return cheatSheets;
+    }
+
+    //====================Review related methods===========================
+
+    /**
+     * Returns the flashcards that are due for review on {@code date}, in the order of the flashcard list.
+     */
+    public List<Flashcard> getFlashcardsDueOn(LocalDate date) {
+        requireNonNull(date);
+        return flashcards.getDueOn(date);
+    }
+
+    /**
+     * Returns the flashcards that were due for review before {@code date}, in the order of the flashcard list.
+     */
+    public List<Flashcard> getFlashcardsOverdueOn(LocalDate date) {
+        requireNonNull(date);
+        return flashcards.getDueBefore(date);
+    }
+
+    /**
+     * Returns the number of flashcards that are due for review on {@code date} and the number that are overdue.
+     */
+    public DueCounts countFlashcardsDue(LocalDate date) {
+        requireNonNull(date);
+        return flashcards.countDue(date);
+    }
+
+    /**
+     * Returns the flashcard that is due for review the earliest, if there are any flashcards.
+     */
+    public Optional<Flashcard> getNextFlashcardToStudy() {
+        return flashcards.getDueFirst();
+    }
+
+    //====================Search related methods===========================
+
+    /**
+     * Returns at most {@code limit} flashcards, notes and cheatsheets whose text has any of the words of
+     * {@code query}, best match first, in a toString() form with their positions in their lists.
+     */
+    public ArrayList<String> findItems(String query, int limit) {
+        requireNonNull(query);
+        ArrayList<String> foundItems = new ArrayList<>();
+        for (long id : textIndex.search(query, limit)) {
+            describeItem(id).ifPresent(foundItems::add);
+        }
+        return foundItems;
+    }
+
+    /**
+     * Returns the matches of {@code search} in the text of every item that it matches, in the order that the items
+     * were created. The items are checked in parallel on a fork join pool kept for searches.
+     *
+     * @throws SearchCancelledException if the search is cancelled or runs out of time before it finishes.
+     */
+    public List<GrepMatch> grepItems(GrepSearch search) {
+        requireNonNull(search);
+        return trigramIndex.search(search, SEARCH_POOL);
+    }
+
+    /**
+     * Returns the flashcards whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order of the flashcard list.
+     */
+    public List<Flashcard> getFlashcardsByFuzzyTitle(String title) {
+        return flashcards.getByFuzzyTitle(title);
+    }
+
+    /**
+     * Returns the notes whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order of the note list.
+     */
+    public List<Note> getNotesByFuzzyTitle(String title) {
+        return notes.getByFuzzyTitle(title);
+    }
+
+    /**
+     * Returns the cheatsheets whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order of the cheatsheet list.
+     */
+    public List<CheatSheet> getCheatSheetsByFuzzyTitle(String title) {
+        return cheatSheets.getByFuzzyTitle(title);
+    }
+
+    /**
+     * Returns the flashcard, note or cheatsheet with the given id in a toString() form with its position in its
+     * list, if there is one.
+     */
+    public Optional<String> describeItem(long id) {
+        int position = flashcards.getPositionById(id);
+        if (position != -1) {
+            return Optional.of("Flashcard: " + (position + 1) + ". " + getFlashcardList().get(position).toString());
+        }
+        position = notes.getPositionById(id);
+        if (position != -1) {
+            return Optional.of("Note: " + (position + 1) + ". " + getNoteList().get(position).toString());
+        }
+        position = cheatSheets.getPositionById(id);
+        if (position != -1) {
+            return Optional.of("CheatSheet: " + (position + 1) + ". " + getCheatSheetList().get(position).toString());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the text of {@code item} that is searched: the question and answer of a flashcard, the content of a
+     * note with its note fragments, and the contents of a cheatsheet.
+     */
+    private static String getSearchableText(StudyBuddyItem item) {
+        if (item instanceof Flashcard) {
+            Flashcard flashcard = (Flashcard) item;
+            return flashcard.getQuestion() + "\n" + flashcard.getAnswer();
+        } else if (item instanceof Note) {
+            return ((Note) item).getContent().toString();
+        } else if (item instanceof CheatSheet) {
+            StringBuilder text = new StringBuilder();
+            for (Content content : ((CheatSheet) item).getContents()) {
+                text.append(content.getContent()).append("\n");
+            }
+            return text.toString();
+        }
+        return "";
+    }
+
+    /**
+     * Returns the names of the tags in use and of all the tags they are nested in, sorted by name, so that every
+     * nested tag comes right after its parent.
+     */
     public ArrayList<String> getListOfTags() {
         ArrayList<String> listOfTags = new ArrayList<>();
-        for (Tag t : this.getTagList()) {
+        for (Tag t : subtreeCounters.keySet()) {
             listOfTags.add(t.getTagName());
         }
+        Collections.sort(listOfTags);
         return listOfTags;
     }
 
+    /**
+     * Returns the number of flashcards, notes and cheatsheets with each of the tags in {@code tagList} or with a tag
+     * nested in it.
+     */
     public ArrayList<StudyBuddyCounter> getStatistics(ArrayList<Tag> tagList) {
         ArrayList<StudyBuddyCounter> counterList = new ArrayList<>();
         for (Tag t : tagList) {
-            StudyBuddyCounter studyBuddyCounter = new StudyBuddyCounter();
-            HashSet<Tag> temp = new HashSet<>();
-            temp.add(t);
-            FlashcardContainsTagPredicate fcp = new FlashcardContainsTagPredicate(temp);
-            NoteContainsTagPredicate np = new NoteContainsTagPredicate(temp);
-            CheatSheetContainsTagPredicate cp = new CheatSheetContainsTagPredicate(temp);
-            for (Flashcard fc : this.getFlashcardList()) {
-                if (fcp.test(fc)) {
-                    studyBuddyCounter.increaseFlashcardCount();
-                }
-            }
-            for (Note n : this.getNoteList()) {
-                if (np.test(n)) {
-                    studyBuddyCounter.increaseNotesCount();
-                }
-            }
-            for (CheatSheet cs : this.getCheatSheetList()) {
-                if (cp.test(cs)) {
-                    studyBuddyCounter.increaseCheatSheetCount();
-                }
-            }
-            counterList.add(studyBuddyCounter);
+            StudyBuddyCounter counter = subtreeCounters.get(t);
+            counterList.add(counter == null ? new StudyBuddyCounter() : new StudyBuddyCounter(counter));
         }
         return counterList;
     }
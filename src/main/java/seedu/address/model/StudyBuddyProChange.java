@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.ReviewEvent;
+
+/**
+ * Represents a single change made to one item of a {@code StudyBuddyPro}.
+ * Storage implementations can use these to persist just what changed instead of the whole data set.
+ */
+public class StudyBuddyProChange {
+
+    /**
+     * Kinds of changes that can be made to an item.
+     * A REVIEW only changes the review statistics of a flashcard, in place.
+     */
+    public enum Operation {
+        ADD, SET, REMOVE, REVIEW
+    }
+
+    private final Operation operation;
+    private final StudyBuddyItem target;
+    private final StudyBuddyItem item;
+    private final ReviewEvent reviewEvent;
+
+    /**
+     * Every field is only present for the operations that use it, see the factory methods.
+     */
+    private StudyBuddyProChange(Operation operation, StudyBuddyItem target, StudyBuddyItem item,
+                                ReviewEvent reviewEvent) {
+        this.operation = operation;
+        this.target = target;
+        this.item = item;
+        this.reviewEvent = reviewEvent;
+    }
+
+    /**
+     * Returns a change recording that {@code item} was added.
+     */
+    public static StudyBuddyProChange add(StudyBuddyItem item) {
+        requireNonNull(item);
+        return new StudyBuddyProChange(Operation.ADD, null, item, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code item}.
+     * Both may be the same object if the item was updated in place.
+     */
+    public static StudyBuddyProChange set(StudyBuddyItem target, StudyBuddyItem item) {
+        requireNonNull(target);
+        requireNonNull(item);
+        return new StudyBuddyProChange(Operation.SET, target, item, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was removed.
+     */
+    public static StudyBuddyProChange remove(StudyBuddyItem target) {
+        requireNonNull(target);
+        return new StudyBuddyProChange(Operation.REMOVE, target, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code flashcard} was reviewed as described by {@code reviewEvent}, which
+     * changed its statistics in place.
+     */
+    public static StudyBuddyProChange review(Flashcard flashcard, ReviewEvent reviewEvent) {
+        requireNonNull(flashcard);
+        requireNonNull(reviewEvent);
+        return new StudyBuddyProChange(Operation.REVIEW, flashcard, flashcard, reviewEvent);
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the item that was replaced or removed, empty for additions.
+     */
+    public Optional<StudyBuddyItem> getTarget() {
+        return Optional.ofNullable(target);
+    }
+
+    /**
+     * Returns the item that was added or the replacement item, empty for removals.
+     */
+    public Optional<StudyBuddyItem> getItem() {
+        return Optional.ofNullable(item);
+    }
+
+    /**
+     * Returns the review that changed the statistics of the flashcard, empty for anything but reviews.
+     */
+    public Optional<ReviewEvent> getReviewEvent() {
+        return Optional.ofNullable(reviewEvent);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StudyBuddyProChange // instanceof handles nulls
+                && operation == ((StudyBuddyProChange) other).operation
+                && Objects.equals(target, ((StudyBuddyProChange) other).target)
+                && Objects.equals(item, ((StudyBuddyProChange) other).item)
+                && Objects.equals(reviewEvent, ((StudyBuddyProChange) other).reviewEvent));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operation, target, item, reviewEvent);
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + (item != null ? item : target);
+    }
+}
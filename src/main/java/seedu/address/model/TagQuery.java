@@ -0,0 +1,383 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * A combination of tags with and, or and not, such as {@code (cs2100 or cs2105) and not midterm}, that an item
+ * matches by its tags. A tag in a query also stands for all the tags nested in it.
+ * A query is answered for a whole list at once from the {@link ItemTagIndex} of the list, starting from the tag
+ * with the fewest items, so that the items without the tags of the query are never looked at.
+ */
+public abstract class TagQuery {
+
+    /**
+     * Returns a query matched by the items with {@code tag} or with a tag nested in it.
+     */
+    public static TagQuery tag(Tag tag) {
+        requireNonNull(tag);
+        return new TagTerm(tag);
+    }
+
+    /**
+     * Returns a query matched by the items that match all of {@code operands}, or by no item if there are none.
+     */
+    public static TagQuery and(List<TagQuery> operands) {
+        requireNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    /**
+     * Returns a query matched by the items that match any of {@code operands}.
+     */
+    public static TagQuery or(List<TagQuery> operands) {
+        requireNonNull(operands);
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
+
+    /**
+     * Returns a query matched by the items that do not match {@code operand}.
+     */
+    public static TagQuery not(TagQuery operand) {
+        requireNonNull(operand);
+        return new NotQuery(operand);
+    }
+
+    /**
+     * Returns a query matched by the items that have all of {@code tags}, or by no item if {@code tags} is empty.
+     */
+    public static TagQuery allOf(Set<Tag> tags) {
+        requireNonNull(tags);
+        return and(tags.stream().map(TagQuery::tag).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if an item with {@code tags} matches this query.
+     */
+    public abstract boolean matches(Set<Tag> tags);
+
+    /**
+     * Returns all the tags that appear in this query.
+     */
+    public abstract Set<Tag> getTags();
+
+    /**
+     * Returns true if this query has a {@code not} in it. A query without one is also matched by every item with
+     * more tags than an item that matches it.
+     */
+    public abstract boolean hasNegation();
+
+    /**
+     * Returns the ids of the items in {@code index} that match this query, where {@code allIds} are the ids of all
+     * the items of the list. The returned set must not be modified.
+     */
+    abstract Set<Long> evaluate(ItemTagIndex<?> index, Set<Long> allIds);
+
+    /**
+     * Returns true if the item with {@code id} in {@code index} matches this query.
+     */
+    abstract boolean matchesId(ItemTagIndex<?> index, long id);
+
+    /**
+     * Returns an upper bound of the number of items in {@code index} that match this query, out of
+     * {@code itemCount} items.
+     */
+    abstract int estimateMatches(ItemTagIndex<?> index, int itemCount);
+
+    /**
+     * Returns the text of this query for use as an operand of {@code and}, {@code or} and {@code not}.
+     */
+    String toOperandString() {
+        return "(" + toString() + ")";
+    }
+
+    /**
+     * A query for a single tag and all the tags nested in it.
+     */
+    private static class TagTerm extends TagQuery {
+        private final Tag tag;
+
+        TagTerm(Tag tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        public boolean matches(Set<Tag> tags) {
+            return tags.contains(tag) || tags.stream().anyMatch(itemTag -> itemTag.isWithin(tag));
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return Collections.singleton(tag);
+        }
+
+        @Override
+        public boolean hasNegation() {
+            return false;
+        }
+
+        @Override
+        Set<Long> evaluate(ItemTagIndex<?> index, Set<Long> allIds) {
+            return index.getIds(tag);
+        }
+
+        @Override
+        boolean matchesId(ItemTagIndex<?> index, long id) {
+            return index.getIds(tag).contains(id);
+        }
+
+        @Override
+        int estimateMatches(ItemTagIndex<?> index, int itemCount) {
+            return index.getIds(tag).size();
+        }
+
+        @Override
+        String toOperandString() {
+            return toString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof TagTerm && tag.equals(((TagTerm) other).tag));
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return tag.getTagName();
+        }
+    }
+
+    /**
+     * A query matched by the items that match all of its operands.
+     */
+    private static class AndQuery extends TagQuery {
+        private final Set<TagQuery> operands;
+
+        AndQuery(List<TagQuery> operands) {
+            this.operands = new LinkedHashSet<>(operands);
+        }
+
+        @Override
+        public boolean matches(Set<Tag> tags) {
+            return !operands.isEmpty() && operands.stream().allMatch(operand -> operand.matches(tags));
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return tagsOf(operands);
+        }
+
+        @Override
+        public boolean hasNegation() {
+            return operands.stream().anyMatch(TagQuery::hasNegation);
+        }
+
+        /**
+         * Takes the ids of the operand with the fewest matches, and keeps those that match the other operands,
+         * checking the operands with fewer matches first.
+         */
+        @Override
+        Set<Long> evaluate(ItemTagIndex<?> index, Set<Long> allIds) {
+            if (operands.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            List<TagQuery> byMatches = new ArrayList<>(operands);
+            byMatches.sort(Comparator.comparingInt(operand -> operand.estimateMatches(index, allIds.size())));
+            List<TagQuery> otherOperands = byMatches.subList(1, byMatches.size());
+            Set<Long> matches = new HashSet<>();
+            for (long id : byMatches.get(0).evaluate(index, allIds)) {
+                if (otherOperands.stream().allMatch(operand -> operand.matchesId(index, id))) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        boolean matchesId(ItemTagIndex<?> index, long id) {
+            return !operands.isEmpty() && operands.stream().allMatch(operand -> operand.matchesId(index, id));
+        }
+
+        @Override
+        int estimateMatches(ItemTagIndex<?> index, int itemCount) {
+            return operands.stream()
+                    .mapToInt(operand -> operand.estimateMatches(index, itemCount))
+                    .min()
+                    .orElse(0);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof AndQuery && operands.equals(((AndQuery) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(TagQuery::toOperandString).collect(Collectors.joining(" and "));
+        }
+    }
+
+    /**
+     * A query matched by the items that match any of its operands.
+     */
+    private static class OrQuery extends TagQuery {
+        private final Set<TagQuery> operands;
+
+        OrQuery(List<TagQuery> operands) {
+            this.operands = new LinkedHashSet<>(operands);
+        }
+
+        @Override
+        public boolean matches(Set<Tag> tags) {
+            return operands.stream().anyMatch(operand -> operand.matches(tags));
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return tagsOf(operands);
+        }
+
+        @Override
+        public boolean hasNegation() {
+            return operands.stream().anyMatch(TagQuery::hasNegation);
+        }
+
+        @Override
+        Set<Long> evaluate(ItemTagIndex<?> index, Set<Long> allIds) {
+            Set<Long> matches = new HashSet<>();
+            for (TagQuery operand : operands) {
+                matches.addAll(operand.evaluate(index, allIds));
+            }
+            return matches;
+        }
+
+        @Override
+        boolean matchesId(ItemTagIndex<?> index, long id) {
+            return operands.stream().anyMatch(operand -> operand.matchesId(index, id));
+        }
+
+        @Override
+        int estimateMatches(ItemTagIndex<?> index, int itemCount) {
+            int sum = operands.stream().mapToInt(operand -> operand.estimateMatches(index, itemCount)).sum();
+            return Math.min(sum, itemCount);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof OrQuery && operands.equals(((OrQuery) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(TagQuery::toOperandString).collect(Collectors.joining(" or "));
+        }
+    }
+
+    /**
+     * A query matched by the items that do not match its operand.
+     */
+    private static class NotQuery extends TagQuery {
+        private final TagQuery operand;
+
+        NotQuery(TagQuery operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean matches(Set<Tag> tags) {
+            return !operand.matches(tags);
+        }
+
+        @Override
+        public Set<Tag> getTags() {
+            return operand.getTags();
+        }
+
+        @Override
+        public boolean hasNegation() {
+            return true;
+        }
+
+        @Override
+        Set<Long> evaluate(ItemTagIndex<?> index, Set<Long> allIds) {
+            Set<Long> matches = new HashSet<>();
+            for (long id : allIds) {
+                if (!operand.matchesId(index, id)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        boolean matchesId(ItemTagIndex<?> index, long id) {
+            return !operand.matchesId(index, id);
+        }
+
+        @Override
+        int estimateMatches(ItemTagIndex<?> index, int itemCount) {
+            return itemCount;
+        }
+
+        @Override
+        String toOperandString() {
+            return toString();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof NotQuery && operand.equals(((NotQuery) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "not " + operand.toOperandString();
+        }
+    }
+
+    /**
+     * Returns all the tags that appear in {@code queries}.
+     */
+    private static Set<Tag> tagsOf(Set<TagQuery> queries) {
+        Set<Tag> tags = new HashSet<>();
+        for (TagQuery query : queries) {
+            tags.addAll(query.getTags());
+        }
+        return tags;
+    }
+}
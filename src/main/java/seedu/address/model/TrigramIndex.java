@@ -0,0 +1,453 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.exceptions.SearchCancelledException;
+
+/**
+ * An index from every three consecutive characters (trigram) of the text of the items to the ids of the items that
+ * have them, so that a substring or regular expression search only looks at the items that have every trigram of the
+ * text that any match must contain.
+ * The remaining items are checked against the search in parallel.
+ * The trigrams are taken in lower case, so the index serves case insensitive searches as well.
+ * The owner of the lists must report every change of the lists to the index.
+ */
+public class TrigramIndex {
+
+    // the number of items below which a task checks its items itself instead of splitting them
+    private static final int ITEMS_PER_TASK = 64;
+    // one less than the number of characters a match reads between checks for cancellation, a power of two
+    private static final int READS_PER_CANCELLATION_CHECK_MASK = 1023;
+
+    private static final String QUANTIFIERS = "?*{";
+    private static final String METACHARACTERS = ".^$]+";
+    private static final Pattern INLINE_COMMENTS_FLAG = Pattern.compile("\\(\\?[a-zA-Z-]*x");
+
+    private final Function<StudyBuddyItem, String> textOfItem;
+    private final Map<Long, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+    // the distinct trigrams of each item, so that an item is removed without reading its text again
+    private final Map<Long, long[]> itemTrigrams = new HashMap<>();
+
+    /**
+     * Creates an index of the text that {@code textOfItem} returns for each item.
+     */
+    public TrigramIndex(Function<StudyBuddyItem, String> textOfItem) {
+        requireNonNull(textOfItem);
+        this.textOfItem = textOfItem;
+    }
+
+    /**
+     * Records that {@code item} was added to one of the lists.
+     */
+    public void added(StudyBuddyItem item) {
+        long id = item.getId();
+        if (texts.containsKey(id)) {
+            removed(item);
+        }
+
+        String text = textOfItem.apply(item);
+        Set<Long> trigrams = trigramsOf(text.toLowerCase(Locale.ROOT));
+        for (long trigram : trigrams) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(id);
+        }
+        texts.put(id, text);
+        itemTrigrams.put(id, trigrams.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * Records that {@code item} was removed from its list.
+     */
+    public void removed(StudyBuddyItem item) {
+        long id = item.getId();
+        long[] trigrams = itemTrigrams.remove(id);
+        if (trigrams == null) {
+            return;
+        }
+        for (long trigram : trigrams) {
+            Set<Long> trigramPostings = postings.get(trigram);
+            trigramPostings.remove(id);
+            if (trigramPostings.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+        texts.remove(id);
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedItem}.
+     */
+    public void replaced(StudyBuddyItem target, StudyBuddyItem editedItem) {
+        removed(target);
+        added(editedItem);
+    }
+
+    /**
+     * Records that {@code oldItems} were all replaced by {@code newItems}.
+     */
+    public void replaced(List<? extends StudyBuddyItem> oldItems, List<? extends StudyBuddyItem> newItems) {
+        oldItems.forEach(this::removed);
+        newItems.forEach(this::added);
+    }
+
+    /**
+     * Returns the matches of {@code search} in the text of each item that it matches, in ascending order of the
+     * item ids. The items are checked on {@code pool}, which should not be shared with other work, as a cancelled
+     * search may keep its threads busy for a little while.
+     *
+     * @throws SearchCancelledException if the search is cancelled or runs out of time before it finishes.
+     */
+    public List<GrepMatch> search(GrepSearch search, ForkJoinPool pool) {
+        requireNonNull(search);
+        requireNonNull(pool);
+        List<Long> candidates = getCandidates(search.getPattern());
+        long[] ids = new long[candidates.size()];
+        String[] candidateTexts = new String[candidates.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = candidates.get(i);
+            candidateTexts[i] = texts.get(ids[i]);
+        }
+
+        ForkJoinTask<List<GrepMatch>> task = pool.submit(new MatchTask(search, ids, candidateTexts, 0, ids.length));
+        try {
+            return task.get(search.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | InterruptedException | CancellationException e) {
+            search.cancel();
+            task.cancel(true);
+            throw new SearchCancelledException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the ids of the items that have every trigram that a match of {@code pattern} must contain, in
+     * ascending order.
+     */
+    List<Long> getCandidates(Pattern pattern) {
+        List<Set<Long>> requiredPostings = new ArrayList<>();
+        for (String literal : getRequiredLiterals(pattern)) {
+            for (long trigram : trigramsOf(literal.toLowerCase(Locale.ROOT))) {
+                requiredPostings.add(postings.getOrDefault(trigram, Collections.emptySet()));
+            }
+        }
+
+        List<Long> candidates = new ArrayList<>();
+        if (requiredPostings.isEmpty()) {
+            candidates.addAll(texts.keySet());
+        } else {
+            requiredPostings.sort(Comparator.comparingInt(Set::size));
+            List<Set<Long>> otherPostings = requiredPostings.subList(1, requiredPostings.size());
+            for (long id : requiredPostings.get(0)) {
+                if (otherPostings.stream().allMatch(trigramPostings -> trigramPostings.contains(id))) {
+                    candidates.add(id);
+                }
+            }
+        }
+        Collections.sort(candidates);
+        return candidates;
+    }
+
+    /**
+     * Returns pieces of text that every match of {@code pattern} contains. Only the parts of the pattern outside
+     * groups are looked at, and none if the pattern has alternatives outside groups, so that a piece is never
+     * missing from a match, even if some pieces that every match contains are not found.
+     */
+    static List<String> getRequiredLiterals(Pattern pattern) {
+        String regex = pattern.pattern();
+        if ((pattern.flags() & Pattern.LITERAL) != 0) {
+            return Collections.singletonList(regex);
+        }
+        if ((pattern.flags() & Pattern.COMMENTS) != 0 || regex.contains("\\Q")
+                || INLINE_COMMENTS_FLAG.matcher(regex).find()) {
+            return Collections.emptyList();
+        }
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int groupDepth = 0;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\' && i + 1 < regex.length()) {
+                char escaped = regex.charAt(++i);
+                if (!Character.isLetterOrDigit(escaped)) {
+                    if (groupDepth == 0) {
+                        literal.append(escaped);
+                    }
+                    continue;
+                }
+                if (groupDepth == 0) {
+                    // a character class, a back reference or a character code, which is not a piece of fixed text
+                    endLiteral(literal, literals);
+                }
+                i = skipEscape(regex, i);
+                if (i == -1) {
+                    return Collections.emptyList();
+                }
+            } else if (c == '(') {
+                if (groupDepth == 0) {
+                    endLiteral(literal, literals);
+                }
+                groupDepth++;
+            } else if (c == ')') {
+                groupDepth = Math.max(0, groupDepth - 1);
+            } else if (c == '[') {
+                endLiteral(literal, literals);
+                i = skipCharacterClass(regex, i);
+                if (i == -1) {
+                    return Collections.emptyList();
+                }
+            } else if (groupDepth > 0) {
+                continue;
+            } else if (c == '|') {
+                // a match may have either alternative, so no text is in every match
+                return Collections.emptyList();
+            } else if (QUANTIFIERS.indexOf(c) != -1) {
+                // the character before the quantifier may be missing from a match
+                if (literal.length() > 0) {
+                    literal.setLength(literal.length() - 1);
+                }
+                endLiteral(literal, literals);
+                if (c == '{') {
+                    i = regex.indexOf('}', i);
+                    if (i == -1) {
+                        return Collections.emptyList();
+                    }
+                }
+            } else if (METACHARACTERS.indexOf(c) != -1) {
+                endLiteral(literal, literals);
+            } else {
+                literal.append(c);
+            }
+        }
+        endLiteral(literal, literals);
+        return literals;
+    }
+
+    /**
+     * Returns the position of the last character of the escape sequence whose letter or digit is at {@code start} of
+     * {@code regex}, so that the arguments of escapes such as {@code \x41} or {@code \k<name>} are not taken as
+     * text, or -1 if the escape sequence is cut off.
+     */
+    private static int skipEscape(String regex, int start) {
+        int end;
+        switch (regex.charAt(start)) {
+        case 'x':
+            end = hasBraceAfter(regex, start) ? regex.indexOf('}', start) : start + 2;
+            break;
+        case 'p':
+        case 'P':
+            end = hasBraceAfter(regex, start) ? regex.indexOf('}', start) : start + 1;
+            break;
+        case 'N':
+            end = regex.indexOf('}', start);
+            break;
+        case 'k':
+            end = regex.indexOf('>', start);
+            break;
+        case 'u':
+            end = start + 4;
+            break;
+        case 'c':
+            end = start + 1;
+            break;
+        case '0':
+            // up to three octal digits, the first of three being at most 3
+            end = start + 1;
+            if (isOctalDigitAt(regex, end + 1)) {
+                end++;
+                if (regex.charAt(start + 1) <= '3' && isOctalDigitAt(regex, end + 1)) {
+                    end++;
+                }
+            }
+            break;
+        default:
+            end = start;
+            // a back reference takes as many digits as make up a group number, the others being plain text
+            while (Character.isDigit(regex.charAt(start)) && end + 1 < regex.length()
+                    && Character.isDigit(regex.charAt(end + 1))) {
+                end++;
+            }
+        }
+        return end >= 0 && end < regex.length() ? end : -1;
+    }
+
+    private static boolean hasBraceAfter(String regex, int position) {
+        return position + 1 < regex.length() && regex.charAt(position + 1) == '{';
+    }
+
+    private static boolean isOctalDigitAt(String regex, int position) {
+        return position < regex.length() && regex.charAt(position) >= '0' && regex.charAt(position) <= '7';
+    }
+
+    /**
+     * Returns the position of the bracket that closes the character class that opens at {@code start} of
+     * {@code regex}, or -1 if there is none.
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            // a closing bracket right after the opening one is part of the class
+            i++;
+        }
+        int depth = 1;
+        for (; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds {@code literal} to {@code literals} if it is long enough to have a trigram, and clears it.
+     */
+    private static void endLiteral(StringBuilder literal, List<String> literals) {
+        if (literal.length() >= 3) {
+            literals.add(literal.toString());
+        }
+        literal.setLength(0);
+    }
+
+    /**
+     * Returns the trigrams of {@code text}, each packed into a single number.
+     */
+    private static Set<Long> trigramsOf(String text) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Finds the matches of a search in some of the candidate items, splitting them between subtasks when there are
+     * many of them.
+     */
+    private static class MatchTask extends RecursiveTask<List<GrepMatch>> {
+        private final GrepSearch search;
+        private final long[] ids;
+        private final String[] texts;
+        private final int from;
+        private final int to;
+
+        MatchTask(GrepSearch search, long[] ids, String[] texts, int from, int to) {
+            this.search = search;
+            this.ids = ids;
+            this.texts = texts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<GrepMatch> compute() {
+            if (to - from > ITEMS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                MatchTask left = new MatchTask(search, ids, texts, from, middle);
+                left.fork();
+                List<GrepMatch> matches = new ArrayList<>(new MatchTask(search, ids, texts, middle, to).compute());
+                matches.addAll(0, left.join());
+                return matches;
+            }
+
+            List<GrepMatch> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (search.isCancelled()) {
+                    throw new SearchCancelledException();
+                }
+                findMatches(ids[i], texts[i]).ifPresent(matches::add);
+            }
+            return matches;
+        }
+
+        /**
+         * Returns the matches of the search in {@code text}, if there are any that are not empty.
+         */
+        private Optional<GrepMatch> findMatches(long id, String text) {
+            // a pattern that backtracks catastrophically never finishes one item, so the text checks for cancellation
+            Matcher matcher = search.getPattern().matcher(new CancellableText(text, search));
+            List<Integer> bounds = new ArrayList<>();
+            while (matcher.find()) {
+                if (matcher.end() > matcher.start()) {
+                    bounds.add(matcher.start());
+                    bounds.add(matcher.end());
+                }
+            }
+            if (bounds.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new GrepMatch(id, text, bounds.stream().mapToInt(Integer::intValue)
+                    .toArray()));
+        }
+    }
+
+    /**
+     * The text of an item that throws a {@code SearchCancelledException} when it is read after its search has been
+     * cancelled, so that matching stops even in the middle of the text.
+     */
+    private static class CancellableText implements CharSequence {
+        private final String text;
+        private final GrepSearch search;
+        private int readCount = 0;
+
+        CancellableText(String text, GrepSearch search) {
+            this.text = text;
+            this.search = search;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if ((++readCount & READS_PER_CANCELLATION_CHECK_MASK) == 0 && search.isCancelled()) {
+                throw new SearchCancelledException();
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
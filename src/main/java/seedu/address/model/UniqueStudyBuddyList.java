@@ -3,8 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -28,13 +30,16 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept in sync with internalList so that items are found without scanning the list
+    private final Set<T> itemIndex = new HashSet<>();
+    private final ItemPositionIndex<T> positionIndex = new ItemPositionIndex<>();
 
     /**
      * Returns true if the list contains an equivalent flashcard as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return itemIndex.contains(toCheck);
     }
 
     /**
@@ -43,9 +48,11 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
      */
     public void add(T toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positionIndex.contains(toAdd.getId())) {
             throw new DuplicateStudyBuddyItemException();
         }
+        itemIndex.add(toAdd);
+        positionIndex.added(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -57,16 +64,23 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
     public void setItem(T target, T editedItem) {
         requireAllNonNull(target, editedItem);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = positionOf(target);
+        if (position == -1) {
             throw new StudyBuddyItemNotFoundException();
         }
 
+        T indexedTarget = internalList.get(position);
         if (!target.equals(editedItem) && contains(editedItem)) {
             throw new DuplicateStudyBuddyItemException();
         }
+        if (editedItem.getId() != indexedTarget.getId() && positionIndex.contains(editedItem.getId())) {
+            throw new DuplicateStudyBuddyItemException();
+        }
 
-        internalList.set(index, editedItem);
+        itemIndex.remove(indexedTarget);
+        itemIndex.add(editedItem);
+        positionIndex.replaced(indexedTarget, editedItem, position);
+        internalList.set(position, editedItem);
     }
 
     /**
@@ -75,9 +89,13 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = positionOf(toRemove);
+        if (position == -1) {
             throw new StudyBuddyItemNotFoundException();
         }
+        T removed = internalList.remove(position);
+        itemIndex.remove(removed);
+        positionIndex.removed(removed, position, internalList);
     }
 
     /**
@@ -85,6 +103,9 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
      */
     public void setStudyBuddyItems(UniqueStudyBuddyList<T> replacement) {
         requireNonNull(replacement);
+        itemIndex.clear();
+        itemIndex.addAll(replacement.itemIndex);
+        positionIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,10 +115,14 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
      */
     public void setStudyBuddyItems(List<T> studyBuddyItems) {
         requireAllNonNull(studyBuddyItems);
-        if (!studyBuddyItemsAreUnique(studyBuddyItems)) {
+        Set<T> newItemIndex = new HashSet<>(studyBuddyItems);
+        if (newItemIndex.size() != studyBuddyItems.size() || !ItemPositionIndex.haveDistinctIds(studyBuddyItems)) {
             throw new DuplicateStudyBuddyItemException();
         }
 
+        itemIndex.clear();
+        itemIndex.addAll(newItemIndex);
+        positionIndex.reset(studyBuddyItems);
         internalList.setAll(studyBuddyItems);
     }
 
@@ -110,7 +135,8 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
 
     @Override
     public Iterator<T> iterator() {
-        return internalList.iterator();
+        // removing through the iterator would bypass the index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -126,16 +152,18 @@ public class UniqueStudyBuddyList<T extends StudyBuddyItem> implements Iterable<
     }
 
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * Returns the position of the item in the list that is {@code item} or has the same fields,
+     * or -1 if there is none.
      */
-    private boolean studyBuddyItemsAreUnique(List<T> studyBuddyItems) {
-        for (int i = 0; i < studyBuddyItems.size() - 1; i++) {
-            for (int j = i + 1; j < studyBuddyItems.size(); j++) {
-                if (studyBuddyItems.get(i).equals(studyBuddyItems.get(j))) {
-                    return false;
-                }
-            }
+    private int positionOf(T item) {
+        if (!contains(item)) {
+            return -1;
+        }
+        int position = positionIndex.positionOf(item.getId());
+        if (position != -1 && item.equals(internalList.get(position))) {
+            return position;
         }
-        return true;
+        // an equal item with a different id
+        return internalList.indexOf(item);
     }
 }
@@ -7,17 +7,27 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.flashcard.scheduler.FixedIncrementScheduler;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String DATA_FILE_FORMAT_JSON = "json";
+    public static final String DATA_FILE_FORMAT_BINARY = "binary";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path studyBuddyProFilePath = Paths.get("data" , "studybuddypro.json");
     private Path cheatSheetFilePath = Paths.get("data", "cheatsheets.json");
     private Path flashcardFilePath = Paths.get("data", "flashcards.json");
     private Path noteFilePath = Paths.get("data", "notes.json");
+    private Path journalFilePath = Paths.get("data", "journal.log");
+    private Path reviewLogFilePath = Paths.get("data", "reviews.log");
+    private boolean compactDataFiles = false;
+    private String dataFileFormat = DATA_FILE_FORMAT_JSON;
+    private long saveCoalescingMillis = 200;
+    private String reviewScheduler = FixedIncrementScheduler.NAME;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -39,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setStudyBuddyProFilePath(newUserPrefs.getStudyBuddyProFilePath());
+        setReviewScheduler(newUserPrefs.getReviewScheduler());
     }
 
     public GuiSettings getGuiSettings() {
@@ -66,6 +77,55 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return noteFilePath;
     }
 
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public Path getReviewLogFilePath() {
+        return reviewLogFilePath;
+    }
+
+    /**
+     * Returns true if the data files should be saved without indentation, which makes them smaller and faster
+     * to write but harder to read.
+     */
+    public boolean isCompactDataFiles() {
+        return compactDataFiles;
+    }
+
+    /**
+     * Returns true if the data files should be saved in the binary format instead of JSON.
+     */
+    public boolean isBinaryDataFileFormat() {
+        return DATA_FILE_FORMAT_BINARY.equals(dataFileFormat);
+    }
+
+    public void setDataFileFormat(String dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    /**
+     * Returns how long a save waits in the background for further saves to be combined with.
+     */
+    public long getSaveCoalescingMillis() {
+        return saveCoalescingMillis;
+    }
+
+    /**
+     * Returns the name of the {@link seedu.address.model.flashcard.scheduler.ReviewScheduler} that schedules the
+     * reviews of flashcards.
+     */
+    @Override
+    public String getReviewScheduler() {
+        return reviewScheduler;
+    }
+
+    public void setReviewScheduler(String reviewScheduler) {
+        requireNonNull(reviewScheduler);
+        this.reviewScheduler = reviewScheduler;
+    }
+
     public void setStudyBuddyProFilePath(Path studyBuddyProFilePath) {
         requireNonNull(studyBuddyProFilePath);
         this.studyBuddyProFilePath = studyBuddyProFilePath;
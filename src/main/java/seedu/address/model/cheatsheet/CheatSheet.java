@@ -40,6 +40,17 @@ public class CheatSheet extends StudyBuddyItem {
         logger.info("Creating cheatsheet with contents");
     }
 
+    /**
+     * Every field must be present and not null. Creates the cheatsheet with the given {@code id}.
+     */
+    public CheatSheet(long id, Title title, Set<Content> contents, Set<Tag> tags) {
+        super(id, tags);
+        requireAllNonNull(title, contents, tags);
+        this.title = title;
+        this.contents.addAll(contents);
+        logger.info("Creating cheatsheet with contents");
+    }
+
     /**
      * Creates the cheatsheet object: Default = Contents are taken according to tags given
      * @param title
@@ -60,6 +71,17 @@ public class CheatSheet extends StudyBuddyItem {
         return Collections.unmodifiableSet(contents);
     }
 
+    /**
+     * Returns the tags of all the contents of this cheatsheet.
+     */
+    public Set<Tag> getContentTags() {
+        Set<Tag> contentTags = new HashSet<>();
+        for (Content content : contents) {
+            contentTags.addAll(content.getTags());
+        }
+        return contentTags;
+    }
+
     public Content getContent(int index) {
         resetContentIndexes();
         for (Content current : contents) {
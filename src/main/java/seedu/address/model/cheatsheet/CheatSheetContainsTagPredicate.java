@@ -5,38 +5,47 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.TagQuery;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Cheatsheet}'s {@code Tag} matches any of the keywords given.
  */
 public class CheatSheetContainsTagPredicate implements Predicate<CheatSheet> {
-    private final Set<Tag> tags;
+    private final TagQuery query;
 
     private final Logger logger = LogsCenter.getLogger(CheatSheetContainsTagPredicate.class.getName());
 
     public CheatSheetContainsTagPredicate (Set<Tag> tags) {
-        this.tags = tags;
-        logger.info("Filtering CheatSheets that contain at least the specified tags");
+        this(TagQuery.allOf(tags));
+    }
+
+    public CheatSheetContainsTagPredicate (TagQuery query) {
+        this.query = query;
+        logger.info("Filtering CheatSheets that match the tag query: " + query);
     }
 
     // test on the flashcard to see if he has the tag
     @Override
     public boolean test(CheatSheet cheatSheet) {
-        boolean hasMatchingTags;
-        if (tags.isEmpty()) {
-            hasMatchingTags = false;
-        } else {
-            hasMatchingTags = tags.stream()
-                    .allMatch(cheatSheet::containsTag);
-        }
-        return hasMatchingTags;
+        return query.matches(cheatSheet.getTags());
+    }
+
+    /**
+     * Returns all the tags that appear in the query.
+     */
+    public Set<Tag> getTags() {
+        return query.getTags();
+    }
+
+    public TagQuery getQuery() {
+        return query;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof CheatSheetContainsTagPredicate // instanceof handles nulls
-                && tags.equals(((CheatSheetContainsTagPredicate) other).tags)); // state check
+                && query.equals(((CheatSheetContainsTagPredicate) other).query)); // state check
     }
 }
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.model.tag.CompactTagSet;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -40,7 +41,7 @@ public class Content {
         requireNonNull(tags);
         checkArgument(isValidContent(content), MESSAGE_CONSTRAINTS);
         this.content = content;
-        this.tags = tags;
+        this.tags = CompactTagSet.of(tags);
     }
 
     public Content(String question, String answer, Set<Tag> tags) {
@@ -48,7 +49,7 @@ public class Content {
         requireNonNull(tags);
         checkArgument(isValidContent(question), MESSAGE_CONSTRAINTS);
         checkArgument(isValidContent(answer), MESSAGE_CONSTRAINTS);
-        this.tags = tags;
+        this.tags = CompactTagSet.of(tags);
         this.content = "Question: " + question
                 + "; Answer: " + answer;
     }
@@ -1,13 +1,24 @@
 package seedu.address.model.cheatsheet;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.FuzzyTitleIndex;
+import seedu.address.model.ItemPositionIndex;
+import seedu.address.model.ItemPositionLookup;
+import seedu.address.model.ItemTagIndex;
+import seedu.address.model.TagQuery;
 import seedu.address.model.cheatsheet.exceptions.CheatSheetNotFoundException;
 import seedu.address.model.cheatsheet.exceptions.DuplicateCheatSheetException;
 
@@ -16,18 +27,84 @@ import seedu.address.model.cheatsheet.exceptions.DuplicateCheatSheetException;
  * See also @UniquePersonList
  */
 
-public class UniqueCheatSheetList implements Iterable<CheatSheet> {
+public class UniqueCheatSheetList implements Iterable<CheatSheet>, ItemPositionLookup {
 
     private final ObservableList<CheatSheet> internalList = FXCollections.observableArrayList();
     private final ObservableList<CheatSheet> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept in sync with internalList so that items are found without scanning the list
+    private final Map<Title, CheatSheet> titleIndex = new HashMap<>();
+    private final ItemPositionIndex<CheatSheet> positionIndex = new ItemPositionIndex<>();
+    private final ItemTagIndex<CheatSheet> tagIndex = new ItemTagIndex<>();
+    private final FuzzyTitleIndex<CheatSheet> fuzzyTitleIndex =
+            new FuzzyTitleIndex<>(cheatSheet -> cheatSheet.getTitle().toString());
+    private final ItemTagIndex<CheatSheet> contentTagIndex = new ItemTagIndex<>(CheatSheet::getContentTags);
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(CheatSheet toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCheatSheet);
+        return titleIndex.containsKey(toCheck.getTitle());
+    }
+
+    /**
+     * Returns the cheatsheet with the given id, if it is in the list.
+     */
+    public Optional<CheatSheet> getById(long id) {
+        int position = positionIndex.positionOf(id);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position of the cheatsheet with the given id, or -1 if there is no such cheatsheet in the list.
+     */
+    public int getPositionById(long id) {
+        return positionIndex.positionOf(id);
+    }
+
+    /**
+     * Returns the positions of the cheatsheets that match {@code query}, in ascending order.
+     */
+    @Override
+    public List<Integer> getPositionsMatching(TagQuery query) {
+        requireNonNull(query);
+        return positionIndex.positionsOf(tagIndex.getIdsMatching(query, positionIndex.getIds()));
+    }
+
+    @Override
+    public List<Integer> getPositionsOf(Collection<Long> ids) {
+        requireNonNull(ids);
+        return positionIndex.positionsOf(ids);
+    }
+
+    /**
+     * Returns the positions of the cheatsheets with a content whose tags match {@code query}, in ascending order.
+     * A query with a {@code not} is matched by the contents and not the cheatsheets, so all positions are returned
+     * for it.
+     */
+    public List<Integer> getPositionsMatchingContents(TagQuery query) {
+        requireNonNull(query);
+        if (query.hasNegation()) {
+            return positionIndex.positionsOf(positionIndex.getIds());
+        }
+        return positionIndex.positionsOf(contentTagIndex.getIdsMatching(query, positionIndex.getIds()));
+    }
+
+    /**
+     * Returns the cheat sheets whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order they appear in the list.
+     *
+     * @see FuzzyTitleIndex#getClosest(String)
+     */
+    public List<CheatSheet> getByFuzzyTitle(String title) {
+        requireNonNull(title);
+        List<Integer> positions = positionIndex.positionsOf(fuzzyTitleIndex.getClosest(title));
+        List<CheatSheet> cheatSheets = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            cheatSheets.add(internalList.get(position));
+        }
+        return cheatSheets;
     }
 
     /**
@@ -36,12 +113,43 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
      */
     public void add(CheatSheet toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positionIndex.contains(toAdd.getId())) {
             throw new DuplicateCheatSheetException();
         }
+        titleIndex.put(toAdd.getTitle(), toAdd);
+        positionIndex.added(toAdd, internalList.size());
+        tagIndex.added(toAdd);
+        fuzzyTitleIndex.added(toAdd);
+        contentTagIndex.added(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list at once, raising a single change event.
+     * Cheatsheets with the same title as a cheatsheet in the list or earlier in {@code toAdd} are skipped.
+     *
+     * @return the skipped cheatsheets, in the order they appear in {@code toAdd}.
+     */
+    public List<CheatSheet> addAll(List<CheatSheet> toAdd) {
+        requireAllNonNull(toAdd);
+        List<CheatSheet> added = new ArrayList<>(toAdd.size());
+        List<CheatSheet> duplicates = new ArrayList<>();
+        for (CheatSheet cheatSheet : toAdd) {
+            if (!positionIndex.contains(cheatSheet.getId())
+                    && titleIndex.putIfAbsent(cheatSheet.getTitle(), cheatSheet) == null) {
+                positionIndex.added(cheatSheet, internalList.size() + added.size());
+                tagIndex.added(cheatSheet);
+                fuzzyTitleIndex.added(cheatSheet);
+                contentTagIndex.added(cheatSheet);
+                added.add(cheatSheet);
+            } else {
+                duplicates.add(cheatSheet);
+            }
+        }
+        internalList.addAll(added);
+        return duplicates;
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -50,16 +158,62 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
     public void setCheatSheet(CheatSheet target, CheatSheet editedCheatSheet) {
         requireAllNonNull(target, editedCheatSheet);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = positionOf(target);
+        if (position == -1) {
             throw new CheatSheetNotFoundException();
         }
 
         if (!target.isSameCheatSheet(editedCheatSheet) && contains(editedCheatSheet)) {
             throw new DuplicateCheatSheetException();
         }
+        CheatSheet indexedTarget = internalList.get(position);
+        if (editedCheatSheet.getId() != indexedTarget.getId()
+                && positionIndex.contains(editedCheatSheet.getId())) {
+            throw new DuplicateCheatSheetException();
+        }
 
-        internalList.set(index, editedCheatSheet);
+        titleIndex.remove(indexedTarget.getTitle());
+        titleIndex.put(editedCheatSheet.getTitle(), editedCheatSheet);
+        positionIndex.replaced(indexedTarget, editedCheatSheet, position);
+        tagIndex.replaced(indexedTarget, editedCheatSheet);
+        fuzzyTitleIndex.replaced(indexedTarget, editedCheatSheet);
+        contentTagIndex.replaced(indexedTarget, editedCheatSheet);
+        internalList.set(position, editedCheatSheet);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the cheatsheet at the same position in {@code editedCheatSheets}, raising
+     * a single change event for all of them.
+     * Every target must exist in the list, and its edited cheatsheet must have the same id and title.
+     */
+    public void replaceCheatSheets(List<CheatSheet> targets, List<CheatSheet> editedCheatSheets) {
+        requireAllNonNull(targets, editedCheatSheets);
+        checkArgument(targets.size() == editedCheatSheets.size());
+
+        int[] positions = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            positions[i] = positionOf(targets.get(i));
+            if (positions[i] == -1) {
+                throw new CheatSheetNotFoundException();
+            }
+            CheatSheet indexedTarget = internalList.get(positions[i]);
+            CheatSheet editedCheatSheet = editedCheatSheets.get(i);
+            checkArgument(editedCheatSheet.getId() == indexedTarget.getId()
+                    && editedCheatSheet.getTitle().equals(indexedTarget.getTitle()));
+        }
+
+        List<CheatSheet> newList = new ArrayList<>(internalList);
+        for (int i = 0; i < targets.size(); i++) {
+            CheatSheet indexedTarget = internalList.get(positions[i]);
+            CheatSheet editedCheatSheet = editedCheatSheets.get(i);
+            titleIndex.put(editedCheatSheet.getTitle(), editedCheatSheet);
+            positionIndex.replaced(indexedTarget, editedCheatSheet, positions[i]);
+            tagIndex.replaced(indexedTarget, editedCheatSheet);
+            fuzzyTitleIndex.replaced(indexedTarget, editedCheatSheet);
+            contentTagIndex.replaced(indexedTarget, editedCheatSheet);
+            newList.set(positions[i], editedCheatSheet);
+        }
+        internalList.setAll(newList);
     }
 
     /**
@@ -68,13 +222,26 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
      */
     public void remove(CheatSheet toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = positionOf(toRemove);
+        if (position == -1) {
             throw new CheatSheetNotFoundException();
         }
+        CheatSheet removed = internalList.remove(position);
+        titleIndex.remove(removed.getTitle());
+        positionIndex.removed(removed, position, internalList);
+        tagIndex.removed(removed);
+        fuzzyTitleIndex.removed(removed);
+        contentTagIndex.removed(removed);
     }
 
     public void setCheatSheets(UniqueCheatSheetList replacement) {
         requireNonNull(replacement);
+        titleIndex.clear();
+        titleIndex.putAll(replacement.titleIndex);
+        positionIndex.reset(replacement.internalList);
+        tagIndex.reset(replacement.internalList);
+        fuzzyTitleIndex.reset(replacement.internalList);
+        contentTagIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -84,10 +251,22 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
      */
     public void setCheatSheets(List<CheatSheet> cheatSheets) {
         requireAllNonNull(cheatSheets);
-        if (!cheatSheetsAreUnique(cheatSheets)) {
+        Map<Title, CheatSheet> newTitleIndex = new HashMap<>();
+        for (CheatSheet cheatSheet : cheatSheets) {
+            if (newTitleIndex.putIfAbsent(cheatSheet.getTitle(), cheatSheet) != null) {
+                throw new DuplicateCheatSheetException();
+            }
+        }
+        if (!ItemPositionIndex.haveDistinctIds(cheatSheets)) {
             throw new DuplicateCheatSheetException();
         }
 
+        titleIndex.clear();
+        titleIndex.putAll(newTitleIndex);
+        positionIndex.reset(cheatSheets);
+        tagIndex.reset(cheatSheets);
+        fuzzyTitleIndex.reset(cheatSheets);
+        contentTagIndex.reset(cheatSheets);
         internalList.setAll(cheatSheets);
     }
 
@@ -100,7 +279,8 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
 
     @Override
     public Iterator<CheatSheet> iterator() {
-        return internalList.iterator();
+        // removing through the iterator would bypass the index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -116,16 +296,14 @@ public class UniqueCheatSheetList implements Iterable<CheatSheet> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the cheatsheet in the list that is {@code cheatSheet} or has the same fields,
+     * or -1 if there is none.
      */
-    private boolean cheatSheetsAreUnique(List<CheatSheet> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSameCheatSheet(persons.get(j))) {
-                    return false;
-                }
-            }
+    private int positionOf(CheatSheet cheatSheet) {
+        CheatSheet indexedCheatSheet = titleIndex.get(cheatSheet.getTitle());
+        if (indexedCheatSheet != cheatSheet && !cheatSheet.equals(indexedCheatSheet)) {
+            return -1;
         }
-        return true;
+        return positionIndex.positionOf(indexedCheatSheet.getId());
     }
 }
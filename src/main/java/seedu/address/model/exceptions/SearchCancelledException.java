@@ -0,0 +1,11 @@
+package seedu.address.model.exceptions;
+
+/**
+ * Signals that a search was cancelled, or ran out of time, before it finished.
+ */
+
+public class SearchCancelledException extends RuntimeException {
+    public SearchCancelledException() {
+        super("The search was cancelled before it finished.");
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Represents the number of flashcards due for review on a day, and the number that were due before it and are
+ * overdue on it.
+ */
+public class DueCounts {
+
+    private final LocalDate date;
+    private final int dueCount;
+    private final int overdueCount;
+
+    /**
+     * Constructs a {@code DueCounts} for {@code date}.
+     */
+    public DueCounts(LocalDate date, int dueCount, int overdueCount) {
+        requireNonNull(date);
+        assert dueCount >= 0 && overdueCount >= 0;
+        this.date = date;
+        this.dueCount = dueCount;
+        this.overdueCount = overdueCount;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int getDueCount() {
+        return dueCount;
+    }
+
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    @Override
+    public String toString() {
+        return date + ": " + dueCount + " due, " + overdueCount + " overdue";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof DueCounts)) {
+            return false;
+        }
+
+        DueCounts otherDueCounts = (DueCounts) other;
+        return otherDueCounts.date.equals(date)
+                && otherDueCounts.dueCount == dueCount
+                && otherDueCounts.overdueCount == overdueCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, dueCount, overdueCount);
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Keeps the ids of the flashcards of a list by the day they are next due for review, so that the flashcards due on a
+ * day or before it are found without looking at the other flashcards.
+ * The statistics of a flashcard change in place when it is viewed, so the index remembers the day each flashcard was
+ * filed under, and the owner of the list must report a flashcard as rescheduled once its statistics have changed,
+ * as well as every change of the list.
+ */
+public class DueDateIndex {
+
+    private final TreeMap<LocalDate, Set<Long>> idsByDate = new TreeMap<>();
+    private final Map<Long, LocalDate> dateById = new HashMap<>();
+
+    /**
+     * Records that {@code flashcard} was added to the list.
+     */
+    public void added(Flashcard flashcard) {
+        LocalDate date = flashcard.getStatistics().getToViewNext();
+        dateById.put(flashcard.getId(), date);
+        idsByDate.computeIfAbsent(date, unused -> new HashSet<>()).add(flashcard.getId());
+    }
+
+    /**
+     * Records that {@code flashcard} was removed from the list.
+     */
+    public void removed(Flashcard flashcard) {
+        LocalDate date = dateById.remove(flashcard.getId());
+        if (date == null) {
+            return;
+        }
+        Set<Long> ids = idsByDate.get(date);
+        ids.remove(flashcard.getId());
+        if (ids.isEmpty()) {
+            idsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedFlashcard}.
+     */
+    public void replaced(Flashcard target, Flashcard editedFlashcard) {
+        removed(target);
+        added(editedFlashcard);
+    }
+
+    /**
+     * Records that the statistics of {@code flashcard} changed, which may have moved the day it is due.
+     * A flashcard that is not in the index, e.g. one that was already removed from the list, is ignored.
+     */
+    public void rescheduled(Flashcard flashcard) {
+        if (!dateById.containsKey(flashcard.getId())) {
+            return;
+        }
+        replaced(flashcard, flashcard);
+    }
+
+    /**
+     * Records that the contents of the list were replaced by {@code flashcards}.
+     */
+    public void reset(List<Flashcard> flashcards) {
+        idsByDate.clear();
+        dateById.clear();
+        flashcards.forEach(this::added);
+    }
+
+    /**
+     * Returns the ids of the flashcards due on {@code date}. The returned set must not be modified.
+     */
+    public Set<Long> getIdsDueOn(LocalDate date) {
+        requireNonNull(date);
+        return Collections.unmodifiableSet(idsByDate.getOrDefault(date, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the ids of the flashcards that were due before {@code date}, earliest day first.
+     */
+    public List<Long> getIdsDueBefore(LocalDate date) {
+        requireNonNull(date);
+        List<Long> ids = new ArrayList<>();
+        idsByDate.headMap(date, false).values().forEach(ids::addAll);
+        return ids;
+    }
+
+    /**
+     * Returns the number of flashcards due on {@code date} and the number that were due before it, counted from the
+     * days of the index without going through the flashcards.
+     */
+    public DueCounts countDue(LocalDate date) {
+        requireNonNull(date);
+        int overdueCount = 0;
+        for (Set<Long> ids : idsByDate.headMap(date, false).values()) {
+            overdueCount += ids.size();
+        }
+        return new DueCounts(date, idsByDate.getOrDefault(date, Collections.emptySet()).size(), overdueCount);
+    }
+
+    /**
+     * Returns the ids of the flashcards due on the earliest day that any flashcard is due, or an empty set if there
+     * are no flashcards. The returned set must not be modified.
+     */
+    public Set<Long> getIdsDueFirst() {
+        return idsByDate.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(idsByDate.firstEntry().getValue());
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.StudyBuddyItem;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.ReviewScheduler;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -43,6 +45,19 @@ public class Flashcard extends StudyBuddyItem {
         this.statistics = statistics;
     }
 
+    /**
+     * Every field must be present and not null. For use when converting from storage, keeping the stored id.
+     */
+    public Flashcard(long id, Question question, Answer answer, Title title, Statistics statistics,
+            Set<Tag> tags) {
+        super(id, tags);
+        requireAllNonNull(question, answer, title, statistics, tags);
+        this.question = question;
+        this.answer = answer;
+        this.title = title;
+        this.statistics = statistics;
+    }
+
     public Question getQuestion() {
         return question;
     }
@@ -66,6 +81,21 @@ public class Flashcard extends StudyBuddyItem {
         this.statistics.onView();
     }
 
+    /**
+     * Updates the statistics of this flashcard as {@code scheduler} would after it has been viewed.
+     */
+    public void updateStatistics(ReviewScheduler scheduler) {
+        this.statistics.onView(scheduler);
+    }
+
+    /**
+     * Updates the statistics of this flashcard as {@code scheduler} would after it has been reviewed with
+     * {@code quality}.
+     */
+    public void review(RecallQuality quality, ReviewScheduler scheduler) {
+        this.statistics.onReview(quality, scheduler);
+    }
+
     /**
      * Returns true if both flashcards have either the same Question or Title.
      * This defines a weaker notion of equality between two flashcards.
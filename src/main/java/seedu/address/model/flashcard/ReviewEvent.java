@@ -0,0 +1,99 @@
+package seedu.address.model.flashcard;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+
+/**
+ * Represents one review of a flashcard: when it happened, how well the flashcard was recalled, how long the answer
+ * took and the statistics of the flashcard right after it.
+ * Keeping the resulting statistics makes every event a checkpoint of the flashcard, so that the statistics can be
+ * restored from the latest event without knowing how they were scheduled.
+ * Guarantees: immutable.
+ */
+public class ReviewEvent {
+
+    private final long flashcardId;
+    private final long reviewedAtMillis;
+    private final RecallQuality quality;
+    private final long responseMillis;
+    private final Statistics statistics;
+
+    /**
+     * Constructs a {@code ReviewEvent}.
+     * @param quality how well the flashcard was recalled, or null if it was only viewed.
+     * @param responseMillis how long the answer took, or 0 if it was not measured.
+     * @param statistics the statistics of the flashcard after the review, which are copied. Cannot be null.
+     */
+    public ReviewEvent(long flashcardId, long reviewedAtMillis, RecallQuality quality, long responseMillis,
+                       Statistics statistics) {
+        requireNonNull(statistics);
+        assert responseMillis >= 0;
+        this.flashcardId = flashcardId;
+        this.reviewedAtMillis = reviewedAtMillis;
+        this.quality = quality;
+        this.responseMillis = responseMillis;
+        this.statistics = statistics.copy();
+    }
+
+    public long getFlashcardId() {
+        return flashcardId;
+    }
+
+    public long getReviewedAtMillis() {
+        return reviewedAtMillis;
+    }
+
+    /**
+     * Returns how well the flashcard was recalled, which is empty if it was only viewed.
+     */
+    public Optional<RecallQuality> getQuality() {
+        return Optional.ofNullable(quality);
+    }
+
+    /**
+     * Returns how long the answer took in milliseconds, which is 0 if it was not measured.
+     */
+    public long getResponseMillis() {
+        return responseMillis;
+    }
+
+    /**
+     * Returns a copy of the statistics of the flashcard after the review, which can be given to a flashcard.
+     */
+    public Statistics getStatistics() {
+        return statistics.copy();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ReviewEvent)) {
+            return false;
+        }
+
+        ReviewEvent otherEvent = (ReviewEvent) other;
+        return otherEvent.flashcardId == flashcardId
+                && otherEvent.reviewedAtMillis == reviewedAtMillis
+                && otherEvent.quality == quality
+                && otherEvent.responseMillis == responseMillis
+                && otherEvent.statistics.equals(statistics);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flashcardId, reviewedAtMillis, quality, responseMillis, statistics);
+    }
+
+    @Override
+    public String toString() {
+        return "Flashcard " + flashcardId + " reviewed at " + reviewedAtMillis
+                + (quality == null ? " (viewed)" : " (" + quality + ")") + " in " + responseMillis + "ms";
+    }
+}
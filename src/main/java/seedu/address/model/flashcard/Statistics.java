@@ -1,10 +1,18 @@
 package seedu.address.model.flashcard;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
+import seedu.address.commons.core.DayClock;
+import seedu.address.model.flashcard.scheduler.FixedIncrementScheduler;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.ReviewScheduler;
+import seedu.address.model.flashcard.scheduler.ReviewState;
+
 /**
  * Represents a Flashcard's statistics in the StudyBuddy app.
  */
@@ -14,20 +22,22 @@ public class Statistics {
             "Statistics must have valid LocalDate lastViewed and toViewNext in the format yyyy-mm-dd and valid "
                     + "ScheduleIncrement currentIncrement such as FIRST or FINAL";
 
+    private static final ReviewScheduler FIXED_INCREMENT_SCHEDULER = new FixedIncrementScheduler();
+
     private LocalDate lastViewed;
     private LocalDate toViewNext;
-    private ScheduleIncrement currentIncrement;
+    private ReviewState reviewState;
 
     /**
      * Constructs a {@code Statistics}.
-     * Initializes lastViewed variable to local system time.
-     * Initializes currentIncrement variable to determine next viewing time to default FIRST.
-     * Initializes toViewNext variable based on lastViewed and currentIncrement.
+     * Initializes lastViewed variable to the current day of the {@link DayClock}.
+     * Initializes the review state to that of a flashcard that has never been reviewed, whose increment is FIRST.
+     * Initializes toViewNext variable based on lastViewed and the interval of the review state.
      */
     public Statistics() {
-        lastViewed = LocalDate.now();
-        currentIncrement = ScheduleIncrement.FIRST;
-        updateToViewNext();
+        lastViewed = DayClock.today();
+        reviewState = ReviewState.NEW;
+        toViewNext = lastViewed.plusDays(reviewState.getIntervalDays());
     }
 
     /**
@@ -37,48 +47,77 @@ public class Statistics {
      * @param currentIncrement String of ScheduleIncrement
      */
     public Statistics(LocalDate lastViewed, LocalDate toViewNext, ScheduleIncrement currentIncrement) {
-        requireAllNonNull(lastViewed, toViewNext, currentIncrement);
+        this(lastViewed, toViewNext, ReviewState.fromIncrement(requireNonNull(currentIncrement)));
+    }
+
+    private Statistics(LocalDate lastViewed, LocalDate toViewNext, ReviewState reviewState) {
+        requireAllNonNull(lastViewed, toViewNext, reviewState);
         assert(lastViewed.isBefore(toViewNext));
         this.lastViewed = lastViewed;
         this.toViewNext = toViewNext;
-        this.currentIncrement = currentIncrement;
+        this.reviewState = reviewState;
     }
 
     /**
-     * Updates lastViewed variable to current system time.
+     * Creates a {@code Statistics} of a flashcard last viewed on {@code lastViewed}, whose review state is
+     * {@code reviewState}.
      */
-    private void updateLastViewed() {
-        this.lastViewed = LocalDate.now();
+    public static Statistics fromReviewState(LocalDate lastViewed, LocalDate toViewNext, ReviewState reviewState) {
+        return new Statistics(lastViewed, toViewNext, reviewState);
     }
 
     /**
-     * Increases current increment to the next increment as specified by the {@link ScheduleIncrement} enum class.
+     * Updates all fields as the fixed increments of {@link ScheduleIncrement} would. To be used when a
+     * {@link Flashcard} is viewed.
      */
-    private void increaseIncrement() {
-        this.currentIncrement = this.currentIncrement.getNextIncrement();
+    public void onView() {
+        onView(FIXED_INCREMENT_SCHEDULER);
     }
 
     /**
-     * Updates toViewNext variable based on this Statistics' currentIncrement and lastViewed.
+     * Updates all fields as {@code scheduler} would for a flashcard whose answer was recalled. To be used when a
+     * {@link Flashcard} is viewed.
+     * A flashcard viewed before it is due only has lastViewed updated, so that lastViewed and toViewNext will never
+     * conflict and be the same date.
      */
-    private void updateToViewNext() {
-        long daysToAdd = this.currentIncrement.getNumberOfDays();
-        this.toViewNext = this.lastViewed.plusDays(daysToAdd);
+    public void onView(ReviewScheduler scheduler) {
+        requireNonNull(scheduler);
+        LocalDate currentDate = DayClock.today();
+        if (toViewNext.isAfter(currentDate)) {
+            lastViewed = currentDate;
+        } else {
+            onReview(RecallQuality.GOOD, scheduler);
+        }
     }
 
     /**
-     * Updates all fields from the described methods. To be used when a {@link Flashcard} is viewed.
-     * Ensures lastViewed and toViewNext will never conflict and be the same date
+     * Updates all fields as {@code scheduler} would for a flashcard reviewed with {@code quality} on the current day
+     * of the {@link DayClock}, whether it was due or not.
      */
-    public void onView() {
-        LocalDate currentDate = LocalDate.now();
-        if (toViewNext.isEqual(currentDate) || toViewNext.isBefore(currentDate)) {
-            updateLastViewed();
-            increaseIncrement();
-            updateToViewNext();
-        } else {
-            updateLastViewed();
-        }
+    public void onReview(RecallQuality quality, ReviewScheduler scheduler) {
+        requireAllNonNull(quality, scheduler);
+        LocalDate currentDate = DayClock.today();
+        long elapsedDays = Math.max(0, ChronoUnit.DAYS.between(lastViewed, currentDate));
+        reviewState = scheduler.review(reviewState, quality, elapsedDays);
+        lastViewed = currentDate;
+        toViewNext = currentDate.plusDays(reviewState.getIntervalDays());
+    }
+
+    /**
+     * Returns a copy of these statistics, which does not change when these do.
+     */
+    public Statistics copy() {
+        return new Statistics(lastViewed, toViewNext, reviewState);
+    }
+
+    /**
+     * Sets these statistics back to {@code earlierStatistics}, which were copied from them before a view or review.
+     */
+    public void restore(Statistics earlierStatistics) {
+        requireNonNull(earlierStatistics);
+        lastViewed = earlierStatistics.lastViewed;
+        toViewNext = earlierStatistics.toViewNext;
+        reviewState = earlierStatistics.reviewState;
     }
 
     public LocalDate getLastViewed() {
@@ -90,7 +129,11 @@ public class Statistics {
     }
 
     public ScheduleIncrement getCurrentIncrement() {
-        return currentIncrement;
+        return reviewState.getIncrement();
+    }
+
+    public ReviewState getReviewState() {
+        return reviewState;
     }
 
     @Override
@@ -117,11 +160,11 @@ public class Statistics {
         Statistics otherStatistics = (Statistics) other;
         return otherStatistics.getLastViewed().equals(getLastViewed())
                 && otherStatistics.getToViewNext().equals(getToViewNext())
-                && otherStatistics.getCurrentIncrement().equals(getCurrentIncrement());
+                && otherStatistics.getReviewState().equals(getReviewState());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(lastViewed, toViewNext, currentIncrement);
+        return Objects.hash(lastViewed, toViewNext, reviewState);
     }
 }
@@ -1,13 +1,25 @@
 package seedu.address.model.flashcard;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.FuzzyTitleIndex;
+import seedu.address.model.ItemPositionIndex;
+import seedu.address.model.ItemPositionLookup;
+import seedu.address.model.ItemTagIndex;
+import seedu.address.model.TagQuery;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardQuestionException;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardTitleException;
@@ -24,25 +36,38 @@ import seedu.address.model.flashcard.exceptions.FlashcardNotFoundException;
  *
  * @see Flashcard#equals(Object)
  */
-public class UniqueFlashcardList implements Iterable<Flashcard> {
+public class UniqueFlashcardList implements Iterable<Flashcard>, ItemPositionLookup {
 
     private final ObservableList<Flashcard> internalList = FXCollections.observableArrayList();
     private final ObservableList<Flashcard> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept in sync with internalList so that items are found without scanning the list
+    private final Map<Title, Flashcard> titleIndex = new HashMap<>();
+    private final Map<Question, Flashcard> questionIndex = new HashMap<>();
+    private final ItemPositionIndex<Flashcard> positionIndex = new ItemPositionIndex<>();
+    private final ItemTagIndex<Flashcard> tagIndex = new ItemTagIndex<>();
+    private final DueDateIndex dueDateIndex = new DueDateIndex();
+    private final FuzzyTitleIndex<Flashcard> fuzzyTitleIndex =
+            new FuzzyTitleIndex<>(flashcard -> flashcard.getTitle().toString());
 
     /**
      * Helper method to check if a flashcard contains the same question or title as any other flashcard.
      * @param toCheck Flashcard to be checked.
-     * @param beingChecked Flashcard being checked.
-     * @throws DuplicateFlashcardQuestionException if toCheck has same question as beingChecked
-     * @throws DuplicateFlashcardTitleException if toCheck has same title as beingChecked
-     * @throws DuplicateFlashcardException if toCheck is the same flascard as beingChecked
+     * @param ignored Flashcard that {@code toCheck} may share its question or title with, or null.
+     * @param titleIndex Flashcards to check against, by title.
+     * @param questionIndex Flashcards to check against, by question.
+     * @throws DuplicateFlashcardQuestionException if toCheck has the same question as another flashcard
+     * @throws DuplicateFlashcardTitleException if toCheck has the same title as another flashcard
+     * @throws DuplicateFlashcardException if toCheck has the same question and title as another flashcard
      */
-    private void flashcardExceptionTypeHelper(Flashcard toCheck, Flashcard beingChecked)
+    private static void flashcardExceptionTypeHelper(Flashcard toCheck, Flashcard ignored,
+            Map<Title, Flashcard> titleIndex, Map<Question, Flashcard> questionIndex)
         throws DuplicateFlashcardQuestionException, DuplicateFlashcardTitleException, DuplicateFlashcardException {
-        boolean hasSameQuestion = beingChecked.getQuestion().equals(toCheck.getQuestion());
-        boolean hasSameTitle = beingChecked.getTitle().equals(toCheck.getTitle());
-        if (hasSameQuestion && hasSameTitle) {
+        Flashcard sameTitle = titleIndex.get(toCheck.getTitle());
+        Flashcard sameQuestion = questionIndex.get(toCheck.getQuestion());
+        boolean hasSameTitle = sameTitle != null && sameTitle != ignored;
+        boolean hasSameQuestion = sameQuestion != null && sameQuestion != ignored;
+        if (hasSameQuestion && hasSameTitle && sameQuestion == sameTitle) {
             throw new DuplicateFlashcardException();
         } else if (hasSameQuestion) {
             throw new DuplicateFlashcardQuestionException();
@@ -56,7 +81,89 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public boolean contains(Flashcard toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameFlashcard);
+        return titleIndex.containsKey(toCheck.getTitle()) || questionIndex.containsKey(toCheck.getQuestion());
+    }
+
+    /**
+     * Returns the flashcard with the given id, if it is in the list.
+     */
+    public Optional<Flashcard> getById(long id) {
+        int position = positionIndex.positionOf(id);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position of the flashcard with the given id, or -1 if there is no such flashcard in the list.
+     */
+    public int getPositionById(long id) {
+        return positionIndex.positionOf(id);
+    }
+
+    /**
+     * Returns the positions of the flashcards that match {@code query}, in ascending order.
+     */
+    @Override
+    public List<Integer> getPositionsMatching(TagQuery query) {
+        requireNonNull(query);
+        return positionIndex.positionsOf(tagIndex.getIdsMatching(query, positionIndex.getIds()));
+    }
+
+    @Override
+    public List<Integer> getPositionsOf(Collection<Long> ids) {
+        requireNonNull(ids);
+        return positionIndex.positionsOf(ids);
+    }
+
+    /**
+     * Returns the flashcards whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order they appear in the list.
+     *
+     * @see FuzzyTitleIndex#getClosest(String)
+     */
+    public List<Flashcard> getByFuzzyTitle(String title) {
+        requireNonNull(title);
+        return getAtPositions(positionIndex.positionsOf(fuzzyTitleIndex.getClosest(title)));
+    }
+
+    /**
+     * Returns the flashcards due for review on {@code date}, in the order they appear in the list.
+     */
+    public List<Flashcard> getDueOn(LocalDate date) {
+        requireNonNull(date);
+        return getAtPositions(positionIndex.positionsOf(dueDateIndex.getIdsDueOn(date)));
+    }
+
+    /**
+     * Returns the flashcards that were due for review before {@code date}, in the order they appear in the list.
+     */
+    public List<Flashcard> getDueBefore(LocalDate date) {
+        requireNonNull(date);
+        return getAtPositions(positionIndex.positionsOf(dueDateIndex.getIdsDueBefore(date)));
+    }
+
+    /**
+     * Returns the number of flashcards due for review on {@code date} and the number overdue on it.
+     */
+    public DueCounts countDue(LocalDate date) {
+        requireNonNull(date);
+        return dueDateIndex.countDue(date);
+    }
+
+    /**
+     * Returns the flashcard that is due for review the earliest, taking the first in the list if several are due
+     * on that day, or an empty Optional if the list is empty.
+     */
+    public Optional<Flashcard> getDueFirst() {
+        List<Integer> positions = positionIndex.positionsOf(dueDateIndex.getIdsDueFirst());
+        return positions.isEmpty() ? Optional.empty() : Optional.of(internalList.get(positions.get(0)));
+    }
+
+    /**
+     * Records that the review statistics of {@code flashcard}, which is in the list, were changed in place.
+     */
+    public void rescheduled(Flashcard flashcard) {
+        requireNonNull(flashcard);
+        dueDateIndex.rescheduled(flashcard);
     }
 
     /**
@@ -65,14 +172,43 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void add(Flashcard toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
-            for (Flashcard beingChecked : internalList) {
-                flashcardExceptionTypeHelper(toAdd, beingChecked);
-            }
+        flashcardExceptionTypeHelper(toAdd, null, titleIndex, questionIndex);
+        if (positionIndex.contains(toAdd.getId())) {
+            throw new DuplicateFlashcardException();
         }
+        index(toAdd);
+        positionIndex.added(toAdd, internalList.size());
+        tagIndex.added(toAdd);
+        dueDateIndex.added(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list at once, raising a single change event.
+     * Flashcards with the same question, title or id as a flashcard in the list or earlier in {@code toAdd} are
+     * skipped.
+     *
+     * @return the skipped flashcards, in the order they appear in {@code toAdd}.
+     */
+    public List<Flashcard> addAll(List<Flashcard> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Flashcard> added = new ArrayList<>(toAdd.size());
+        List<Flashcard> duplicates = new ArrayList<>();
+        for (Flashcard flashcard : toAdd) {
+            if (contains(flashcard) || positionIndex.contains(flashcard.getId())) {
+                duplicates.add(flashcard);
+                continue;
+            }
+            index(flashcard);
+            positionIndex.added(flashcard, internalList.size() + added.size());
+            tagIndex.added(flashcard);
+            dueDateIndex.added(flashcard);
+            added.add(flashcard);
+        }
+        internalList.addAll(added);
+        return duplicates;
+    }
+
     /**
      * Replaces the flashcard {@code target} in the list with {@code editedFlashcard}.
      * {@code target} must exist in the list.
@@ -81,18 +217,58 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
         requireAllNonNull(target, editedFlashcard);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = positionOf(target);
+        if (position == -1) {
             throw new FlashcardNotFoundException();
         }
 
-        if (!target.isSameFlashcard(editedFlashcard) && contains(editedFlashcard)) {
-            for (Flashcard beingChecked : internalList) {
-                flashcardExceptionTypeHelper(editedFlashcard, beingChecked);
+        Flashcard indexedTarget = internalList.get(position);
+        flashcardExceptionTypeHelper(editedFlashcard, indexedTarget, titleIndex, questionIndex);
+        if (editedFlashcard.getId() != indexedTarget.getId() && positionIndex.contains(editedFlashcard.getId())) {
+            throw new DuplicateFlashcardException();
+        }
+
+        unindex(indexedTarget);
+        index(editedFlashcard);
+        positionIndex.replaced(indexedTarget, editedFlashcard, position);
+        tagIndex.replaced(indexedTarget, editedFlashcard);
+        dueDateIndex.replaced(indexedTarget, editedFlashcard);
+        internalList.set(position, editedFlashcard);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the flashcard at the same position in {@code editedFlashcards}, raising a
+     * single change event for all of them.
+     * Every target must exist in the list, and its edited flashcard must have the same id, title and question.
+     */
+    public void replaceFlashcards(List<Flashcard> targets, List<Flashcard> editedFlashcards) {
+        requireAllNonNull(targets, editedFlashcards);
+        checkArgument(targets.size() == editedFlashcards.size());
+
+        int[] positions = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            positions[i] = positionOf(targets.get(i));
+            if (positions[i] == -1) {
+                throw new FlashcardNotFoundException();
             }
+            Flashcard indexedTarget = internalList.get(positions[i]);
+            Flashcard editedFlashcard = editedFlashcards.get(i);
+            checkArgument(editedFlashcard.getId() == indexedTarget.getId()
+                    && editedFlashcard.getTitle().equals(indexedTarget.getTitle())
+                    && editedFlashcard.getQuestion().equals(indexedTarget.getQuestion()));
         }
 
-        internalList.set(index, editedFlashcard);
+        List<Flashcard> newList = new ArrayList<>(internalList);
+        for (int i = 0; i < targets.size(); i++) {
+            Flashcard indexedTarget = internalList.get(positions[i]);
+            Flashcard editedFlashcard = editedFlashcards.get(i);
+            index(editedFlashcard);
+            positionIndex.replaced(indexedTarget, editedFlashcard, positions[i]);
+            tagIndex.replaced(indexedTarget, editedFlashcard);
+            dueDateIndex.replaced(indexedTarget, editedFlashcard);
+            newList.set(positions[i], editedFlashcard);
+        }
+        internalList.setAll(newList);
     }
 
     /**
@@ -101,9 +277,15 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void remove(Flashcard toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = positionOf(toRemove);
+        if (position == -1) {
             throw new FlashcardNotFoundException();
         }
+        Flashcard removed = internalList.remove(position);
+        unindex(removed);
+        positionIndex.removed(removed, position, internalList);
+        tagIndex.removed(removed);
+        dueDateIndex.removed(removed);
     }
 
     /**
@@ -111,19 +293,42 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
      */
     public void setFlashcards(UniqueFlashcardList replacement) {
         requireNonNull(replacement);
+        titleIndex.clear();
+        titleIndex.putAll(replacement.titleIndex);
+        questionIndex.clear();
+        questionIndex.putAll(replacement.questionIndex);
+        positionIndex.reset(replacement.internalList);
+        tagIndex.reset(replacement.internalList);
+        fuzzyTitleIndex.reset(replacement.internalList);
+        dueDateIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code flashcards}.
-     * {@code flashcards} must not contain duplicate flashcards.
+     * {@code flashcards} must not contain flashcards with the same question or title.
      */
     public void setFlashcards(List<Flashcard> flashcards) {
         requireAllNonNull(flashcards);
-        if (!flashcardsAreUnique(flashcards)) {
+        Map<Title, Flashcard> newTitleIndex = new HashMap<>();
+        Map<Question, Flashcard> newQuestionIndex = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            flashcardExceptionTypeHelper(flashcard, null, newTitleIndex, newQuestionIndex);
+            newTitleIndex.put(flashcard.getTitle(), flashcard);
+            newQuestionIndex.put(flashcard.getQuestion(), flashcard);
+        }
+        if (!ItemPositionIndex.haveDistinctIds(flashcards)) {
             throw new DuplicateFlashcardException();
         }
 
+        titleIndex.clear();
+        titleIndex.putAll(newTitleIndex);
+        questionIndex.clear();
+        questionIndex.putAll(newQuestionIndex);
+        positionIndex.reset(flashcards);
+        tagIndex.reset(flashcards);
+        fuzzyTitleIndex.reset(flashcards);
+        dueDateIndex.reset(flashcards);
         internalList.setAll(flashcards);
     }
 
@@ -136,7 +341,8 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
 
     @Override
     public Iterator<Flashcard> iterator() {
-        return internalList.iterator();
+        // removing through the iterator would bypass the indexes
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -152,16 +358,34 @@ public class UniqueFlashcardList implements Iterable<Flashcard> {
     }
 
     /**
-     * Returns true if {@code flashcards} contains only unique flashcards.
+     * Returns the position of the flashcard in the list that is {@code flashcard} or has the same fields,
+     * or -1 if there is none.
      */
-    private boolean flashcardsAreUnique(List<Flashcard> flashcards) {
-        for (int i = 0; i < flashcards.size() - 1; i++) {
-            for (int j = i + 1; j < flashcards.size(); j++) {
-                if (flashcards.get(i).equals(flashcards.get(j))) {
-                    return false;
-                }
-            }
+    private int positionOf(Flashcard flashcard) {
+        Flashcard indexedFlashcard = titleIndex.get(flashcard.getTitle());
+        if (indexedFlashcard != flashcard && !flashcard.equals(indexedFlashcard)) {
+            return -1;
+        }
+        return positionIndex.positionOf(indexedFlashcard.getId());
+    }
+
+    private List<Flashcard> getAtPositions(List<Integer> positions) {
+        List<Flashcard> flashcards = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            flashcards.add(internalList.get(position));
         }
-        return true;
+        return flashcards;
+    }
+
+    private void index(Flashcard flashcard) {
+        titleIndex.put(flashcard.getTitle(), flashcard);
+        questionIndex.put(flashcard.getQuestion(), flashcard);
+        fuzzyTitleIndex.added(flashcard);
+    }
+
+    private void unindex(Flashcard flashcard) {
+        titleIndex.remove(flashcard.getTitle());
+        questionIndex.remove(flashcard.getQuestion());
+        fuzzyTitleIndex.removed(flashcard);
     }
 }
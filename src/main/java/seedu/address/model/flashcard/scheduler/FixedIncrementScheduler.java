@@ -0,0 +1,29 @@
+package seedu.address.model.flashcard.scheduler;
+
+import seedu.address.model.flashcard.ScheduleIncrement;
+
+/**
+ * Schedules flashcards with the fixed increments of {@link ScheduleIncrement}, moving on to the next increment after
+ * every successful review and starting over when a flashcard is forgotten.
+ */
+public class FixedIncrementScheduler implements ReviewScheduler {
+
+    public static final String NAME = "fixed";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, RecallQuality quality, long elapsedDays) {
+        if (!quality.isSuccessful()) {
+            int days = ScheduleIncrement.FIRST.getNumberOfDays();
+            return new ReviewState(state.getEase(), days, state.getDifficulty(), 0, state.getLapses() + 1, days);
+        }
+        int repetitions = state.getRepetitions() + 1;
+        ScheduleIncrement[] increments = ScheduleIncrement.values();
+        int days = increments[Math.min(repetitions, increments.length - 1)].getNumberOfDays();
+        return new ReviewState(state.getEase(), days, state.getDifficulty(), repetitions, state.getLapses(), days);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.flashcard.scheduler;
+
+/**
+ * Schedules flashcards with a model of memory in the style of FSRS (the Free Spaced Repetition Scheduler), which
+ * tracks the stability and difficulty of each flashcard.
+ * The chance of recalling a flashcard falls over time at a rate set by its stability, which is the number of days
+ * until the chance falls to 90%. Each review changes the stability by how likely the flashcard was to be recalled
+ * and how it actually went, and the next review is due when the chance is expected to fall to 90% again.
+ * The weights are the defaults published for FSRS version 4.
+ */
+public class FsrsScheduler implements ReviewScheduler {
+
+    public static final String NAME = "fsrs";
+    public static final int MAXIMUM_INTERVAL = 36500;
+
+    private static final double[] WEIGHTS = {0.4, 0.6, 2.4, 5.8, 4.93, 0.94, 0.86, 0.01, 1.49, 0.14, 0.94, 2.18,
+        0.05, 0.34, 1.26, 0.29, 2.61};
+    private static final double MINIMUM_STABILITY = 0.1;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, RecallQuality quality, long elapsedDays) {
+        int grade = quality.getGrade();
+        double stability;
+        double difficulty;
+        if (state.isNew()) {
+            stability = WEIGHTS[grade - 1];
+            difficulty = initialDifficulty(grade);
+        } else {
+            double retrievability = getRetrievability(state.getStability(), Math.max(0, elapsedDays));
+            difficulty = nextDifficulty(state.getDifficulty(), grade);
+            stability = quality.isSuccessful()
+                    ? recallStability(state.getStability(), difficulty, retrievability, quality)
+                    : forgetStability(state.getStability(), difficulty, retrievability);
+        }
+
+        int interval = (int) Math.max(1, Math.min(MAXIMUM_INTERVAL, Math.round(stability)));
+        int repetitions = quality.isSuccessful() ? state.getRepetitions() + 1 : 0;
+        int lapses = quality.isSuccessful() ? state.getLapses() : state.getLapses() + 1;
+        return new ReviewState(state.getEase(), stability, difficulty, repetitions, lapses, interval);
+    }
+
+    /**
+     * Returns the chance of recalling a flashcard of {@code stability} {@code elapsedDays} days after its last
+     * review.
+     */
+    static double getRetrievability(double stability, long elapsedDays) {
+        return 1 / (1 + elapsedDays / (9 * stability));
+    }
+
+    private static double initialDifficulty(int grade) {
+        return clampDifficulty(WEIGHTS[4] - (grade - 3) * WEIGHTS[5]);
+    }
+
+    /**
+     * Moves the difficulty down for good grades and up for bad ones, and a little towards the difficulty of a new
+     * flashcard so that it does not get stuck at either end.
+     */
+    private static double nextDifficulty(double difficulty, int grade) {
+        double moved = difficulty - WEIGHTS[6] * (grade - 3);
+        return clampDifficulty(WEIGHTS[7] * initialDifficulty(3) + (1 - WEIGHTS[7]) * moved);
+    }
+
+    /**
+     * Returns the stability after a successful review, which grows more for easier flashcards, lower stabilities
+     * and flashcards that were less likely to be recalled.
+     */
+    private static double recallStability(double stability, double difficulty, double retrievability,
+            RecallQuality quality) {
+        double hardPenalty = quality == RecallQuality.HARD ? WEIGHTS[15] : 1;
+        double easyBonus = quality == RecallQuality.EASY ? WEIGHTS[16] : 1;
+        return stability * (1 + Math.exp(WEIGHTS[8]) * (11 - difficulty) * Math.pow(stability, -WEIGHTS[9])
+                * (Math.exp(WEIGHTS[10] * (1 - retrievability)) - 1) * hardPenalty * easyBonus);
+    }
+
+    /**
+     * Returns the stability after the flashcard was forgotten, which is never more than it was before.
+     */
+    private static double forgetStability(double stability, double difficulty, double retrievability) {
+        double forgotten = WEIGHTS[11] * Math.pow(difficulty, -WEIGHTS[12])
+                * (Math.pow(stability + 1, WEIGHTS[13]) - 1) * Math.exp(WEIGHTS[14] * (1 - retrievability));
+        return Math.max(MINIMUM_STABILITY, Math.min(stability, forgotten));
+    }
+
+    private static double clampDifficulty(double difficulty) {
+        return Math.max(ReviewState.MINIMUM_DIFFICULTY, Math.min(ReviewState.MAXIMUM_DIFFICULTY, difficulty));
+    }
+}
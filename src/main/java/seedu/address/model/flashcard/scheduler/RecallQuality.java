@@ -0,0 +1,33 @@
+package seedu.address.model.flashcard.scheduler;
+
+/**
+ * How well the answer of a flashcard was recalled when it was reviewed.
+ */
+public enum RecallQuality {
+    AGAIN(1),
+    HARD(2),
+    GOOD(3),
+    EASY(4);
+
+    public static final String MESSAGE_CONSTRAINTS = "Recall quality should be one of again, hard, good or easy";
+
+    private final int grade;
+
+    RecallQuality(int grade) {
+        this.grade = grade;
+    }
+
+    /**
+     * Returns the grade of the recall, from 1 for {@code AGAIN} to 4 for {@code EASY}.
+     */
+    public int getGrade() {
+        return grade;
+    }
+
+    /**
+     * Returns true if the answer was recalled at all.
+     */
+    public boolean isSuccessful() {
+        return this != AGAIN;
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.flashcard.scheduler;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Works out when a flashcard should next be reviewed, from how well it was recalled and what is known about how
+ * well it is remembered.
+ * Implementations must not keep any state of their own, so that one instance can schedule every flashcard.
+ */
+public interface ReviewScheduler {
+
+    /** The schedulers that can be chosen in the user prefs, by name. */
+    List<ReviewScheduler> SCHEDULERS = List.of(new FixedIncrementScheduler(), new Sm2Scheduler(),
+            new FsrsScheduler());
+
+    /**
+     * Returns the name the scheduler is chosen by.
+     */
+    String getName();
+
+    /**
+     * Returns the state of a flashcard in {@code state} after it has been reviewed with {@code quality},
+     * {@code elapsedDays} days after its last review. The next review is due after the interval of the returned
+     * state.
+     */
+    ReviewState review(ReviewState state, RecallQuality quality, long elapsedDays);
+
+    /**
+     * Returns the scheduler named {@code name}, if there is one.
+     */
+    static Optional<ReviewScheduler> forName(String name) {
+        requireNonNull(name);
+        return SCHEDULERS.stream().filter(scheduler -> scheduler.getName().equalsIgnoreCase(name)).findFirst();
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.model.flashcard.scheduler;
+
+import java.util.Objects;
+
+import seedu.address.model.flashcard.ScheduleIncrement;
+
+/**
+ * Represents what a {@link ReviewScheduler} knows about how well a flashcard is remembered.
+ * Guarantees: immutable; is valid as declared in {@link #isValidReviewState}.
+ */
+public class ReviewState {
+
+    public static final String MESSAGE_CONSTRAINTS = "Review state must have an ease of at least "
+            + ReviewState.MINIMUM_EASE + ", a positive stability, a difficulty from " + ReviewState.MINIMUM_DIFFICULTY
+            + " to " + ReviewState.MAXIMUM_DIFFICULTY + ", non-negative repetitions and lapses, and an interval of "
+            + "at least 1 day";
+
+    public static final double MINIMUM_EASE = 1.3;
+    public static final double DEFAULT_EASE = 2.5;
+    public static final double MINIMUM_DIFFICULTY = 1;
+    public static final double MAXIMUM_DIFFICULTY = 10;
+    public static final double DEFAULT_DIFFICULTY = 5;
+
+    /** The state of a flashcard that has never been reviewed. */
+    public static final ReviewState NEW = fromIncrement(ScheduleIncrement.FIRST);
+
+    private final double ease;
+    private final double stability;
+    private final double difficulty;
+    private final int repetitions;
+    private final int lapses;
+    private final int intervalDays;
+
+    /**
+     * Constructs a {@code ReviewState}.
+     * @param ease how much the interval grows after each successful review, as used by SM-2
+     * @param stability the number of days after which the answer is recalled with a 90% chance
+     * @param difficulty how hard the flashcard is to remember, from 1 to 10
+     * @param repetitions the number of successful reviews since the flashcard was last forgotten
+     * @param lapses the number of times the flashcard was forgotten
+     * @param intervalDays the number of days between the last review and the next
+     */
+    public ReviewState(double ease, double stability, double difficulty, int repetitions, int lapses,
+            int intervalDays) {
+        assert isValidReviewState(ease, stability, difficulty, repetitions, lapses, intervalDays);
+        this.ease = ease;
+        this.stability = stability;
+        this.difficulty = difficulty;
+        this.repetitions = repetitions;
+        this.lapses = lapses;
+        this.intervalDays = intervalDays;
+    }
+
+    /**
+     * Returns the state of a flashcard that was scheduled with the fixed increments of {@link ScheduleIncrement},
+     * as flashcards were before they had a review state. The increment is the number of successful reviews.
+     */
+    public static ReviewState fromIncrement(ScheduleIncrement increment) {
+        int days = increment.getNumberOfDays();
+        return new ReviewState(DEFAULT_EASE, days, DEFAULT_DIFFICULTY, increment.ordinal(), 0, days);
+    }
+
+    /**
+     * Returns true if the given values make a valid review state.
+     */
+    public static boolean isValidReviewState(double ease, double stability, double difficulty, int repetitions,
+            int lapses, int intervalDays) {
+        return ease >= MINIMUM_EASE && stability > 0 && Double.isFinite(ease) && Double.isFinite(stability)
+                && difficulty >= MINIMUM_DIFFICULTY && difficulty <= MAXIMUM_DIFFICULTY
+                && repetitions >= 0 && lapses >= 0 && intervalDays >= 1;
+    }
+
+    public double getEase() {
+        return ease;
+    }
+
+    public double getStability() {
+        return stability;
+    }
+
+    public double getDifficulty() {
+        return difficulty;
+    }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public int getLapses() {
+        return lapses;
+    }
+
+    public int getIntervalDays() {
+        return intervalDays;
+    }
+
+    /**
+     * Returns true if the flashcard has never been successfully reviewed or forgotten.
+     */
+    public boolean isNew() {
+        return repetitions == 0 && lapses == 0;
+    }
+
+    /**
+     * Returns the fixed increment the flashcard has reached, going by its number of successful reviews.
+     */
+    public ScheduleIncrement getIncrement() {
+        ScheduleIncrement[] increments = ScheduleIncrement.values();
+        return increments[Math.min(repetitions, increments.length - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ease %.2f, stability %.2f, difficulty %.2f, %d repetitions, %d lapses, %d days",
+                ease, stability, difficulty, repetitions, lapses, intervalDays);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ReviewState)) {
+            return false;
+        }
+
+        ReviewState otherState = (ReviewState) other;
+        return Double.compare(otherState.ease, ease) == 0
+                && Double.compare(otherState.stability, stability) == 0
+                && Double.compare(otherState.difficulty, difficulty) == 0
+                && otherState.repetitions == repetitions
+                && otherState.lapses == lapses
+                && otherState.intervalDays == intervalDays;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ease, stability, difficulty, repetitions, lapses, intervalDays);
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.model.flashcard.scheduler;
+
+/**
+ * Schedules flashcards with the SuperMemo SM-2 algorithm.
+ * The interval is 1 day after the first successful review and 6 days after the second, and is then multiplied by the
+ * ease of the flashcard, which falls when the flashcard is hard to recall and rises when it is easy.
+ * A forgotten flashcard starts over with its ease unchanged.
+ */
+public class Sm2Scheduler implements ReviewScheduler {
+
+    public static final String NAME = "sm2";
+    public static final int MAXIMUM_INTERVAL = 36500;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public ReviewState review(ReviewState state, RecallQuality quality, long elapsedDays) {
+        if (!quality.isSuccessful()) {
+            return new ReviewState(state.getEase(), 1, state.getDifficulty(), 0, state.getLapses() + 1, 1);
+        }
+
+        int repetitions = state.getRepetitions() + 1;
+        int interval;
+        if (repetitions == 1) {
+            interval = 1;
+        } else if (repetitions == 2) {
+            interval = 6;
+        } else {
+            interval = (int) Math.min(MAXIMUM_INTERVAL, Math.round(state.getIntervalDays() * state.getEase()));
+        }
+
+        // SM-2 grades recall from 0 to 5, where 3 to 5 are the successful grades that HARD to EASY stand for
+        int sm2Quality = quality.getGrade() + 1;
+        double ease = Math.max(ReviewState.MINIMUM_EASE,
+                state.getEase() + 0.1 - (5 - sm2Quality) * (0.08 + (5 - sm2Quality) * 0.02));
+        // the interval is where SM-2 expects the flashcard to be recalled about 90% of the time
+        return new ReviewState(ease, interval, state.getDifficulty(), repetitions, state.getLapses(), interval);
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.note.NoteFeatureUtil.NOTE_FRAGMENT_ST
 import static seedu.address.logic.commands.note.NoteFeatureUtil.NOTE_FRAGMENT_TAG_DETECTION_REGEX;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -38,6 +39,17 @@ public class Note extends StudyBuddyItem {
         this.noteFragments = NoteFeatureUtil.parseNoteFragmentsFromNote(this);
     }
 
+    /**
+     * Every field must be present and not null, except for tags. Creates the note with the given {@code id}.
+     */
+    public Note(long id, Title title, Content content, Set<Tag> tags) {
+        super(id, tags);
+        requireAllNonNull(title, content);
+        this.title = title;
+        this.content = content;
+        this.noteFragments = NoteFeatureUtil.parseNoteFragmentsFromNote(this);
+    }
+
     public Title getTitle() {
         return title;
     }
@@ -77,6 +89,17 @@ public class Note extends StudyBuddyItem {
         return noteFragmentList;
     }
 
+    /**
+     * Returns the tags of all the note fragments of this note.
+     */
+    public Set<Tag> getNoteFragmentTags() {
+        Set<Tag> noteFragmentTags = new HashSet<>();
+        for (NoteFragment noteFragment : getNoteFragments()) {
+            noteFragmentTags.addAll(noteFragment.getTags());
+        }
+        return noteFragmentTags;
+    }
+
     public boolean hasNoteFragments() {
         return !getNoteFragments().isEmpty();
     }
@@ -1,13 +1,24 @@
 package seedu.address.model.note;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.FuzzyTitleIndex;
+import seedu.address.model.ItemPositionIndex;
+import seedu.address.model.ItemPositionLookup;
+import seedu.address.model.ItemTagIndex;
+import seedu.address.model.TagQuery;
 import seedu.address.model.note.exception.DuplicateNoteTitleException;
 import seedu.address.model.note.exception.NoteNotFoundException;
 
@@ -22,18 +33,84 @@ import seedu.address.model.note.exception.NoteNotFoundException;
  *
  * @see Note#isSameNote(Note)
  */
-public class UniqueNoteList implements Iterable<Note> {
+public class UniqueNoteList implements Iterable<Note>, ItemPositionLookup {
 
     private final ObservableList<Note> internalList = FXCollections.observableArrayList();
     private final ObservableList<Note> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept in sync with internalList so that items are found without scanning the list
+    private final Map<Title, Note> titleIndex = new HashMap<>();
+    private final ItemPositionIndex<Note> positionIndex = new ItemPositionIndex<>();
+    private final ItemTagIndex<Note> tagIndex = new ItemTagIndex<>();
+    private final FuzzyTitleIndex<Note> fuzzyTitleIndex =
+            new FuzzyTitleIndex<>(note -> note.getTitle().toString());
+    private final ItemTagIndex<Note> noteFragmentTagIndex = new ItemTagIndex<>(Note::getNoteFragmentTags);
 
     /**
      * Returns true if the list contains an equivalent note as the given argument.
      */
     public boolean contains(Note toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameNote);
+        return titleIndex.containsKey(toCheck.getTitle());
+    }
+
+    /**
+     * Returns the note with the given id, if it is in the list.
+     */
+    public Optional<Note> getById(long id) {
+        int position = positionIndex.positionOf(id);
+        return position == -1 ? Optional.empty() : Optional.of(internalList.get(position));
+    }
+
+    /**
+     * Returns the position of the note with the given id, or -1 if there is no such note in the list.
+     */
+    public int getPositionById(long id) {
+        return positionIndex.positionOf(id);
+    }
+
+    /**
+     * Returns the positions of the notes that match {@code query}, in ascending order.
+     */
+    @Override
+    public List<Integer> getPositionsMatching(TagQuery query) {
+        requireNonNull(query);
+        return positionIndex.positionsOf(tagIndex.getIdsMatching(query, positionIndex.getIds()));
+    }
+
+    @Override
+    public List<Integer> getPositionsOf(Collection<Long> ids) {
+        requireNonNull(ids);
+        return positionIndex.positionsOf(ids);
+    }
+
+    /**
+     * Returns the positions of the notes that may have a note fragment matching {@code query}, in ascending order.
+     * These are the notes whose note fragments match {@code query} between them, which covers every note with a
+     * matching note fragment unless {@code query} has a {@code not} in it, in which case all notes are returned.
+     */
+    public List<Integer> getPositionsMatchingNoteFragments(TagQuery query) {
+        requireNonNull(query);
+        if (query.hasNegation()) {
+            return positionIndex.positionsOf(positionIndex.getIds());
+        }
+        return positionIndex.positionsOf(noteFragmentTagIndex.getIdsMatching(query, positionIndex.getIds()));
+    }
+
+    /**
+     * Returns the notes whose titles are closest to {@code title}, allowing for a few mistyped characters,
+     * in the order they appear in the list.
+     *
+     * @see FuzzyTitleIndex#getClosest(String)
+     */
+    public List<Note> getByFuzzyTitle(String title) {
+        requireNonNull(title);
+        List<Integer> positions = positionIndex.positionsOf(fuzzyTitleIndex.getClosest(title));
+        List<Note> notes = new ArrayList<>(positions.size());
+        for (int position : positions) {
+            notes.add(internalList.get(position));
+        }
+        return notes;
     }
 
     /**
@@ -42,12 +119,43 @@ public class UniqueNoteList implements Iterable<Note> {
      */
     public void add(Note toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positionIndex.contains(toAdd.getId())) {
             throw new DuplicateNoteTitleException();
         }
+        titleIndex.put(toAdd.getTitle(), toAdd);
+        positionIndex.added(toAdd, internalList.size());
+        tagIndex.added(toAdd);
+        fuzzyTitleIndex.added(toAdd);
+        noteFragmentTagIndex.added(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the list at once, raising a single change event.
+     * Notes with the same title as a note in the list or earlier in {@code toAdd} are skipped.
+     *
+     * @return the skipped notes, in the order they appear in {@code toAdd}.
+     */
+    public List<Note> addAll(List<Note> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Note> added = new ArrayList<>(toAdd.size());
+        List<Note> duplicates = new ArrayList<>();
+        for (Note note : toAdd) {
+            if (!positionIndex.contains(note.getId())
+                    && titleIndex.putIfAbsent(note.getTitle(), note) == null) {
+                positionIndex.added(note, internalList.size() + added.size());
+                tagIndex.added(note);
+                fuzzyTitleIndex.added(note);
+                noteFragmentTagIndex.added(note);
+                added.add(note);
+            } else {
+                duplicates.add(note);
+            }
+        }
+        internalList.addAll(added);
+        return duplicates;
+    }
+
     /**
      * Replaces the note {@code target} in the list with {@code editedNote}.
      * {@code target} must exist in the list.
@@ -56,16 +164,62 @@ public class UniqueNoteList implements Iterable<Note> {
     public void setNote(Note target, Note editedNote) {
         requireAllNonNull(target, editedNote);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        int position = positionOf(target);
+        if (position == -1) {
             throw new NoteNotFoundException();
         }
 
         if (!target.isSameNote(editedNote) && contains(editedNote)) {
             throw new DuplicateNoteTitleException();
         }
+        Note indexedTarget = internalList.get(position);
+        if (editedNote.getId() != indexedTarget.getId()
+                && positionIndex.contains(editedNote.getId())) {
+            throw new DuplicateNoteTitleException();
+        }
 
-        internalList.set(index, editedNote);
+        titleIndex.remove(indexedTarget.getTitle());
+        titleIndex.put(editedNote.getTitle(), editedNote);
+        positionIndex.replaced(indexedTarget, editedNote, position);
+        tagIndex.replaced(indexedTarget, editedNote);
+        fuzzyTitleIndex.replaced(indexedTarget, editedNote);
+        noteFragmentTagIndex.replaced(indexedTarget, editedNote);
+        internalList.set(position, editedNote);
+    }
+
+    /**
+     * Replaces each of {@code targets} with the note at the same position in {@code editedNotes}, raising a single
+     * change event for all of them.
+     * Every target must exist in the list, and its edited note must have the same id and title.
+     */
+    public void replaceNotes(List<Note> targets, List<Note> editedNotes) {
+        requireAllNonNull(targets, editedNotes);
+        checkArgument(targets.size() == editedNotes.size());
+
+        int[] positions = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            positions[i] = positionOf(targets.get(i));
+            if (positions[i] == -1) {
+                throw new NoteNotFoundException();
+            }
+            Note indexedTarget = internalList.get(positions[i]);
+            Note editedNote = editedNotes.get(i);
+            checkArgument(editedNote.getId() == indexedTarget.getId()
+                    && editedNote.getTitle().equals(indexedTarget.getTitle()));
+        }
+
+        List<Note> newList = new ArrayList<>(internalList);
+        for (int i = 0; i < targets.size(); i++) {
+            Note indexedTarget = internalList.get(positions[i]);
+            Note editedNote = editedNotes.get(i);
+            titleIndex.put(editedNote.getTitle(), editedNote);
+            positionIndex.replaced(indexedTarget, editedNote, positions[i]);
+            tagIndex.replaced(indexedTarget, editedNote);
+            fuzzyTitleIndex.replaced(indexedTarget, editedNote);
+            noteFragmentTagIndex.replaced(indexedTarget, editedNote);
+            newList.set(positions[i], editedNote);
+        }
+        internalList.setAll(newList);
     }
 
     /**
@@ -74,13 +228,26 @@ public class UniqueNoteList implements Iterable<Note> {
      */
     public void remove(Note toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int position = positionOf(toRemove);
+        if (position == -1) {
             throw new NoteNotFoundException();
         }
+        Note removed = internalList.remove(position);
+        titleIndex.remove(removed.getTitle());
+        positionIndex.removed(removed, position, internalList);
+        tagIndex.removed(removed);
+        fuzzyTitleIndex.removed(removed);
+        noteFragmentTagIndex.removed(removed);
     }
 
     public void setNotes(UniqueNoteList replacement) {
         requireNonNull(replacement);
+        titleIndex.clear();
+        titleIndex.putAll(replacement.titleIndex);
+        positionIndex.reset(replacement.internalList);
+        tagIndex.reset(replacement.internalList);
+        fuzzyTitleIndex.reset(replacement.internalList);
+        noteFragmentTagIndex.reset(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +257,22 @@ public class UniqueNoteList implements Iterable<Note> {
      */
     public void setNotes(List<Note> notes) {
         requireAllNonNull(notes);
-        if (!notesAreUnique(notes)) {
+        Map<Title, Note> newTitleIndex = new HashMap<>();
+        for (Note note : notes) {
+            if (newTitleIndex.putIfAbsent(note.getTitle(), note) != null) {
+                throw new DuplicateNoteTitleException();
+            }
+        }
+        if (!ItemPositionIndex.haveDistinctIds(notes)) {
             throw new DuplicateNoteTitleException();
         }
 
+        titleIndex.clear();
+        titleIndex.putAll(newTitleIndex);
+        positionIndex.reset(notes);
+        tagIndex.reset(notes);
+        fuzzyTitleIndex.reset(notes);
+        noteFragmentTagIndex.reset(notes);
         internalList.setAll(notes);
     }
 
@@ -106,7 +285,8 @@ public class UniqueNoteList implements Iterable<Note> {
 
     @Override
     public Iterator<Note> iterator() {
-        return internalList.iterator();
+        // removing through the iterator would bypass the index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -122,16 +302,14 @@ public class UniqueNoteList implements Iterable<Note> {
     }
 
     /**
-     * Returns true if {@code notes} contains only unique notes.
+     * Returns the position of the note in the list that is {@code note} or has the same fields,
+     * or -1 if there is none.
      */
-    private boolean notesAreUnique(List<Note> notes) {
-        for (int i = 0; i < notes.size() - 1; i++) {
-            for (int j = i + 1; j < notes.size(); j++) {
-                if (notes.get(i).isSameNote(notes.get(j))) {
-                    return false;
-                }
-            }
+    private int positionOf(Note note) {
+        Note indexedNote = titleIndex.get(note.getTitle());
+        if (indexedNote != note && !note.equals(indexedNote)) {
+            return -1;
         }
-        return true;
+        return positionIndex.positionOf(indexedNote.getId());
     }
 }
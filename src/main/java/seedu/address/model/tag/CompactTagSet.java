@@ -0,0 +1,141 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A set of the few tags of an item, kept as an array of shared tags sorted by their ids.
+ * It takes a fraction of the memory of a {@code HashSet}, and finds a tag by a binary search over the ids.
+ */
+public final class CompactTagSet extends AbstractSet<Tag> {
+
+    private static final CompactTagSet EMPTY = new CompactTagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private CompactTagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a set of the shared instances of {@code tags}.
+     */
+    public static CompactTagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof CompactTagSet) {
+            return (CompactTagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sortedTags = tags.stream()
+                .map(Tag::intern)
+                .distinct()
+                .sorted(Comparator.comparingInt(Tag::getId))
+                .toArray(Tag[]::new);
+        return new CompactTagSet(sortedTags);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Tag)) {
+            return false;
+        }
+        int id = ((Tag) o).getId();
+        int low = 0;
+        int high = tags.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleId = tags[middle].getId();
+            if (middleId < id) {
+                low = middle + 1;
+            } else if (middleId > id) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof CompactTagSet) {
+            return Arrays.equals(tags, ((CompactTagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -3,17 +3,31 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Every tag name has a unique id given by the {@link TagDictionary}, so tags are compared by their ids.
+ * Tags can be nested, with a {@link #SEPARATOR} between the levels: {@code cs2100-cache} is a child of
+ * {@code cs2100}.
  */
 public class Tag {
 
-    public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
-    public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric, with a '-' between the "
+            + "levels of a nested tag, e.g. cs2100-cache";
+    public static final String SEPARATOR = "-";
+    public static final String VALIDATION_REGEX = "\\p{Alnum}+(" + SEPARATOR + "\\p{Alnum}+)*";
 
     public final String tagName;
 
+    private final int id;
+
+    // the shared instance, kept so that the TagDictionary keeps this name's id for as long as this copy is in use
+    private final Tag shared;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,6 +37,17 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName.toLowerCase();
+        this.shared = TagDictionary.intern(this.tagName);
+        this.id = shared.id;
+    }
+
+    /**
+     * Constructs the shared {@code Tag} for {@code tagName}. Only used by the {@link TagDictionary}.
+     */
+    Tag(String tagName, int id) {
+        this.tagName = tagName;
+        this.id = id;
+        this.shared = this;
     }
 
     /**
@@ -32,11 +57,53 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the tag one level above this tag, if this tag is nested in another.
+     */
+    public Optional<Tag> getParent() {
+        int separatorIndex = tagName.lastIndexOf(SEPARATOR);
+        return separatorIndex == -1
+                ? Optional.empty()
+                : Optional.of(TagDictionary.intern(tagName.substring(0, separatorIndex)));
+    }
+
+    /**
+     * Returns this tag and all the tags it is nested in, from this tag up to the top level.
+     */
+    public List<Tag> getSelfAndAncestors() {
+        List<Tag> tags = new ArrayList<>();
+        for (Optional<Tag> tag = Optional.of(this); tag.isPresent(); tag = tag.get().getParent()) {
+            tags.add(tag.get());
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the number of levels this tag is nested in, which is 0 for a top level tag.
+     */
+    public int getDepth() {
+        return (int) tagName.chars().filter(c -> c == SEPARATOR.charAt(0)).count();
+    }
+
+    /**
+     * Returns true if this tag is {@code ancestor} or is nested in it at any level.
+     */
+    public boolean isWithin(Tag ancestor) {
+        return equals(ancestor) || tagName.startsWith(ancestor.tagName + SEPARATOR);
+    }
+
+    /**
+     * Returns the shared instance of this tag, which items keep instead of their own copies.
+     */
+    public Tag intern() {
+        return shared;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equals(((Tag) other).tagName)); // state check
+                && id == ((Tag) other).id); // ids are unique per tag name
     }
 
     @Override
@@ -55,4 +122,8 @@ public class Tag {
         return tagName;
     }
 
+    public int getId() {
+        return id;
+    }
+
 }
@@ -0,0 +1,58 @@
+package seedu.address.model.tag;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gives every distinct tag name a small integer id and keeps one shared {@code Tag} instance per name, so that
+ * items with the same tags share the same objects and tags are compared by their ids.
+ * The shared tags are only weakly held, so a name that no item or query uses any more, such as one only typed into
+ * a filter, is forgotten. Ids are never reused, and are only meaningful while the application is running.
+ */
+final class TagDictionary {
+
+    private static final Map<String, SharedTagReference> tagsByName = new HashMap<>();
+    private static final ReferenceQueue<Tag> unusedTags = new ReferenceQueue<>();
+    private static int nextId = 0;
+
+    private TagDictionary() {} // prevents instantiation
+
+    /**
+     * Returns the shared tag with the given name, which must be valid and in lower case, creating it with the next
+     * free id if no tag with this name is in use.
+     */
+    static synchronized Tag intern(String tagName) {
+        removeUnusedTags();
+        SharedTagReference reference = tagsByName.get(tagName);
+        Tag tag = reference == null ? null : reference.get();
+        if (tag == null) {
+            tag = new Tag(tagName, nextId++);
+            tagsByName.put(tagName, new SharedTagReference(tag, unusedTags));
+        }
+        return tag;
+    }
+
+    /**
+     * Removes the names whose shared tags have been collected, unless the name has been given a new tag since.
+     */
+    private static void removeUnusedTags() {
+        for (SharedTagReference reference = (SharedTagReference) unusedTags.poll(); reference != null;
+                reference = (SharedTagReference) unusedTags.poll()) {
+            tagsByName.remove(reference.tagName, reference);
+        }
+    }
+
+    /**
+     * A weak reference to a shared tag that remembers its name, so that its entry can be removed once it is collected.
+     */
+    private static class SharedTagReference extends WeakReference<Tag> {
+        private final String tagName;
+
+        SharedTagReference(Tag tag, ReferenceQueue<Tag> queue) {
+            super(tag, queue);
+            this.tagName = tag.tagName;
+        }
+    }
+}
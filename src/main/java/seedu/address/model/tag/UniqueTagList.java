@@ -3,8 +3,13 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,31 +18,46 @@ import seedu.address.model.tag.exceptions.DuplicateTagException;
 /**
  * A list of tags that enforces uniqueness between its elements and does not allow nulls.
  * A tag is considered unique by comparing using {@code Tag#equals(Tag)}.
+ * The tags are kept sorted by their names.
  *
  * Supports a minimal set of list operations.
  */
 public class UniqueTagList implements Iterable<Tag> {
 
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(Tag::getTagName);
+
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tag> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // kept in sync with internalList so that a tag is found by its name without scanning the list
+    private final Set<Tag> tagIndex = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent tag as the given argument.
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return tagIndex.contains(toCheck);
     }
 
     /**
-     * Adds a tag to the list.
-     * The StudyBuddyProItem must not already exist in the list.
+     * Adds a tag to the list at its sorted position, unless the list already contains it.
      */
     public void add(Tag toAdd) {
         requireNonNull(toAdd);
-        if (!contains(toAdd)) {
-            internalList.add(toAdd);
+        if (tagIndex.add(toAdd)) {
+            int insertionPoint = -Collections.binarySearch(internalList, toAdd, TAG_NAME_ORDER) - 1;
+            internalList.add(insertionPoint, toAdd);
+        }
+    }
+
+    /**
+     * Removes a tag from the list, if the list contains it.
+     */
+    public void remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        if (tagIndex.remove(toRemove)) {
+            internalList.remove(Collections.binarySearch(internalList, toRemove, TAG_NAME_ORDER));
         }
     }
 
@@ -47,6 +67,8 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void setTags(UniqueTagList replacement) {
         requireNonNull(replacement);
+        tagIndex.clear();
+        tagIndex.addAll(replacement.tagIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -56,11 +78,16 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public void setTags(List<Tag> tags) {
         requireAllNonNull(tags);
-        if (!tagsAreUnique(tags)) {
+        Set<Tag> newTagIndex = new HashSet<>(tags);
+        if (newTagIndex.size() != tags.size()) {
             throw new DuplicateTagException();
         }
 
-        internalList.setAll(tags);
+        List<Tag> sortedTags = new ArrayList<>(tags);
+        sortedTags.sort(TAG_NAME_ORDER);
+        tagIndex.clear();
+        tagIndex.addAll(newTagIndex);
+        internalList.setAll(sortedTags);
     }
 
     /**
@@ -68,8 +95,18 @@ public class UniqueTagList implements Iterable<Tag> {
      * @param tags The list of {@code tags} to be added.
      */
     public void addAllTags(List<Tag> tags) {
+        requireAllNonNull(tags);
+        List<Tag> added = new ArrayList<>();
         for (Tag t : tags) {
-            this.add(t);
+            if (tagIndex.add(t)) {
+                added.add(t);
+            }
+        }
+        if (!added.isEmpty()) {
+            List<Tag> sortedTags = new ArrayList<>(internalList);
+            sortedTags.addAll(added);
+            sortedTags.sort(TAG_NAME_ORDER);
+            internalList.setAll(sortedTags);
         }
     }
 
@@ -82,7 +119,8 @@ public class UniqueTagList implements Iterable<Tag> {
 
     @Override
     public Iterator<Tag> iterator() {
-        return internalList.iterator();
+        // removing through the iterator would bypass the index
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -96,18 +134,4 @@ public class UniqueTagList implements Iterable<Tag> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean tagsAreUnique(List<Tag> tags) {
-        for (int i = 0; i < tags.size() - 1; i++) {
-            for (int j = i + 1; j < tags.size(); j++) {
-                if (tags.get(i).equals(tags.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
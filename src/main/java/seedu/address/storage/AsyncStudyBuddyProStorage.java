@@ -0,0 +1,341 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.CheatSheetDataConversionException;
+import seedu.address.commons.exceptions.FlashcardDataConversionException;
+import seedu.address.commons.exceptions.NoteDataConversionException;
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
+import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
+import seedu.address.model.ReadOnlyStudyBuddyProNotes;
+
+/**
+ * A {@code StudyBuddyProStorage} that hands saves over to a background writer thread, so the caller does not
+ * wait for the disk. Saves requested within the coalescing window of each other are combined into one write.
+ * Only the unsaved changes are copied for the writer if the underlying storage can save them on their own.
+ * If the disk falls behind by more than the maximum lag, callers are blocked until it catches up.
+ * A write that fails is kept and tried again together with later saves, so that no change is lost.
+ */
+public class AsyncStudyBuddyProStorage implements StudyBuddyProStorage {
+
+    public static final long DEFAULT_COALESCING_MILLIS = 200;
+    public static final long DEFAULT_MAX_LAG_MILLIS = 5000;
+    public static final long RETRY_DELAY_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStudyBuddyProStorage.class);
+
+    private final StudyBuddyProStorage storage;
+    private final long coalescingMillis;
+    private final long maxLagMillis;
+    private final Thread writerThread;
+    private final Object lock = new Object();
+
+    // all fields below are guarded by lock
+    private StudyBuddyProSnapshot pendingSnapshot;
+    private long pendingSince;
+    private long retryAfter;
+    private boolean isWriting = false;
+    private boolean isWritingData = false;
+    private boolean isFlushRequested = false;
+    private boolean isClosed = false;
+    private IOException lastFailure;
+
+    public AsyncStudyBuddyProStorage(StudyBuddyProStorage storage) {
+        this(storage, DEFAULT_COALESCING_MILLIS, DEFAULT_MAX_LAG_MILLIS);
+    }
+
+    /**
+     * Creates an asynchronous storage that writes through {@code storage}.
+     * @param storage storage the saves are written to. Cannot be null.
+     * @param coalescingMillis how long a save waits for further saves to combine with.
+     * @param maxLagMillis how long a save may wait for the disk before further saves block.
+     */
+    public AsyncStudyBuddyProStorage(StudyBuddyProStorage storage, long coalescingMillis, long maxLagMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.coalescingMillis = coalescingMillis;
+        this.maxLagMillis = maxLagMillis;
+        writerThread = new Thread(this::runWriter, "storage-writer");
+        // saves still pending at exit are written by flushStudyBuddyPro, which MainApp#stop calls
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public Path getCheatSheetFilePath() {
+        return storage.getCheatSheetFilePath();
+    }
+
+    @Override
+    public Path getFlashcardFilePath() {
+        return storage.getFlashcardFilePath();
+    }
+
+    @Override
+    public Path getNoteFilePath() {
+        return storage.getNoteFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards()
+            throws FlashcardDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProFlashcards();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards(Path flashcardFilePath)
+            throws FlashcardDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProFlashcards(flashcardFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes()
+            throws NoteDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProNotes();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes(Path notesFilePath)
+            throws NoteDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProNotes(notesFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets()
+            throws CheatSheetDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProCheatSheets();
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets(Path cheatSheetsFilePath)
+            throws CheatSheetDataConversionException, IOException {
+        awaitPendingSaves();
+        return storage.readStudyBuddyProCheatSheets(cheatSheetsFilePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code studyBuddyPro} to be written in the background and returns immediately,
+     * unless the disk has fallen too far behind. The snapshot holds only the unsaved changes if they are all the
+     * underlying storage needs.
+     * @throws IOException if an earlier background write failed. The snapshot is queued all the same, and the failed
+     *     write is tried again with it.
+     */
+    @Override
+    public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+        requireNonNull(studyBuddyPro);
+
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IOException("Storage writer has been closed");
+            }
+            // changes on their own cannot follow data that is still to be written, which may yet fail and be requeued
+            boolean isDataPending = (pendingSnapshot != null && pendingSnapshot.hasData()) || isWritingData;
+            StudyBuddyProSnapshot snapshot = !isDataPending && storage.canSaveChangesOnly(studyBuddyPro)
+                    ? StudyBuddyProSnapshot.ofChanges(studyBuddyPro)
+                    : new StudyBuddyProSnapshot(studyBuddyPro);
+            queue(snapshot);
+            lock.notifyAll();
+            throwLastFailure();
+
+            if (isWriting && System.currentTimeMillis() - pendingSince > maxLagMillis) {
+                logger.warning("Disk is falling behind, waiting for pending saves to be written");
+                awaitWrites();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code studyBuddyPro} to the given paths right away, after any saves still pending.
+     */
+    @Override
+    public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro, Path flashcardFilePath, Path noteFilePath,
+                                  Path cheatsheetFilePath) throws IOException {
+        flushStudyBuddyPro();
+        storage.saveStudyBuddyPro(studyBuddyPro, flashcardFilePath, noteFilePath, cheatsheetFilePath);
+    }
+
+    /**
+     * Writes any pending save without waiting for the coalescing window and waits until it is done.
+     * @throws IOException if a background write failed.
+     */
+    @Override
+    public void flushStudyBuddyPro() throws IOException {
+        synchronized (lock) {
+            isFlushRequested = true;
+            lock.notifyAll();
+            awaitWrites();
+        }
+        storage.flushStudyBuddyPro();
+    }
+
+    /**
+     * Writes any pending save right away and waits until it is done, so that a read sees it. Unlike
+     * {@link #flushStudyBuddyPro()}, returns at once if nothing is pending, and does not flush the underlying storage,
+     * which reads see anyway.
+     * @throws IOException if a background write failed.
+     */
+    private void awaitPendingSaves() throws IOException {
+        synchronized (lock) {
+            if (pendingSnapshot == null && !isWriting) {
+                return;
+            }
+            isFlushRequested = true;
+            lock.notifyAll();
+            awaitWrites();
+        }
+    }
+
+    /**
+     * Flushes pending saves and stops the writer thread.
+     */
+    public void close() throws IOException {
+        try {
+            flushStudyBuddyPro();
+        } finally {
+            synchronized (lock) {
+                isClosed = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Adds {@code snapshot} to the pending snapshot, as a save following it. Must be called while holding
+     * {@code lock}.
+     */
+    private void queue(StudyBuddyProSnapshot snapshot) {
+        if (pendingSnapshot == null) {
+            pendingSnapshot = snapshot;
+            pendingSince = System.currentTimeMillis();
+        } else {
+            pendingSnapshot = pendingSnapshot.mergeWith(snapshot);
+        }
+    }
+
+    /**
+     * Waits until there is nothing pending or being written, or a write has failed. Must be called while holding
+     * {@code lock}.
+     */
+    private void awaitWrites() throws IOException {
+        try {
+            while ((pendingSnapshot != null || isWriting) && lastFailure == null && writerThread.isAlive()) {
+                lock.wait();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", ie);
+        }
+        throwLastFailure();
+    }
+
+    /**
+     * Throws the failure of the last background write, if any, so that it is reported only once.
+     * Must be called while holding {@code lock}.
+     */
+    private void throwLastFailure() throws IOException {
+        if (lastFailure != null) {
+            IOException failure = lastFailure;
+            lastFailure = null;
+            throw failure;
+        }
+    }
+
+    /**
+     * Body of the writer thread, which writes pending snapshots once their coalescing window has passed.
+     */
+    private void runWriter() {
+        while (true) {
+            StudyBuddyProSnapshot snapshot;
+            synchronized (lock) {
+                try {
+                    while (!isReadyToWrite()) {
+                        if (isClosed && pendingSnapshot == null) {
+                            return;
+                        }
+                        long remainingMillis = pendingSnapshot == null
+                                ? 0
+                                : Math.max(pendingSince + coalescingMillis, retryAfter) - System.currentTimeMillis();
+                        lock.wait(Math.max(remainingMillis, 1));
+                    }
+                } catch (InterruptedException ie) {
+                    logger.warning("Storage writer interrupted, pending saves are written by the next flush");
+                    return;
+                }
+                snapshot = pendingSnapshot;
+                pendingSnapshot = null;
+                isWriting = true;
+                isWritingData = snapshot.hasData();
+            }
+
+            long startTime = System.currentTimeMillis();
+            IOException failure = null;
+            try {
+                if (snapshot.hasData()) {
+                    storage.saveStudyBuddyPro(snapshot);
+                } else {
+                    storage.saveStudyBuddyProChanges(snapshot.getUnsavedChanges().get());
+                }
+            } catch (IOException ioe) {
+                logger.warning("Could not save data in the background: " + ioe);
+                failure = ioe;
+            }
+            logger.fine("Background save took " + (System.currentTimeMillis() - startTime) + "ms");
+
+            synchronized (lock) {
+                isWriting = false;
+                isWritingData = false;
+                if (failure != null) {
+                    lastFailure = failure;
+                    requeueFailed(snapshot);
+                    // a failed write is retried after a delay, or on the next flush, rather than right away
+                    retryAfter = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+                    isFlushRequested = false;
+                }
+                if (pendingSnapshot == null) {
+                    isFlushRequested = false;
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Puts the {@code failed} snapshot back in front of any snapshot queued while it was being written, so that it is
+     * written again with them. Once the storage is closed it is given up on. Must be called while holding
+     * {@code lock}.
+     */
+    private void requeueFailed(StudyBuddyProSnapshot failed) {
+        if (isClosed) {
+            logger.warning("Storage writer closed, giving up on the data that could not be saved");
+            return;
+        }
+        StudyBuddyProSnapshot later = pendingSnapshot;
+        pendingSnapshot = null;
+        queue(failed);
+        if (later != null) {
+            queue(later);
+        }
+    }
+
+    /**
+     * Returns true if the pending snapshot should be written now. Must be called while holding {@code lock}.
+     */
+    private boolean isReadyToWrite() {
+        long now = System.currentTimeMillis();
+        return pendingSnapshot != null
+                && (isFlushRequested || isClosed
+                || (now - pendingSince >= coalescingMillis && now >= retryAfter));
+    }
+}
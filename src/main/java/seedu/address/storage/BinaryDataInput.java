@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the contents of a binary data file written by {@link BinaryDataOutput}.
+ * A file starts with a header of the magic bytes, the format version and the kind of records it holds, followed by
+ * the string table and the length-prefixed records. A log has no string table, and its records run to its end.
+ */
+class BinaryDataInput {
+
+    static final byte[] MAGIC = {'S', 'B', 'P', 'B'};
+    static final byte VERSION = 1;
+    static final int LOG_HEADER_LENGTH = MAGIC.length + 2;
+
+    static final String MESSAGE_INVALID_FILE = "Data file is not a valid StudyBuddyPro binary file!";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is not supported!";
+    static final String MESSAGE_CORRUPTED_FILE = "Data file is truncated or corrupted!";
+
+    private static final int UNKNOWN_RECORD_COUNT = -1;
+
+    private final ByteBuffer file;
+    private final String[] strings;
+    private final int recordCount;
+    private int recordsRead = 0;
+    private ByteBuffer record;
+
+    /**
+     * Reads the header and string table of {@code data}.
+     * @param kind the kind of records the file must hold.
+     * @throws IllegalValueException if the file is not a binary data file of that kind and version.
+     */
+    BinaryDataInput(byte[] data, byte kind) throws IllegalValueException {
+        file = ByteBuffer.wrap(data);
+        try {
+            readHeader(file, kind);
+
+            int stringCount = readLength(file);
+            if (stringCount > file.remaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            strings = new String[stringCount];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = readString(file);
+            }
+            recordCount = readLength(file);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    private BinaryDataInput(ByteBuffer log) {
+        file = log;
+        strings = new String[0];
+        recordCount = UNKNOWN_RECORD_COUNT;
+    }
+
+    /**
+     * Reads the header of {@code data}, a log written with {@link BinaryDataOutput#writeLogHeaderTo}.
+     * @param kind the kind of records the log must hold.
+     * @throws IllegalValueException if the file is not a log of that kind and version.
+     */
+    static BinaryDataInput forLog(byte[] data, byte kind) throws IllegalValueException {
+        ByteBuffer log = ByteBuffer.wrap(data);
+        try {
+            readHeader(log, kind);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return new BinaryDataInput(log);
+    }
+
+    /**
+     * Reads the records of a log that start right at the beginning of {@code records}, which is the part of the log
+     * after its header or after any record.
+     */
+    static BinaryDataInput forLogRecords(byte[] records) {
+        return new BinaryDataInput(ByteBuffer.wrap(records));
+    }
+
+    private static void readHeader(ByteBuffer file, byte kind) throws IllegalValueException {
+        byte[] magic = new byte[MAGIC.length];
+        file.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+        byte version = file.get();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (file.get() != kind) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE);
+        }
+    }
+
+    /**
+     * Moves to the next record, returning false if there are no more records.
+     */
+    boolean nextRecord() throws IllegalValueException {
+        if (record != null && record.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        if (recordCount == UNKNOWN_RECORD_COUNT && !file.hasRemaining()) {
+            return false;
+        }
+        if (recordsRead == recordCount) {
+            if (file.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return false;
+        }
+        try {
+            int length = readLength(file);
+            record = file.slice();
+            record.limit(length);
+            file.position(file.position() + length);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        recordsRead++;
+        return true;
+    }
+
+    /**
+     * Skips the fields of the current record that have not been read, so that the next record can be read after one
+     * that could not be.
+     */
+    void skipRecord() {
+        record.position(record.limit());
+    }
+
+    /**
+     * Returns true if all fields of the current record have been read.
+     * Fields added to a kind of record after the first version are written at its end, so that records of older
+     * files simply end before them.
+     */
+    boolean isEndOfRecord() {
+        return !record.hasRemaining();
+    }
+
+    /**
+     * Returns the position in the file just after the current record, or after the header before the first record.
+     */
+    int getPosition() {
+        return file.position();
+    }
+
+    int getStringCount() {
+        return strings.length;
+    }
+
+    String getString(int index) {
+        return strings[index];
+    }
+
+    /**
+     * Reads a non-negative varint from the current record.
+     */
+    int readVarInt() throws IllegalValueException {
+        try {
+            return readLength(record);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Reads a zigzag-encoded varint from the current record.
+     */
+    long readZigZag() throws IllegalValueException {
+        try {
+            long zigZag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = record.get();
+                zigZag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            // handled below
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+    }
+
+    /**
+     * Reads a double written in 8 bytes from the current record.
+     */
+    double readDouble() throws IllegalValueException {
+        try {
+            return record.getDouble();
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed UTF-8 string from the current record.
+     */
+    String readString() throws IllegalValueException {
+        try {
+            return readString(record);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Reads an index into the string table from the current record and returns its string.
+     */
+    String readStringRef() throws IllegalValueException {
+        return strings[readStringIndex()];
+    }
+
+    /**
+     * Reads an index into the string table from the current record.
+     */
+    int readStringIndex() throws IllegalValueException {
+        int index = readVarInt();
+        if (index >= strings.length) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return index;
+    }
+
+    private static int readLength(ByteBuffer buffer) throws IllegalValueException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readLength(buffer);
+        if (length > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
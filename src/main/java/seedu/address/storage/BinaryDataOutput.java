@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the contents of a binary data file in memory.
+ * Integers are written as varints, and strings written with {@link #writeStringRef(String)} are stored once in a
+ * string table shared by all records and referred to by their index.
+ */
+class BinaryDataOutput {
+
+    private final ByteArrayOutputStream records = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream();
+    private final Map<String, Integer> stringIndexes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private int recordCount = 0;
+
+    /**
+     * Writes {@code value}, which must not be negative, in as few bytes as it needs.
+     */
+    void writeVarInt(int value) {
+        assert value >= 0;
+        writeVarInt(record, value);
+    }
+
+    /**
+     * Writes {@code value}, which may be negative, in as few bytes as its magnitude needs.
+     */
+    void writeZigZag(long value) {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            record.write((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        record.write((int) zigZag);
+    }
+
+    /**
+     * Writes {@code value} in 8 bytes, big-endian.
+     */
+    void writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            record.write((int) (bits >>> shift) & 0xFF);
+        }
+    }
+
+    /**
+     * Writes {@code value} inline as length-prefixed UTF-8.
+     */
+    void writeString(String value) {
+        writeString(record, value);
+    }
+
+    /**
+     * Writes the index of {@code value} in the string table, adding it to the table if needed.
+     */
+    void writeStringRef(String value) {
+        Integer index = stringIndexes.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndexes.put(value, index);
+        }
+        writeVarInt(record, index);
+    }
+
+    /**
+     * Ends the current record, prefixing it with its length.
+     */
+    void endRecord() {
+        writeVarInt(records, record.size());
+        records.writeBytes(record.toByteArray());
+        record.reset();
+        recordCount++;
+    }
+
+    /**
+     * Writes the header, the string table and the records to {@code out}.
+     */
+    void writeTo(OutputStream out, byte kind) throws IOException {
+        assert record.size() == 0 : "last record was not ended";
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(BinaryDataInput.MAGIC, 0, BinaryDataInput.MAGIC.length);
+        header.write(BinaryDataInput.VERSION);
+        header.write(kind);
+        writeVarInt(header, strings.size());
+        for (String string : strings) {
+            writeString(header, string);
+        }
+        writeVarInt(header, recordCount);
+        header.writeTo(out);
+        records.writeTo(out);
+    }
+
+    /**
+     * Writes only the records to {@code out}, to be appended to a log started by {@link #writeLogHeaderTo}.
+     */
+    void writeRecordsTo(OutputStream out) throws IOException {
+        assert record.size() == 0 : "last record was not ended";
+        assert strings.isEmpty() : "records of a log cannot refer to a string table";
+        records.writeTo(out);
+    }
+
+    /**
+     * Writes the header of a log of records of the given {@code kind} to {@code out}. Unlike a data file, a log has
+     * no string table or record count, so that records can be appended to it without rewriting it.
+     */
+    static void writeLogHeaderTo(OutputStream out, byte kind) throws IOException {
+        out.write(BinaryDataInput.MAGIC);
+        out.write(BinaryDataInput.VERSION);
+        out.write(kind);
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+}
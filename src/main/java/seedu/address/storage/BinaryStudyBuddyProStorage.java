@@ -0,0 +1,436 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.CheatSheetDataConversionException;
+import seedu.address.commons.exceptions.FlashcardDataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.NoteDataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
+import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
+import seedu.address.model.ReadOnlyStudyBuddyProNotes;
+import seedu.address.model.StudyBuddyItem;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.Answer;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.ScheduleIncrement;
+import seedu.address.model.flashcard.Statistics;
+import seedu.address.model.flashcard.Title;
+import seedu.address.model.flashcard.scheduler.ReviewState;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access StudyBuddyPro data stored as compact binary files on the hard disk.
+ * Titles and tags are stored once per file in a string table, and statistics dates as epoch days, which makes
+ * the files smaller and faster to load than their JSON equivalents.
+ */
+public class BinaryStudyBuddyProStorage implements StudyBuddyProStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    static final byte KIND_FLASHCARDS = 'F';
+    static final byte KIND_NOTES = 'N';
+    static final byte KIND_CHEATSHEETS = 'C';
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStudyBuddyProStorage.class);
+
+    private Path cheatSheetFilePath;
+    private Path flashcardFilePath;
+    private Path noteFilePath;
+
+    /**
+     * Creates a storage that keeps flashcards, notes and cheatsheets in the three given files.
+     * @param flashcardFilePath cannot be null.
+     * @param noteFilePath cannot be null.
+     * @param cheatSheetFilePath cannot be null.
+     */
+    public BinaryStudyBuddyProStorage(Path flashcardFilePath, Path noteFilePath, Path cheatSheetFilePath) {
+        requireNonNull(flashcardFilePath);
+        requireNonNull(noteFilePath);
+        requireNonNull(cheatSheetFilePath);
+        this.cheatSheetFilePath = cheatSheetFilePath;
+        this.flashcardFilePath = flashcardFilePath;
+        this.noteFilePath = noteFilePath;
+    }
+
+    /**
+     * Returns {@code filePath} with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getCheatSheetFilePath() {
+        return cheatSheetFilePath;
+    }
+
+    public Path getFlashcardFilePath() {
+        return flashcardFilePath;
+    }
+
+    public Path getNoteFilePath() {
+        return noteFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards()
+            throws FlashcardDataConversionException, IOException {
+        return readStudyBuddyProFlashcards(flashcardFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards(Path flashcardFilePath)
+            throws FlashcardDataConversionException, IOException {
+        requireNonNull(flashcardFilePath);
+        if (!FileUtil.isFileExists(flashcardFilePath)) {
+            return Optional.empty();
+        }
+
+        StudyBuddyPro studyBuddyProWithReadFlashcards = new StudyBuddyPro();
+        try {
+            BinaryDataInput input = new BinaryDataInput(Files.readAllBytes(flashcardFilePath), KIND_FLASHCARDS);
+            Tag[] tags = new Tag[input.getStringCount()];
+            List<Flashcard> readFlashcards = new ArrayList<>();
+            while (input.nextRecord()) {
+                readFlashcards.add(readFlashcard(input, tags));
+            }
+            JsonSerializableFlashcard.loadFlashcards(studyBuddyProWithReadFlashcards, readFlashcards);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + flashcardFilePath + ": " + ive.getMessage());
+            throw new FlashcardDataConversionException(ive);
+        }
+        return Optional.of(studyBuddyProWithReadFlashcards);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes()
+            throws NoteDataConversionException, IOException {
+        return readStudyBuddyProNotes(noteFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes(Path notesFilePath)
+            throws NoteDataConversionException, IOException {
+        requireNonNull(notesFilePath);
+        if (!FileUtil.isFileExists(notesFilePath)) {
+            return Optional.empty();
+        }
+
+        StudyBuddyPro studyBuddyProWithReadNotes = new StudyBuddyPro();
+        try {
+            BinaryDataInput input = new BinaryDataInput(Files.readAllBytes(notesFilePath), KIND_NOTES);
+            Tag[] tags = new Tag[input.getStringCount()];
+            List<Note> readNotes = new ArrayList<>();
+            while (input.nextRecord()) {
+                readNotes.add(readNote(input, tags));
+            }
+            JsonSerializableNote.loadNotes(studyBuddyProWithReadNotes, readNotes);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + notesFilePath + ": " + ive.getMessage());
+            throw new NoteDataConversionException(ive);
+        }
+        return Optional.of(studyBuddyProWithReadNotes);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets()
+            throws CheatSheetDataConversionException, IOException {
+        return readStudyBuddyProCheatSheets(cheatSheetFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets(Path cheatSheetsFilePath)
+            throws CheatSheetDataConversionException, IOException {
+        requireNonNull(cheatSheetsFilePath);
+        if (!FileUtil.isFileExists(cheatSheetsFilePath)) {
+            return Optional.empty();
+        }
+
+        StudyBuddyPro studyBuddyProWithReadCheatSheets = new StudyBuddyPro();
+        try {
+            BinaryDataInput input = new BinaryDataInput(Files.readAllBytes(cheatSheetsFilePath), KIND_CHEATSHEETS);
+            Tag[] tags = new Tag[input.getStringCount()];
+            List<CheatSheet> readCheatSheets = new ArrayList<>();
+            while (input.nextRecord()) {
+                readCheatSheets.add(readCheatSheet(input, tags));
+            }
+            JsonSerializableCheatSheet.loadCheatSheets(studyBuddyProWithReadCheatSheets, readCheatSheets);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + cheatSheetsFilePath + ": " + ive.getMessage());
+            throw new CheatSheetDataConversionException(ive);
+        }
+        return Optional.of(studyBuddyProWithReadCheatSheets);
+    }
+
+    @Override
+    public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+        saveStudyBuddyPro(studyBuddyPro, flashcardFilePath, noteFilePath, cheatSheetFilePath);
+    }
+
+    /**
+     * Similar to {@link #saveStudyBuddyPro(ReadOnlyStudyBuddyPro)}.
+     * @param flashcardFilePath location of the data. Cannot be null.
+     * @param noteFilePath location of the data. Cannot be null.
+     * @param cheatSheetFilePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro, Path flashcardFilePath,
+                                  Path noteFilePath, Path cheatSheetFilePath) throws IOException {
+        requireNonNull(studyBuddyPro);
+        requireNonNull(flashcardFilePath);
+        requireNonNull(noteFilePath);
+        requireNonNull(cheatSheetFilePath);
+
+        ParallelFileWriter writer = new ParallelFileWriter();
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isFlashcardsModified(), flashcardFilePath)) {
+            writer.add(() -> {
+                BinaryDataOutput output = new BinaryDataOutput();
+                for (Flashcard flashcard : studyBuddyPro.getFlashcardList()) {
+                    writeFlashcard(output, flashcard);
+                }
+                writeFile(output, KIND_FLASHCARDS, flashcardFilePath);
+            });
+        }
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isNotesModified(), noteFilePath)) {
+            writer.add(() -> {
+                BinaryDataOutput output = new BinaryDataOutput();
+                for (Note note : studyBuddyPro.getNoteList()) {
+                    writeNote(output, note);
+                }
+                writeFile(output, KIND_NOTES, noteFilePath);
+            });
+        }
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isCheatSheetsModified(), cheatSheetFilePath)) {
+            writer.add(() -> {
+                BinaryDataOutput output = new BinaryDataOutput();
+                for (CheatSheet cheatSheet : studyBuddyPro.getCheatSheetList()) {
+                    writeCheatSheet(output, cheatSheet);
+                }
+                writeFile(output, KIND_CHEATSHEETS, cheatSheetFilePath);
+            });
+        }
+        writer.writeAll();
+    }
+
+    /**
+     * Writes the file to a temporary file first and then moves it into place, so that a crash never leaves a
+     * partially written data file.
+     */
+    private static void writeFile(BinaryDataOutput output, byte kind, Path filePath) throws IOException {
+        Path temporaryFilePath = DataFileUtil.toTemporaryPath(filePath);
+        FileUtil.createParentDirsOfFile(temporaryFilePath);
+        try (OutputStream out = Files.newOutputStream(temporaryFilePath)) {
+            output.writeTo(out, kind);
+        }
+        DataFileUtil.replaceWithTemporary(filePath);
+    }
+
+    private static void writeFlashcard(BinaryDataOutput output, Flashcard flashcard) {
+        Statistics statistics = flashcard.getStatistics();
+        output.writeStringRef(flashcard.getTitle().fullTitle);
+        output.writeString(flashcard.getQuestion().fullQuestion);
+        output.writeString(flashcard.getAnswer().fullAnswer);
+        output.writeZigZag(statistics.getLastViewed().toEpochDay());
+        output.writeZigZag(statistics.getToViewNext().toEpochDay());
+        output.writeVarInt(statistics.getCurrentIncrement().ordinal());
+        writeTags(output, flashcard.getTags());
+        output.writeZigZag(flashcard.getId());
+        writeReviewState(output, statistics.getReviewState());
+        output.endRecord();
+    }
+
+    /**
+     * Writes {@code reviewState} to the current record of {@code output}.
+     */
+    static void writeReviewState(BinaryDataOutput output, ReviewState reviewState) {
+        output.writeDouble(reviewState.getEase());
+        output.writeDouble(reviewState.getStability());
+        output.writeDouble(reviewState.getDifficulty());
+        output.writeVarInt(reviewState.getRepetitions());
+        output.writeVarInt(reviewState.getLapses());
+        output.writeVarInt(reviewState.getIntervalDays());
+    }
+
+    private static Flashcard readFlashcard(BinaryDataInput input, Tag[] tags) throws IllegalValueException {
+        String title = input.readStringRef();
+        if (!Title.isValidTitle(title)) {
+            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
+        }
+        String question = input.readString();
+        if (!Question.isValidQuestion(question)) {
+            throw new IllegalValueException(Question.MESSAGE_CONSTRAINTS);
+        }
+        String answer = input.readString();
+        if (!Answer.isValidAnswer(answer)) {
+            throw new IllegalValueException(Answer.MESSAGE_CONSTRAINTS);
+        }
+
+        LocalDate lastViewed;
+        LocalDate toViewNext;
+        try {
+            lastViewed = LocalDate.ofEpochDay(input.readZigZag());
+            toViewNext = LocalDate.ofEpochDay(input.readZigZag());
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+        }
+        if (!lastViewed.isBefore(toViewNext)) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+        }
+        int increment = input.readVarInt();
+        if (increment >= ScheduleIncrement.values().length) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<Tag> flashcardTags = readTags(input, tags);
+        long id = readId(input);
+        ReviewState reviewState = readReviewState(input, ScheduleIncrement.values()[increment]);
+        Statistics statistics = Statistics.fromReviewState(lastViewed, toViewNext, reviewState);
+        return new Flashcard(id, new Question(question), new Answer(answer),
+                new Title(title), statistics, flashcardTags);
+    }
+
+    /**
+     * Reads the review state at the end of a flashcard record, or works it out from {@code increment} for records
+     * written before flashcards had a review state.
+     */
+    private static ReviewState readReviewState(BinaryDataInput input, ScheduleIncrement increment)
+            throws IllegalValueException {
+        if (input.isEndOfRecord()) {
+            return ReviewState.fromIncrement(increment);
+        }
+        return readReviewState(input);
+    }
+
+    /**
+     * Reads a review state written by {@link #writeReviewState(BinaryDataOutput, ReviewState)}.
+     */
+    static ReviewState readReviewState(BinaryDataInput input) throws IllegalValueException {
+        double ease = input.readDouble();
+        double stability = input.readDouble();
+        double difficulty = input.readDouble();
+        int repetitions = input.readVarInt();
+        int lapses = input.readVarInt();
+        int intervalDays = input.readVarInt();
+        if (!ReviewState.isValidReviewState(ease, stability, difficulty, repetitions, lapses, intervalDays)) {
+            throw new IllegalValueException(ReviewState.MESSAGE_CONSTRAINTS);
+        }
+        return new ReviewState(ease, stability, difficulty, repetitions, lapses, intervalDays);
+    }
+
+    private static void writeNote(BinaryDataOutput output, Note note) {
+        output.writeStringRef(note.getTitle().fullTitle);
+        output.writeString(note.getContent().fullContent);
+        writeTags(output, note.getTags());
+        output.writeZigZag(note.getId());
+        output.endRecord();
+    }
+
+    private static Note readNote(BinaryDataInput input, Tag[] tags) throws IllegalValueException {
+        String title = input.readStringRef();
+        if (!seedu.address.model.note.Title.isValidTitle(title)) {
+            throw new IllegalValueException(seedu.address.model.note.Title.MESSAGE_CONSTRAINTS);
+        }
+        String content = input.readString();
+        if (!seedu.address.model.note.Content.isValidContent(content)) {
+            throw new IllegalValueException(seedu.address.model.note.Content.MESSAGE_CONSTRAINTS);
+        }
+        Set<Tag> noteTags = readTags(input, tags);
+        return new Note(readId(input), new seedu.address.model.note.Title(title),
+                new seedu.address.model.note.Content(content), noteTags);
+    }
+
+    private static void writeCheatSheet(BinaryDataOutput output, CheatSheet cheatSheet) {
+        output.writeStringRef(cheatSheet.getTitle().fullTitle);
+        output.writeVarInt(cheatSheet.getContents().size());
+        for (seedu.address.model.cheatsheet.Content content : cheatSheet.getContents()) {
+            output.writeString(content.content);
+            writeTags(output, content.getTags());
+        }
+        writeTags(output, cheatSheet.getTags());
+        output.writeZigZag(cheatSheet.getId());
+        output.endRecord();
+    }
+
+    private static CheatSheet readCheatSheet(BinaryDataInput input, Tag[] tags) throws IllegalValueException {
+        String title = input.readStringRef();
+        if (!seedu.address.model.cheatsheet.Title.isValidTitle(title)) {
+            throw new IllegalValueException(seedu.address.model.cheatsheet.Title.MESSAGE_CONSTRAINTS);
+        }
+        int contentCount = input.readVarInt();
+        Set<seedu.address.model.cheatsheet.Content> contents = new HashSet<>();
+        for (int i = 0; i < contentCount; i++) {
+            String content = input.readString();
+            if (!seedu.address.model.cheatsheet.Content.isValidContent(content)) {
+                throw new IllegalValueException(seedu.address.model.cheatsheet.Content.MESSAGE_CONSTRAINTS);
+            }
+            contents.add(new seedu.address.model.cheatsheet.Content(content, readTags(input, tags)));
+        }
+        Set<Tag> cheatSheetTags = readTags(input, tags);
+        return new CheatSheet(readId(input), new seedu.address.model.cheatsheet.Title(title), contents,
+                cheatSheetTags);
+    }
+
+    /**
+     * Reads the id at the end of a record, or allocates a new id for records written before items had ids.
+     */
+    private static long readId(BinaryDataInput input) throws IllegalValueException {
+        if (input.isEndOfRecord()) {
+            return StudyBuddyItem.allocateId();
+        }
+        long id = input.readZigZag();
+        if (!StudyBuddyItem.isValidId(id)) {
+            throw new IllegalValueException(StudyBuddyItem.MESSAGE_ID_CONSTRAINTS);
+        }
+        return id;
+    }
+
+    private static void writeTags(BinaryDataOutput output, Set<Tag> tags) {
+        output.writeVarInt(tags.size());
+        for (Tag tag : tags) {
+            output.writeStringRef(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a set of tags, creating each distinct tag of the file only once.
+     * @param tags the tags created so far, indexed by their position in the string table.
+     */
+    private static Set<Tag> readTags(BinaryDataInput input, Tag[] tags) throws IllegalValueException {
+        int tagCount = input.readVarInt();
+        Set<Tag> readTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            int index = input.readStringIndex();
+            if (tags[index] == null) {
+                String tagName = input.getString(index);
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags[index] = new Tag(tagName);
+            }
+            readTags.add(tags[index]);
+        }
+        return readTags;
+    }
+}
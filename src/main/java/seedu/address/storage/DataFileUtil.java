@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Helper functions shared by the storages of the StudyBuddyPro data files.
+ */
+class DataFileUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileUtil.class);
+
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Returns true if the file at {@code filePath} has to be rewritten, i.e. its collection has changed
+     * or the file does not exist yet.
+     */
+    static boolean isSaveNeeded(boolean isModified, Path filePath) {
+        if (!isModified && FileUtil.isFileExists(filePath)) {
+            logger.fine("Skipping save of unchanged file " + filePath);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the path a new version of the file at {@code filePath} is written to before it replaces the file.
+     */
+    static Path toTemporaryPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + TEMPORARY_SUFFIX);
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with its temporary file in one step where the file system allows it, so
+     * that a crash leaves either the old or the new file.
+     */
+    static void replaceWithTemporary(Path filePath) throws IOException {
+        try {
+            Files.move(toTemporaryPath(filePath), filePath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(toTemporaryPath(filePath), filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.CheatSheetDataConversionException;
+import seedu.address.commons.exceptions.FlashcardDataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.NoteDataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
+import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
+import seedu.address.model.ReadOnlyStudyBuddyProNotes;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.StudyBuddyProChange;
+import seedu.address.model.StudyBuddyProChange.Operation;
+import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.note.Note;
+
+/**
+ * A {@code StudyBuddyProStorage} that appends every change to a journal file instead of rewriting all data.
+ * Reviews of flashcards, which only change their statistics, are appended to a compact binary {@link ReviewLog}
+ * instead, which also keeps the whole review history.
+ * Once the journal and the reviews since the last snapshot grow past a threshold, they are compacted in the background
+ * into the snapshot kept by another {@code StudyBuddyProStorage}. Reading returns the snapshot with the journal and
+ * then the reviews replayed on top of it.
+ */
+public class JournaledStudyBuddyProStorage implements StudyBuddyProStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledStudyBuddyProStorage.class);
+
+    private static final String COMPACTING_SUFFIX = ".compacting";
+
+    private final StudyBuddyProStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final Path compactingJournalFilePath;
+    private final ReviewLog reviewLog;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor;
+
+    // all fields below are guarded by this storage, as saves and compactions may be started from different threads,
+    // and the volatile ones can also be read without it by canSaveChangesOnly
+    private volatile int journalEntryCount = -1;
+    private volatile int reviewCountSinceCheckpoint = -1;
+    private volatile boolean isSnapshotPresent = false;
+    private Future<?> pendingCompaction;
+    // the entries of the journal by type, parsed once for the reads of all types, or null once the journal changes
+    private Map<String, List<JsonAdaptedJournalEntry>> journalEntriesByType;
+
+    public JournaledStudyBuddyProStorage(StudyBuddyProStorage snapshotStorage, Path journalFilePath,
+                                         Path reviewLogFilePath) {
+        this(snapshotStorage, journalFilePath, reviewLogFilePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a journaled storage on top of {@code snapshotStorage}.
+     * @param snapshotStorage storage holding the compacted data. Cannot be null.
+     * @param journalFilePath location of the journal. Cannot be null.
+     * @param reviewLogFilePath location of the review log. Cannot be null.
+     * @param compactionThreshold number of journal entries and reviews after which the journal is compacted.
+     */
+    public JournaledStudyBuddyProStorage(StudyBuddyProStorage snapshotStorage, Path journalFilePath,
+                                         Path reviewLogFilePath, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        requireNonNull(reviewLogFilePath);
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.compactingJournalFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName()
+                + COMPACTING_SUFFIX);
+        this.reviewLog = new ReviewLog(reviewLogFilePath);
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compaction");
+            // an interrupted compaction is safe to abandon, the rotated journal is only deleted once it is done
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public Path getReviewLogFilePath() {
+        return reviewLog.getFilePath();
+    }
+
+    @Override
+    public Path getCheatSheetFilePath() {
+        return snapshotStorage.getCheatSheetFilePath();
+    }
+
+    @Override
+    public Path getFlashcardFilePath() {
+        return snapshotStorage.getFlashcardFilePath();
+    }
+
+    @Override
+    public Path getNoteFilePath() {
+        return snapshotStorage.getNoteFilePath();
+    }
+
+    //=========== Reading ====================================================================================
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards()
+            throws FlashcardDataConversionException, IOException {
+        Optional<ReadOnlyStudyBuddyProFlashcards> snapshot = snapshotStorage.readStudyBuddyProFlashcards();
+        List<JsonAdaptedJournalEntry> entries = readJournal(JsonAdaptedJournalEntry.TYPE_FLASHCARD);
+        List<ReviewEvent> reviewEvents;
+        try {
+            reviewEvents = reviewLog.readSinceCheckpoint();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + reviewLog.getFilePath() + ": " + ive.getMessage());
+            throw new FlashcardDataConversionException(ive);
+        }
+        synchronized (this) {
+            reviewCountSinceCheckpoint = reviewEvents.size();
+        }
+        if (entries.isEmpty() && reviewEvents.isEmpty()) {
+            return snapshot;
+        }
+
+        LinkedHashMap<String, Flashcard> flashcards = new LinkedHashMap<>();
+        snapshot.ifPresent(data -> data.getFlashcardList().forEach(flashcard ->
+                flashcards.put(flashcard.getTitle().toString(), flashcard)));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                Operation operation = entry.getOperation();
+                replay(flashcards, operation, entry.getTarget(),
+                        operation == Operation.REMOVE ? null : entry.toModelFlashcard(),
+                        flashcard -> flashcard.getTitle().toString());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new FlashcardDataConversionException(ive);
+        }
+        replayReviews(flashcards, reviewEvents);
+
+        StudyBuddyPro studyBuddyProWithReadFlashcards = new StudyBuddyPro();
+        studyBuddyProWithReadFlashcards.loadFlashcards(new ArrayList<>(flashcards.values()));
+        return Optional.of(studyBuddyProWithReadFlashcards);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards(Path flashcardFilePath)
+            throws FlashcardDataConversionException, IOException {
+        return snapshotStorage.readStudyBuddyProFlashcards(flashcardFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes()
+            throws NoteDataConversionException, IOException {
+        Optional<ReadOnlyStudyBuddyProNotes> snapshot = snapshotStorage.readStudyBuddyProNotes();
+        List<JsonAdaptedJournalEntry> entries = readJournal(JsonAdaptedJournalEntry.TYPE_NOTE);
+        if (entries.isEmpty()) {
+            return snapshot;
+        }
+
+        LinkedHashMap<String, Note> notes = new LinkedHashMap<>();
+        snapshot.ifPresent(data -> data.getNoteList().forEach(note -> notes.put(note.getTitle().toString(), note)));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                Operation operation = entry.getOperation();
+                replay(notes, operation, entry.getTarget(),
+                        operation == Operation.REMOVE ? null : entry.toModelNote(), note -> note.getTitle().toString());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new NoteDataConversionException(ive);
+        }
+
+        StudyBuddyPro studyBuddyProWithReadNotes = new StudyBuddyPro();
+        studyBuddyProWithReadNotes.loadNotes(new ArrayList<>(notes.values()));
+        return Optional.of(studyBuddyProWithReadNotes);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes(Path notesFilePath)
+            throws NoteDataConversionException, IOException {
+        return snapshotStorage.readStudyBuddyProNotes(notesFilePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets()
+            throws CheatSheetDataConversionException, IOException {
+        Optional<ReadOnlyStudyBuddyProCheatSheets> snapshot = snapshotStorage.readStudyBuddyProCheatSheets();
+        List<JsonAdaptedJournalEntry> entries = readJournal(JsonAdaptedJournalEntry.TYPE_CHEATSHEET);
+        if (entries.isEmpty()) {
+            return snapshot;
+        }
+
+        LinkedHashMap<String, CheatSheet> cheatSheets = new LinkedHashMap<>();
+        snapshot.ifPresent(data -> data.getCheatSheetList().forEach(cheatSheet ->
+                cheatSheets.put(cheatSheet.getTitle().toString(), cheatSheet)));
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                Operation operation = entry.getOperation();
+                replay(cheatSheets, operation, entry.getTarget(),
+                        operation == Operation.REMOVE ? null : entry.toModelCheatSheet(),
+                        cheatSheet -> cheatSheet.getTitle().toString());
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new CheatSheetDataConversionException(ive);
+        }
+
+        StudyBuddyPro studyBuddyProWithReadCheatSheets = new StudyBuddyPro();
+        studyBuddyProWithReadCheatSheets.loadCheatSheets(new ArrayList<>(cheatSheets.values()));
+        return Optional.of(studyBuddyProWithReadCheatSheets);
+    }
+
+    @Override
+    public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets(Path cheatSheetsFilePath)
+            throws CheatSheetDataConversionException, IOException {
+        return snapshotStorage.readStudyBuddyProCheatSheets(cheatSheetsFilePath);
+    }
+
+    /**
+     * Returns every review of a flashcard ever saved, oldest first, including those already compacted.
+     */
+    public List<ReviewEvent> readReviewHistory() throws FlashcardDataConversionException, IOException {
+        try {
+            return reviewLog.readAll();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + reviewLog.getFilePath() + ": " + ive.getMessage());
+            throw new FlashcardDataConversionException(ive);
+        }
+    }
+
+    /**
+     * Gives the flashcards in {@code flashcards}, which are keyed by title, the statistics of their latest review in
+     * {@code reviewEvents}. Reviews of flashcards that no longer exist are skipped.
+     * Statistics only ever change by reviews, and every review holds the statistics it resulted in, so the reviews
+     * can be replayed after the whole journal, and reviews already contained in the snapshot can safely be replayed.
+     */
+    private static void replayReviews(LinkedHashMap<String, Flashcard> flashcards, List<ReviewEvent> reviewEvents) {
+        if (reviewEvents.isEmpty()) {
+            return;
+        }
+        Map<Long, String> titlesById = new HashMap<>();
+        flashcards.forEach((title, flashcard) -> titlesById.put(flashcard.getId(), title));
+        for (ReviewEvent reviewEvent : reviewEvents) {
+            String title = titlesById.get(reviewEvent.getFlashcardId());
+            if (title == null) {
+                continue;
+            }
+            Flashcard flashcard = flashcards.get(title);
+            flashcards.put(title, new Flashcard(flashcard.getId(), flashcard.getQuestion(), flashcard.getAnswer(),
+                    flashcard.getTitle(), reviewEvent.getStatistics(), flashcard.getTags()));
+        }
+    }
+
+    /**
+     * Applies one journal entry to {@code items}, which are keyed by title and kept in list order.
+     * Replaying is idempotent, so entries already contained in the snapshot can safely be applied again.
+     */
+    private static <T> void replay(LinkedHashMap<String, T> items, Operation operation, String target, T item,
+                                   Function<T, String> titleOf) {
+        switch (operation) {
+        case ADD:
+            items.put(titleOf.apply(item), item);
+            break;
+        case SET:
+            String title = titleOf.apply(item);
+            if (target.equals(title) || !items.containsKey(target)) {
+                items.put(title, item);
+                break;
+            }
+            // the title changed, rebuild to keep the item in the position of the one it replaces
+            LinkedHashMap<String, T> reordered = new LinkedHashMap<>();
+            for (Map.Entry<String, T> entry : items.entrySet()) {
+                if (entry.getKey().equals(target)) {
+                    reordered.put(title, item);
+                } else if (!entry.getKey().equals(title)) {
+                    reordered.put(entry.getKey(), entry.getValue());
+                }
+            }
+            items.clear();
+            items.putAll(reordered);
+            break;
+        case REMOVE:
+            items.remove(target);
+            break;
+        default:
+            assert false : "Unknown journal operation";
+        }
+    }
+
+    /**
+     * Returns the entries of the given {@code type} in the journal, in the order they were appended.
+     */
+    private List<JsonAdaptedJournalEntry> readJournal(String type) throws IOException {
+        return readJournal().getOrDefault(type, Collections.emptyList());
+    }
+
+    /**
+     * Returns the entries in the journal by their type, including a journal left over from a compaction that did not
+     * finish. The journal is parsed only once for the reads of all types, until it changes. Reading stops at the
+     * first unreadable line, which can only be the partially written last entry of a crash.
+     */
+    private synchronized Map<String, List<JsonAdaptedJournalEntry>> readJournal() throws IOException {
+        if (journalEntriesByType != null) {
+            return journalEntriesByType;
+        }
+
+        Map<String, List<JsonAdaptedJournalEntry>> entries = new HashMap<>();
+        for (Path path : List.of(compactingJournalFilePath, journalFilePath)) {
+            if (!FileUtil.isFileExists(path)) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    JsonAdaptedJournalEntry entry;
+                    try {
+                        entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                    } catch (IOException ioe) {
+                        logger.warning("Ignoring unreadable journal entry in " + path + ": " + ioe.getMessage());
+                        break;
+                    }
+                    entries.computeIfAbsent(entry.getType(), unused -> new ArrayList<>()).add(entry);
+                }
+            }
+        }
+        journalEntriesByType = entries;
+        return entries;
+    }
+
+    //=========== Saving =====================================================================================
+
+    /**
+     * Appends the unsaved changes of {@code studyBuddyPro} to the journal, and its reviews to the review log. If the
+     * changes are not known, the journal and reviews have grown too many or there is no snapshot yet, the data is
+     * compacted into a new snapshot.
+     */
+    @Override
+    public synchronized void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+        requireNonNull(studyBuddyPro);
+
+        Optional<List<StudyBuddyProChange>> changes = studyBuddyPro.getUnsavedChanges();
+        if (!changes.isPresent() || !isSnapshotPresent()) {
+            if (changes.isPresent()) {
+                // keep the reviews in the history, the snapshot will contain their statistics
+                appendToReviewLog(changes.get());
+            }
+            // all data has to be written, so wait for it to be safely on disk
+            compact(studyBuddyPro);
+            awaitCompaction();
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        appendToReviewLog(changes.get());
+        appendToJournal(changes.get());
+        if (getJournalEntryCount() + getReviewCountSinceCheckpoint() >= compactionThreshold) {
+            compact(studyBuddyPro);
+        }
+    }
+
+    /**
+     * Returns true if the unsaved changes of {@code studyBuddyPro} can be appended to the journal without a
+     * compaction. Does not wait for saves in progress, so it may be answered from counts that are slightly behind.
+     */
+    @Override
+    public boolean canSaveChangesOnly(ReadOnlyStudyBuddyPro studyBuddyPro) {
+        requireNonNull(studyBuddyPro);
+        Optional<List<StudyBuddyProChange>> changes = studyBuddyPro.getUnsavedChanges();
+        int entryCount = journalEntryCount;
+        int reviewCount = reviewCountSinceCheckpoint;
+        // counts that are not read yet are left to the next save of all data
+        return changes.isPresent() && isSnapshotPresent && entryCount >= 0 && reviewCount >= 0
+                && entryCount + reviewCount + changes.get().size() < compactionThreshold;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, and their reviews to the review log. A compaction they make due is left
+     * to the next save of all data.
+     */
+    @Override
+    public synchronized void saveStudyBuddyProChanges(List<StudyBuddyProChange> changes) throws IOException {
+        requireNonNull(changes);
+        appendToReviewLog(changes);
+        appendToJournal(changes);
+    }
+
+    @Override
+    public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro, Path flashcardFilePath, Path noteFilePath,
+                                  Path cheatsheetFilePath) throws IOException {
+        snapshotStorage.saveStudyBuddyPro(studyBuddyPro, flashcardFilePath, noteFilePath, cheatsheetFilePath);
+    }
+
+    @Override
+    public synchronized void flushStudyBuddyPro() throws IOException {
+        awaitCompaction();
+        snapshotStorage.flushStudyBuddyPro();
+    }
+
+    /**
+     * Waits for any compaction still running in the background to finish.
+     */
+    public synchronized void awaitCompaction() throws IOException {
+        Future<?> compaction = pendingCompaction;
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compacting " + journalFilePath, ie);
+        } catch (ExecutionException ee) {
+            throw new IOException("Could not compact " + journalFilePath, ee.getCause());
+        } finally {
+            // only forget the compaction that was waited for, never one started in the meantime
+            if (pendingCompaction == compaction) {
+                pendingCompaction = null;
+            }
+        }
+    }
+
+    private void appendToReviewLog(List<StudyBuddyProChange> changes) throws IOException {
+        List<ReviewEvent> reviewEvents = new ArrayList<>();
+        for (StudyBuddyProChange change : changes) {
+            change.getReviewEvent().ifPresent(reviewEvents::add);
+        }
+        if (reviewEvents.isEmpty()) {
+            return;
+        }
+
+        int reviewCount = getReviewCountSinceCheckpoint();
+        reviewLog.append(reviewEvents);
+        reviewCountSinceCheckpoint = reviewCount + reviewEvents.size();
+    }
+
+    private void appendToJournal(List<StudyBuddyProChange> changes) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        int appendedCount = 0;
+        for (StudyBuddyProChange change : changes) {
+            if (change.getOperation() == Operation.REVIEW) {
+                continue;
+            }
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(change))).append('\n');
+            appendedCount++;
+        }
+        if (appendedCount == 0) {
+            return;
+        }
+
+        int entryCount = getJournalEntryCount();
+        journalEntriesByType = null;
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        journalEntryCount = entryCount + appendedCount;
+    }
+
+    /**
+     * Rotates the journal and writes a snapshot of {@code studyBuddyPro} in the background, then checkpoints the
+     * review log at its current end.
+     * Changes made after this call go to a fresh journal and after the checkpoint, so they are kept even if the
+     * snapshot is never written.
+     */
+    private synchronized void compact(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+        try {
+            awaitCompaction();
+        } catch (IOException ioe) {
+            logger.warning("Previous compaction failed, its journal will be compacted again: " + ioe.getMessage());
+        }
+
+        rotateJournal();
+        long reviewLogCheckpoint = reviewLog.getSize();
+        ReadOnlyStudyBuddyPro snapshot = StudyBuddyProSnapshot.of(studyBuddyPro);
+        logger.fine("Compacting " + journalFilePath + " after " + journalEntryCount + " entries and "
+                + reviewCountSinceCheckpoint + " reviews");
+        journalEntryCount = 0;
+        reviewCountSinceCheckpoint = 0;
+
+        pendingCompaction = compactionExecutor.submit(() -> {
+            writeSnapshot(snapshot);
+            Files.deleteIfExists(compactingJournalFilePath);
+            reviewLog.checkpoint(reviewLogCheckpoint);
+            return null;
+        });
+        isSnapshotPresent = true;
+    }
+
+    /**
+     * Moves the journal aside for compaction, appending it to one left over from an earlier compaction.
+     */
+    private void rotateJournal() throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(compactingJournalFilePath)) {
+            Files.write(compactingJournalFilePath, Files.readAllBytes(journalFilePath), StandardOpenOption.APPEND);
+            Files.delete(journalFilePath);
+        } else {
+            Files.move(journalFilePath, compactingJournalFilePath);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to temporary files first, so that a crash never leaves a partially written snapshot.
+     */
+    private void writeSnapshot(ReadOnlyStudyBuddyPro snapshot) throws IOException {
+        Path flashcardFilePath = snapshotStorage.getFlashcardFilePath();
+        Path noteFilePath = snapshotStorage.getNoteFilePath();
+        Path cheatSheetFilePath = snapshotStorage.getCheatSheetFilePath();
+
+        // left over temporary files would otherwise be taken as up to date for unmodified collections
+        Files.deleteIfExists(DataFileUtil.toTemporaryPath(flashcardFilePath));
+        Files.deleteIfExists(DataFileUtil.toTemporaryPath(noteFilePath));
+        Files.deleteIfExists(DataFileUtil.toTemporaryPath(cheatSheetFilePath));
+        snapshotStorage.saveStudyBuddyPro(snapshot, DataFileUtil.toTemporaryPath(flashcardFilePath),
+                DataFileUtil.toTemporaryPath(noteFilePath), DataFileUtil.toTemporaryPath(cheatSheetFilePath));
+        DataFileUtil.replaceWithTemporary(flashcardFilePath);
+        DataFileUtil.replaceWithTemporary(noteFilePath);
+        DataFileUtil.replaceWithTemporary(cheatSheetFilePath);
+    }
+
+    private int getJournalEntryCount() throws IOException {
+        if (journalEntryCount < 0) {
+            journalEntryCount = FileUtil.isFileExists(journalFilePath)
+                    ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8).size()
+                    : 0;
+        }
+        return journalEntryCount;
+    }
+
+    private int getReviewCountSinceCheckpoint() throws IOException {
+        if (reviewCountSinceCheckpoint < 0) {
+            try {
+                reviewCountSinceCheckpoint = reviewLog.readSinceCheckpoint().size();
+            } catch (IllegalValueException ive) {
+                throw new IOException(reviewLog.getFilePath() + " is not a review log: " + ive.getMessage(), ive);
+            }
+        }
+        return reviewCountSinceCheckpoint;
+    }
+
+    private boolean isSnapshotPresent() {
+        if (!isSnapshotPresent) {
+            isSnapshotPresent = FileUtil.isFileExists(snapshotStorage.getFlashcardFilePath())
+                    && FileUtil.isFileExists(snapshotStorage.getNoteFilePath())
+                    && FileUtil.isFileExists(snapshotStorage.getCheatSheetFilePath());
+        }
+        return isSnapshotPresent;
+    }
+}
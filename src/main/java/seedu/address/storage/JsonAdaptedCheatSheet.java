@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.StudyBuddyItem;
 import seedu.address.model.cheatsheet.CheatSheet;
 import seedu.address.model.cheatsheet.Content;
 import seedu.address.model.cheatsheet.Title;
@@ -24,17 +25,20 @@ public class JsonAdaptedCheatSheet {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "CheatSheet's %s field is missing!";
 
+    private final Long id;
     private final String title;
     private final List<JsonAdaptedCheatSheetContent> contents = new ArrayList<>();
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedCheatSheet} with the given cheatsheet details.
+     * Files written before items had ids have no id, in which case a new one is given when loading.
      */
     @JsonCreator
-    public JsonAdaptedCheatSheet(@JsonProperty("title") String title,
+    public JsonAdaptedCheatSheet(@JsonProperty("id") Long id, @JsonProperty("title") String title,
                                 @JsonProperty("contents") List<JsonAdaptedCheatSheetContent> contents,
                                 @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.title = title;
         if (contents != null) {
             this.contents.addAll(contents);
@@ -48,6 +52,7 @@ public class JsonAdaptedCheatSheet {
      * Converts a given {@code CheatSheet} into this class for Jackson use.
      */
     public JsonAdaptedCheatSheet(CheatSheet source) {
+        id = source.getId();
         title = source.getTitle().fullTitle;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -84,7 +89,13 @@ public class JsonAdaptedCheatSheet {
         final Title modelTitle = new Title(title);
         final Set<Content> modelContents = new HashSet<>(cheatSheetContents);
         final Set<Tag> modelTags = new HashSet<>(cheatSheetTags);
-        return new CheatSheet(modelTitle, modelContents, modelTags);
+        if (id == null) {
+            return new CheatSheet(modelTitle, modelContents, modelTags);
+        }
+        if (!StudyBuddyItem.isValidId(id)) {
+            throw new IllegalValueException(StudyBuddyItem.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new CheatSheet(id, modelTitle, modelContents, modelTags);
     }
 
 }
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.StudyBuddyItem;
 import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.Question;
@@ -29,30 +30,59 @@ class JsonAdaptedFlashcard {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Flashcard's %s field is missing!";
     public static final String MISSING_STATISTICS_FIELD_MESSAGE_FORMAT = "Statistic's %s field is missing!";
 
+    private final Long id;
     private final String question;
     private final String answer;
     private final String title;
     private final String statisticsLastViewed;
     private final String statisticsToViewNext;
     private final String statisticsCurrentIncrement;
+    private final JsonAdaptedReviewState statisticsReviewState;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedFlashcard} with the given person details.
+     * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details and no id.
+     */
+    public JsonAdaptedFlashcard(String question, String answer, String title, String statisticsLastViewed,
+                                String statisticsToViewNext, String statisticsCurrentIncrement,
+                                List<JsonAdaptedTag> tagged) {
+        this(null, question, answer, title, statisticsLastViewed, statisticsToViewNext, statisticsCurrentIncrement,
+                tagged);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details and no review state.
+     */
+    public JsonAdaptedFlashcard(Long id, String question, String answer, String title, String statisticsLastViewed,
+                                String statisticsToViewNext, String statisticsCurrentIncrement,
+                                List<JsonAdaptedTag> tagged) {
+        this(id, question, answer, title, statisticsLastViewed, statisticsToViewNext, statisticsCurrentIncrement,
+                null, tagged);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedFlashcard} with the given flashcard details.
+     * Files written before items had ids have no id, in which case a new one is given when loading.
+     * Files written before flashcards had a review state only have the increment of the flashcard, from which the
+     * review state is worked out when loading.
      */
     @JsonCreator
-    public JsonAdaptedFlashcard(@JsonProperty("question") String question, @JsonProperty("answer") String answer,
+    public JsonAdaptedFlashcard(@JsonProperty("id") Long id,
+                                @JsonProperty("question") String question, @JsonProperty("answer") String answer,
                                 @JsonProperty("title") String title,
                                 @JsonProperty("statisticsLastViewed") String statisticsLastViewed,
                                 @JsonProperty("statisticsToViewNext") String statisticsToViewNext,
                                 @JsonProperty("statisticsCurrentIncrement") String statisticsCurrentIncrement,
+                                @JsonProperty("statisticsReviewState") JsonAdaptedReviewState statisticsReviewState,
                                 @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.question = question;
         this.answer = answer;
         this.title = title;
         this.statisticsLastViewed = statisticsLastViewed;
         this.statisticsToViewNext = statisticsToViewNext;
         this.statisticsCurrentIncrement = statisticsCurrentIncrement;
+        this.statisticsReviewState = statisticsReviewState;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
@@ -62,12 +92,14 @@ class JsonAdaptedFlashcard {
      * Converts a given {@code Flashcard} into this class for Jackson use.
      */
     public JsonAdaptedFlashcard(Flashcard source) {
+        id = source.getId();
         question = source.getQuestion().fullQuestion;
         answer = source.getAnswer().fullAnswer;
         title = source.getTitle().fullTitle;
         statisticsLastViewed = source.getStatistics().getLastViewed().toString();
         statisticsToViewNext = source.getStatistics().getToViewNext().toString();
         statisticsCurrentIncrement = source.getStatistics().getCurrentIncrement().toString();
+        statisticsReviewState = new JsonAdaptedReviewState(source.getStatistics().getReviewState());
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -88,11 +120,19 @@ class JsonAdaptedFlashcard {
                 throw new IllegalValueException(String.format(MISSING_STATISTICS_FIELD_MESSAGE_FORMAT,
                         "toViewNext"));
             }
+            LocalDate lastViewed = LocalDate.parse(statisticsLastViewed);
+            LocalDate toViewNext = LocalDate.parse(statisticsToViewNext);
+            if (!lastViewed.isBefore(toViewNext)) {
+                throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+            }
+            if (statisticsReviewState != null) {
+                return Statistics.fromReviewState(lastViewed, toViewNext, statisticsReviewState.toModelType());
+            }
             if (statisticsCurrentIncrement == null) {
                 throw new IllegalValueException((String.format(MISSING_STATISTICS_FIELD_MESSAGE_FORMAT,
                         "currentIncrement")));
             }
-            return new Statistics(LocalDate.parse(statisticsLastViewed), LocalDate.parse(statisticsToViewNext),
+            return new Statistics(lastViewed, toViewNext,
                     ScheduleIncrement.getScheduleIncrementFromString(statisticsCurrentIncrement));
         } catch (StringToScheduleIncrementConversionException e) {
             throw new IllegalValueException(e.getMessage());
@@ -141,7 +181,13 @@ class JsonAdaptedFlashcard {
         final Statistics modelStatistics = toModelTypeHelper();
 
         final Set<Tag> modelTags = new HashSet<>(flashcardTags);
-        return new Flashcard(modelQuestion, modelAnswer, modelTitle, modelStatistics, modelTags);
+        if (id == null) {
+            return new Flashcard(modelQuestion, modelAnswer, modelTitle, modelStatistics, modelTags);
+        }
+        if (!StudyBuddyItem.isValidId(id)) {
+            throw new IllegalValueException(StudyBuddyItem.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Flashcard(id, modelQuestion, modelAnswer, modelTitle, modelStatistics, modelTags);
     }
 
 }
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.StudyBuddyItem;
+import seedu.address.model.StudyBuddyProChange;
+import seedu.address.model.StudyBuddyProChange.Operation;
+import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.note.Note;
+
+/**
+ * Jackson-friendly version of {@link StudyBuddyProChange}, stored as one line of the journal file.
+ * Items are identified by their title, which is unique within each collection.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String TYPE_FLASHCARD = "flashcard";
+    public static final String TYPE_NOTE = "note";
+    public static final String TYPE_CHEATSHEET = "cheatsheet";
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal entry is missing or has invalid fields!";
+
+    private final String operation;
+    private final String type;
+    private final String target;
+    private final JsonAdaptedFlashcard flashcard;
+    private final JsonAdaptedNote note;
+    private final JsonAdaptedCheatSheet cheatSheet;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("type") String type,
+                                   @JsonProperty("target") String target,
+                                   @JsonProperty("flashcard") JsonAdaptedFlashcard flashcard,
+                                   @JsonProperty("note") JsonAdaptedNote note,
+                                   @JsonProperty("cheatSheet") JsonAdaptedCheatSheet cheatSheet) {
+        this.operation = operation;
+        this.type = type;
+        this.target = target;
+        this.flashcard = flashcard;
+        this.note = note;
+        this.cheatSheet = cheatSheet;
+    }
+
+    /**
+     * Converts a given {@code StudyBuddyProChange} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(StudyBuddyProChange source) {
+        StudyBuddyItem item = source.getItem().orElse(null);
+        StudyBuddyItem targetItem = source.getTarget().orElse(null);
+        StudyBuddyItem anyItem = item != null ? item : targetItem;
+
+        operation = source.getOperation().name();
+        target = targetItem == null ? null : getTitle(targetItem);
+        if (anyItem instanceof Flashcard) {
+            type = TYPE_FLASHCARD;
+        } else if (anyItem instanceof Note) {
+            type = TYPE_NOTE;
+        } else {
+            type = TYPE_CHEATSHEET;
+        }
+        flashcard = item instanceof Flashcard ? new JsonAdaptedFlashcard((Flashcard) item) : null;
+        note = item instanceof Note ? new JsonAdaptedNote((Note) item) : null;
+        cheatSheet = item instanceof CheatSheet ? new JsonAdaptedCheatSheet((CheatSheet) item) : null;
+    }
+
+    /**
+     * Returns the title identifying {@code item} in its collection.
+     */
+    public static String getTitle(StudyBuddyItem item) {
+        if (item instanceof Flashcard) {
+            return ((Flashcard) item).getTitle().toString();
+        } else if (item instanceof Note) {
+            return ((Note) item).getTitle().toString();
+        } else {
+            return ((CheatSheet) item).getTitle().toString();
+        }
+    }
+
+    /**
+     * Returns the operation of this entry.
+     *
+     * @throws IllegalValueException if the operation or the fields it needs are missing.
+     */
+    public Operation getOperation() throws IllegalValueException {
+        Operation modelOperation;
+        try {
+            modelOperation = Operation.valueOf(String.valueOf(operation));
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        if (modelOperation != Operation.ADD && target == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        return modelOperation;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the title of the item replaced or removed by this entry, or null for additions.
+     */
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * Converts the flashcard of this entry into the model's {@code Flashcard} object.
+     *
+     * @throws IllegalValueException if the flashcard is missing or any data constraints were violated.
+     */
+    public Flashcard toModelFlashcard() throws IllegalValueException {
+        if (flashcard == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        return flashcard.toModelType();
+    }
+
+    /**
+     * Converts the note of this entry into the model's {@code Note} object.
+     *
+     * @throws IllegalValueException if the note is missing or any data constraints were violated.
+     */
+    public Note toModelNote() throws IllegalValueException {
+        if (note == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        return note.toModelType();
+    }
+
+    /**
+     * Converts the cheatsheet of this entry into the model's {@code CheatSheet} object.
+     *
+     * @throws IllegalValueException if the cheatsheet is missing or any data constraints were violated.
+     */
+    public CheatSheet toModelCheatSheet() throws IllegalValueException {
+        if (cheatSheet == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_ENTRY);
+        }
+        return cheatSheet.toModelType();
+    }
+}
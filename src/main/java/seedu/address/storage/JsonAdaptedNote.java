@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.StudyBuddyItem;
 import seedu.address.model.note.Content;
 import seedu.address.model.note.Note;
 import seedu.address.model.note.Title;
@@ -22,16 +23,27 @@ class JsonAdaptedNote {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Note's %s field is missing!";
 
+    private final Long id;
     private final String title;
     private final String content;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedNote} with the given person details.
+     * Constructs a {@code JsonAdaptedNote} with the given note details and no id.
+     */
+    public JsonAdaptedNote(String title, String content, List<JsonAdaptedTag> tagged) {
+        this(null, title, content, tagged);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedNote} with the given note details.
+     * Files written before items had ids have no id, in which case a new one is given when loading.
      */
     @JsonCreator
-    public JsonAdaptedNote(@JsonProperty("title") String title, @JsonProperty("content") String content,
+    public JsonAdaptedNote(@JsonProperty("id") Long id, @JsonProperty("title") String title,
+                           @JsonProperty("content") String content,
                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.title = title;
         this.content = content;
         if (tagged != null) {
@@ -43,6 +55,7 @@ class JsonAdaptedNote {
      * Converts a given {@code Note} into this class for Jackson use.
      */
     public JsonAdaptedNote(Note source) {
+        id = source.getId();
         title = source.getTitle().fullTitle;
         content = source.getContent().fullContent;
         tagged.addAll(source.getTags().stream()
@@ -80,7 +93,13 @@ class JsonAdaptedNote {
         final Content modelContent = new Content(content);
 
         final Set<Tag> modelTags = new HashSet<>(noteTags);
-        return new Note(modelTitle, modelContent, modelTags);
+        if (id == null) {
+            return new Note(modelTitle, modelContent, modelTags);
+        }
+        if (!StudyBuddyItem.isValidId(id)) {
+            throw new IllegalValueException(StudyBuddyItem.MESSAGE_ID_CONSTRAINTS);
+        }
+        return new Note(id, modelTitle, modelContent, modelTags);
     }
 
 }
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.flashcard.scheduler.ReviewState;
+
+/**
+ * Jackson-friendly version of {@link ReviewState}.
+ */
+class JsonAdaptedReviewState {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Review state's %s field is missing!";
+
+    private final Double ease;
+    private final Double stability;
+    private final Double difficulty;
+    private final Integer repetitions;
+    private final Integer lapses;
+    private final Integer intervalDays;
+
+    /**
+     * Constructs a {@code JsonAdaptedReviewState} with the given review state details.
+     */
+    @JsonCreator
+    public JsonAdaptedReviewState(@JsonProperty("ease") Double ease, @JsonProperty("stability") Double stability,
+                                  @JsonProperty("difficulty") Double difficulty,
+                                  @JsonProperty("repetitions") Integer repetitions,
+                                  @JsonProperty("lapses") Integer lapses,
+                                  @JsonProperty("intervalDays") Integer intervalDays) {
+        this.ease = ease;
+        this.stability = stability;
+        this.difficulty = difficulty;
+        this.repetitions = repetitions;
+        this.lapses = lapses;
+        this.intervalDays = intervalDays;
+    }
+
+    /**
+     * Converts a given {@code ReviewState} into this class for Jackson use.
+     */
+    public JsonAdaptedReviewState(ReviewState source) {
+        ease = source.getEase();
+        stability = source.getStability();
+        difficulty = source.getDifficulty();
+        repetitions = source.getRepetitions();
+        lapses = source.getLapses();
+        intervalDays = source.getIntervalDays();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted review state object into the model's {@code ReviewState} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted review state.
+     */
+    public ReviewState toModelType() throws IllegalValueException {
+        requireField(ease, "ease");
+        requireField(stability, "stability");
+        requireField(difficulty, "difficulty");
+        requireField(repetitions, "repetitions");
+        requireField(lapses, "lapses");
+        requireField(intervalDays, "intervalDays");
+        if (!ReviewState.isValidReviewState(ease, stability, difficulty, repetitions, lapses, intervalDays)) {
+            throw new IllegalValueException(ReviewState.MESSAGE_CONSTRAINTS);
+        }
+        return new ReviewState(ease, stability, difficulty, repetitions, lapses, intervalDays);
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+}
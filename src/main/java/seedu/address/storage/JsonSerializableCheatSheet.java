@@ -1,14 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.StudyBuddyPro;
 import seedu.address.model.cheatsheet.CheatSheet;
@@ -21,6 +27,8 @@ class JsonSerializableCheatSheet {
 
     public static final String MESSAGE_DUPLICATE_CHEATSHEET = "Cheatsheet list contains duplicate cheatsheet(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableCheatSheet.class);
+
     private final List<JsonAdaptedCheatSheet> cheatSheets = new ArrayList<>();
 
     /**
@@ -48,14 +56,56 @@ class JsonSerializableCheatSheet {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudyBuddyPro toModelType(StudyBuddyPro studyBuddyPro) throws IllegalValueException {
+        List<CheatSheet> modelCheatSheets = new ArrayList<>(cheatSheets.size());
         for (JsonAdaptedCheatSheet jsonAdaptedCheatSheet : cheatSheets) {
-            CheatSheet cheatSheet = jsonAdaptedCheatSheet.toModelType();
-            if (studyBuddyPro.hasCheatSheet(cheatSheet)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CHEATSHEET);
-            }
-            studyBuddyPro.addCheatSheet(cheatSheet);
+            modelCheatSheets.add(jsonAdaptedCheatSheet.toModelType());
         }
+        loadCheatSheets(studyBuddyPro, modelCheatSheets);
         return studyBuddyPro;
     }
 
+    /**
+     * Reads the cheatsheets in {@code filePath} into {@code studyBuddyPro}, converting them one at a time so the
+     * whole file is never held in memory.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static boolean readCheatSheets(Path filePath, StudyBuddyPro studyBuddyPro)
+            throws DataConversionException, IllegalValueException {
+        List<CheatSheet> readCheatSheets = new ArrayList<>();
+        if (!JsonUtil.readJsonArrayFile(filePath, "cheatSheets", JsonAdaptedCheatSheet.class,
+                jsonAdaptedCheatSheet -> readCheatSheets.add(jsonAdaptedCheatSheet.toModelType()))) {
+            return false;
+        }
+        loadCheatSheets(studyBuddyPro, readCheatSheets);
+        return true;
+    }
+
+    /**
+     * Saves the cheatsheets of {@code source} to {@code filePath}, converting and writing them one at a time.
+     * @param isCompact if true, the file is written without indentation.
+     */
+    public static void saveCheatSheets(ReadOnlyStudyBuddyPro source, Path filePath, boolean isCompact)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, "cheatSheets", () -> source.getCheatSheetList().stream()
+                .map(JsonAdaptedCheatSheet::new).iterator(), isCompact);
+    }
+
+    /**
+     * Adds all {@code cheatSheets} to {@code studyBuddyPro} at once.
+     * @throws IllegalValueException if any of them are duplicates, after logging every duplicate.
+     */
+    static void loadCheatSheets(StudyBuddyPro studyBuddyPro, List<CheatSheet> cheatSheets)
+            throws IllegalValueException {
+        List<CheatSheet> duplicates = studyBuddyPro.loadCheatSheets(cheatSheets);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        for (CheatSheet duplicate : duplicates) {
+            logger.warning("Duplicate cheatsheet found: " + duplicate.getTitle());
+        }
+        throw new IllegalValueException(MESSAGE_DUPLICATE_CHEATSHEET);
+    }
+
 }
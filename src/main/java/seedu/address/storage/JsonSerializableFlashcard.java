@@ -1,14 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.StudyBuddyPro;
 import seedu.address.model.flashcard.Flashcard;
@@ -21,6 +27,8 @@ class JsonSerializableFlashcard {
 
     public static final String MESSAGE_DUPLICATE_FLASHCARD = "Flashcard list contains duplicate flashcard(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableFlashcard.class);
+
     private final List<JsonAdaptedFlashcard> flashcards = new ArrayList<>();
 
     /**
@@ -48,14 +56,55 @@ class JsonSerializableFlashcard {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudyBuddyPro toModelType(StudyBuddyPro studyBuddyPro) throws IllegalValueException {
+        List<Flashcard> modelFlashcards = new ArrayList<>(flashcards.size());
         for (JsonAdaptedFlashcard jsonAdaptedFlashcard : flashcards) {
-            Flashcard flashcard = jsonAdaptedFlashcard.toModelType();
-            if (studyBuddyPro.hasFlashcard(flashcard)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
-            }
-            studyBuddyPro.addFlashcard(flashcard);
+            modelFlashcards.add(jsonAdaptedFlashcard.toModelType());
         }
+        loadFlashcards(studyBuddyPro, modelFlashcards);
         return studyBuddyPro;
     }
 
+    /**
+     * Reads the flashcards in {@code filePath} into {@code studyBuddyPro}, converting them one at a time so the
+     * whole file is never held in memory.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static boolean readFlashcards(Path filePath, StudyBuddyPro studyBuddyPro)
+            throws DataConversionException, IllegalValueException {
+        List<Flashcard> readFlashcards = new ArrayList<>();
+        if (!JsonUtil.readJsonArrayFile(filePath, "flashcards", JsonAdaptedFlashcard.class,
+                jsonAdaptedFlashcard -> readFlashcards.add(jsonAdaptedFlashcard.toModelType()))) {
+            return false;
+        }
+        loadFlashcards(studyBuddyPro, readFlashcards);
+        return true;
+    }
+
+    /**
+     * Saves the flashcards of {@code source} to {@code filePath}, converting and writing them one at a time.
+     * @param isCompact if true, the file is written without indentation.
+     */
+    public static void saveFlashcards(ReadOnlyStudyBuddyPro source, Path filePath, boolean isCompact)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, "flashcards", () -> source.getFlashcardList().stream()
+                .map(JsonAdaptedFlashcard::new).iterator(), isCompact);
+    }
+
+    /**
+     * Adds all {@code flashcards} to {@code studyBuddyPro} at once.
+     * @throws IllegalValueException if any of them are duplicates, after logging every duplicate.
+     */
+    static void loadFlashcards(StudyBuddyPro studyBuddyPro, List<Flashcard> flashcards) throws IllegalValueException {
+        List<Flashcard> duplicates = studyBuddyPro.loadFlashcards(flashcards);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        for (Flashcard duplicate : duplicates) {
+            logger.warning("Duplicate flashcard found: " + duplicate.getTitle());
+        }
+        throw new IllegalValueException(MESSAGE_DUPLICATE_FLASHCARD);
+    }
+
 }
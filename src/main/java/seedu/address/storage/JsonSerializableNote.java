@@ -1,14 +1,20 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.StudyBuddyPro;
 import seedu.address.model.note.Note;
@@ -21,6 +27,8 @@ class JsonSerializableNote {
 
     public static final String MESSAGE_DUPLICATE_NOTE = "Note list contains duplicate note(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableNote.class);
+
     private final List<JsonAdaptedNote> notes = new ArrayList<>();
 
     /**
@@ -48,14 +56,55 @@ class JsonSerializableNote {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public StudyBuddyPro toModelType(StudyBuddyPro studyBuddyPro) throws IllegalValueException {
+        List<Note> modelNotes = new ArrayList<>(notes.size());
         for (JsonAdaptedNote jsonAdaptedNote : notes) {
-            Note note = jsonAdaptedNote.toModelType();
-            if (studyBuddyPro.hasNote(note)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_NOTE);
-            }
-            studyBuddyPro.addNote(note);
+            modelNotes.add(jsonAdaptedNote.toModelType());
         }
+        loadNotes(studyBuddyPro, modelNotes);
         return studyBuddyPro;
     }
 
+    /**
+     * Reads the notes in {@code filePath} into {@code studyBuddyPro}, converting them one at a time so the
+     * whole file is never held in memory.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static boolean readNotes(Path filePath, StudyBuddyPro studyBuddyPro)
+            throws DataConversionException, IllegalValueException {
+        List<Note> readNotes = new ArrayList<>();
+        if (!JsonUtil.readJsonArrayFile(filePath, "notes", JsonAdaptedNote.class,
+                jsonAdaptedNote -> readNotes.add(jsonAdaptedNote.toModelType()))) {
+            return false;
+        }
+        loadNotes(studyBuddyPro, readNotes);
+        return true;
+    }
+
+    /**
+     * Saves the notes of {@code source} to {@code filePath}, converting and writing them one at a time.
+     * @param isCompact if true, the file is written without indentation.
+     */
+    public static void saveNotes(ReadOnlyStudyBuddyPro source, Path filePath, boolean isCompact)
+            throws IOException {
+        JsonUtil.saveJsonArrayFile(filePath, "notes", () -> source.getNoteList().stream()
+                .map(JsonAdaptedNote::new).iterator(), isCompact);
+    }
+
+    /**
+     * Adds all {@code notes} to {@code studyBuddyPro} at once.
+     * @throws IllegalValueException if any of them are duplicates, after logging every duplicate.
+     */
+    static void loadNotes(StudyBuddyPro studyBuddyPro, List<Note> notes) throws IllegalValueException {
+        List<Note> duplicates = studyBuddyPro.loadNotes(notes);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        for (Note duplicate : duplicates) {
+            logger.warning("Duplicate note found: " + duplicate.getTitle());
+        }
+        throw new IllegalValueException(MESSAGE_DUPLICATE_NOTE);
+    }
+
 }
@@ -14,7 +14,6 @@ import seedu.address.commons.exceptions.FlashcardDataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.exceptions.NoteDataConversionException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
 import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
@@ -31,20 +30,28 @@ public class JsonStudyBuddyProStorage implements StudyBuddyProStorage {
     private Path cheatSheetFilePath;
     private Path flashcardFilePath;
     private Path noteFilePath;
+    private boolean isCompactOutput;
+
+    public JsonStudyBuddyProStorage(Path flashcardFilePath, Path noteFilePath, Path cheatSheetFilePath) {
+        this(flashcardFilePath, noteFilePath, cheatSheetFilePath, false);
+    }
 
     /**
      * New constructor to now take in 3 filepaths, one for each mode
      * @param flashcardFilePath cannot be null.
      * @param noteFilePath cannot be null.
      * @param cheatSheetFilePath cannot be null.
+     * @param isCompactOutput if true, files are saved without indentation to make them smaller and faster to write.
      */
-    public JsonStudyBuddyProStorage(Path flashcardFilePath, Path noteFilePath, Path cheatSheetFilePath) {
+    public JsonStudyBuddyProStorage(Path flashcardFilePath, Path noteFilePath, Path cheatSheetFilePath,
+                                    boolean isCompactOutput) {
         requireNonNull(flashcardFilePath);
         requireNonNull(noteFilePath);
         requireNonNull(cheatSheetFilePath);
         this.cheatSheetFilePath = cheatSheetFilePath;
         this.flashcardFilePath = flashcardFilePath;
         this.noteFilePath = noteFilePath;
+        this.isCompactOutput = isCompactOutput;
     }
 
     public Path getCheatSheetFilePath() {
@@ -69,25 +76,18 @@ public class JsonStudyBuddyProStorage implements StudyBuddyProStorage {
     public Optional<ReadOnlyStudyBuddyProFlashcards> readStudyBuddyProFlashcards(Path flashcardFilePath)
             throws FlashcardDataConversionException {
         requireNonNull(flashcardFilePath);
-        Optional<JsonSerializableFlashcard> jsonFlashcard;
+        StudyBuddyPro studyBuddyProWithReadFlashcards = new StudyBuddyPro();
         try {
-            jsonFlashcard = JsonUtil.readJsonFile(
-                    flashcardFilePath, JsonSerializableFlashcard.class);
+            if (!JsonSerializableFlashcard.readFlashcards(flashcardFilePath, studyBuddyProWithReadFlashcards)) {
+                return Optional.empty();
+            }
         } catch (DataConversionException ex) {
             throw new FlashcardDataConversionException(ex);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + flashcardFilePath + ": " + ive.getMessage());
+            throw new FlashcardDataConversionException(ive);
         }
-        if (!jsonFlashcard.isPresent()) {
-            return Optional.empty();
-        } else {
-            try {
-                StudyBuddyPro studyBuddyProWithReadFlashcards = new StudyBuddyPro();
-                jsonFlashcard.get().toModelType(studyBuddyProWithReadFlashcards);
-                return Optional.of(studyBuddyProWithReadFlashcards);
-            } catch (IllegalValueException ive) {
-                logger.info("Illegal values found in " + flashcardFilePath + ": " + ive.getMessage());
-                throw new FlashcardDataConversionException(ive);
-            }
-        }
+        return Optional.of(studyBuddyProWithReadFlashcards);
     }
 
     @Override
@@ -99,25 +99,18 @@ public class JsonStudyBuddyProStorage implements StudyBuddyProStorage {
     public Optional<ReadOnlyStudyBuddyProNotes> readStudyBuddyProNotes(Path notesFilePath)
             throws NoteDataConversionException {
         requireNonNull(notesFilePath);
-        Optional<JsonSerializableNote> jsonNote;
+        StudyBuddyPro studyBuddyProWithReadNotes = new StudyBuddyPro();
         try {
-            jsonNote = JsonUtil.readJsonFile(
-                    notesFilePath, JsonSerializableNote.class);
+            if (!JsonSerializableNote.readNotes(notesFilePath, studyBuddyProWithReadNotes)) {
+                return Optional.empty();
+            }
         } catch (DataConversionException ex) {
             throw new NoteDataConversionException(ex);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + notesFilePath + ": " + ive.getMessage());
+            throw new NoteDataConversionException(ive);
         }
-        if (!jsonNote.isPresent()) {
-            return Optional.empty();
-        } else {
-            try {
-                StudyBuddyPro studyBuddyProWithReadNotes = new StudyBuddyPro();
-                jsonNote.get().toModelType(studyBuddyProWithReadNotes);
-                return Optional.of(studyBuddyProWithReadNotes);
-            } catch (IllegalValueException ive) {
-                logger.info("Illegal values found in " + notesFilePath + ": " + ive.getMessage());
-                throw new NoteDataConversionException(ive);
-            }
-        }
+        return Optional.of(studyBuddyProWithReadNotes);
     }
 
     @Override
@@ -130,25 +123,18 @@ public class JsonStudyBuddyProStorage implements StudyBuddyProStorage {
     public Optional<ReadOnlyStudyBuddyProCheatSheets> readStudyBuddyProCheatSheets(Path cheatSheetsFilePath)
             throws CheatSheetDataConversionException {
         requireNonNull(cheatSheetsFilePath);
-        Optional<JsonSerializableCheatSheet> jsonCheatSheet;
+        StudyBuddyPro studyBuddyProWithReadCheatSheets = new StudyBuddyPro();
         try {
-            jsonCheatSheet = JsonUtil.readJsonFile(
-                    cheatSheetsFilePath, JsonSerializableCheatSheet.class);
+            if (!JsonSerializableCheatSheet.readCheatSheets(cheatSheetsFilePath, studyBuddyProWithReadCheatSheets)) {
+                return Optional.empty();
+            }
         } catch (DataConversionException ex) {
             throw new CheatSheetDataConversionException(ex);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + cheatSheetsFilePath + ": " + ive.getMessage());
+            throw new CheatSheetDataConversionException(ive);
         }
-        if (!jsonCheatSheet.isPresent()) {
-            return Optional.empty();
-        } else {
-            try {
-                StudyBuddyPro studyBuddyProWithReadCheatSheets = new StudyBuddyPro();
-                jsonCheatSheet.get().toModelType(studyBuddyProWithReadCheatSheets);
-                return Optional.of(studyBuddyProWithReadCheatSheets);
-            } catch (IllegalValueException ive) {
-                logger.info("Illegal values found in " + cheatSheetsFilePath + ": " + ive.getMessage());
-                throw new CheatSheetDataConversionException(ive);
-            }
-        }
+        return Optional.of(studyBuddyProWithReadCheatSheets);
     }
 
     @Override
@@ -169,11 +155,25 @@ public class JsonStudyBuddyProStorage implements StudyBuddyProStorage {
         requireNonNull(noteFilePath);
         requireNonNull(cheatSheetFilePath);
 
-        FileUtil.createIfMissing(flashcardFilePath);
-        FileUtil.createIfMissing(noteFilePath);
-        FileUtil.createIfMissing(cheatSheetFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableFlashcard(studyBuddyPro), flashcardFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableNote(studyBuddyPro), noteFilePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCheatSheet(studyBuddyPro), cheatSheetFilePath);
+        ParallelFileWriter writer = new ParallelFileWriter();
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isFlashcardsModified(), flashcardFilePath)) {
+            writer.add(() -> {
+                FileUtil.createIfMissing(flashcardFilePath);
+                JsonSerializableFlashcard.saveFlashcards(studyBuddyPro, flashcardFilePath, isCompactOutput);
+            });
+        }
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isNotesModified(), noteFilePath)) {
+            writer.add(() -> {
+                FileUtil.createIfMissing(noteFilePath);
+                JsonSerializableNote.saveNotes(studyBuddyPro, noteFilePath, isCompactOutput);
+            });
+        }
+        if (DataFileUtil.isSaveNeeded(studyBuddyPro.isCheatSheetsModified(), cheatSheetFilePath)) {
+            writer.add(() -> {
+                FileUtil.createIfMissing(cheatSheetFilePath);
+                JsonSerializableCheatSheet.saveCheatSheets(studyBuddyPro, cheatSheetFilePath, isCompactOutput);
+            });
+        }
+        writer.writeAll();
     }
 }
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes several data files at the same time, so that saving takes about as long as writing the largest file.
+ */
+class ParallelFileWriter {
+
+    /**
+     * Writes one data file.
+     */
+    @FunctionalInterface
+    interface FileWrite {
+        void write() throws IOException;
+    }
+
+    private static final int MAX_PARALLEL_WRITES = 3;
+
+    private static final ExecutorService executor = Executors.newFixedThreadPool(MAX_PARALLEL_WRITES, runnable -> {
+        Thread thread = new Thread(runnable, "data-file-writer");
+        // the caller always waits for its writes, so no write is left running when the app exits
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<FileWrite> writes = new ArrayList<>();
+
+    void add(FileWrite write) {
+        writes.add(write);
+    }
+
+    /**
+     * Runs all added writes and waits for them to finish.
+     * @throws IOException the failure of the first write that failed, with those of the others suppressed.
+     */
+    void writeAll() throws IOException {
+        if (writes.size() <= 1) {
+            for (FileWrite write : writes) {
+                write.write();
+            }
+            return;
+        }
+
+        List<Future<?>> pendingWrites = new ArrayList<>();
+        for (FileWrite write : writes) {
+            pendingWrites.add(executor.submit(() -> {
+                write.write();
+                return null;
+            }));
+        }
+
+        IOException failure = null;
+        for (Future<?> pendingWrite : pendingWrites) {
+            try {
+                pendingWrite.get();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while writing data files", ie);
+            } catch (ExecutionException ee) {
+                Throwable cause = ee.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                failure = addFailure(failure, (IOException) cause);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static IOException addFailure(IOException failure, IOException newFailure) {
+        if (failure == null) {
+            return newFailure;
+        }
+        failure.addSuppressed(newFailure);
+        return failure;
+    }
+}
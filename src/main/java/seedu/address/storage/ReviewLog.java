@@ -0,0 +1,297 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.flashcard.Statistics;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.ReviewState;
+
+/**
+ * An append-only binary log of the reviews of flashcards, so that a review costs a small append instead of a rewrite
+ * of all flashcards, and the whole review history is kept.
+ * The log is never rewritten. Instead, a checkpoint file records how much of the log is already contained in the last
+ * snapshot of the flashcards, so that only the reviews after it have to be replayed.
+ */
+class ReviewLog {
+
+    static final byte KIND_REVIEWS = 'R';
+
+    private static final Logger logger = LogsCenter.getLogger(ReviewLog.class);
+
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final int VIEWED_GRADE = 0;
+
+    private final Path filePath;
+    private final Path checkpointFilePath;
+
+    private boolean isTailChecked = false;
+
+    /**
+     * Creates a review log kept at {@code filePath}, which need not exist yet.
+     */
+    ReviewLog(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.checkpointFilePath = filePath.resolveSibling(filePath.getFileName() + CHECKPOINT_SUFFIX);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the size of the log in bytes, which is the position the next review is appended at.
+     * Unreadable reviews at the end of the log are cut off first, so that the size is always the end of a review.
+     */
+    long getSize() throws IOException {
+        checkTail();
+        return getFileSize();
+    }
+
+    private long getFileSize() throws IOException {
+        return FileUtil.isFileExists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    /**
+     * Appends {@code reviewEvents} to the end of the log and waits for them to be on disk.
+     */
+    void append(List<ReviewEvent> reviewEvents) throws IOException {
+        if (reviewEvents.isEmpty()) {
+            return;
+        }
+
+        BinaryDataOutput output = new BinaryDataOutput();
+        for (ReviewEvent reviewEvent : reviewEvents) {
+            writeReviewEvent(output, reviewEvent);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (getSize() == 0) {
+            BinaryDataOutput.writeLogHeaderTo(bytes, KIND_REVIEWS);
+        }
+        output.writeRecordsTo(bytes);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns every review in the log, oldest first.
+     * @throws IllegalValueException if the file is not a review log.
+     */
+    List<ReviewEvent> readAll() throws IOException, IllegalValueException {
+        return readFrom(0);
+    }
+
+    /**
+     * Returns the reviews appended after the last checkpoint, oldest first.
+     * @throws IllegalValueException if the file is not a review log.
+     */
+    List<ReviewEvent> readSinceCheckpoint() throws IOException, IllegalValueException {
+        return readFrom(readCheckpoint());
+    }
+
+    /**
+     * Records that the reviews before {@code position} are contained in the snapshot of the flashcards.
+     * The checkpoint is replaced in one step, so that a crash leaves either the old or the new one.
+     */
+    void checkpoint(long position) throws IOException {
+        FileUtil.createParentDirsOfFile(checkpointFilePath);
+        Files.write(DataFileUtil.toTemporaryPath(checkpointFilePath),
+                Long.toString(position).getBytes(StandardCharsets.UTF_8));
+        DataFileUtil.replaceWithTemporary(checkpointFilePath);
+    }
+
+    /**
+     * Returns the position of the last checkpoint, which is 0 if there is none or it cannot be read, so that at worst
+     * reviews already in the snapshot are replayed again.
+     */
+    private long readCheckpoint() throws IOException {
+        if (!FileUtil.isFileExists(checkpointFilePath)) {
+            return 0;
+        }
+        String checkpoint = FileUtil.readFromFile(checkpointFilePath).trim();
+        try {
+            return Math.max(0, Long.parseLong(checkpoint));
+        } catch (NumberFormatException nfe) {
+            logger.warning("Ignoring unreadable checkpoint in " + checkpointFilePath + ": " + checkpoint);
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the reviews that start at or after {@code position}.
+     */
+    private List<ReviewEvent> readFrom(long position) throws IOException, IllegalValueException {
+        List<ReviewEvent> reviewEvents = new ArrayList<>();
+        if (FileUtil.isFileExists(filePath)) {
+            readInto(reviewEvents, position);
+        }
+        return reviewEvents;
+    }
+
+    /**
+     * Adds the reviews that start at or after {@code position}, which must be the start of a review, to
+     * {@code reviewEvents}, reading only that part of the log. Returns the position just after the last readable
+     * review, which is before the end of the log only if the reviews at its end are unreadable.
+     * Reading stops at a review that is cut off, which can only be the partially written last review of a crash.
+     * A review that is whole but unreadable is skipped.
+     */
+    private long readInto(List<ReviewEvent> reviewEvents, long position) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            BinaryDataInput.forLog(read(channel, 0, BinaryDataInput.LOG_HEADER_LENGTH), KIND_REVIEWS);
+            long start = Math.max(position, BinaryDataInput.LOG_HEADER_LENGTH);
+            long size = channel.size();
+            if (start >= size) {
+                return size;
+            }
+
+            BinaryDataInput input = BinaryDataInput.forLogRecords(read(channel, start, Math.toIntExact(size - start)));
+            long end = start;
+            while (true) {
+                try {
+                    if (!input.nextRecord()) {
+                        break;
+                    }
+                } catch (IllegalValueException ive) {
+                    logger.warning("Ignoring cut off review at the end of " + filePath + ": " + ive.getMessage());
+                    break;
+                }
+                try {
+                    ReviewEvent reviewEvent = readReviewEvent(input);
+                    if (!input.isEndOfRecord()) {
+                        throw new IllegalValueException(BinaryDataInput.MESSAGE_CORRUPTED_FILE);
+                    }
+                    reviewEvents.add(reviewEvent);
+                    end = start + input.getPosition();
+                } catch (IllegalValueException ive) {
+                    logger.warning("Skipping unreadable review in " + filePath + ": " + ive.getMessage());
+                    input.skipRecord();
+                }
+            }
+            return end;
+        }
+    }
+
+    /**
+     * Returns up to {@code length} bytes of {@code channel} from {@code position}, fewer if it ends before them.
+     */
+    private static byte[] read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        int readCount = 0;
+        while (buffer.hasRemaining() && readCount >= 0) {
+            readCount = channel.read(buffer, position + buffer.position());
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Cuts off the unreadable reviews at the end of the log once, before it is first appended to.
+     */
+    private void checkTail() throws IOException {
+        if (!isTailChecked) {
+            truncateUnreadableTail();
+            isTailChecked = true;
+        }
+    }
+
+    /**
+     * Cuts off the unreadable reviews at the end of the log, such as a partially written last review left by a
+     * crash, so that reviews appended later can be read. Unreadable reviews followed by readable ones are kept.
+     * Only the reviews after the last checkpoint are looked at, as those before it were all appended whole.
+     */
+    private void truncateUnreadableTail() throws IOException {
+        if (getFileSize() == 0) {
+            return;
+        }
+        long end;
+        try {
+            end = readInto(new ArrayList<>(), readCheckpoint());
+        } catch (IllegalValueException ive) {
+            throw new IOException(filePath + " is not a review log: " + ive.getMessage(), ive);
+        }
+        if (end < getFileSize()) {
+            logger.warning("Truncating " + filePath + " to its last readable review");
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(end);
+            }
+        }
+    }
+
+    private static void writeReviewEvent(BinaryDataOutput output, ReviewEvent reviewEvent) {
+        Statistics statistics = reviewEvent.getStatistics();
+        output.writeZigZag(reviewEvent.getFlashcardId());
+        output.writeZigZag(reviewEvent.getReviewedAtMillis());
+        output.writeVarInt(reviewEvent.getQuality().map(RecallQuality::getGrade).orElse(VIEWED_GRADE));
+        output.writeZigZag(reviewEvent.getResponseMillis());
+        output.writeZigZag(statistics.getLastViewed().toEpochDay());
+        output.writeZigZag(statistics.getToViewNext().toEpochDay());
+        BinaryStudyBuddyProStorage.writeReviewState(output, statistics.getReviewState());
+        output.endRecord();
+    }
+
+    private static ReviewEvent readReviewEvent(BinaryDataInput input) throws IllegalValueException {
+        long flashcardId = input.readZigZag();
+        long reviewedAtMillis = input.readZigZag();
+        RecallQuality quality = toRecallQuality(input.readVarInt());
+        long responseMillis = input.readZigZag();
+        if (responseMillis < 0) {
+            throw new IllegalValueException(BinaryDataInput.MESSAGE_CORRUPTED_FILE);
+        }
+
+        LocalDate lastViewed;
+        LocalDate toViewNext;
+        try {
+            lastViewed = LocalDate.ofEpochDay(input.readZigZag());
+            toViewNext = LocalDate.ofEpochDay(input.readZigZag());
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+        }
+        if (!lastViewed.isBefore(toViewNext)) {
+            throw new IllegalValueException(Statistics.MESSAGE_CONSTRAINTS);
+        }
+        ReviewState reviewState = BinaryStudyBuddyProStorage.readReviewState(input);
+        return new ReviewEvent(flashcardId, reviewedAtMillis, quality, responseMillis,
+                Statistics.fromReviewState(lastViewed, toViewNext, reviewState));
+    }
+
+    /**
+     * Returns the recall quality of {@code grade}, or null for a flashcard that was only viewed.
+     */
+    private static RecallQuality toRecallQuality(int grade) throws IllegalValueException {
+        if (grade == VIEWED_GRADE) {
+            return null;
+        }
+        for (RecallQuality quality : RecallQuality.values()) {
+            if (quality.getGrade() == grade) {
+                return quality;
+            }
+        }
+        throw new IllegalValueException(BinaryDataInput.MESSAGE_CORRUPTED_FILE);
+    }
+}
@@ -96,8 +96,9 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
-        saveStudyBuddyPro(studyBuddyPro, studyBuddyProStorage.getFlashcardFilePath(),
-                getNoteFilePath(), getCheatSheetFilePath());
+        logger.fine("Attempting to write to data files: " + getFlashcardFilePath()
+                + ", " + getNoteFilePath() + ", " + getCheatSheetFilePath());
+        studyBuddyProStorage.saveStudyBuddyPro(studyBuddyPro);
     }
 
     @Override
@@ -108,6 +109,12 @@ public class StorageManager implements Storage {
         studyBuddyProStorage.saveStudyBuddyPro(studyBuddyPro, flashcardFilePath, noteFilePath, cheatsheetFilePath);
     }
 
+    @Override
+    public void flushStudyBuddyPro() throws IOException {
+        logger.fine("Waiting for pending saves to be written");
+        studyBuddyProStorage.flushStudyBuddyPro();
+    }
+
     // ================ CheatSheet methods ==============================
 
     @Override
@@ -0,0 +1,244 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.StudyBuddyItem;
+import seedu.address.model.StudyBuddyProChange;
+import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.note.Note;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable copy of a {@code ReadOnlyStudyBuddyPro} and its unsaved changes, so that it can be written on
+ * another thread while the original keeps changing.
+ * Flashcards are copied along with their statistics, which are otherwise changed in place when they are reviewed.
+ * A snapshot may also hold only the unsaved changes, see {@link #ofChanges(ReadOnlyStudyBuddyPro)}, in which case
+ * it has no data to read.
+ */
+class StudyBuddyProSnapshot implements ReadOnlyStudyBuddyPro {
+
+    private final ObservableList<Flashcard> flashcards;
+    private final ObservableList<Note> notes;
+    private final ObservableList<CheatSheet> cheatSheets;
+    private final ObservableList<Tag> tags;
+    private final boolean isFlashcardsModified;
+    private final boolean isNotesModified;
+    private final boolean isCheatSheetsModified;
+    private final boolean isTagsModified;
+    private final List<StudyBuddyProChange> unsavedChanges;
+
+    /**
+     * Copies the data of {@code source}.
+     */
+    StudyBuddyProSnapshot(ReadOnlyStudyBuddyPro source) {
+        this(source, true);
+    }
+
+    /**
+     * Copies the unsaved changes of {@code source}, and all of its data too if {@code isDataCopied}.
+     */
+    private StudyBuddyProSnapshot(ReadOnlyStudyBuddyPro source, boolean isDataCopied) {
+        requireNonNull(source);
+        Map<Flashcard, Flashcard> flashcardCopies = new IdentityHashMap<>();
+        if (isDataCopied) {
+            List<Flashcard> copiedFlashcards = new ArrayList<>(source.getFlashcardList().size());
+            for (Flashcard flashcard : source.getFlashcardList()) {
+                copiedFlashcards.add(flashcardCopies.computeIfAbsent(flashcard, StudyBuddyProSnapshot::copyOf));
+            }
+            flashcards = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(copiedFlashcards));
+            notes = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getNoteList()));
+            cheatSheets = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getCheatSheetList()));
+            tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getTagList()));
+        } else {
+            flashcards = null;
+            notes = null;
+            cheatSheets = null;
+            tags = null;
+        }
+        isFlashcardsModified = source.isFlashcardsModified();
+        isNotesModified = source.isNotesModified();
+        isCheatSheetsModified = source.isCheatSheetsModified();
+        isTagsModified = source.isTagsModified();
+        unsavedChanges = source.getUnsavedChanges()
+                .map(changes -> copyOf(changes, flashcardCopies))
+                .orElse(null);
+    }
+
+    /**
+     * Returns {@code source} itself if it is already a snapshot holding data, or a copy of its data otherwise.
+     */
+    static StudyBuddyProSnapshot of(ReadOnlyStudyBuddyPro source) {
+        requireNonNull(source);
+        if (source instanceof StudyBuddyProSnapshot && ((StudyBuddyProSnapshot) source).hasData()) {
+            return (StudyBuddyProSnapshot) source;
+        }
+        return new StudyBuddyProSnapshot(source);
+    }
+
+    /**
+     * Returns a snapshot of only the unsaved changes of {@code source}, which must be known, leaving its data
+     * uncopied.
+     */
+    static StudyBuddyProSnapshot ofChanges(ReadOnlyStudyBuddyPro source) {
+        requireNonNull(source);
+        assert source.getUnsavedChanges().isPresent() : "Unknown changes cannot be saved on their own";
+        return new StudyBuddyProSnapshot(source, false);
+    }
+
+    /**
+     * Returns true if this snapshot holds the data it was taken of, and not only its unsaved changes.
+     */
+    boolean hasData() {
+        return flashcards != null;
+    }
+
+    private static Flashcard copyOf(Flashcard flashcard) {
+        return new Flashcard(flashcard.getId(), flashcard.getQuestion(), flashcard.getAnswer(), flashcard.getTitle(),
+                flashcard.getStatistics().copy(), flashcard.getTags());
+    }
+
+    /**
+     * Returns {@code changes} with the flashcards in them replaced by their copies in {@code flashcardCopies}, copying
+     * any flashcard that is no longer in the data, such as a removed one.
+     */
+    private static List<StudyBuddyProChange> copyOf(List<StudyBuddyProChange> changes,
+                                                    Map<Flashcard, Flashcard> flashcardCopies) {
+        List<StudyBuddyProChange> copiedChanges = new ArrayList<>(changes.size());
+        for (StudyBuddyProChange change : changes) {
+            StudyBuddyItem target = copyOf(change.getTarget().orElse(null), flashcardCopies);
+            StudyBuddyItem item = copyOf(change.getItem().orElse(null), flashcardCopies);
+            switch (change.getOperation()) {
+            case ADD:
+                copiedChanges.add(StudyBuddyProChange.add(item));
+                break;
+            case SET:
+                copiedChanges.add(StudyBuddyProChange.set(target, item));
+                break;
+            case REMOVE:
+                copiedChanges.add(StudyBuddyProChange.remove(target));
+                break;
+            case REVIEW:
+                copiedChanges.add(StudyBuddyProChange.review((Flashcard) item, change.getReviewEvent().get()));
+                break;
+            default:
+                assert false : "Unknown change operation";
+            }
+        }
+        return List.copyOf(copiedChanges);
+    }
+
+    /**
+     * Returns the copy of {@code item} if it is a flashcard, or {@code item} itself, which may be null, otherwise.
+     */
+    private static StudyBuddyItem copyOf(StudyBuddyItem item, Map<Flashcard, Flashcard> flashcardCopies) {
+        if (!(item instanceof Flashcard)) {
+            return item;
+        }
+        return flashcardCopies.computeIfAbsent((Flashcard) item, StudyBuddyProSnapshot::copyOf);
+    }
+
+    /**
+     * Creates a snapshot with the data of {@code later} and the changes of both {@code earlier} and {@code later},
+     * so that saving it has the same effect as saving {@code earlier} and then {@code later}.
+     * {@code later} must hold data if {@code earlier} does, as it would otherwise be lost.
+     */
+    private StudyBuddyProSnapshot(StudyBuddyProSnapshot earlier, StudyBuddyProSnapshot later) {
+        assert later.hasData() || !earlier.hasData() : "Changes cannot follow data they were not made to";
+        flashcards = later.flashcards;
+        notes = later.notes;
+        cheatSheets = later.cheatSheets;
+        tags = later.tags;
+        isFlashcardsModified = earlier.isFlashcardsModified || later.isFlashcardsModified;
+        isNotesModified = earlier.isNotesModified || later.isNotesModified;
+        isCheatSheetsModified = earlier.isCheatSheetsModified || later.isCheatSheetsModified;
+        isTagsModified = earlier.isTagsModified || later.isTagsModified;
+        if (earlier.unsavedChanges == null || later.unsavedChanges == null) {
+            unsavedChanges = null;
+        } else {
+            List<StudyBuddyProChange> changes = new ArrayList<>(earlier.unsavedChanges);
+            changes.addAll(later.unsavedChanges);
+            unsavedChanges = List.copyOf(changes);
+        }
+    }
+
+    /**
+     * Returns a snapshot combining this snapshot with the {@code later} one, see
+     * {@link #StudyBuddyProSnapshot(StudyBuddyProSnapshot, StudyBuddyProSnapshot)}.
+     */
+    StudyBuddyProSnapshot mergeWith(StudyBuddyProSnapshot later) {
+        requireNonNull(later);
+        return new StudyBuddyProSnapshot(this, later);
+    }
+
+    @Override
+    public ObservableList<Flashcard> getFlashcardList() {
+        requireData();
+        return flashcards;
+    }
+
+    @Override
+    public ObservableList<Note> getNoteList() {
+        requireData();
+        return notes;
+    }
+
+    @Override
+    public ObservableList<CheatSheet> getCheatSheetList() {
+        requireData();
+        return cheatSheets;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        requireData();
+        return tags;
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} if this snapshot holds only unsaved changes, rather than letting them
+     * be read as empty data.
+     */
+    private void requireData() {
+        if (!hasData()) {
+            throw new IllegalStateException("Snapshot holds only the unsaved changes");
+        }
+    }
+
+    @Override
+    public boolean isFlashcardsModified() {
+        return isFlashcardsModified;
+    }
+
+    @Override
+    public boolean isNotesModified() {
+        return isNotesModified;
+    }
+
+    @Override
+    public boolean isCheatSheetsModified() {
+        return isCheatSheetsModified;
+    }
+
+    @Override
+    public boolean isTagsModified() {
+        return isTagsModified;
+    }
+
+    @Override
+    public Optional<List<StudyBuddyProChange>> getUnsavedChanges() {
+        return Optional.ofNullable(unsavedChanges);
+    }
+}
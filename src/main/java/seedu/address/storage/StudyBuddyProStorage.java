@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.CheatSheetDataConversionException;
@@ -12,6 +13,7 @@ import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
 import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
 import seedu.address.model.ReadOnlyStudyBuddyProNotes;
 import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.StudyBuddyProChange;
 
 /**
  * Represents a storage for {@link StudyBuddyPro}.
@@ -85,6 +87,7 @@ public interface StudyBuddyProStorage {
 
     /**
      * Saves the given {@link ReadOnlyStudyBuddyPro} to the storage.
+     * Collections that are not modified since the last save may be skipped.
      * @param studyBuddyPro cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
@@ -100,5 +103,30 @@ public interface StudyBuddyProStorage {
      */
     void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro, Path flashcardFilePath, Path noteFilePath,
                            Path cheatsheetFilePath) throws IOException;
-}
 
+    /**
+     * Returns true if saving {@code studyBuddyPro} now only needs its unsaved changes, so that they can be saved by
+     * {@link #saveStudyBuddyProChanges(List)} without copying all of its data.
+     * @param studyBuddyPro cannot be null.
+     */
+    default boolean canSaveChangesOnly(ReadOnlyStudyBuddyPro studyBuddyPro) {
+        return false;
+    }
+
+    /**
+     * Saves {@code changes}, which were made since the last save, to the storage. Only supported if
+     * {@link #canSaveChangesOnly(ReadOnlyStudyBuddyPro)} returned true for the data they were made to.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveStudyBuddyProChanges(List<StudyBuddyProChange> changes) throws IOException {
+        throw new UnsupportedOperationException("Changes cannot be saved on their own to this storage");
+    }
+
+    /**
+     * Waits until all earlier saves have been written to the storage.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flushStudyBuddyPro() throws IOException {
+    }
+}
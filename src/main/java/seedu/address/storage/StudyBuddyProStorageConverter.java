@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
+import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
+import seedu.address.model.ReadOnlyStudyBuddyProNotes;
+import seedu.address.model.StudyBuddyPro;
+
+/**
+ * Copies StudyBuddyPro data between storages, e.g. from the JSON files to the binary files and back.
+ * Every field is kept, so converting the data and converting it back gives the original data.
+ */
+public class StudyBuddyProStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StudyBuddyProStorageConverter.class);
+
+    /**
+     * Reads all data from {@code source} and saves it to {@code target}.
+     * Collections missing from {@code source} are saved as empty collections.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static void convert(StudyBuddyProStorage source, StudyBuddyProStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        StudyBuddyPro studyBuddyPro = new StudyBuddyPro();
+        Optional<ReadOnlyStudyBuddyProFlashcards> flashcards = source.readStudyBuddyProFlashcards();
+        if (flashcards.isPresent()) {
+            studyBuddyPro.setFlashcards(flashcards.get().getFlashcardList());
+        }
+        Optional<ReadOnlyStudyBuddyProNotes> notes = source.readStudyBuddyProNotes();
+        if (notes.isPresent()) {
+            studyBuddyPro.setNotes(notes.get().getNoteList());
+        }
+        Optional<ReadOnlyStudyBuddyProCheatSheets> cheatSheets = source.readStudyBuddyProCheatSheets();
+        if (cheatSheets.isPresent()) {
+            studyBuddyPro.setCheatSheets(cheatSheets.get().getCheatSheetList());
+        }
+
+        logger.info("Converting data files " + source.getFlashcardFilePath() + ", " + source.getNoteFilePath()
+                + ", " + source.getCheatSheetFilePath() + " to " + target.getFlashcardFilePath() + ", "
+                + target.getNoteFilePath() + ", " + target.getCheatSheetFilePath());
+        target.saveStudyBuddyPro(studyBuddyPro);
+        target.flushStudyBuddyPro();
+    }
+}
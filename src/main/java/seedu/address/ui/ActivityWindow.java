@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.ObjLongConsumer;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.TabPane;
@@ -67,6 +68,10 @@ public class ActivityWindow extends UiPart<Region> {
         }
     }
 
+    public void setFlashcardStatisticsUpdater(ObjLongConsumer<Flashcard> statisticsUpdater) {
+        flashcardTabWindowController.setStatisticsUpdater(statisticsUpdater);
+    }
+
     public void displayFlashcard(Flashcard flashcard) {
         flashcardTabWindowController.loadFlashcard(flashcard);
     }
@@ -1,8 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -17,16 +28,37 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    // looks up the completions off the JavaFX application thread, so typing never waits for them
+    private static final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-completion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final CommandExecutor commandExecutor;
+    private final CompletionSupplier completionSupplier;
+    private final ContextMenu completionMenu = new ContextMenu();
+    // the number of the latest completion request, so that the completions of older texts are dropped
+    private final AtomicLong latestCompletionRequest = new AtomicLong();
 
     @FXML
     private TextField commandTextField;
 
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CompletionSupplier completionSupplier) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionSupplier = completionSupplier;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> requestCompletions(newText));
+        // Tab takes the first completion instead of moving the focus away
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && completionMenu.isShowing()
+                    && !completionMenu.getItems().isEmpty()) {
+                acceptCompletion(completionMenu.getItems().get(0).getText());
+                event.consume();
+            }
+        });
     }
 
     /**
@@ -34,6 +66,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        completionMenu.hide();
         try {
             commandExecutor.execute(commandTextField.getText());
             commandTextField.setText("");
@@ -42,6 +75,57 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Looks up the completions of {@code text} in the background and shows them once they are found, unless the
+     * text has changed by then.
+     */
+    private void requestCompletions(String text) {
+        long request = latestCompletionRequest.incrementAndGet();
+        if (text.isBlank()) {
+            completionMenu.hide();
+            return;
+        }
+        completionExecutor.execute(() -> {
+            if (request != latestCompletionRequest.get()) {
+                return;
+            }
+            List<String> completions = completionSupplier.getCompletions(text);
+            Platform.runLater(() -> showCompletions(request, completions));
+        });
+    }
+
+    /**
+     * Shows {@code completions} below the command box, if they are the completions of the current text.
+     */
+    private void showCompletions(long request, List<String> completions) {
+        if (request != latestCompletionRequest.get()) {
+            return;
+        }
+        if (completions.isEmpty() || completions.equals(List.of(commandTextField.getText()))) {
+            completionMenu.hide();
+            return;
+        }
+
+        completionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> acceptCompletion(completion));
+            completionMenu.getItems().add(item);
+        }
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the text of the command box with {@code completion}, with the caret at its end.
+     */
+    private void acceptCompletion(String completion) {
+        completionMenu.hide();
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -76,4 +160,17 @@ public class CommandBox extends UiPart<Region> {
                 UnknownCommandResultTypeException;
     }
 
+    /**
+     * Represents a function that completes partly typed commands.
+     */
+    @FunctionalInterface
+    public interface CompletionSupplier {
+        /**
+         * Returns the ways to complete {@code partialCommandText}, each as the whole completed text.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        List<String> getCompletions(String partialCommandText);
+    }
+
 }
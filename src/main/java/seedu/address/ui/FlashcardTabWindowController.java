@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ObjLongConsumer;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -41,6 +43,8 @@ public class FlashcardTabWindowController {
     private IntegerProperty currentSeconds;
     private Timeline timeline;
     private Timeline timelineHelper;
+    private ObjLongConsumer<Flashcard> statisticsUpdater = (flashcard, responseMillis) -> flashcard.updateStatistics();
+    private long loadedAtNanos;
 
     /**
      * This method is called after the FlashcardTabWindowController has been injected.
@@ -53,12 +57,21 @@ public class FlashcardTabWindowController {
         currFlashcard = Optional.empty();
     }
 
+    /**
+     * Sets the handler used to record that a flashcard has been viewed, so that the change can be persisted.
+     * @param statisticsUpdater handler that updates the statistics of the flashcard passed to it, which was answered
+     *                          in the number of milliseconds passed with it, or 0 if the answer was not timed
+     */
+    public void setStatisticsUpdater(ObjLongConsumer<Flashcard> statisticsUpdater) {
+        this.statisticsUpdater = statisticsUpdater;
+    }
+
     /**
      * Displays the question of the flashcard specified in the flashcard tab window.
      * @param flashcard flashcard to be displayed
      */
     private void loadTimetrialFlashcard(Flashcard flashcard) {
-        flashcard.updateStatistics();
+        statisticsUpdater.accept(flashcard, 0);
         qnsTextArea.setText(flashcard.getQuestion().toString());
         ansTextArea.setText(flashcard.getAnswer().toString());
         ansTextArea.setVisible(false);
@@ -78,6 +91,7 @@ public class FlashcardTabWindowController {
         ansTextArea.setVisible(false);
         currFlashcard = Optional.of(flashcard);
         isAnswerShown = false;
+        loadedAtNanos = System.nanoTime();
         assert (currFlashcard.isPresent());
     }
 
@@ -85,7 +99,8 @@ public class FlashcardTabWindowController {
      * Flashes the answer of the flashcard upon the show command.
      */
     public void showFlashcardAns() {
-        currFlashcard.get().updateStatistics();
+        long responseMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loadedAtNanos);
+        statisticsUpdater.accept(currFlashcard.get(), responseMillis);
         ansTextArea.setVisible(true);
         timerLabel.setVisible(false);
         isAnswerShown = true;
@@ -5,6 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_WELCOME_STUDYBUDDYPRO;
 import java.util.logging.Logger;
 
 import javafx.animation.FadeTransition;
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -15,6 +16,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import seedu.address.commons.core.DayRolloverScheduler;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.FunctionMode;
@@ -48,6 +50,8 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ActivityWindow activityWindow;
+    private StatusBarFooter statusBarFooter;
+    private DayRolloverScheduler dayRolloverScheduler;
 
     @FXML
     private StackPane activityWindowPlaceholder;
@@ -142,19 +146,33 @@ public class MainWindow extends UiPart<Stage> {
     //To adjust this method to show relative path when switching between modes
     void fillInnerParts() {
         activityWindow = new ActivityWindow();
+        activityWindow.setFlashcardStatisticsUpdater((flashcard, responseMillis) -> {
+            logic.updateFlashcardStatistics(flashcard, responseMillis);
+            showDueCounts();
+        });
         activityWindowPlaceholder.getChildren().add(activityWindow.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
         resultDisplay.setFeedbackToUser(MESSAGE_WELCOME_STUDYBUDDYPRO);
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getStudyBuddyProFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getStudyBuddyProFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        showDueCounts();
+        dayRolloverScheduler = new DayRolloverScheduler(unused -> Platform.runLater(this::showDueCounts));
+        dayRolloverScheduler.start();
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows the number of flashcards due and overdue today in the status bar.
+     */
+    private void showDueCounts() {
+        statusBarFooter.setDueCounts(logic.getDueCounts());
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -199,6 +217,9 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        if (dayRolloverScheduler != null) {
+            dayRolloverScheduler.stop();
+        }
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -215,6 +236,7 @@ public class MainWindow extends UiPart<Stage> {
             logger.info("Result: " + commandResult.getFeedbackToUser());
 
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            showDueCounts();
 
             if (commandResult.isGlobalCommandResult()) {
                 executeGlobalCommandHelper((GlobalCommandResult) commandResult);
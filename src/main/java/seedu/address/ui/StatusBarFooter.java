@@ -6,21 +6,33 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.flashcard.DueCounts;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String DUE_STATUS_FORMAT = "Flashcards due today: %1$d | overdue: %2$d";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label dueStatus;
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the number of flashcards due and overdue in {@code dueCounts}.
+     */
+    public void setDueCounts(DueCounts dueCounts) {
+        dueStatus.setText(String.format(DUE_STATUS_FORMAT, dueCounts.getDueCount(), dueCounts.getOverdueCount()));
+    }
+
 }
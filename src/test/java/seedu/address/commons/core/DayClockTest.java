@@ -0,0 +1,105 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DayClockTest {
+
+    private static final LocalDate DAY = LocalDate.of(2020, 4, 10);
+
+    @AfterEach
+    public void restoreClock() {
+        DayClock.setClock(Clock.systemDefaultZone());
+    }
+
+    @Test
+    public void setClock_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DayClock.setClock(null));
+    }
+
+    @Test
+    public void today_fixedClock_dayOfClock() {
+        DayClock.setClock(clockAt(DAY, Duration.ofHours(13)));
+
+        assertEquals(DAY, DayClock.today());
+        assertEquals(Duration.ofHours(11), DayClock.getTimeUntilNextDay());
+    }
+
+    @Test
+    public void today_clockPassesMidnight_nextDay() {
+        MutableClock clock = new MutableClock(clockAt(DAY, Duration.ofHours(23)).instant());
+        DayClock.setClock(clock);
+        assertEquals(DAY, DayClock.today());
+
+        clock.instant = clock.instant.plus(Duration.ofHours(2));
+        assertEquals(Duration.ZERO, DayClock.getTimeUntilNextDay());
+        assertEquals(DAY.plusDays(1), DayClock.today());
+        assertEquals(Duration.ofHours(23), DayClock.getTimeUntilNextDay());
+    }
+
+    @Test
+    public void scheduler_midnightPasses_newDayPassedOn() throws InterruptedException {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant justBeforeMidnight = today.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusMillis(200);
+        DayClock.setClock(Clock.offset(Clock.systemUTC(), Duration.between(Instant.now(), justBeforeMidnight)));
+
+        CountDownLatch newDayLatch = new CountDownLatch(1);
+        AtomicReference<LocalDate> newDay = new AtomicReference<>();
+        DayRolloverScheduler scheduler = new DayRolloverScheduler(day -> {
+            newDay.set(day);
+            newDayLatch.countDown();
+        });
+        scheduler.start();
+        try {
+            assertTrue(newDayLatch.await(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.stop();
+        }
+        assertEquals(today.plusDays(1), newDay.get());
+        assertEquals(today.plusDays(1), DayClock.today());
+    }
+
+    private static Clock clockAt(LocalDate day, Duration timeOfDay) {
+        return Clock.fixed(day.atStartOfDay(ZoneOffset.UTC).toInstant().plus(timeOfDay), ZoneOffset.UTC);
+    }
+
+    /**
+     * A clock in UTC whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
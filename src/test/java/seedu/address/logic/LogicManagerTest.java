@@ -1,162 +1,89 @@
-//package seedu.address.logic;
-//
-//import static org.junit.jupiter.api.Assertions.assertEquals;
-//import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
-//import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
-//import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
-//import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
-//import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
-//import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
-//import static seedu.address.testutil.Assert.assertThrows;
-//import static seedu.address.testutil.TypicalPersons.AMY;
-//
-//import java.io.IOException;
-//import java.nio.file.Path;
-//
-//import org.junit.jupiter.api.BeforeEach;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.io.TempDir;
-//
-//import seedu.address.logic.commands.person.AddCommand;
-//import seedu.address.logic.commands.CommandResult;
-//import seedu.address.logic.commands.global.ListCommand;
-//import seedu.address.logic.commands.exceptions.CommandException;
-//import seedu.address.logic.parser.exceptions.ParseException;
-//import seedu.address.model.Model;
-//import seedu.address.model.ModelManager;
-//import seedu.address.model.ReadOnlyAddressBook;
-//import seedu.address.model.UserPrefs;
-//import seedu.address.model.person.Person;
-//import seedu.address.storage.JsonAddressBookStorage;
-//import seedu.address.storage.JsonUserPrefsStorage;
-//import seedu.address.storage.StorageManager;
-//import seedu.address.testutil.PersonBuilder;
-//
-//public class LogicManagerTest {
-//    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
-//
-//    @TempDir
-//    public Path temporaryFolder;
-//
-//    private Model model = new ModelManager();
-//    private Logic logic;
-//
-//    @BeforeEach
-//    public void setUp() {
-//        JsonAddressBookStorage addressBookStorage =
-//                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
-//        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-//        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-//        logic = new LogicManager(model, storage);
-//    }
-//
-//    @Test
-//    public void execute_invalidCommandFormat_throwsParseException() {
-//        String invalidCommand = "uicfhmowqewca";
-//        assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
-//    }
-//
-//    @Test
-//    public void execute_commandExecutionError_throwsCommandException() {
-//        String deleteCommand = "delete 9";
-//        assertCommandException(deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-//    }
-//
-//    @Test
-//    public void execute_validCommand_success() throws Exception {
-//        String listCommand = ListCommand.COMMAND_WORD;
-//        assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
-//    }
-//
-//    @Test
-//    public void execute_storageThrowsIoException_throwsCommandException() {
-//        // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
-//        JsonAddressBookStorage addressBookStorage =
-//                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-//        JsonUserPrefsStorage userPrefsStorage =
-//                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-//        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-//        logic = new LogicManager(model, storage);
-//
-//        // Execute add command
-//        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
-//                + ADDRESS_DESC_AMY;
-//        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-//        ModelManager expectedModel = new ModelManager();
-//        expectedModel.addPerson(expectedPerson);
-//        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-//        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
-//    }
-//
-//    @Test
-//    public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
-//        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
-//    }
-//
-//    /**
-//     * Executes the command and confirms that
-//     * - no exceptions are thrown <br>
-//     * - the feedback message is equal to {@code expectedMessage} <br>
-//     * - the internal model manager state is the same as that in {@code expectedModel} <br>
-//     * @see #assertCommandFailure(String, Class, String, Model)
-//     */
-//    private void assertCommandSuccess(String inputCommand, String expectedMessage,
-//            Model expectedModel) throws CommandException, ParseException {
-//        CommandResult result = logic.execute(inputCommand);
-//        assertEquals(expectedMessage, result.getFeedbackToUser());
-//        assertEquals(expectedModel, model);
-//    }
-//
-//    /**
-//     * Executes the command, confirms that a ParseException is thrown and that the result message is correct.
-//     * @see #assertCommandFailure(String, Class, String, Model)
-//     */
-//    private void assertParseException(String inputCommand, String expectedMessage) {
-//        assertCommandFailure(inputCommand, ParseException.class, expectedMessage);
-//    }
-//
-//    /**
-//     * Executes the command, confirms that a CommandException is thrown and that the result message is correct.
-//     * @see #assertCommandFailure(String, Class, String, Model)
-//     */
-//    private void assertCommandException(String inputCommand, String expectedMessage) {
-//        assertCommandFailure(inputCommand, CommandException.class, expectedMessage);
-//    }
-//
-//    /**
-//     * Executes the command, confirms that the exception is thrown and that the result message is correct.
-//     * @see #assertCommandFailure(String, Class, String, Model)
-//     */
-//    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
-//            String expectedMessage) {
-//        Model expectedModel = new ModelManager(model.getStudyBuddyPro(), new UserPrefs());
-//        assertCommandFailure(inputCommand, expectedException, expectedMessage, expectedModel);
-//    }
-//
-//    /**
-//     * Executes the command and confirms that
-//     * - the {@code expectedException} is thrown <br>
-//     * - the resulting error message is equal to {@code expectedMessage} <br>
-//     * - the internal model manager state is the same as that in {@code expectedModel} <br>
-//     * @see #assertCommandSuccess(String, String, Model)
-//     */
-//    private void assertCommandFailure(String inputCommand, Class<? extends Throwable> expectedException,
-//            String expectedMessage, Model expectedModel) {
-//        assertThrows(expectedException, expectedMessage, () -> logic.execute(inputCommand));
-//        assertEquals(expectedModel, model);
-//    }
-//
-//    /**
-//     * A stub class to throw an {@code IOException} when the save method is called.
-//     */
-//    private static class JsonAddressBookIoExceptionThrowingStub extends JsonAddressBookStorage {
-//        private JsonAddressBookIoExceptionThrowingStub(Path filePath) {
-//            super(filePath);
-//        }
-//
-//        @Override
-//        public void saveStudyBuddyPro(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-//            throw DUMMY_IO_EXCEPTION;
-//        }
-//    }
-//}
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.flashcard.AddFlashcardCommand;
+import seedu.address.logic.commands.flashcard.FilterFlashcardByTagCommand;
+import seedu.address.logic.commands.flashcard.RemindCommand;
+import seedu.address.logic.commands.flashcard.ViewFlashcardCommand;
+import seedu.address.logic.commands.global.HelpCommand;
+import seedu.address.logic.commands.global.ListAllTagsCommand;
+import seedu.address.logic.commands.global.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonStudyBuddyProStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class LogicManagerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalStudyBuddyPro(), new UserPrefs());
+    private SaveCountingStorage studyBuddyProStorage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        studyBuddyProStorage = new SaveCountingStorage(temporaryFolder);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(studyBuddyProStorage, userPrefsStorage));
+        LogicManager.setMode(FunctionMode.FLASHCARD);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        LogicManager.setMode(FunctionMode.UNDEFINED);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_nothingSaved() throws Exception {
+        List<String> readOnlyCommands = List.of(ListCommand.COMMAND_WORD, ViewFlashcardCommand.COMMAND_WORD + " 1",
+                FilterFlashcardByTagCommand.COMMAND_WORD + " tag/maths", RemindCommand.COMMAND_WORD,
+                HelpCommand.COMMAND_WORD, ListAllTagsCommand.COMMAND_WORD);
+        for (String command : readOnlyCommands) {
+            logic.execute(command);
+        }
+
+        assertEquals(0, studyBuddyProStorage.saveCount);
+        assertEquals(readOnlyCommands.size(), logic.getAvoidedSaveCount());
+    }
+
+    @Test
+    public void execute_modifyingCommand_saved() throws Exception {
+        logic.execute(AddFlashcardCommand.COMMAND_WORD + " q/Is it saved? a/Yes t/Saved");
+
+        assertEquals(1, studyBuddyProStorage.saveCount);
+        assertEquals(0, logic.getAvoidedSaveCount());
+    }
+
+    /**
+     * A storage that counts how many times the data was saved.
+     */
+    private static class SaveCountingStorage extends JsonStudyBuddyProStorage {
+        private int saveCount = 0;
+
+        SaveCountingStorage(Path folder) {
+            super(folder.resolve("flashcards.json"), folder.resolve("notes.json"), folder.resolve("cheatsheets.json"));
+        }
+
+        @Override
+        public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+            saveCount++;
+            super.saveStudyBuddyPro(studyBuddyPro);
+        }
+    }
+}
@@ -7,19 +7,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.FunctionMode;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.GrepMatch;
+import seedu.address.model.GrepSearch;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -27,7 +31,9 @@ import seedu.address.model.StudyBuddyCounter;
 import seedu.address.model.StudyBuddyItem;
 import seedu.address.model.StudyBuddyPro;
 import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.flashcard.DueCounts;
 import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
 import seedu.address.model.note.Note;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.FlashcardBuilder;
@@ -135,6 +141,96 @@ public class AddFlashcardCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void reviewFlashcard(Flashcard flashcard, RecallQuality quality) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DueCounts countFlashcardsDue(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Flashcard> getNextFlashcardToStudy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Flashcard> getFlashcardsDueOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Flashcard> getFlashcardsOverdueOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheHitCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getQueryCacheMissCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Flashcard> getFlashcardsByFuzzyTitle(String title) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Note> getNotesByFuzzyTitle(String title) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<CheatSheet> getCheatSheetsByFuzzyTitle(String title) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<GrepMatch> grepItems(GrepSearch search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<String> describeItem(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ArrayList<String> findItems(String query, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int renameTag(Tag target, Tag replacement) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int removeTag(Tag target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markStudyBuddyProSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFlashcardStatistics(Flashcard flashcard, long responseMillis) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Tag> getFilteredTagList() {
             return null;
@@ -200,7 +296,7 @@ public class AddFlashcardCommandTest {
         }
 
         @Override
-        public <T> String formatList(FilteredList<T> object) {
+        public <T> String formatList(ObservableList<T> object) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -214,6 +310,11 @@ public class AddFlashcardCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Flashcard> getFlashcardById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setFlashcard(Flashcard target, Flashcard editedFlashcard) {
             throw new AssertionError("This method should not be called.");
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.flashcard;
 
-//import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static seedu.address.logic.commands.CommandTestUtil.DUE_STATISTICS;
 import static seedu.address.logic.commands.CommandTestUtil.OVERDUE_STATISICS;
@@ -10,8 +11,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_QUESTION_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUESTION_TWO;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_TWO;
+import static seedu.address.testutil.TypicalFlashcards.INTELLIJ_ONE;
+import static seedu.address.testutil.TypicalFlashcards.INTELLIJ_TWO;
 import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
 
+import org.junit.jupiter.api.Test;
+
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -30,4 +35,25 @@ public class RemindFlashcardCommandTest {
             .withAnswer(VALID_ANSWER_TWO)
             .withTitle(VALID_TITLE_TWO)
             .withStatistics(DUE_STATISTICS).build();
+
+    @Test
+    public void execute_dueAndOverdueFlashcards_listsBoth() throws Exception {
+        model.setFlashcard(INTELLIJ_ONE, overdueFlashcard);
+        model.setFlashcard(INTELLIJ_TWO, dueFlashcard);
+
+        String output = new RemindCommand().execute(model).getFeedbackToUser();
+        assertTrue(output.contains(RemindFeatureUtil.MESSAGE_DUE_FLASHCARD_HELPER));
+        assertTrue(output.contains(RemindFeatureUtil.MESSAGE_OVERDUE_FLASHCARD_HELPER));
+        assertTrue(output.contains(VALID_TITLE_ONE));
+        assertTrue(output.contains(VALID_TITLE_TWO));
+    }
+
+    @Test
+    public void execute_nothingDue_showsNextFlashcard() throws Exception {
+        String output = new RemindCommand().execute(model).getFeedbackToUser();
+        Flashcard next = model.getNextFlashcardToStudy().get();
+        assertEquals(RemindCommand.MESSAGE_NO_DUE_AND_OVERDUE_FLASHCARDS + "\n"
+                + String.format(RemindCommand.MESSAGE_NEXT_FLASHCARD, next.getTitle(),
+                next.getStatistics().getToViewNext()), output);
+    }
 }
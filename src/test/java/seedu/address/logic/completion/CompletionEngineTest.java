@@ -0,0 +1,62 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.FunctionMode;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class CompletionEngineTest {
+
+    private final StudyBuddyPro studyBuddyPro = new StudyBuddyPro();
+    private final CompletionEngine engine = new CompletionEngine(studyBuddyPro);
+
+    @Test
+    public void getCompletions_commandWord_wordsOfMode() {
+        assertEquals(Arrays.asList("filter", "filterall", "find"), engine.getCompletions("fi", FunctionMode.FLASHCARD));
+        assertEquals(Arrays.asList("  remind"), engine.getCompletions("  rem", FunctionMode.FLASHCARD));
+        assertTrue(engine.getCompletions("rem", FunctionMode.NOTE).isEmpty());
+        assertEquals(Arrays.asList("viewraw"), engine.getCompletions("viewr", FunctionMode.NOTE));
+    }
+
+    @Test
+    public void getCompletions_prefix_prefixesOfCommand() {
+        assertEquals(Arrays.asList("add q/x a/", "add q/x q/", "add q/x t/", "add q/x tag/"),
+                engine.getCompletions("add q/x ", FunctionMode.FLASHCARD));
+        assertEquals(Arrays.asList("add q/x t/", "add q/x tag/"),
+                engine.getCompletions("add q/x t", FunctionMode.FLASHCARD));
+        assertEquals(Collections.singletonList("clear all"), engine.getCompletions("clear a", FunctionMode.NOTE));
+    }
+
+    @Test
+    public void getCompletions_tagsAndTitles_followChangesOfLists() {
+        Flashcard hazards = new FlashcardBuilder().withTitle("Data Hazards").withQuestion("What are data hazards?")
+                .withTags("cs2100", "cs2100-pipelining").build();
+        studyBuddyPro.addFlashcard(hazards);
+        studyBuddyPro.addFlashcard(new FlashcardBuilder().withTitle("Data Paths").withQuestion("What is a datapath?")
+                .withTags("cs2100").build());
+
+        assertEquals(Arrays.asList("filter tag/cs2100", "filter tag/cs2100-pipelining"),
+                engine.getCompletions("filter tag/cs", FunctionMode.FLASHCARD));
+        assertEquals(Arrays.asList("view t/ Data Hazards", "view t/ Data Paths"),
+                engine.getCompletions("view t/ data", FunctionMode.FLASHCARD));
+        assertEquals(Collections.singletonList("timetrial t/Data Paths t/Data Hazards"),
+                engine.getCompletions("timetrial t/Data Paths t/Data H", FunctionMode.FLASHCARD));
+        // a new title is not completed with the existing ones
+        assertTrue(engine.getCompletions("add t/Data", FunctionMode.FLASHCARD).isEmpty());
+        assertTrue(engine.getCompletions("view t/Data", FunctionMode.NOTE).isEmpty());
+
+        studyBuddyPro.removeFlashcard(hazards);
+        assertEquals(Collections.singletonList("view t/Data Paths"),
+                engine.getCompletions("view t/Data", FunctionMode.FLASHCARD));
+        assertEquals(Collections.singletonList("filter tag/cs2100"),
+                engine.getCompletions("filter tag/cs", FunctionMode.FLASHCARD));
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void getWordsStartingWith_mixedCase_alphabeticalWithinLimit() {
+        Arrays.asList("filter", "find", "Finite Automata", "exit", "file systems").forEach(trie::add);
+
+        assertEquals(Arrays.asList("file systems", "filter", "find", "Finite Automata"),
+                trie.getWordsStartingWith("FI", 10));
+        assertEquals(Arrays.asList("file systems", "filter"), trie.getWordsStartingWith("fi", 2));
+        assertEquals(Collections.singletonList("Finite Automata"), trie.getWordsStartingWith("finite a", 10));
+        assertTrue(trie.getWordsStartingWith("fix", 10).isEmpty());
+        assertTrue(trie.getWordsStartingWith("filters", 10).isEmpty());
+        assertEquals(5, trie.getWordsStartingWith("", 10).size());
+    }
+
+    @Test
+    public void remove_wordsAddedTwice_keptUntilRemovedTwice() {
+        trie.add("cache");
+        trie.add("cache");
+        trie.add("caches");
+
+        trie.remove("cache");
+        assertEquals(Arrays.asList("cache", "caches"), trie.getWordsStartingWith("ca", 10));
+        trie.remove("cache");
+        assertEquals(Collections.singletonList("caches"), trie.getWordsStartingWith("ca", 10));
+        trie.remove("cached");
+        assertEquals(Collections.singletonList("caches"), trie.getWordsStartingWith("ca", 10));
+    }
+
+    @Test
+    public void remove_allButOneWord_nodesMergedBack() {
+        trie.add("pipeline");
+        int compactNodeCount = trie.getNodeCount();
+        trie.add("pipe");
+        trie.add("pipelining");
+        trie.add("pin");
+
+        trie.remove("pin");
+        trie.remove("pipelining");
+        trie.remove("pipe");
+
+        assertEquals(compactNodeCount, trie.getNodeCount());
+        assertEquals(Collections.singletonList("pipeline"), trie.getWordsStartingWith("p", 10));
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.TagQueryParser.MESSAGE_INVALID_QUERY;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.TagQuery;
+import seedu.address.model.tag.Tag;
+
+public class TagQueryParserTest {
+
+    @Test
+    public void parse_andOrNot_precedenceRespected() throws Exception {
+        TagQuery query = TagQueryParser.parse("(CS2100 or cs2105) AND not midterm");
+
+        assertTrue(query.matches(tags("cs2100")));
+        assertTrue(query.matches(tags("cs2105", "important")));
+        assertFalse(query.matches(tags("cs2100", "midterm")));
+        assertFalse(query.matches(tags("important")));
+
+        TagQuery withoutParentheses = TagQueryParser.parse("cs2100 or cs2105 and not midterm");
+        assertTrue(withoutParentheses.matches(tags("cs2100", "midterm")));
+    }
+
+    @Test
+    public void parse_tagsWithoutOperator_allRequired() throws Exception {
+        assertEquals(TagQuery.allOf(tags("cs2100", "important")), TagQueryParser.parse("cs2100 important"));
+        assertEquals(TagQueryParser.parse("cs2100 and important"), TagQueryParser.parse("important cs2100"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> TagQueryParser.parse(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> TagQueryParser.parse("(cs2100 or"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> TagQueryParser.parse("cs2100 or or cs2105"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_QUERY, () -> TagQueryParser.parse("cs2100)"));
+        assertThrows(ParseException.class, Tag.MESSAGE_CONSTRAINTS, () -> TagQueryParser.parse("cs_2100"));
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        Arrays.stream(tagNames).map(Tag::new).forEach(tags::add);
+        return tags;
+    }
+}
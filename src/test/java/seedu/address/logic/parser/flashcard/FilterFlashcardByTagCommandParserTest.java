@@ -6,12 +6,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.flashcard.FilterFlashcardByTagCommand;
+import seedu.address.logic.parser.TagQueryParser;
+import seedu.address.model.TagQuery;
 import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -39,4 +42,17 @@ class FilterFlashcardByTagCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n " + TAG_DESC_MODULE + " \n \t", expectedFilterFlashcardByTagCommand);
     }
+
+    @Test
+    public void parse_tagQuery_returnsFilterFlashcardByTagCommand() {
+        TagQuery query = TagQuery.and(Arrays.asList(TagQuery.tag(new Tag("cs2100")),
+                TagQuery.not(TagQuery.tag(new Tag("midterm")))));
+        ArrayList<String> queryList = new ArrayList<>();
+        queryList.add(query.toString());
+        FilterFlashcardByTagCommand expectedFilterFlashcardByTagCommand =
+                new FilterFlashcardByTagCommand(new FlashcardContainsTagPredicate(query), queryList);
+        assertParseSuccess(parser, " cs2100 and not midterm", expectedFilterFlashcardByTagCommand);
+
+        assertParseFailure(parser, " cs2100 and", TagQueryParser.MESSAGE_INVALID_QUERY);
+    }
 }
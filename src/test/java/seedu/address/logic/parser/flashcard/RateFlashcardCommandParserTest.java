@@ -0,0 +1,35 @@
+package seedu.address.logic.parser.flashcard;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.flashcard.RateFlashcardCommand;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+
+public class RateFlashcardCommandParserTest {
+    private RateFlashcardCommandParser parser = new RateFlashcardCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRateFlashcardCommand() {
+        assertParseSuccess(parser, "good", new RateFlashcardCommand(RecallQuality.GOOD));
+
+        // any case, with whitespaces around
+        assertParseSuccess(parser, " \t Again \n", new RateFlashcardCommand(RecallQuality.AGAIN));
+    }
+
+    @Test
+    public void parse_wrongNumberOfArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RateFlashcardCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "good easy", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidQuality_throwsParseException() {
+        assertParseFailure(parser, "great", RecallQuality.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "3", RecallQuality.MESSAGE_CONSTRAINTS);
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser.flashcard;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_EMPTY_TARGET_TITLE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_FLASHCARD;
 
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,16 @@ public class ViewFlashcardCommandParserTest {
         assertParseSuccess(parser, "     1", new ViewFlashcardCommand(INDEX_FIRST_FLASHCARD));
     }
 
+    @Test
+    public void parse_title_returnsViewFlashcardCommand() {
+        assertParseSuccess(parser, " t/ Data Hazards ", new ViewFlashcardCommand("Data Hazards"));
+    }
+
+    @Test
+    public void parse_emptyTitle_throwsParseException() {
+        assertParseFailure(parser, "t/   ", MESSAGE_EMPTY_TARGET_TITLE);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
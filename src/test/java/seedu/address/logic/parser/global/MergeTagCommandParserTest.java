@@ -0,0 +1,39 @@
+package seedu.address.logic.parser.global;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.global.MergeTagCommand;
+import seedu.address.logic.parser.MergeTagCommandParser;
+import seedu.address.model.tag.Tag;
+
+class MergeTagCommandParserTest {
+
+    private MergeTagCommandParser parser = new MergeTagCommandParser();
+
+    @Test
+    public void parse_wrongNumberOfTags_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeTagCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "caches", expectedMessage);
+        assertParseFailure(parser, "caches cs2100 cs2105", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "cs_2100 cs2100", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "caches cs_2100", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsMergeTagCommand() {
+        MergeTagCommand expectedMergeTagCommand = new MergeTagCommand(new Tag("caches"), new Tag("cs2100"));
+        assertParseSuccess(parser, "caches cs2100", expectedMergeTagCommand);
+
+        // multiple whitespaces between tags
+        assertParseSuccess(parser, " \n caches \t cs2100 \n", expectedMergeTagCommand);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser.global;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.global.RetagCommand;
+import seedu.address.logic.parser.RetagCommandParser;
+import seedu.address.model.tag.Tag;
+
+class RetagCommandParserTest {
+
+    private RetagCommandParser parser = new RetagCommandParser();
+
+    @Test
+    public void parse_wrongNumberOfTags_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RetagCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "cs2100", expectedMessage);
+        assertParseFailure(parser, "cs2100 cs2105 cs2106", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "cs2100 cs_2100", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsRetagCommand() {
+        RetagCommand expectedRetagCommand = new RetagCommand(new Tag("cs2100"), new Tag("cs2100-midterm"));
+        assertParseSuccess(parser, "cs2100 cs2100-midterm", expectedRetagCommand);
+
+        // multiple whitespaces between tags
+        assertParseSuccess(parser, " \n cs2100 \t cs2100-midterm \n", expectedRetagCommand);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.parser.global;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.global.UntagCommand;
+import seedu.address.logic.parser.UntagCommandParser;
+import seedu.address.model.tag.Tag;
+
+class UntagCommandParserTest {
+
+    private UntagCommandParser parser = new UntagCommandParser();
+
+    @Test
+    public void parse_wrongNumberOfTags_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, "cs2100 cs2105", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "cs_2100", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsUntagCommand() {
+        UntagCommand expectedUntagCommand = new UntagCommand(new Tag("cs2100"));
+        assertParseSuccess(parser, "cs2100", expectedUntagCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \n cs2100 \t ", expectedUntagCommand);
+    }
+}
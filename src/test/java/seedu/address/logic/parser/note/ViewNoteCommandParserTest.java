@@ -3,6 +3,7 @@ package seedu.address.logic.parser.note;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_EMPTY_TARGET_TITLE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_NOTE;
 
 import org.junit.jupiter.api.Test;
@@ -22,9 +23,15 @@ public class ViewNoteCommandParserTest {
         assertParseSuccess(parser, " \t\r\n1", new ViewNoteCommand(INDEX_FIRST_NOTE));
     }
 
+    @Test
+    public void parse_title_returnsViewNoteCommand() {
+        assertParseSuccess(parser, " t/ Photosynthsis ", new ViewNoteCommand("Photosynthsis"));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 ViewNoteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "t/ ", MESSAGE_EMPTY_TARGET_TITLE);
     }
 }
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class FullTextIndexTest {
+
+    private final FullTextIndex index = new FullTextIndex(item -> ((Flashcard) item).getQuestion().toString());
+
+    @Test
+    public void tokenize_mixedText_lowerCaseWordsOnly() {
+        assertEquals(Arrays.asList("what", "is", "o", "n", "log", "n"), FullTextIndex.tokenize("What is O(n log n)?"));
+        assertTrue(FullTextIndex.tokenize(" ?! ").isEmpty());
+    }
+
+    @Test
+    public void search_moreAndRarerWordsMatched_rankedFirst() {
+        Flashcard common = new FlashcardBuilder().withTitle("Common").withQuestion("What is a cache?").build();
+        Flashcard rare = new FlashcardBuilder().withTitle("Rare").withQuestion("What is a pipeline hazard?").build();
+        Flashcard repeated = new FlashcardBuilder().withTitle("Repeated").withQuestion("Hazard hazard hazard").build();
+        index.added(common);
+        index.added(rare);
+        index.added(repeated);
+
+        assertEquals(Arrays.asList(repeated.getId(), rare.getId()), index.search("hazard", 10));
+        assertEquals(Arrays.asList(rare.getId(), repeated.getId(), common.getId()),
+                index.search("what hazard", 10));
+        assertEquals(Collections.singletonList(rare.getId()), index.search("what hazard", 1));
+        assertTrue(index.search("physics", 10).isEmpty());
+    }
+
+    @Test
+    public void search_afterRemoveAndReplace_indexUpdated() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("What is a cache?").build();
+        Flashcard pipeline = new FlashcardBuilder().withTitle("Pipeline").withQuestion("What is a pipeline?").build();
+        index.added(cache);
+        index.added(pipeline);
+
+        index.removed(cache);
+        assertTrue(index.search("cache", 10).isEmpty());
+
+        Flashcard editedPipeline = new Flashcard(pipeline.getId(), new FlashcardBuilder()
+                .withQuestion("What is forwarding?").build().getQuestion(), pipeline.getAnswer(),
+                pipeline.getTitle(), pipeline.getStatistics(), pipeline.getTags());
+        index.replaced(pipeline, editedPipeline);
+        assertTrue(index.search("pipeline", 10).isEmpty());
+        assertEquals(Collections.singletonList(pipeline.getId()), index.search("forwarding", 10));
+    }
+}
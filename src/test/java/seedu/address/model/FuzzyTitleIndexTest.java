@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class FuzzyTitleIndexTest {
+
+    private final FuzzyTitleIndex<Flashcard> index = new FuzzyTitleIndex<>(item -> item.getTitle().toString());
+
+    @Test
+    public void getEditDistance_variousTitles_numberOfEdits() {
+        assertEquals(0, FuzzyTitleIndex.getEditDistance("heap", "heap"));
+        assertEquals(1, FuzzyTitleIndex.getEditDistance("heap", "heaps"));
+        assertEquals(2, FuzzyTitleIndex.getEditDistance("hazards", "hzaards"));
+        assertEquals(3, FuzzyTitleIndex.getEditDistance("kitten", "sitting"));
+        assertEquals(4, FuzzyTitleIndex.getEditDistance("", "heap"));
+    }
+
+    @Test
+    public void getClosest_mistypedTitle_closestTitlesOnly() {
+        Flashcard hazards = new FlashcardBuilder().withTitle("Data Hazards").build();
+        Flashcard hazard = new FlashcardBuilder().withTitle("Data Hazard").build();
+        Flashcard pipelining = new FlashcardBuilder().withTitle("Pipelining").build();
+        index.reset(Arrays.asList(hazards, hazard, pipelining));
+
+        assertEquals(Collections.singleton(hazards.getId()), index.getClosest("data hazrds"));
+        assertEquals(Collections.singleton(hazard.getId()), index.getClosest("  DATA   HAZARD "));
+        assertEquals(Collections.singleton(pipelining.getId()), index.getClosest("Pipelinnig"));
+        assertEquals(new HashSet<>(Arrays.asList(hazards.getId(), hazard.getId())),
+                index.getClosest("Data Hazardz"));
+        assertTrue(index.getClosest("Caches").isEmpty());
+        assertTrue(index.getClosest("Pipe").isEmpty());
+    }
+
+    @Test
+    public void getClosest_afterManyRemovals_onlyRemainingTitles() {
+        List<Flashcard> flashcards = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            flashcards.add(new FlashcardBuilder().withTitle("Lecture " + i).build());
+        }
+        flashcards.forEach(index::added);
+        // enough removals to build the tree again
+        for (int i = 0; i < 50; i++) {
+            if (i % 3 != 1) {
+                index.removed(flashcards.get(i));
+            }
+        }
+        Flashcard renamed = new FlashcardBuilder().withTitle("Tutorial 1").build();
+        index.replaced(flashcards.get(1), new Flashcard(flashcards.get(1).getId(), renamed.getQuestion(),
+                renamed.getAnswer(), renamed.getTitle(), renamed.getStatistics(), renamed.getTags()));
+
+        assertFalse(index.getClosest("Lecture 3").contains(flashcards.get(3).getId()));
+        assertEquals(Collections.singleton(flashcards.get(4).getId()), index.getClosest("Lectrue 4"));
+        assertEquals(Collections.singleton(flashcards.get(1).getId()), index.getClosest("Tutorial 1"));
+        assertEquals(new HashSet<>(Arrays.asList(flashcards.get(4).getId(), flashcards.get(40).getId(),
+                flashcards.get(43).getId(), flashcards.get(46).getId(), flashcards.get(49).getId())),
+                index.getClosest("Lecture 4x"));
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
+import seedu.address.model.flashcard.UniqueFlashcardList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class IndexedFilteredListTest {
+
+    private final UniqueFlashcardList flashcards = new UniqueFlashcardList();
+    private final IndexedFilteredList<Flashcard> view =
+            new IndexedFilteredList<>(flashcards.asUnmodifiableObservableList(), flashcards);
+
+    private final Flashcard heap = new FlashcardBuilder().withTitle("Heap")
+            .withQuestion("What is a heap?").withTags("cs2040").build();
+    private final Flashcard stack = new FlashcardBuilder().withTitle("Stack")
+            .withQuestion("What is a stack?").withTags("cs2040").build();
+    private final Flashcard cache = new FlashcardBuilder().withTitle("Cache")
+            .withQuestion("What is a cache?").withTags("cs2100").build();
+    private final Flashcard pipeline = new FlashcardBuilder().withTitle("Pipeline")
+            .withQuestion("What is a pipeline?").withTags("cs2100").build();
+
+    @Test
+    public void setPredicate_tagPredicate_showsMatchingItemsInListOrder() {
+        flashcards.setFlashcards(Arrays.asList(heap, cache, stack, pipeline));
+
+        view.setPredicate(tagPredicate("cs2040"));
+        assertEquals(Arrays.asList(heap, stack), view);
+        assertEquals(2, view.getSourceIndex(1));
+        assertEquals(-1, view.getViewIndex(1));
+
+        view.setPredicate(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        assertEquals(Arrays.asList(heap, cache, stack, pipeline), view);
+    }
+
+    @Test
+    public void setPredicate_idPredicate_showsItemsWithIds() {
+        flashcards.setFlashcards(Arrays.asList(heap, cache, stack, pipeline));
+
+        view.setPredicate(new ItemIdPredicate<>(Arrays.asList(pipeline.getId(), heap.getId())));
+        assertEquals(Arrays.asList(heap, pipeline), view);
+    }
+
+    @Test
+    public void sourceChanged_addRemoveAndSet_patchesView() {
+        flashcards.setFlashcards(Arrays.asList(heap, cache, stack));
+        view.setPredicate(tagPredicate("cs2100"));
+        List<String> events = recordEvents();
+
+        flashcards.add(pipeline);
+        assertEquals(Arrays.asList(cache, pipeline), view);
+        flashcards.remove(heap);
+        assertEquals(Arrays.asList(cache, pipeline), view);
+        assertEquals(2, view.getSourceIndex(1));
+
+        Flashcard retagged = new Flashcard(stack.getId(), stack.getQuestion(), stack.getAnswer(), stack.getTitle(),
+                stack.getStatistics(), Set.of(new Tag("cs2100")));
+        flashcards.setFlashcard(stack, retagged);
+        assertEquals(Arrays.asList(cache, retagged, pipeline), view);
+        flashcards.remove(cache);
+        assertEquals(Arrays.asList(retagged, pipeline), view);
+
+        // the removal of an item that is not shown is not passed on
+        assertEquals(Arrays.asList("added [Pipeline]", "added [Stack]", "removed [Cache]"), events);
+    }
+
+    @Test
+    public void sourceChanged_showAll_passedOn() {
+        view.setPredicate(Model.PREDICATE_SHOW_ALL_FLASHCARDS);
+        flashcards.add(heap);
+        flashcards.add(stack);
+        flashcards.remove(heap);
+        assertEquals(Arrays.asList(stack), view);
+    }
+
+    @Test
+    public void sourceChanged_manyChanges_sameAsTestingEveryItem() {
+        List<Flashcard> added = new ArrayList<>();
+        view.setPredicate(tagPredicate("cs2100"));
+        for (int i = 0; i < 60; i++) {
+            Flashcard flashcard = new FlashcardBuilder().withTitle("Card " + i).withQuestion("What is card " + i + "?")
+                    .withTags(i % 3 == 0 ? "cs2100" : "cs2040").build();
+            flashcards.add(flashcard);
+            added.add(flashcard);
+            if (i % 4 == 3) {
+                flashcards.remove(added.remove(i / 5));
+            }
+        }
+
+        List<Flashcard> expected = flashcards.asUnmodifiableObservableList().stream()
+                .filter(tagPredicate("cs2100")).collect(Collectors.toList());
+        assertTrue(expected.size() > 10);
+        assertEquals(expected, view);
+    }
+
+    private List<String> recordEvents() {
+        List<String> events = new ArrayList<>();
+        view.addListener((ListChangeListener<Flashcard>) change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    events.add("removed " + titles(change.getRemoved()));
+                }
+                if (change.wasAdded()) {
+                    events.add("added " + titles(change.getAddedSubList()));
+                }
+            }
+        });
+        return events;
+    }
+
+    private static List<String> titles(List<? extends Flashcard> flashcards) {
+        return flashcards.stream().map(flashcard -> flashcard.getTitle().toString()).collect(Collectors.toList());
+    }
+
+    private static FlashcardContainsTagPredicate tagPredicate(String tagName) {
+        return new FlashcardContainsTagPredicate(Set.of(new Tag(tagName)));
+    }
+}
@@ -16,10 +16,23 @@ import static seedu.address.testutil.TypicalNotes.POTATO;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.DayClock;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.FunctionMode;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
+import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.Sm2Scheduler;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.FlashcardBuilder;
 import seedu.address.testutil.StudyBuddyProBuilder;
 
 public class ModelManagerTest {
@@ -139,6 +152,72 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCheatSheetList().remove(0));
     }
 
+    @Test
+    public void collectTaggedFlashcards_repeatedQuery_answeredFromCacheUntilFlashcardsChange() {
+        modelManager.addFlashcard(MATH_ONE);
+        FlashcardContainsTagPredicate predicate = new FlashcardContainsTagPredicate(Set.of(new Tag("maths")));
+        assertEquals(1, modelManager.collectTaggedFlashcards(predicate).size());
+        assertEquals(0, modelManager.getQueryCacheHitCount());
+
+        // an equal predicate, and a change to another collection -> answered from the cache
+        modelManager.addNote(PIPELINE);
+        assertEquals(1, modelManager.collectTaggedFlashcards(
+                new FlashcardContainsTagPredicate(Set.of(new Tag("maths")))).size());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+
+        // a change to the flashcards -> computed again
+        modelManager.addFlashcard(CS_ONE);
+        modelManager.deleteFlashcard(MATH_ONE);
+        assertTrue(modelManager.collectTaggedFlashcards(predicate).isEmpty());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+        assertEquals(2, modelManager.getQueryCacheMissCount());
+    }
+
+    @Test
+    public void getListOfTags_modifyResult_cacheUnaffected() {
+        modelManager.addFlashcard(MATH_ONE);
+        modelManager.getListOfTags().clear();
+        assertEquals(List.of("maths"), modelManager.getListOfTags());
+        assertEquals(1, modelManager.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void reviewFlashcard_schedulerInUserPrefs_scheduledBySm2() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setReviewScheduler(Sm2Scheduler.NAME);
+        modelManager = new ModelManager(new StudyBuddyPro(), userPrefs);
+        Flashcard flashcard = new FlashcardBuilder().withTitle("Graded").withQuestion("Was it easy?").build();
+        modelManager.addFlashcard(flashcard);
+
+        modelManager.reviewFlashcard(flashcard, RecallQuality.EASY);
+        assertEquals(2.6, flashcard.getStatistics().getReviewState().getEase(), 1e-9);
+        assertEquals(List.of(flashcard), modelManager.getFlashcardsDueOn(DayClock.today().plusDays(1)));
+    }
+
+    @Test
+    public void getFlashcardById_flashcardEdited_editedFlashcardReturned() {
+        Flashcard flashcard = new FlashcardBuilder().withTitle("Loaded").withQuestion("Was it edited?").build();
+        modelManager.addFlashcard(flashcard);
+        Flashcard editedFlashcard = new Flashcard(flashcard.getId(), new Question("Was it edited since?"),
+                flashcard.getAnswer(), flashcard.getTitle(), flashcard.getStatistics(), flashcard.getTags());
+        modelManager.setFlashcard(flashcard, editedFlashcard);
+
+        assertTrue(modelManager.getFlashcardById(flashcard.getId()).get() == editedFlashcard);
+        modelManager.deleteFlashcard(editedFlashcard);
+        assertEquals(Optional.empty(), modelManager.getFlashcardById(flashcard.getId()));
+    }
+
+    @Test
+    public void constructor_unsavedMode_savedInFull() {
+        StudyBuddyPro studyBuddyPro = new StudyBuddyProBuilder().withFlashcard(CS_ONE).withNote(PIPELINE).build();
+        modelManager = new ModelManager(studyBuddyPro, new UserPrefs(), EnumSet.of(FunctionMode.FLASHCARD));
+
+        ReadOnlyStudyBuddyPro loaded = modelManager.getStudyBuddyPro();
+        assertTrue(loaded.isFlashcardsModified());
+        assertFalse(loaded.isNotesModified());
+        assertEquals(Optional.empty(), loaded.getUnsavedChanges());
+    }
+
     @Test
     public void equals() {
         StudyBuddyPro studyBuddyPro =
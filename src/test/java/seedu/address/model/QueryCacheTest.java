@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.QueryCache.QueryType;
+
+public class QueryCacheTest {
+
+    private final AtomicInteger queryCount = new AtomicInteger();
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_sameQueryAndEpochs_computedOnce() {
+        QueryCache cache = new QueryCache(4);
+        assertEquals(List.of("a"), cache.get(QueryType.TAGGED_NOTES, "cs2100", new long[] {1}, query("a")));
+        assertEquals(List.of("a"), cache.get(QueryType.TAGGED_NOTES, "cs2100", new long[] {1}, query("b")));
+
+        assertEquals(1, queryCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void get_changedEpochs_computedAgain() {
+        QueryCache cache = new QueryCache(4);
+        cache.get(QueryType.TAGGED_ITEMS, "cs2100", new long[] {1, 1}, query("a"));
+
+        assertEquals(List.of("b"), cache.get(QueryType.TAGGED_ITEMS, "cs2100", new long[] {1, 2}, query("b")));
+        assertEquals(List.of("b"), cache.get(QueryType.TAGGED_ITEMS, "cs2100", new long[] {1, 2}, query("c")));
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void get_differentTypeOrArgument_keptApart() {
+        QueryCache cache = new QueryCache(4);
+        cache.get(QueryType.TAGGED_NOTES, "cs2100", new long[] {1}, query("a"));
+
+        assertEquals(List.of("b"), cache.get(QueryType.TAGGED_CHEATSHEETS, "cs2100", new long[] {1}, query("b")));
+        assertEquals(List.of("c"), cache.get(QueryType.TAGGED_NOTES, "cs2105", new long[] {1}, query("c")));
+        assertEquals(List.of("d"), cache.get(QueryType.TAG_NAMES, null, new long[] {1}, query("d")));
+        assertEquals(List.of("d"), cache.get(QueryType.TAG_NAMES, null, new long[] {1}, query("e")));
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void get_fullCache_dropsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2);
+        cache.get(QueryType.TAGGED_NOTES, "first", new long[] {1}, query("a"));
+        cache.get(QueryType.TAGGED_NOTES, "second", new long[] {1}, query("b"));
+        cache.get(QueryType.TAGGED_NOTES, "first", new long[] {1}, query("c"));
+        cache.get(QueryType.TAGGED_NOTES, "third", new long[] {1}, query("d"));
+
+        assertEquals(2, cache.size());
+        assertEquals(List.of("a"), cache.get(QueryType.TAGGED_NOTES, "first", new long[] {1}, query("e")));
+        assertEquals(List.of("f"), cache.get(QueryType.TAGGED_NOTES, "second", new long[] {1}, query("f")));
+    }
+
+    private Supplier<List<String>> query(String result) {
+        return () -> {
+            queryCount.incrementAndGet();
+            return List.of(result);
+        };
+    }
+}
@@ -3,19 +3,27 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-//import static seedu.address.logic.commands.CommandTestUtil.VALID_QUESTION_ONE;
-//import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_INTELLIJ;
-//import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_ONE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_QUESTION_ONE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_INTELLIJ;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SHORTCUTS;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TITLE_ONE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCheatSheets.CS1;
+import static seedu.address.testutil.TypicalFlashcards.CS_ONE;
+import static seedu.address.testutil.TypicalFlashcards.INTELLIJ_ONE;
+import static seedu.address.testutil.TypicalFlashcards.INTELLIJ_TWO;
 import static seedu.address.testutil.TypicalFlashcards.MATH_ONE;
 import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
 import static seedu.address.testutil.TypicalNotes.PIPELINE;
-//import java.util.Arrays;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-//import java.util.List;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,13 +31,18 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 import seedu.address.model.cheatsheet.CheatSheet;
+import seedu.address.model.cheatsheet.Content;
+import seedu.address.model.cheatsheet.Title;
 import seedu.address.model.flashcard.Flashcard;
-//import seedu.address.model.flashcard.exceptions.DuplicateFlashcardQuestionException;
-//import seedu.address.model.flashcard.exceptions.DuplicateFlashcardTitleException;
+import seedu.address.model.flashcard.FlashcardContainsTagPredicate;
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.flashcard.exceptions.DuplicateFlashcardQuestionException;
+import seedu.address.model.flashcard.exceptions.DuplicateFlashcardTitleException;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
 import seedu.address.model.note.Note;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
-//import seedu.address.testutil.FlashcardBuilder;
+import seedu.address.testutil.FlashcardBuilder;
 
 public class StudyBuddyProTest {
 
@@ -54,7 +67,6 @@ public class StudyBuddyProTest {
         assertEquals(newData, studyBuddyPro);
     }
 
-    /* To fix, test design wrong?
     @Test
     public void resetData_withDuplicateFlashcards_throwsDuplicateFlashcardQuestionException() {
         // Two flashcards with the same question fields.
@@ -77,8 +89,6 @@ public class StudyBuddyProTest {
 
         assertThrows(DuplicateFlashcardTitleException.class, () -> studyBuddyPro.resetData(newData));
     }
-    */
-
     @Test
     public void hasFlashcard_nullFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> studyBuddyPro.hasFlashcard(null));
@@ -109,6 +119,207 @@ public class StudyBuddyProTest {
         assertFalse(studyBuddyPro.hasCheatSheet(CS1));
     }
 
+    @Test
+    public void loadFlashcards_withDuplicate_duplicateReturnedAndOthersAdded() {
+        Flashcard sameTitle = new FlashcardBuilder().withTitle(MATH_ONE.getTitle().toString())
+                .withTags("duplicateOnly").build();
+        List<Flashcard> duplicates = studyBuddyPro.loadFlashcards(Arrays.asList(MATH_ONE, sameTitle, CS_ONE));
+
+        assertEquals(Collections.singletonList(sameTitle), duplicates);
+        assertEquals(Arrays.asList(MATH_ONE, CS_ONE), studyBuddyPro.getFlashcardList());
+        assertTrue(studyBuddyPro.getTagList().containsAll(MATH_ONE.getTags()));
+        assertFalse(studyBuddyPro.getTagList().contains(new Tag("duplicateOnly")));
+    }
+
+    @Test
+    public void getTagList_itemsAddedAndRemoved_sortedTagsInUse() {
+        Flashcard zeta = new FlashcardBuilder().withTitle("Zeta").withQuestion("Zeta?").withTags("zeta", "shared")
+                .build();
+        Flashcard alpha = new FlashcardBuilder().withTitle("Alpha").withQuestion("Alpha?").withTags("alpha", "shared")
+                .build();
+        studyBuddyPro.addFlashcard(zeta);
+        studyBuddyPro.addFlashcard(alpha);
+        assertEquals(Arrays.asList(new Tag("alpha"), new Tag("shared"), new Tag("zeta")),
+                studyBuddyPro.getTagList());
+
+        studyBuddyPro.removeFlashcard(zeta);
+        assertEquals(Arrays.asList(new Tag("alpha"), new Tag("shared")), studyBuddyPro.getTagList());
+
+        studyBuddyPro.setFlashcards(Collections.emptyList());
+        assertEquals(Collections.emptyList(), studyBuddyPro.getTagList());
+    }
+
+    @Test
+    public void getStatistics_afterEdit_countsUpdated() {
+        studyBuddyPro.addFlashcard(INTELLIJ_ONE);
+        studyBuddyPro.addFlashcard(INTELLIJ_TWO);
+        studyBuddyPro.setFlashcard(INTELLIJ_ONE, new FlashcardBuilder(INTELLIJ_ONE).withTags("maths").build());
+
+        List<StudyBuddyCounter> counters = studyBuddyPro.getStatistics(
+                new ArrayList<>(Arrays.asList(new Tag(VALID_TAG_INTELLIJ), new Tag("maths"), new Tag("unused"))));
+        assertEquals(1, counters.get(0).getFlashcardCount());
+        assertEquals(1, counters.get(1).getFlashcardCount());
+        assertFalse(counters.get(2).isTagExisting());
+    }
+
+    @Test
+    public void collectTaggedFlashcards_afterRemove_sameAsTestingEveryFlashcard() {
+        studyBuddyPro.addFlashcard(INTELLIJ_ONE);
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.addFlashcard(INTELLIJ_TWO);
+        studyBuddyPro.removeFlashcard(MATH_ONE);
+        FlashcardContainsTagPredicate predicate =
+                new FlashcardContainsTagPredicate(Collections.singleton(new Tag(VALID_TAG_INTELLIJ)));
+
+        assertEquals(Arrays.asList("1. " + INTELLIJ_ONE, "2. " + INTELLIJ_TWO),
+                studyBuddyPro.collectTaggedFlashcards(predicate));
+        assertEquals(studyBuddyPro.collectTaggedFlashcards(flashcard -> predicate.test(flashcard)),
+                studyBuddyPro.collectTaggedFlashcards(predicate));
+        assertEquals(Arrays.asList(INTELLIJ_ONE, INTELLIJ_TWO), studyBuddyPro.getTaggedFlashcards(predicate));
+    }
+
+    @Test
+    public void collectTaggedFlashcards_tagQuery_sameAsTestingEveryFlashcard() {
+        studyBuddyPro.addFlashcard(INTELLIJ_ONE);
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.addFlashcard(INTELLIJ_TWO);
+        studyBuddyPro.addFlashcard(CS_ONE);
+        TagQuery query = TagQuery.or(Arrays.asList(
+                TagQuery.and(Arrays.asList(TagQuery.tag(new Tag(VALID_TAG_INTELLIJ)),
+                        TagQuery.not(TagQuery.tag(new Tag(VALID_TAG_SHORTCUTS))))),
+                TagQuery.tag(new Tag("maths"))));
+        FlashcardContainsTagPredicate predicate = new FlashcardContainsTagPredicate(query);
+
+        assertEquals(Arrays.asList("1. " + INTELLIJ_ONE, "2. " + MATH_ONE),
+                studyBuddyPro.collectTaggedFlashcards(predicate));
+        assertEquals(studyBuddyPro.collectTaggedFlashcards(flashcard -> predicate.test(flashcard)),
+                studyBuddyPro.collectTaggedFlashcards(predicate));
+    }
+
+    @Test
+    public void nestedTags_parentTag_matchesAndCountsWholeSubtree() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("Cache?")
+                .withTags("cs2100-cache", "cs2100-cache-l1").build();
+        Flashcard pipelining = new FlashcardBuilder().withTitle("Pipelining").withQuestion("Pipelining?")
+                .withTags("cs2100-pipelining").build();
+        studyBuddyPro.addFlashcard(cache);
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.addFlashcard(pipelining);
+        FlashcardContainsTagPredicate predicate =
+                new FlashcardContainsTagPredicate(Collections.singleton(new Tag("cs2100")));
+
+        assertEquals(Arrays.asList(cache, pipelining), studyBuddyPro.getTaggedFlashcards(predicate));
+        assertEquals(Arrays.asList("cs2100", "cs2100-cache", "cs2100-cache-l1", "cs2100-pipelining", "maths"),
+                studyBuddyPro.getListOfTags());
+        assertEquals(2, studyBuddyPro.getStatistics(new ArrayList<>(Arrays.asList(new Tag("cs2100"))))
+                .get(0).getFlashcardCount());
+
+        studyBuddyPro.removeFlashcard(pipelining);
+        assertEquals(Collections.singletonList(cache), studyBuddyPro.getTaggedFlashcards(predicate));
+        assertEquals(1, studyBuddyPro.getStatistics(new ArrayList<>(Arrays.asList(new Tag("cs2100"))))
+                .get(0).getFlashcardCount());
+    }
+
+    @Test
+    public void findItems_afterEditAndRemove_matchesCurrentText() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("What is a cache?").build();
+        Flashcard editedCache = new FlashcardBuilder(cache).withQuestion("What is a write buffer?").build();
+        studyBuddyPro.addFlashcard(cache);
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.addNote(PIPELINE);
+
+        assertEquals(Collections.singletonList("Flashcard: 1. " + cache.toString()),
+                studyBuddyPro.findItems("cache", 10));
+
+        studyBuddyPro.setFlashcard(cache, editedCache);
+        assertTrue(studyBuddyPro.findItems("cache", 10).isEmpty());
+        assertEquals(Collections.singletonList("Flashcard: 1. " + editedCache.toString()),
+                studyBuddyPro.findItems("buffer", 10));
+
+        studyBuddyPro.removeFlashcard(editedCache);
+        assertTrue(studyBuddyPro.findItems("buffer", 10).isEmpty());
+        assertEquals(Collections.singletonList("Flashcard: 1. " + MATH_ONE.toString()),
+                studyBuddyPro.findItems("2", 10));
+    }
+
+    @Test
+    public void renameTag_taggedItemsAndContents_tagsReplacedInPlace() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("Cache?")
+                .withTags("cs2100", "cs2100-cache").build();
+        Content content = new Content("Caches are fast", Collections.singleton(new Tag("cs2100")));
+        CheatSheet cheatSheet = new CheatSheet(new Title("Caches"), Collections.singleton(content),
+                Collections.singleton(new Tag("revision")));
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.addFlashcard(cache);
+        studyBuddyPro.addCheatSheet(cheatSheet);
+        studyBuddyPro.markAsSaved();
+
+        assertEquals(2, studyBuddyPro.renameTag(new Tag("cs2100"), new Tag("cs2100-midterm")));
+
+        Flashcard renamedCache = studyBuddyPro.getFlashcardList().get(1);
+        assertEquals(cache.getId(), renamedCache.getId());
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("cs2100-midterm"), new Tag("cs2100-cache"))),
+                renamedCache.getTags());
+        assertEquals(Collections.singleton(new Tag("cs2100-midterm")),
+                studyBuddyPro.getCheatSheetList().get(0).getContentTags());
+        assertFalse(studyBuddyPro.hasTag(new Tag("cs2100")));
+        assertEquals(Arrays.asList("cs2100", "cs2100-cache", "cs2100-midterm", "maths", "revision"),
+                studyBuddyPro.getListOfTags());
+        assertTrue(studyBuddyPro.isFlashcardsModified());
+        assertTrue(studyBuddyPro.isCheatSheetsModified());
+        assertFalse(studyBuddyPro.isNotesModified());
+        assertEquals(2, studyBuddyPro.getUnsavedChanges().get().size());
+    }
+
+    @Test
+    public void renameTag_replacementInUse_tagsMerged() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("Cache?")
+                .withTags("cs2100", "caches").build();
+        Flashcard memory = new FlashcardBuilder().withTitle("Memory").withQuestion("Memory?")
+                .withTags("caches").build();
+        studyBuddyPro.addFlashcard(cache);
+        studyBuddyPro.addFlashcard(memory);
+
+        assertEquals(2, studyBuddyPro.renameTag(new Tag("caches"), new Tag("cs2100")));
+
+        assertEquals(Collections.singleton(new Tag("cs2100")), studyBuddyPro.getFlashcardList().get(0).getTags());
+        assertEquals(Collections.singleton(new Tag("cs2100")), studyBuddyPro.getFlashcardList().get(1).getTags());
+        assertEquals(Collections.singletonList("cs2100"), studyBuddyPro.getListOfTags());
+        assertEquals(2, studyBuddyPro.getStatistics(new ArrayList<>(Arrays.asList(new Tag("cs2100"))))
+                .get(0).getFlashcardCount());
+    }
+
+    @Test
+    public void removeTag_taggedItems_tagRemovedAndNestedTagsKept() {
+        Flashcard cache = new FlashcardBuilder().withTitle("Cache").withQuestion("Cache?")
+                .withTags("cs2100", "cs2100-cache").build();
+        studyBuddyPro.addFlashcard(cache);
+        studyBuddyPro.addFlashcard(MATH_ONE);
+
+        assertEquals(1, studyBuddyPro.removeTag(new Tag("cs2100")));
+        assertEquals(0, studyBuddyPro.removeTag(new Tag("physics")));
+
+        assertEquals(Collections.singleton(new Tag("cs2100-cache")), studyBuddyPro.getFlashcardList().get(0).getTags());
+        assertFalse(studyBuddyPro.hasTag(new Tag("cs2100")));
+        assertTrue(studyBuddyPro.hasTag(new Tag("cs2100-cache")));
+        assertEquals(MATH_ONE, studyBuddyPro.getFlashcardList().get(1));
+    }
+
+    @Test
+    public void hasTag_tagOnlyInCheatSheetContent_returnsTrue() {
+        Content content = new Content("Caches are fast", Collections.singleton(new Tag("cs2100-cache")));
+        studyBuddyPro.addCheatSheet(new CheatSheet(new Title("Caches"), Collections.singleton(content),
+                Collections.singleton(new Tag("revision"))));
+
+        assertTrue(studyBuddyPro.hasTag(new Tag("cs2100-cache")));
+        assertTrue(studyBuddyPro.hasTag(new Tag("revision")));
+        // tags nested in a content tag are not counted
+        assertFalse(studyBuddyPro.hasTag(new Tag("cs2100")));
+
+        assertEquals(1, studyBuddyPro.removeTag(new Tag("cs2100-cache")));
+        assertFalse(studyBuddyPro.hasTag(new Tag("cs2100-cache")));
+    }
+
     @Test
     public void hasFlashcard_flashcardInStudyBuddyPro_returnsTrue() {
         studyBuddyPro.addFlashcard(MATH_ONE);
@@ -127,6 +338,95 @@ public class StudyBuddyProTest {
         assertTrue(studyBuddyPro.hasCheatSheet(CS1));
     }
 
+    @Test
+    public void isModified_newStudyBuddyPro_returnsFalse() {
+        assertFalse(studyBuddyPro.isModified());
+    }
+
+    @Test
+    public void isModified_afterAddFlashcard_onlyFlashcardsModified() {
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        assertTrue(studyBuddyPro.isFlashcardsModified());
+        assertFalse(studyBuddyPro.isNotesModified());
+        assertFalse(studyBuddyPro.isCheatSheetsModified());
+    }
+
+    @Test
+    public void isModified_afterUpdateFlashcardStatistics_returnsTrue() {
+        StudyBuddyPro typicalStudyBuddyPro = getTypicalStudyBuddyPro();
+        typicalStudyBuddyPro.markAsSaved();
+        typicalStudyBuddyPro.updateFlashcardStatistics(typicalStudyBuddyPro.getFlashcardList().get(0));
+        assertTrue(typicalStudyBuddyPro.isFlashcardsModified());
+        assertFalse(typicalStudyBuddyPro.isNotesModified());
+    }
+
+    @Test
+    public void getUnsavedChanges_itemChanges_recordedInOrder() {
+        studyBuddyPro.addFlashcard(MATH_ONE);
+        studyBuddyPro.removeFlashcard(MATH_ONE);
+        assertEquals(Arrays.asList(StudyBuddyProChange.add(MATH_ONE), StudyBuddyProChange.remove(MATH_ONE)),
+                studyBuddyPro.getUnsavedChanges().get());
+    }
+
+    @Test
+    public void getUnsavedChanges_reviewedFlashcard_recordedAsReview() {
+        Flashcard flashcard = new FlashcardBuilder().build();
+        studyBuddyPro.addFlashcard(flashcard);
+        studyBuddyPro.markAsSaved();
+        studyBuddyPro.reviewFlashcard(flashcard, RecallQuality.GOOD);
+
+        StudyBuddyProChange change = studyBuddyPro.getUnsavedChanges().get().get(0);
+        assertEquals(StudyBuddyProChange.Operation.REVIEW, change.getOperation());
+        ReviewEvent reviewEvent = change.getReviewEvent().get();
+        assertEquals(flashcard.getId(), reviewEvent.getFlashcardId());
+        assertEquals(Optional.of(RecallQuality.GOOD), reviewEvent.getQuality());
+        assertEquals(flashcard.getStatistics(), reviewEvent.getStatistics());
+    }
+
+    @Test
+    public void reviewFlashcard_afterView_replacesView() {
+        Flashcard viewed = new FlashcardBuilder().withTitle("Viewed").withQuestion("Viewed?")
+                .withToViewNext(LocalDate.now()).build();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Reviewed?")
+                .withToViewNext(LocalDate.now()).build();
+        studyBuddyPro.addFlashcard(viewed);
+        studyBuddyPro.addFlashcard(reviewed);
+
+        studyBuddyPro.updateFlashcardStatistics(viewed, 1500);
+        studyBuddyPro.reviewFlashcard(viewed, RecallQuality.AGAIN);
+        studyBuddyPro.reviewFlashcard(reviewed, RecallQuality.AGAIN);
+        assertEquals(reviewed.getStatistics(), viewed.getStatistics());
+
+        // grading again replaces the first grade
+        studyBuddyPro.reviewFlashcard(viewed, RecallQuality.HARD);
+        Flashcard reviewedOnce = new FlashcardBuilder().withTitle("Once").withQuestion("Once?")
+                .withToViewNext(LocalDate.now()).build();
+        studyBuddyPro.addFlashcard(reviewedOnce);
+        studyBuddyPro.reviewFlashcard(reviewedOnce, RecallQuality.HARD);
+        assertEquals(reviewedOnce.getStatistics(), viewed.getStatistics());
+
+        List<StudyBuddyProChange> changes = studyBuddyPro.getUnsavedChanges().get();
+        ReviewEvent lastReviewOfViewed = changes.get(changes.size() - 3).getReviewEvent().get();
+        assertEquals(Optional.of(RecallQuality.HARD), lastReviewOfViewed.getQuality());
+        assertEquals(1500, lastReviewOfViewed.getResponseMillis());
+    }
+
+    @Test
+    public void getUnsavedChanges_bulkChange_notTracked() {
+        studyBuddyPro.setFlashcards(Collections.singletonList(MATH_ONE));
+        assertFalse(studyBuddyPro.getUnsavedChanges().isPresent());
+        studyBuddyPro.markAsSaved();
+        assertTrue(studyBuddyPro.getUnsavedChanges().get().isEmpty());
+    }
+
+    @Test
+    public void markAsSaved_modifiedStudyBuddyPro_clearsAllFlags() {
+        studyBuddyPro.addNote(PIPELINE);
+        studyBuddyPro.addCheatSheet(CS1);
+        studyBuddyPro.markAsSaved();
+        assertFalse(studyBuddyPro.isModified());
+    }
+
     /* Unused test, kept for reference
     @Test
     public void hasPerson_personWithSameIdentityFieldsInAddressBook_returnsTrue() {
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.exceptions.SearchCancelledException;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Question;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class TrigramIndexTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final TrigramIndex index = new TrigramIndex(item -> ((Flashcard) item).getQuestion().toString());
+
+    @Test
+    public void getRequiredLiterals_variousPatterns_onlyTextEveryMatchHas() {
+        assertEquals(Collections.singletonList("O(n log n)"),
+                TrigramIndex.getRequiredLiterals(Pattern.compile("O\\(n log n\\)")));
+        assertEquals(Arrays.asList("quick", "sor"),
+                TrigramIndex.getRequiredLiterals(Pattern.compile("quick\\s+sort?")));
+        assertEquals(Arrays.asList("merge", "sort"),
+                TrigramIndex.getRequiredLiterals(Pattern.compile("merge(-| )?sort")));
+        assertEquals(Collections.singletonList("heap"),
+                TrigramIndex.getRequiredLiterals(Pattern.compile("[]a-z]+heap[^]]")));
+        assertTrue(TrigramIndex.getRequiredLiterals(Pattern.compile("heap|stack")).isEmpty());
+        assertTrue(TrigramIndex.getRequiredLiterals(Pattern.compile("(?x) h e a p")).isEmpty());
+        assertEquals(Collections.singletonList("a|b*"),
+                TrigramIndex.getRequiredLiterals(Pattern.compile("a|b*", Pattern.LITERAL)));
+    }
+
+    @Test
+    public void getRequiredLiterals_escapesWithArguments_argumentsNotTakenAsText() {
+        for (String regex : Arrays.asList("\\x41heap", "\\x{41}heap", "\\u0041heap", "\\0101heap",
+                "\\cAheap", "\\p{Lu}heap", "\\pLheap", "(?<a>x)\\k<a>heap", "(x)\\1heap")) {
+            assertEquals(Collections.singletonList("heap"), TrigramIndex.getRequiredLiterals(Pattern.compile(regex)),
+                    regex);
+        }
+
+        Flashcard heap = new FlashcardBuilder().withTitle("Heap").withQuestion("What is A heap?").build();
+        index.added(heap);
+        assertEquals(Collections.singletonList(heap.getId()),
+                index.getCandidates(Pattern.compile("is \\u0041 heap")));
+    }
+
+    @Test
+    public void search_regexAndSubstring_matchesWithPositions() {
+        Flashcard quickSort = new FlashcardBuilder().withTitle("Quick sort")
+                .withQuestion("Why is quick sort O(n log n) on average?").build();
+        Flashcard bubbleSort = new FlashcardBuilder().withTitle("Bubble sort")
+                .withQuestion("Why is bubble sort O(n^2)?").build();
+        index.added(quickSort);
+        index.added(bubbleSort);
+
+        List<GrepMatch> matches = index.search(new GrepSearch(Pattern.compile("O\\(n log n\\)"), TIMEOUT),
+                ForkJoinPool.commonPool());
+        assertEquals(Collections.singletonList(new GrepMatch(quickSort.getId(),
+                "Why is quick sort O(n log n) on average?", new int[] {18, 28})), matches);
+        assertEquals(Collections.singletonList("Why is quick sort >>O(n log n)<< on average?"),
+                matches.get(0).getHighlightedLines(">>", "<<"));
+
+        matches = index.search(GrepSearch.forSubstring("SORT", TIMEOUT), ForkJoinPool.commonPool());
+        assertTrue(matches.isEmpty());
+        matches = index.search(new GrepSearch(Pattern.compile("(?i)SORT O"), TIMEOUT), ForkJoinPool.commonPool());
+        assertEquals(2, matches.size());
+    }
+
+    @Test
+    public void search_afterRemoveAndReplace_indexUpdated() {
+        Flashcard heap = new FlashcardBuilder().withTitle("Heap").withQuestion("What is a heap?").build();
+        index.added(heap);
+        Flashcard editedHeap = new Flashcard(heap.getId(), new Question("What is a stack?"),
+                heap.getAnswer(), heap.getTitle(), heap.getStatistics(), heap.getTags());
+        index.replaced(heap, editedHeap);
+
+        assertTrue(index.getCandidates(Pattern.compile("heap")).isEmpty());
+        assertEquals(Collections.singletonList(heap.getId()), index.getCandidates(Pattern.compile("stack")));
+
+        index.removed(editedHeap);
+        assertTrue(index.getCandidates(Pattern.compile("stack")).isEmpty());
+    }
+
+    @Test
+    public void search_cancelled_throwsSearchCancelledException() {
+        index.added(new FlashcardBuilder().withTitle("Heap").withQuestion("What is a heap?").build());
+        GrepSearch search = new GrepSearch(Pattern.compile("heap"), TIMEOUT);
+        search.cancel();
+        assertThrows(SearchCancelledException.class, () -> index.search(search, ForkJoinPool.commonPool()));
+    }
+
+    @Test
+    public void search_catastrophicBacktracking_stopsOnTimeout() {
+        index.added(new FlashcardBuilder().withTitle("Backtracking")
+                .withQuestion("aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac").build());
+        ForkJoinPool pool = new ForkJoinPool(1);
+        GrepSearch search = new GrepSearch(Pattern.compile("(.*a){25}b"), Duration.ofMillis(100));
+
+        assertThrows(SearchCancelledException.class, () -> index.search(search, pool));
+        // the match is abandoned in the middle of the text, instead of keeping the pool busy
+        assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+        pool.shutdown();
+    }
+
+    @Test
+    public void getHighlightedLines_severalLines_onlyMatchingLinesShown() {
+        GrepMatch match = new GrepMatch(1, "one two\nthree\ntwo two", new int[] {4, 7, 14, 17, 18, 21});
+        assertEquals(Arrays.asList("one >>two<<", ">>two<< >>two<<"), match.getHighlightedLines(">>", "<<"));
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.model.flashcard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.FlashcardBuilder;
+
+public class DueDateIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 4, 10);
+
+    private final DueDateIndex index = new DueDateIndex();
+
+    @Test
+    public void getIdsDue_flashcardsOnSeveralDays_byDay() {
+        Flashcard lastWeek = new FlashcardBuilder().withTitle("Last week").withToViewNext(TODAY.minusDays(7)).build();
+        Flashcard yesterday = new FlashcardBuilder().withTitle("Yesterday").withToViewNext(TODAY.minusDays(1)).build();
+        Flashcard today = new FlashcardBuilder().withTitle("Today").withToViewNext(TODAY).build();
+        Flashcard tomorrow = new FlashcardBuilder().withTitle("Tomorrow").withToViewNext(TODAY.plusDays(1)).build();
+        index.reset(Arrays.asList(tomorrow, today, yesterday, lastWeek));
+
+        assertEquals(Set.of(today.getId()), index.getIdsDueOn(TODAY));
+        assertEquals(List.of(lastWeek.getId(), yesterday.getId()), index.getIdsDueBefore(TODAY));
+        assertEquals(Set.of(lastWeek.getId()), index.getIdsDueFirst());
+        assertTrue(index.getIdsDueOn(TODAY.plusDays(2)).isEmpty());
+        assertEquals(new DueCounts(TODAY, 1, 2), index.countDue(TODAY));
+        assertEquals(new DueCounts(TODAY.plusDays(2), 0, 4), index.countDue(TODAY.plusDays(2)));
+    }
+
+    @Test
+    public void rescheduled_statisticsChangedInPlace_movedToNewDay() {
+        Flashcard flashcard = new FlashcardBuilder().withTitle("Viewed")
+                .withToViewNext(LocalDate.now().minusDays(3)).build();
+        index.added(flashcard);
+
+        flashcard.updateStatistics();
+        index.rescheduled(flashcard);
+
+        LocalDate nextDay = flashcard.getStatistics().getToViewNext();
+        assertTrue(nextDay.isAfter(LocalDate.now()));
+        assertEquals(Set.of(flashcard.getId()), index.getIdsDueOn(nextDay));
+        assertTrue(index.getIdsDueBefore(nextDay).isEmpty());
+    }
+
+    @Test
+    public void rescheduled_flashcardNotInIndex_ignored() {
+        Flashcard flashcard = new FlashcardBuilder().withTitle("Removed").withToViewNext(TODAY).build();
+        index.added(flashcard);
+        index.removed(flashcard);
+
+        index.rescheduled(flashcard);
+        assertTrue(index.getIdsDueFirst().isEmpty());
+        assertEquals(new DueCounts(TODAY.plusDays(1), 0, 0), index.countDue(TODAY.plusDays(1)));
+    }
+
+    @Test
+    public void removed_lastFlashcardOfDay_dayDropped() {
+        Flashcard first = new FlashcardBuilder().withTitle("First").withToViewNext(TODAY.minusDays(2)).build();
+        Flashcard second = new FlashcardBuilder().withTitle("Second").withToViewNext(TODAY).build();
+        index.added(first);
+        index.added(second);
+
+        index.removed(first);
+        assertEquals(Set.of(second.getId()), index.getIdsDueFirst());
+        index.removed(second);
+        assertTrue(index.getIdsDueFirst().isEmpty());
+        // removing a flashcard twice does nothing
+        index.removed(second);
+    }
+}
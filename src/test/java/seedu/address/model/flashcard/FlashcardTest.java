@@ -33,8 +33,9 @@ public class FlashcardTest {
     public void updateStatistics() {
         Flashcard flashcard = new FlashcardBuilder().build();
         flashcard.updateStatistics();
+        // a new flashcard is not due yet, so viewing it does not move it to the next increment
         Flashcard updatedFlashcard = new FlashcardBuilder().withStatistics(new Statistics(LocalDate.now(),
-                LocalDate.now().plusDays(1), ScheduleIncrement.SECOND)).build();
+                LocalDate.now().plusDays(1), ScheduleIncrement.FIRST)).build();
         assertEquals(flashcard, updatedFlashcard);
     }
 
@@ -10,6 +10,9 @@ import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.model.flashcard.scheduler.Sm2Scheduler;
+
 public class StatisticsTest {
 
     private final Statistics nonStandardStatistics = new Statistics(LocalDate.now().minusDays(10), LocalDate.now()
@@ -71,6 +74,17 @@ public class StatisticsTest {
         assertEquals(testStatistics.getToViewNext(), LocalDate.now().plusDays(3)); //As per the fifth ScheduleIncrement
     }
 
+    @Test
+    public void onReview_forgottenBeforeDue_rescheduledByScheduler() {
+        Statistics testStatistics = new Statistics(LocalDate.now().minusDays(3), LocalDate.now().plusDays(4),
+                ScheduleIncrement.FINAL);
+        testStatistics.onReview(RecallQuality.AGAIN, new Sm2Scheduler());
+        assertEquals(testStatistics.getLastViewed(), LocalDate.now());
+        assertEquals(testStatistics.getCurrentIncrement(), ScheduleIncrement.FIRST);
+        assertEquals(testStatistics.getToViewNext(), LocalDate.now().plusDays(1));
+        assertEquals(1, testStatistics.getReviewState().getLapses());
+    }
+
     @Test
     public void method_toString() {
         StringBuilder expected = new StringBuilder();
@@ -12,9 +12,12 @@ import static seedu.address.testutil.TypicalFlashcards.MATH_ONE;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardException;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardQuestionException;
 import seedu.address.model.flashcard.exceptions.DuplicateFlashcardTitleException;
@@ -75,6 +78,22 @@ public class UniqueFlashcardListTest {
                 .withQuestion(MATH_ONE.getQuestion().toString()).build()));
     }
 
+    @Test
+    public void addAll_withDuplicates_duplicatesSkippedAndReturned() {
+        uniqueFlashcardList.add(MATH_ONE);
+        Flashcard sameTitle = new FlashcardBuilder().withTitle(CS_ONE.getTitle().toString()).build();
+        Flashcard sameQuestion = new FlashcardBuilder().withQuestion(MATH_ONE.getQuestion().toString()).build();
+        int[] changeCount = {0};
+        uniqueFlashcardList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Flashcard>) change -> changeCount[0]++);
+
+        List<Flashcard> duplicates = uniqueFlashcardList.addAll(Arrays.asList(CS_ONE, sameTitle, sameQuestion));
+
+        assertEquals(Arrays.asList(sameTitle, sameQuestion), duplicates);
+        assertEquals(Arrays.asList(MATH_ONE, CS_ONE), uniqueFlashcardList.asUnmodifiableObservableList());
+        assertEquals(1, changeCount[0]);
+    }
+
     @Test
     public void setFlashcard_nullTargetFlashcard_throwsNullPointerException() {
         assertThrows(NullPointerException.class, (
@@ -158,6 +177,13 @@ public class UniqueFlashcardListTest {
         assertThrows(FlashcardNotFoundException.class, () -> uniqueFlashcardList.remove(MATH_ONE));
     }
 
+    @Test
+    public void remove_flashcardWithSameTitleOnly_throwsFlashcardNotFoundException() {
+        uniqueFlashcardList.add(MATH_ONE);
+        Flashcard sameTitle = new FlashcardBuilder(MATH_ONE).withAnswer("5").build();
+        assertThrows(FlashcardNotFoundException.class, () -> uniqueFlashcardList.remove(sameTitle));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniqueFlashcardList.add(MATH_ONE);
@@ -166,6 +192,23 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void remove_earlierFlashcard_laterFlashcardStillFoundById() {
+        uniqueFlashcardList.add(MATH_ONE);
+        uniqueFlashcardList.add(CS_ONE);
+        uniqueFlashcardList.remove(MATH_ONE);
+        assertEquals(Optional.of(CS_ONE), uniqueFlashcardList.getById(CS_ONE.getId()));
+        assertEquals(Optional.empty(), uniqueFlashcardList.getById(MATH_ONE.getId()));
+    }
+
+    @Test
+    public void add_flashcardWithSameId_throwsDuplicateFlashcardException() {
+        uniqueFlashcardList.add(MATH_ONE);
+        Flashcard sameId = new Flashcard(MATH_ONE.getId(), CS_ONE.getQuestion(), CS_ONE.getAnswer(),
+                CS_ONE.getTitle(), CS_ONE.getStatistics(), CS_ONE.getTags());
+        assertThrows(DuplicateFlashcardException.class, () -> uniqueFlashcardList.add(sameId));
+    }
+
     @Test
     public void setFlashcards_nullUniqueFlashcardList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, (
@@ -197,6 +240,23 @@ public class UniqueFlashcardListTest {
         assertEquals(expectedUniqueFlashcardList, uniqueFlashcardList);
     }
 
+    @Test
+    public void setFlashcards_listWithSameTitle_throwsDuplicateFlashcardTitleException() {
+        uniqueFlashcardList.add(CS_ONE);
+        Flashcard sameTitle = new FlashcardBuilder().withTitle(MATH_ONE.getTitle().toString()).build();
+        assertThrows(DuplicateFlashcardTitleException.class, () -> uniqueFlashcardList.setFlashcards(
+                Arrays.asList(MATH_ONE, sameTitle)));
+        assertEquals(Collections.singletonList(CS_ONE), uniqueFlashcardList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setFlashcard_editedFlashcardHasNewTitle_oldTitleFreed() {
+        uniqueFlashcardList.add(MATH_ONE);
+        uniqueFlashcardList.setFlashcard(MATH_ONE, CS_ONE);
+        uniqueFlashcardList.add(MATH_ONE);
+        assertEquals(Arrays.asList(CS_ONE, MATH_ONE), uniqueFlashcardList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Flashcard> listWithDuplicateFlashcards = Arrays.asList(MATH_ONE, MATH_ONE);
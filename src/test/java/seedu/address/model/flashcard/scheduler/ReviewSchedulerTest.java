@@ -0,0 +1,116 @@
+package seedu.address.model.flashcard.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.flashcard.ScheduleIncrement;
+
+public class ReviewSchedulerTest {
+
+    private final ReviewScheduler fixed = new FixedIncrementScheduler();
+    private final ReviewScheduler sm2 = new Sm2Scheduler();
+    private final ReviewScheduler fsrs = new FsrsScheduler();
+
+    @Test
+    public void forName_knownAndUnknownNames() {
+        assertEquals(FsrsScheduler.NAME, ReviewScheduler.forName("FSRS").get().getName());
+        assertEquals(Sm2Scheduler.NAME, ReviewScheduler.forName("sm2").get().getName());
+        assertEquals(Optional.empty(), ReviewScheduler.forName("leitner"));
+    }
+
+    @Test
+    public void fixed_successfulReviews_followIncrements() {
+        ReviewState state = ReviewState.NEW;
+        for (ScheduleIncrement increment : ScheduleIncrement.values()) {
+            assertEquals(increment, state.getIncrement());
+            state = fixed.review(state, RecallQuality.GOOD, state.getIntervalDays());
+        }
+        assertEquals(ScheduleIncrement.FINAL, state.getIncrement());
+        assertEquals(ScheduleIncrement.FINAL.getNumberOfDays(), state.getIntervalDays());
+
+        ReviewState forgotten = fixed.review(state, RecallQuality.AGAIN, 7);
+        assertEquals(ScheduleIncrement.FIRST, forgotten.getIncrement());
+        assertEquals(1, forgotten.getLapses());
+    }
+
+    @Test
+    public void sm2_successfulReviews_intervalsGrowByEase() {
+        ReviewState first = sm2.review(ReviewState.NEW, RecallQuality.GOOD, 0);
+        ReviewState second = sm2.review(first, RecallQuality.GOOD, 1);
+        ReviewState third = sm2.review(second, RecallQuality.GOOD, 6);
+
+        assertEquals(1, first.getIntervalDays());
+        assertEquals(6, second.getIntervalDays());
+        assertEquals(Math.round(6 * second.getEase()), third.getIntervalDays());
+        // GOOD leaves the ease as it is, EASY raises it and HARD lowers it
+        assertEquals(ReviewState.DEFAULT_EASE, third.getEase(), 1e-9);
+        assertTrue(sm2.review(second, RecallQuality.EASY, 6).getEase() > ReviewState.DEFAULT_EASE);
+        assertTrue(sm2.review(second, RecallQuality.HARD, 6).getEase() < ReviewState.DEFAULT_EASE);
+    }
+
+    @Test
+    public void sm2_forgotten_startsOverWithEaseKept() {
+        ReviewState state = sm2.review(sm2.review(ReviewState.NEW, RecallQuality.HARD, 0), RecallQuality.GOOD, 1);
+        ReviewState forgotten = sm2.review(state, RecallQuality.AGAIN, 6);
+
+        assertEquals(0, forgotten.getRepetitions());
+        assertEquals(1, forgotten.getLapses());
+        assertEquals(1, forgotten.getIntervalDays());
+        assertEquals(state.getEase(), forgotten.getEase());
+    }
+
+    @Test
+    public void sm2_manyHardReviews_easeNotBelowMinimum() {
+        ReviewState state = ReviewState.NEW;
+        for (int i = 0; i < 20; i++) {
+            state = sm2.review(state, RecallQuality.HARD, state.getIntervalDays());
+        }
+        assertEquals(ReviewState.MINIMUM_EASE, state.getEase());
+    }
+
+    @Test
+    public void fsrs_newFlashcard_stabilityByGrade() {
+        ReviewState again = fsrs.review(ReviewState.NEW, RecallQuality.AGAIN, 0);
+        ReviewState good = fsrs.review(ReviewState.NEW, RecallQuality.GOOD, 0);
+        ReviewState easy = fsrs.review(ReviewState.NEW, RecallQuality.EASY, 0);
+
+        assertTrue(again.getStability() < good.getStability());
+        assertTrue(good.getStability() < easy.getStability());
+        assertTrue(again.getDifficulty() > good.getDifficulty());
+        assertTrue(good.getDifficulty() > easy.getDifficulty());
+        assertEquals(1, again.getLapses());
+    }
+
+    @Test
+    public void fsrs_recalledOnTime_stabilityGrowsAndIntervalFollows() {
+        ReviewState state = fsrs.review(ReviewState.NEW, RecallQuality.GOOD, 0);
+        for (int i = 0; i < 4; i++) {
+            ReviewState next = fsrs.review(state, RecallQuality.GOOD, state.getIntervalDays());
+            assertTrue(next.getStability() > state.getStability());
+            assertEquals(Math.max(1, Math.round(next.getStability())), next.getIntervalDays());
+            state = next;
+        }
+        assertEquals(5, state.getRepetitions());
+    }
+
+    @Test
+    public void fsrs_forgotten_stabilityFallsAndLapseCounted() {
+        ReviewState state = fsrs.review(fsrs.review(ReviewState.NEW, RecallQuality.GOOD, 0), RecallQuality.GOOD, 3);
+        ReviewState forgotten = fsrs.review(state, RecallQuality.AGAIN, state.getIntervalDays());
+
+        assertTrue(forgotten.getStability() < state.getStability());
+        assertTrue(forgotten.getDifficulty() > state.getDifficulty());
+        assertEquals(0, forgotten.getRepetitions());
+        assertEquals(1, forgotten.getLapses());
+    }
+
+    @Test
+    public void fsrs_retrievability_ninetyPercentAfterStability() {
+        assertEquals(1.0, FsrsScheduler.getRetrievability(4.0, 0), 1e-9);
+        assertEquals(0.9, FsrsScheduler.getRetrievability(4.0, 4), 1e-9);
+    }
+}
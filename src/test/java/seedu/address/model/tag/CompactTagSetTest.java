@@ -0,0 +1,55 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactTagSetTest {
+
+    @Test
+    public void of_duplicateTags_keptOnce() {
+        CompactTagSet tags = CompactTagSet.of(Arrays.asList(new Tag("cs2103t"), new Tag("CS2103T"), new Tag("uml")));
+
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("cs2103t")));
+        assertTrue(tags.contains(new Tag("uml")));
+        assertFalse(tags.contains(new Tag("todo")));
+        assertFalse(tags.contains("uml"));
+    }
+
+    @Test
+    public void of_tags_sharedInstancesKept() {
+        Tag tag = new Tag("important");
+        CompactTagSet tags = CompactTagSet.of(Set.of(tag));
+
+        assertSame(tag.intern(), tags.iterator().next());
+    }
+
+    @Test
+    public void equals_hashSetWithSameTags_equal() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(new Tag("uml"), new Tag("kmaps")));
+        CompactTagSet tags = CompactTagSet.of(hashSet);
+
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(tags, CompactTagSet.of(Arrays.asList(new Tag("kmaps"), new Tag("uml"))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        CompactTagSet tags = CompactTagSet.of(Set.of(new Tag("uml")));
+
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(new Tag("todo")));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(new Tag("uml")));
+        assertThrows(UnsupportedOperationException.class, tags::clear);
+    }
+}
@@ -1,7 +1,17 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -23,4 +33,55 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void intern_sameNameInAnyCase_sameInstanceAndId() {
+        Tag tag = new Tag("Pipelining");
+        Tag otherTag = new Tag("pipelining");
+
+        assertSame(tag.intern(), otherTag.intern());
+        assertEquals(tag.getId(), otherTag.getId());
+        assertEquals(tag, otherTag);
+        assertNotEquals(tag, new Tag("Pipeline"));
+    }
+
+    @Test
+    public void intern_tagNoLongerUsed_forgotten() {
+        WeakReference<Tag> sharedTag = new WeakReference<>(new Tag("onlyInAFilterQuery").intern());
+
+        for (int i = 0; i < 100 && sharedTag.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(sharedTag.get());
+    }
+
+    @Test
+    public void intern_copyStillUsed_sameId() {
+        Tag copy = new Tag("stillUsed");
+        WeakReference<Tag> sharedTag = new WeakReference<>(copy.intern());
+
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+        }
+        assertSame(copy.intern(), sharedTag.get());
+        assertEquals(copy, new Tag("stillUsed"));
+    }
+
+    @Test
+    public void getSelfAndAncestors_nestedTag_upToTopLevel() {
+        Tag tag = new Tag("cs2100-cache-l1");
+
+        assertEquals(Arrays.asList(tag, new Tag("cs2100-cache"), new Tag("cs2100")), tag.getSelfAndAncestors());
+        assertEquals(2, tag.getDepth());
+        assertEquals(Optional.empty(), new Tag("cs2100").getParent());
+    }
+
+    @Test
+    public void isWithin() {
+        Tag parent = new Tag("cs2100");
+
+        assertTrue(parent.isWithin(parent));
+        assertTrue(new Tag("cs2100-cache").isWithin(parent));
+        assertFalse(new Tag("cs21000").isWithin(parent));
+        assertFalse(parent.isWithin(new Tag("cs2100-cache")));
+    }
 }
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFlashcards.CS_ONE;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
+import static seedu.address.testutil.TypicalNotes.PIPELINE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ReadOnlyStudyBuddyPro;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.Statistics;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class AsyncStudyBuddyProStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncStudyBuddyProStorage(null));
+    }
+
+    @Test
+    public void saveStudyBuddyPro_withinCoalescingWindow_writtenOnFlush() throws Exception {
+        JsonStudyBuddyProStorage jsonStorage = createJsonStorage();
+        AsyncStudyBuddyProStorage storage = new AsyncStudyBuddyProStorage(jsonStorage, 60000,
+                AsyncStudyBuddyProStorage.DEFAULT_MAX_LAG_MILLIS);
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        assertFalse(Files.exists(jsonStorage.getFlashcardFilePath()));
+
+        storage.flushStudyBuddyPro();
+        assertEquals(original, readBack(jsonStorage));
+        storage.close();
+    }
+
+    @Test
+    public void saveStudyBuddyPro_laterChangesCoalesced_latestDataWritten() throws Exception {
+        JsonStudyBuddyProStorage jsonStorage = createJsonStorage();
+        AsyncStudyBuddyProStorage storage = new AsyncStudyBuddyProStorage(
+                new JournaledStudyBuddyProStorage(jsonStorage, testFolder.resolve("journal.log"),
+                        testFolder.resolve("reviews.log")));
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.addNote(PIPELINE);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.removeFlashcard(CS_ONE);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        // the snapshot taken on save is not affected by changes made after it
+        original.removeNote(PIPELINE);
+
+        StudyBuddyPro expected = getTypicalStudyBuddyPro();
+        expected.addNote(PIPELINE);
+        expected.removeFlashcard(CS_ONE);
+        assertEquals(expected, new StudyBuddyPro(storage.readStudyBuddyProFlashcards().get(),
+                storage.readStudyBuddyProNotes().get(), storage.readStudyBuddyProCheatSheets().get()));
+        storage.close();
+    }
+
+    @Test
+    public void saveStudyBuddyPro_noCompactionDue_onlyChangesWritten() throws Exception {
+        SaveCountingStorage journaledStorage = new SaveCountingStorage(createJsonStorage(), testFolder);
+        AsyncStudyBuddyProStorage storage = new AsyncStudyBuddyProStorage(journaledStorage);
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        storage.flushStudyBuddyPro();
+        original.markAsSaved();
+        original.addNote(PIPELINE);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.removeFlashcard(CS_ONE);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        assertEquals(original, readBack(storage));
+        // only the first save, which has no snapshot to journal onto, needs all of the data
+        assertEquals(1, journaledStorage.dataSaveCount);
+        storage.close();
+    }
+
+    @Test
+    public void saveStudyBuddyPro_statisticsChangedAfterSave_savedStatisticsWritten() throws Exception {
+        JsonStudyBuddyProStorage jsonStorage = createJsonStorage();
+        AsyncStudyBuddyProStorage storage = new AsyncStudyBuddyProStorage(jsonStorage, 60000,
+                AsyncStudyBuddyProStorage.DEFAULT_MAX_LAG_MILLIS);
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Reviewed?").build();
+        original.addFlashcard(reviewed);
+
+        storage.saveStudyBuddyPro(original);
+        Statistics savedStatistics = reviewed.getStatistics().copy();
+        // reviewing changes the statistics of the flashcard in place
+        original.reviewFlashcard(reviewed, RecallQuality.EASY);
+        storage.flushStudyBuddyPro();
+
+        assertEquals(savedStatistics, readBack(jsonStorage).getFlashcardList().stream()
+                .filter(flashcard -> flashcard.getId() == reviewed.getId()).findFirst().get().getStatistics());
+        storage.close();
+    }
+
+    @Test
+    public void saveStudyBuddyPro_backgroundWriteFails_reportedOnFlushAndRetried() throws Exception {
+        IoExceptionThrowingStorage failingStorage = new IoExceptionThrowingStorage(testFolder);
+        AsyncStudyBuddyProStorage storage = new AsyncStudyBuddyProStorage(failingStorage, 0,
+                AsyncStudyBuddyProStorage.DEFAULT_MAX_LAG_MILLIS);
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        assertThrows(IOException.class, storage::flushStudyBuddyPro);
+
+        // the failure is only reported once, and the failed save is written once the disk works again
+        failingStorage.isFailing = false;
+        storage.flushStudyBuddyPro();
+        assertEquals(original, readBack(failingStorage));
+        storage.close();
+    }
+
+    private JsonStudyBuddyProStorage createJsonStorage() {
+        return new JsonStudyBuddyProStorage(testFolder.resolve("flashcards.json"), testFolder.resolve("notes.json"),
+                testFolder.resolve("cheatsheets.json"));
+    }
+
+    private StudyBuddyPro readBack(StudyBuddyProStorage storage) throws Exception {
+        return new StudyBuddyPro(storage.readStudyBuddyProFlashcards().get(), storage.readStudyBuddyProNotes().get(),
+                storage.readStudyBuddyProCheatSheets().get());
+    }
+
+    /**
+     * A journaled storage that counts the saves of all data.
+     */
+    private static class SaveCountingStorage extends JournaledStudyBuddyProStorage {
+        private int dataSaveCount = 0;
+
+        SaveCountingStorage(StudyBuddyProStorage snapshotStorage, Path folder) {
+            super(snapshotStorage, folder.resolve("journal.log"), folder.resolve("reviews.log"));
+        }
+
+        @Override
+        public synchronized void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+            dataSaveCount++;
+            super.saveStudyBuddyPro(studyBuddyPro);
+        }
+    }
+
+    /**
+     * A storage that throws an IOException when saving, until it is told to stop failing.
+     */
+    private static class IoExceptionThrowingStorage extends JsonStudyBuddyProStorage {
+        private volatile boolean isFailing = true;
+
+        IoExceptionThrowingStorage(Path folder) {
+            super(folder.resolve("flashcards.json"), folder.resolve("notes.json"), folder.resolve("cheatsheets.json"));
+        }
+
+        @Override
+        public void saveStudyBuddyPro(ReadOnlyStudyBuddyPro studyBuddyPro) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            super.saveStudyBuddyPro(studyBuddyPro);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCheatSheets.CS6;
+import static seedu.address.testutil.TypicalCheatSheets.CS7;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
+import static seedu.address.testutil.TypicalNotes.FRAGMENT;
+import static seedu.address.testutil.TypicalNotes.PIPELINE;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.CheatSheetDataConversionException;
+import seedu.address.commons.exceptions.FlashcardDataConversionException;
+import seedu.address.commons.exceptions.NoteDataConversionException;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.ScheduleIncrement;
+import seedu.address.model.flashcard.Statistics;
+import seedu.address.model.flashcard.scheduler.FsrsScheduler;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.testutil.CheatSheetBuilder;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class BinaryStudyBuddyProStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "flashcards.bin"),
+                BinaryStudyBuddyProStorage.toBinaryFilePath(Paths.get("data", "flashcards.json")));
+        assertEquals(Paths.get("notes.bin"), BinaryStudyBuddyProStorage.toBinaryFilePath(Paths.get("notes")));
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        assertFalse(storage.readStudyBuddyProFlashcards().isPresent());
+        assertFalse(storage.readStudyBuddyProNotes().isPresent());
+        assertFalse(storage.readStudyBuddyProCheatSheets().isPresent());
+    }
+
+    @Test
+    public void readAndSaveStudyBuddyPro_allInOrder_success() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        StudyBuddyPro original = createStudyBuddyPro();
+
+        storage.saveStudyBuddyPro(original);
+        assertEquals(original, readBack(storage));
+
+        // Modify data, overwrite exiting file, and read back
+        original.removeNote(PIPELINE);
+        original.deleteCheatSheet(CS6);
+        storage.saveStudyBuddyPro(original);
+        assertEquals(original, readBack(storage));
+    }
+
+    @Test
+    public void readStudyBuddyPro_afterSave_idsKept() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        StudyBuddyPro original = createStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        StudyBuddyPro read = readBack(storage);
+
+        for (int i = 0; i < original.getFlashcardList().size(); i++) {
+            assertEquals(original.getFlashcardList().get(i).getId(), read.getFlashcardList().get(i).getId());
+        }
+        for (int i = 0; i < original.getNoteList().size(); i++) {
+            assertEquals(original.getNoteList().get(i).getId(), read.getNoteList().get(i).getId());
+        }
+        for (int i = 0; i < original.getCheatSheetList().size(); i++) {
+            assertEquals(original.getCheatSheetList().get(i).getId(), read.getCheatSheetList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void readStudyBuddyPro_reviewedFlashcard_reviewStateKept() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        StudyBuddyPro original = createStudyBuddyPro();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Was this reviewed?").build();
+        original.addFlashcard(reviewed);
+        original.setReviewScheduler(new FsrsScheduler());
+        original.reviewFlashcard(reviewed, RecallQuality.HARD);
+        storage.saveStudyBuddyPro(original);
+
+        StudyBuddyPro read = readBack(storage);
+        Flashcard readFlashcard = read.getFlashcardList().get(read.getFlashcardList().size() - 1);
+        assertEquals(reviewed.getStatistics(), readFlashcard.getStatistics());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        Files.writeString(storage.getFlashcardFilePath(), "{ \"flashcards\": [] }");
+        assertThrows(FlashcardDataConversionException.class, storage::readStudyBuddyProFlashcards);
+    }
+
+    @Test
+    public void read_wrongKindOfFile_exceptionThrown() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        storage.saveStudyBuddyPro(createStudyBuddyPro());
+        Files.copy(storage.getFlashcardFilePath(), storage.getNoteFilePath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(NoteDataConversionException.class, storage::readStudyBuddyProNotes);
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        storage.saveStudyBuddyPro(createStudyBuddyPro());
+        byte[] data = Files.readAllBytes(storage.getCheatSheetFilePath());
+        Files.write(storage.getCheatSheetFilePath(), Arrays.copyOf(data, data.length - 1));
+        assertThrows(CheatSheetDataConversionException.class, storage::readStudyBuddyProCheatSheets);
+    }
+
+    @Test
+    public void read_lastViewedNotBeforeToViewNext_exceptionThrown() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        LocalDate lastViewed = LocalDate.of(2020, 1, 1);
+        LocalDate toViewNext = LocalDate.of(2020, 1, 2);
+        Flashcard flashcard = new FlashcardBuilder().build();
+        StudyBuddyPro original = new StudyBuddyPro();
+        original.addFlashcard(new Flashcard(flashcard.getQuestion(), flashcard.getAnswer(), flashcard.getTitle(),
+                new Statistics(lastViewed, toViewNext, ScheduleIncrement.FIRST), flashcard.getTags()));
+        storage.saveStudyBuddyPro(original);
+
+        // swap the two dates of the flashcard in the file
+        byte[] dates = encodeDates(lastViewed, toViewNext);
+        byte[] swappedDates = encodeDates(toViewNext, lastViewed);
+        byte[] data = Files.readAllBytes(storage.getFlashcardFilePath());
+        int position = Collections.indexOfSubList(toList(data), toList(dates));
+        assertTrue(position >= 0);
+        System.arraycopy(swappedDates, 0, data, position, swappedDates.length);
+        Files.write(storage.getFlashcardFilePath(), data);
+
+        assertThrows(FlashcardDataConversionException.class, storage::readStudyBuddyProFlashcards);
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        BinaryStudyBuddyProStorage storage = createStorage();
+        storage.saveStudyBuddyPro(createStudyBuddyPro());
+        byte[] data = Files.readAllBytes(storage.getFlashcardFilePath());
+        data[BinaryDataInput.MAGIC.length] = BinaryDataInput.VERSION + 1;
+        Files.write(storage.getFlashcardFilePath(), data);
+        assertThrows(FlashcardDataConversionException.class, storage::readStudyBuddyProFlashcards);
+    }
+
+    @Test
+    public void saveStudyBuddyPro_sameData_smallerThanJson() throws Exception {
+        StudyBuddyPro original = createStudyBuddyPro();
+        BinaryStudyBuddyProStorage binaryStorage = createStorage();
+        JsonStudyBuddyProStorage jsonStorage = new JsonStudyBuddyProStorage(testFolder.resolve("flashcards.json"),
+                testFolder.resolve("notes.json"), testFolder.resolve("cheatsheets.json"));
+        binaryStorage.saveStudyBuddyPro(original);
+        jsonStorage.saveStudyBuddyPro(original);
+
+        assertTrue(Files.size(binaryStorage.getFlashcardFilePath())
+                < Files.size(jsonStorage.getFlashcardFilePath()));
+        assertTrue(Files.size(binaryStorage.getNoteFilePath()) < Files.size(jsonStorage.getNoteFilePath()));
+        assertTrue(Files.size(binaryStorage.getCheatSheetFilePath())
+                < Files.size(jsonStorage.getCheatSheetFilePath()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        StudyBuddyPro original = createStudyBuddyPro();
+        JsonStudyBuddyProStorage jsonStorage = new JsonStudyBuddyProStorage(testFolder.resolve("flashcards.json"),
+                testFolder.resolve("notes.json"), testFolder.resolve("cheatsheets.json"));
+        jsonStorage.saveStudyBuddyPro(original);
+        String flashcardJson = Files.readString(jsonStorage.getFlashcardFilePath());
+
+        BinaryStudyBuddyProStorage binaryStorage = createStorage();
+        StudyBuddyProStorageConverter.convert(jsonStorage, binaryStorage);
+        assertEquals(original, readBack(binaryStorage));
+
+        JsonStudyBuddyProStorage convertedBack = new JsonStudyBuddyProStorage(testFolder.resolve("back.json"),
+                testFolder.resolve("backNotes.json"), testFolder.resolve("backCheatsheets.json"));
+        StudyBuddyProStorageConverter.convert(binaryStorage, convertedBack);
+        assertEquals(original, readBack(convertedBack));
+        assertEquals(flashcardJson, Files.readString(convertedBack.getFlashcardFilePath()));
+    }
+
+    /**
+     * Returns the bytes of the two dates as written in a flashcard record.
+     */
+    private static byte[] encodeDates(LocalDate first, LocalDate second) throws Exception {
+        BinaryDataOutput output = new BinaryDataOutput();
+        output.writeZigZag(first.toEpochDay());
+        output.writeZigZag(second.toEpochDay());
+        output.endRecord();
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        output.writeRecordsTo(record);
+        // skip the length of the record
+        return Arrays.copyOfRange(record.toByteArray(), 1, record.size());
+    }
+
+    private static List<Byte> toList(byte[] bytes) {
+        List<Byte> list = new ArrayList<>(bytes.length);
+        for (byte b : bytes) {
+            list.add(b);
+        }
+        return list;
+    }
+
+    private BinaryStudyBuddyProStorage createStorage() {
+        return new BinaryStudyBuddyProStorage(testFolder.resolve("flashcards.bin"), testFolder.resolve("notes.bin"),
+                testFolder.resolve("cheatsheets.bin"));
+    }
+
+    private StudyBuddyPro createStudyBuddyPro() {
+        StudyBuddyPro studyBuddyPro = getTypicalStudyBuddyPro();
+        studyBuddyPro.addNote(PIPELINE);
+        studyBuddyPro.addNote(FRAGMENT);
+        studyBuddyPro.addCheatSheet(CS6);
+        studyBuddyPro.addCheatSheet(CS7);
+        studyBuddyPro.addCheatSheet(new CheatSheetBuilder().withTitle("With contents").withTags("cs2103t")
+                .withContents("First content", "Second content").build());
+        return studyBuddyPro;
+    }
+
+    private StudyBuddyPro readBack(StudyBuddyProStorage storage) throws Exception {
+        return new StudyBuddyPro(storage.readStudyBuddyProFlashcards().get(), storage.readStudyBuddyProNotes().get(),
+                storage.readStudyBuddyProCheatSheets().get());
+    }
+}
@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalFlashcards.CS_ONE;
+import static seedu.address.testutil.TypicalFlashcards.MATH_ONE;
+import static seedu.address.testutil.TypicalFlashcards.getTypicalStudyBuddyPro;
+import static seedu.address.testutil.TypicalNotes.PIPELINE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.StudyBuddyPro;
+import seedu.address.model.flashcard.Flashcard;
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+import seedu.address.testutil.FlashcardBuilder;
+
+public class JournaledStudyBuddyProStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledStudyBuddyProStorage(null,
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log")));
+        assertThrows(NullPointerException.class, () -> new JournaledStudyBuddyProStorage(
+                createSnapshotStorage(), null, testFolder.resolve("reviews.log")));
+        assertThrows(NullPointerException.class, () -> new JournaledStudyBuddyProStorage(
+                createSnapshotStorage(), testFolder.resolve("journal.log"), null));
+    }
+
+    @Test
+    public void saveStudyBuddyPro_trackedChanges_appendedToJournal() throws Exception {
+        JsonStudyBuddyProStorage snapshotStorage = createSnapshotStorage();
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(snapshotStorage,
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"));
+
+        // first save writes a snapshot as there is none yet
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        String flashcardSnapshot = FileUtil.readFromFile(snapshotStorage.getFlashcardFilePath());
+
+        original.addFlashcard(new FlashcardBuilder(MATH_ONE).withQuestion("New Question")
+                .withTitle("New Title").build());
+        original.removeFlashcard(CS_ONE);
+        original.addNote(PIPELINE);
+        storage.saveStudyBuddyPro(original);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(flashcardSnapshot, FileUtil.readFromFile(snapshotStorage.getFlashcardFilePath()));
+        assertEquals(original, readBack(storage));
+    }
+
+    @Test
+    public void saveStudyBuddyPro_updatedStatistics_replayedInPlace() throws Exception {
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(createSnapshotStorage(),
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"));
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        original.updateFlashcardStatistics(original.getFlashcardList().get(0));
+        storage.saveStudyBuddyPro(original);
+
+        StudyBuddyPro readBack = readBack(storage);
+        assertEquals(original.getFlashcardList(), readBack.getFlashcardList());
+    }
+
+    @Test
+    public void saveStudyBuddyPro_reviews_appendedToReviewLogOnly() throws Exception {
+        JsonStudyBuddyProStorage snapshotStorage = createSnapshotStorage();
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(snapshotStorage,
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"));
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Reviewed?").build();
+        original.addFlashcard(reviewed);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        String flashcardSnapshot = FileUtil.readFromFile(snapshotStorage.getFlashcardFilePath());
+
+        original.reviewFlashcard(reviewed, RecallQuality.AGAIN);
+        original.updateFlashcardStatistics(reviewed, 1500);
+        storage.saveStudyBuddyPro(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(flashcardSnapshot, FileUtil.readFromFile(snapshotStorage.getFlashcardFilePath()));
+        assertEquals(original.getFlashcardList(), readBack(storage).getFlashcardList());
+
+        List<ReviewEvent> history = storage.readReviewHistory();
+        assertEquals(2, history.size());
+        assertEquals(Optional.of(RecallQuality.AGAIN), history.get(0).getQuality());
+        assertEquals(Optional.empty(), history.get(1).getQuality());
+        assertEquals(1500, history.get(1).getResponseMillis());
+        assertEquals(reviewed.getStatistics(), history.get(1).getStatistics());
+    }
+
+    @Test
+    public void saveStudyBuddyPro_reviewThresholdReached_reviewLogCheckpointed() throws Exception {
+        JsonStudyBuddyProStorage snapshotStorage = createSnapshotStorage();
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(snapshotStorage,
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"), 2);
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Reviewed?").build();
+        original.addFlashcard(reviewed);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        original.reviewFlashcard(reviewed, RecallQuality.GOOD);
+        original.reviewFlashcard(reviewed, RecallQuality.EASY);
+        storage.saveStudyBuddyPro(original);
+        storage.awaitCompaction();
+
+        // the snapshot holds the reviewed statistics, and the history is kept
+        assertEquals(original.getFlashcardList(),
+                snapshotStorage.readStudyBuddyProFlashcards().get().getFlashcardList());
+        assertEquals(2, storage.readReviewHistory().size());
+        assertEquals(original.getFlashcardList(), readBack(storage).getFlashcardList());
+    }
+
+    @Test
+    public void saveStudyBuddyPro_partiallyWrittenLastReview_truncated() throws Exception {
+        Path journalFilePath = testFolder.resolve("journal.log");
+        Path reviewLogFilePath = testFolder.resolve("reviews.log");
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(createSnapshotStorage(),
+                journalFilePath, reviewLogFilePath);
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        Flashcard reviewed = new FlashcardBuilder().withTitle("Reviewed").withQuestion("Reviewed?").build();
+        original.addFlashcard(reviewed);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.reviewFlashcard(reviewed, RecallQuality.HARD);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        Files.write(reviewLogFilePath, new byte[] {40, 2, 4}, StandardOpenOption.APPEND);
+        assertEquals(1, storage.readReviewHistory().size());
+
+        // a restarted app cuts off the partial review before appending after it
+        JournaledStudyBuddyProStorage restarted = new JournaledStudyBuddyProStorage(createSnapshotStorage(),
+                journalFilePath, reviewLogFilePath);
+        original.reviewFlashcard(reviewed, RecallQuality.GOOD);
+        restarted.saveStudyBuddyPro(original);
+
+        assertEquals(2, restarted.readReviewHistory().size());
+        assertEquals(original.getFlashcardList(), readBack(restarted).getFlashcardList());
+    }
+
+    @Test
+    public void saveStudyBuddyPro_thresholdReached_journalCompacted() throws Exception {
+        JsonStudyBuddyProStorage snapshotStorage = createSnapshotStorage();
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(snapshotStorage,
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"), 2);
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        original.addNote(PIPELINE);
+        original.removeFlashcard(CS_ONE);
+        storage.saveStudyBuddyPro(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new StudyBuddyPro(snapshotStorage.readStudyBuddyProFlashcards().get(),
+                snapshotStorage.readStudyBuddyProNotes().get(), snapshotStorage.readStudyBuddyProCheatSheets().get()));
+    }
+
+    @Test
+    public void readStudyBuddyPro_partiallyWrittenLastEntry_ignored() throws Exception {
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(createSnapshotStorage(),
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"));
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.addNote(PIPELINE);
+        storage.saveStudyBuddyPro(original);
+
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"REM".getBytes(), StandardOpenOption.APPEND);
+
+        assertTrue(readBack(storage).hasNote(PIPELINE));
+        assertEquals(original, readBack(storage));
+    }
+
+    @Test
+    public void readStudyBuddyPro_journalAppendedAfterRead_newEntriesRead() throws Exception {
+        JournaledStudyBuddyProStorage storage = new JournaledStudyBuddyProStorage(createSnapshotStorage(),
+                testFolder.resolve("journal.log"), testFolder.resolve("reviews.log"));
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        original.removeFlashcard(CS_ONE);
+        storage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+        assertEquals(original, readBack(storage));
+
+        // the journal parsed for the reads above is not reused once it has changed
+        original.addNote(PIPELINE);
+        storage.saveStudyBuddyPro(original);
+        assertEquals(original, readBack(storage));
+    }
+
+    private JsonStudyBuddyProStorage createSnapshotStorage() {
+        return new JsonStudyBuddyProStorage(testFolder.resolve("flashcards.json"), testFolder.resolve("notes.json"),
+                testFolder.resolve("cheatsheets.json"));
+    }
+
+    private StudyBuddyPro readBack(JournaledStudyBuddyProStorage storage) throws Exception {
+        return new StudyBuddyPro(storage.readStudyBuddyProFlashcards().get(), storage.readStudyBuddyProNotes().get(),
+                storage.readStudyBuddyProCheatSheets().get());
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedFlashcard.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalFlashcards.CS_ONE;
@@ -12,11 +13,14 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.StudyBuddyItem;
 import seedu.address.model.flashcard.Answer;
 import seedu.address.model.flashcard.Question;
+import seedu.address.model.flashcard.ScheduleIncrement;
 import seedu.address.model.flashcard.Statistics;
 import seedu.address.model.flashcard.Title;
 import seedu.address.model.flashcard.exceptions.StringToScheduleIncrementConversionException;
+import seedu.address.model.flashcard.scheduler.ReviewState;
 
 
 public class JsonAdaptedFlashcardTest {
@@ -43,6 +47,23 @@ public class JsonAdaptedFlashcardTest {
     public void toModelType_validFlashcardDetails_returnsFlashcard() throws Exception {
         JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(CS_ONE);
         assertEquals(CS_ONE, flashcard.toModelType());
+        assertEquals(CS_ONE.getId(), flashcard.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_nullId_newIdGiven() throws Exception {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, VALID_TITLE,
+                VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT, VALID_STATISTICS_CURRENT_INCREMENT,
+                VALID_TAGS);
+        assertTrue(flashcard.toModelType().getId() > CS_ONE.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(0L, VALID_QUESTION, VALID_ANSWER, VALID_TITLE,
+                VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT, VALID_STATISTICS_CURRENT_INCREMENT,
+                VALID_TAGS);
+        assertThrows(IllegalValueException.class, StudyBuddyItem.MESSAGE_ID_CONSTRAINTS, flashcard::toModelType);
     }
 
     @Test
@@ -156,6 +177,39 @@ public class JsonAdaptedFlashcardTest {
         assertThrows(IllegalValueException.class, expectedMessage, flashcard::toModelType);
     }
 
+    @Test
+    public void toModelType_noReviewState_reviewStateFromIncrement() throws Exception {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(VALID_QUESTION, VALID_ANSWER, VALID_TITLE,
+                VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT, ScheduleIncrement.FOURTH.toString(),
+                VALID_TAGS);
+        Statistics statistics = flashcard.toModelType().getStatistics();
+        assertEquals(ReviewState.fromIncrement(ScheduleIncrement.FOURTH), statistics.getReviewState());
+        assertEquals(ScheduleIncrement.FOURTH, statistics.getCurrentIncrement());
+    }
+
+    @Test
+    public void toModelType_reviewState_incrementNotNeeded() throws Exception {
+        ReviewState reviewState = new ReviewState(2.36, 17.5, 6.2, 4, 1, 18);
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(null, VALID_QUESTION, VALID_ANSWER, VALID_TITLE,
+                VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT, null,
+                new JsonAdaptedReviewState(reviewState), VALID_TAGS);
+        assertEquals(reviewState, flashcard.toModelType().getStatistics().getReviewState());
+    }
+
+    @Test
+    public void toModelType_invalidReviewState_throwsIllegalValueException() {
+        JsonAdaptedFlashcard flashcard = new JsonAdaptedFlashcard(null, VALID_QUESTION, VALID_ANSWER, VALID_TITLE,
+                VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT, VALID_STATISTICS_CURRENT_INCREMENT,
+                new JsonAdaptedReviewState(2.5, 3.0, 11.0, 2, 0, 3), VALID_TAGS);
+        assertThrows(IllegalValueException.class, ReviewState.MESSAGE_CONSTRAINTS, flashcard::toModelType);
+
+        JsonAdaptedFlashcard missingLapses = new JsonAdaptedFlashcard(null, VALID_QUESTION, VALID_ANSWER,
+                VALID_TITLE, VALID_STATISTICS_LAST_VIEWED, VALID_STATISTICS_TO_VIEW_NEXT,
+                VALID_STATISTICS_CURRENT_INCREMENT, new JsonAdaptedReviewState(2.5, 3.0, 5.0, 2, null, 3), VALID_TAGS);
+        String expectedMessage = String.format(JsonAdaptedReviewState.MISSING_FIELD_MESSAGE_FORMAT, "lapses");
+        assertThrows(IllegalValueException.class, expectedMessage, missingLapses::toModelType);
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
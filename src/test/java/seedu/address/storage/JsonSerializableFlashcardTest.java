@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 //import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -50,4 +51,16 @@ public class JsonSerializableFlashcardTest {
                 dataFromFile.toModelType(new StudyBuddyPro()));
     }
 
+    @Test
+    public void readFlashcards_duplicateFlashcards_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableFlashcard.MESSAGE_DUPLICATE_FLASHCARD, () ->
+                JsonSerializableFlashcard.readFlashcards(DUPLICATE_FLASHCARD_FILE, new StudyBuddyPro()));
+    }
+
+    @Test
+    public void readFlashcards_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonSerializableFlashcard.readFlashcards(TEST_DATA_FOLDER.resolve("missing.json"),
+                new StudyBuddyPro()));
+    }
+
 }
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyStudyBuddyPro;
 import seedu.address.model.ReadOnlyStudyBuddyProCheatSheets;
 import seedu.address.model.ReadOnlyStudyBuddyProFlashcards;
@@ -198,6 +199,47 @@ public class JsonStudyBuddyProStorageTest {
 
     }
 
+    @Test
+    public void saveStudyBuddyPro_unmodifiedCollections_onlyModifiedFilesWritten() throws Exception {
+        Path flashcardsFilePath = testFolder.resolve("TempStudyBuddyProFlashcards.json");
+        Path notesFilePath = testFolder.resolve("TempStudyBuddyProNotes.json");
+        Path cheatsheetsFilePath = testFolder.resolve("TempStudyBuddyProCheatSheets.json");
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        JsonStudyBuddyProStorage jsonStudyBuddyProStorage = new JsonStudyBuddyProStorage(flashcardsFilePath,
+                notesFilePath, cheatsheetsFilePath);
+        jsonStudyBuddyProStorage.saveStudyBuddyPro(original);
+        original.markAsSaved();
+
+        // Tamper with the notes file, which should be left alone as the notes are unchanged
+        FileUtil.writeToFile(notesFilePath, "unchanged");
+        original.addFlashcard(new FlashcardBuilder(MATH_ONE).withQuestion("New Question")
+                .withTitle("New Title").build());
+        jsonStudyBuddyProStorage.saveStudyBuddyPro(original);
+
+        assertEquals("unchanged", FileUtil.readFromFile(notesFilePath));
+        assertEquals(original.getFlashcardList(),
+                jsonStudyBuddyProStorage.readStudyBuddyProFlashcards().get().getFlashcardList());
+    }
+
+    @Test
+    public void readAndSaveStudyBuddyPro_compactOutput_success() throws Exception {
+        Path flashcardsFilePath = testFolder.resolve("TempStudyBuddyProFlashcards.json");
+        Path notesFilePath = testFolder.resolve("TempStudyBuddyProNotes.json");
+        Path cheatsheetsFilePath = testFolder.resolve("TempStudyBuddyProCheatSheets.json");
+
+        StudyBuddyPro original = getTypicalStudyBuddyPro();
+        original.addNote(PIPELINE);
+        JsonStudyBuddyProStorage jsonStudyBuddyProStorage = new JsonStudyBuddyProStorage(flashcardsFilePath,
+                notesFilePath, cheatsheetsFilePath, true);
+        jsonStudyBuddyProStorage.saveStudyBuddyPro(original);
+
+        assertFalse(FileUtil.readFromFile(flashcardsFilePath).contains("\n"));
+        assertEquals(original, new StudyBuddyPro(jsonStudyBuddyProStorage.readStudyBuddyProFlashcards().get(),
+                jsonStudyBuddyProStorage.readStudyBuddyProNotes().get(),
+                jsonStudyBuddyProStorage.readStudyBuddyProCheatSheets().get()));
+    }
+
     @Test
     public void saveStudyBuddyPro_nullStudyBuddyPro_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveStudyBuddyPro(null,
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ParallelFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void writeAll_severalWrites_allWritten() throws Exception {
+        ParallelFileWriter writer = new ParallelFileWriter();
+        for (int i = 0; i < 3; i++) {
+            Path file = testFolder.resolve("file" + i);
+            writer.add(() -> Files.writeString(file, file.getFileName().toString()));
+        }
+        writer.writeAll();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals("file" + i, Files.readString(testFolder.resolve("file" + i)));
+        }
+    }
+
+    @Test
+    public void writeAll_failingWrite_otherWritesStillDone() {
+        ParallelFileWriter writer = new ParallelFileWriter();
+        Path file = testFolder.resolve("file");
+        writer.add(() -> {
+            throw new IOException("dummy exception");
+        });
+        writer.add(() -> Files.writeString(file, "content"));
+
+        assertThrows(IOException.class, writer::writeAll);
+        assertTrue(Files.exists(file));
+    }
+}
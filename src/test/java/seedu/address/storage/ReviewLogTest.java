@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.flashcard.ReviewEvent;
+import seedu.address.model.flashcard.Statistics;
+import seedu.address.model.flashcard.scheduler.RecallQuality;
+
+public class ReviewLogTest {
+
+    private static final ReviewEvent FIRST_REVIEW = new ReviewEvent(1, 1000, RecallQuality.GOOD, 3000,
+            new Statistics());
+    private static final ReviewEvent SECOND_REVIEW = new ReviewEvent(2, 2000, null, 0, new Statistics());
+    private static final ReviewEvent THIRD_REVIEW = new ReviewEvent(1, 3000, RecallQuality.AGAIN, 500,
+            new Statistics());
+
+    // a review whose length says it runs past the end of the log
+    private static final byte[] CUT_OFF_REVIEW = {50, 1, 2};
+    // a whole review whose first field never ends
+    private static final byte[] UNREADABLE_REVIEW = {3, (byte) 0x80, (byte) 0x80, (byte) 0x80};
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSinceCheckpoint_reviewsAfterCheckpoint_onlyThoseRead() throws Exception {
+        ReviewLog reviewLog = new ReviewLog(testFolder.resolve("reviews.log"));
+        reviewLog.append(Arrays.asList(FIRST_REVIEW, SECOND_REVIEW));
+        reviewLog.checkpoint(reviewLog.getSize());
+        reviewLog.append(List.of(THIRD_REVIEW));
+
+        assertEquals(List.of(THIRD_REVIEW), reviewLog.readSinceCheckpoint());
+        assertEquals(Arrays.asList(FIRST_REVIEW, SECOND_REVIEW, THIRD_REVIEW), reviewLog.readAll());
+    }
+
+    @Test
+    public void readSinceCheckpoint_checkpointAtEnd_noReviews() throws Exception {
+        ReviewLog reviewLog = new ReviewLog(testFolder.resolve("reviews.log"));
+        reviewLog.append(List.of(FIRST_REVIEW));
+        reviewLog.checkpoint(reviewLog.getSize());
+
+        assertTrue(reviewLog.readSinceCheckpoint().isEmpty());
+    }
+
+    @Test
+    public void append_cutOffLastReview_truncated() throws Exception {
+        Path filePath = testFolder.resolve("reviews.log");
+        new ReviewLog(filePath).append(List.of(FIRST_REVIEW));
+        long sizeBeforeCrash = Files.size(filePath);
+        appendRaw(filePath, CUT_OFF_REVIEW);
+
+        ReviewLog reviewLog = new ReviewLog(filePath);
+        assertEquals(List.of(FIRST_REVIEW), reviewLog.readAll());
+        assertEquals(sizeBeforeCrash, reviewLog.getSize());
+        reviewLog.append(List.of(SECOND_REVIEW));
+        assertEquals(Arrays.asList(FIRST_REVIEW, SECOND_REVIEW), reviewLog.readAll());
+    }
+
+    @Test
+    public void append_unreadableLastReview_truncated() throws Exception {
+        Path filePath = testFolder.resolve("reviews.log");
+        new ReviewLog(filePath).append(List.of(FIRST_REVIEW));
+        long sizeBeforeCorruption = Files.size(filePath);
+        appendRaw(filePath, UNREADABLE_REVIEW);
+
+        assertEquals(sizeBeforeCorruption, new ReviewLog(filePath).getSize());
+    }
+
+    @Test
+    public void append_unreadableReviewBeforeReadableOnes_kept() throws Exception {
+        Path filePath = testFolder.resolve("reviews.log");
+        ReviewLog reviewLog = new ReviewLog(filePath);
+        reviewLog.append(List.of(FIRST_REVIEW));
+        appendRaw(filePath, UNREADABLE_REVIEW);
+        reviewLog.append(List.of(SECOND_REVIEW));
+        long sizeWithUnreadableReview = Files.size(filePath);
+
+        // the unreadable review is skipped, but the reviews after it are neither lost nor cut off
+        ReviewLog reopenedReviewLog = new ReviewLog(filePath);
+        assertEquals(sizeWithUnreadableReview, reopenedReviewLog.getSize());
+        reopenedReviewLog.append(List.of(THIRD_REVIEW));
+        assertEquals(Arrays.asList(FIRST_REVIEW, SECOND_REVIEW, THIRD_REVIEW), reopenedReviewLog.readAll());
+    }
+
+    private static void appendRaw(Path filePath, byte[] bytes) throws IOException {
+        Files.write(filePath, bytes, StandardOpenOption.APPEND);
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -8,6 +9,7 @@ import seedu.address.model.flashcard.Flashcard;
 import seedu.address.model.flashcard.Question;
 import seedu.address.model.flashcard.Statistics;
 import seedu.address.model.flashcard.Title;
+import seedu.address.model.flashcard.scheduler.ReviewState;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.SampleDataUtil;
 
@@ -42,6 +44,7 @@ public class FlashcardBuilder {
         question = flashcardToCopy.getQuestion();
         answer = flashcardToCopy.getAnswer();
         title = flashcardToCopy.getTitle();
+        statistics = flashcardToCopy.getStatistics().copy();
         tags = new HashSet<>(flashcardToCopy.getTags());
     }
 
@@ -85,8 +88,17 @@ public class FlashcardBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Statistics} of the {@code Flashcard} that we are building to those of a new flashcard due on
+     * {@code toViewNext}.
+     */
+    public FlashcardBuilder withToViewNext(LocalDate toViewNext) {
+        this.statistics = Statistics.fromReviewState(toViewNext.minusDays(1), toViewNext, ReviewState.NEW);
+        return this;
+    }
+
     public Flashcard build() {
-        return new Flashcard(question, answer, title, tags);
+        return new Flashcard(question, answer, title, statistics.copy(), tags);
     }
 
 }